@@ -1,15 +1,28 @@
 package vibe.scon.scon_backend.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import vibe.scon.scon_backend.config.profiling.AsyncTaskEvent;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.ExecutorLimits;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -23,9 +36,25 @@ import java.util.concurrent.ThreadPoolExecutor;
  *   <li>{@code dbExecutor}: DB 전용 작업 (작은 풀 크기, 커넥션 풀과 연동)</li>
  * </ul>
  * 
+ * <h3>컨텍스트 전파:</h3>
+ * <p>두 Executor 모두 호출 스레드의 MDC(requestId, traceId)와 Observation(현재 Span)을 작업 스레드로 전파하고,
+ * 작업 실행 구간을 {@code async.task} Span과 JFR {@code vibe.scon.AsyncTask} 이벤트(큐 대기 시간 포함)로 기록합니다.</p>
+ * 
+ * <h3>실행 모드:</h3>
+ * <p>{@code spring.threads.virtual.enabled=true}(Java 21)이면 Tomcat 요청 처리와 함께 두 Executor도
+ * {@link BoundedVirtualThreadExecutor}(작업별 Virtual Thread + Semaphore 동시 실행 제한)로 생성합니다.
+ * dbExecutor의 동시 실행 상한은 플랫폼 모드의 최대 풀 크기와 같게 두어 DB 커넥션 사용 상한을 유지하고,
+ * taskExecutor(GA4 HTTP 호출 등 I/O 대기 작업)는 더 높은 상한을 사용합니다.
+ * 크기/상한은 {@code app.async-executor.*}로 설정합니다.</p>
+ * 
+ * <h3>메트릭:</h3>
+ * <p>큐 깊이/활성 스레드({@code executor.*})는 Actuator가 Executor Bean 이름({@code name} 태그)으로 자동 수집하며,
+ * 큐 포화로 호출 스레드에서 실행된 작업 수는 {@code executor.rejected}로 기록합니다.</p>
+ * 
  * <h3>요구사항 추적:</h3>
  * <ul>
  *   <li>{@code Async Processing Plan Phase 1}: 인프라 구축</li>
+ *   <li>{@code REQ-NF-PERF}: Executor 포화 모니터링, 비동기 작업 분산 추적</li>
  * </ul>
  * 
  * @see org.springframework.scheduling.annotation.Async
@@ -35,6 +64,16 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync
 public class AsyncConfig {
     
+    private static final int AWAIT_TERMINATION_SECONDS = 60;
+    
+    private final AppProperties.AsyncExecutorProperties properties;
+    private final boolean virtualThreads;
+    
+    public AsyncConfig(AppProperties appProperties, Environment environment) {
+        this.properties = appProperties.getAsyncExecutor();
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+    
     /**
      * 일반 비동기 작업용 Executor.
      * 
@@ -48,22 +87,29 @@ public class AsyncConfig {
      *   <li>{@code BE_GA4.md Phase 1.3}: MDC 전파를 위한 TaskDecorator 추가</li>
      * </ul>
      * 
+     * @param meterRegistry 큐 포화(CallerRuns) 횟수 기록용
+     * @param observationRegistry 비동기 작업 Span 기록용
      * @return ThreadPoolTaskExecutor 인스턴스
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        ExecutorLimits limits = properties.getTask();
+        if (virtualThreads) {
+            return virtualThreadExecutor("taskExecutor", limits, meterRegistry, observationRegistry);
+        }
+        
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(50);
-        executor.setQueueCapacity(500);
+        executor.setCorePoolSize(limits.getCorePoolSize());
+        executor.setMaxPoolSize(limits.getMaxPoolSize());
+        executor.setQueueCapacity(limits.getQueueCapacity());
         executor.setThreadNamePrefix("async-task-");
         
-        // MDC 전파를 위한 TaskDecorator 설정
-        executor.setTaskDecorator(new MdcTaskDecorator());
+        // MDC / Trace 컨텍스트 전파를 위한 TaskDecorator 설정
+        executor.setTaskDecorator(contextPropagatingDecorator(observationRegistry, "taskExecutor"));
         
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setRejectedExecutionHandler(new CountingCallerRunsPolicy(meterRegistry, "taskExecutor"));
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
         executor.initialize();
         
         log.info("TaskExecutor initialized with MDC propagation: corePoolSize={}, maxPoolSize={}, queueCapacity={}",
@@ -72,6 +118,45 @@ public class AsyncConfig {
         return executor;
     }
     
+    /**
+     * MDC / Trace 컨텍스트 전파 및 작업 Span 기록 TaskDecorator 조합.
+     * 
+     * <p>실행 순서: Observation 컨텍스트 복원 → MDC 복원 → {@code async.task} Span 시작 → JFR 작업 이벤트 시작.
+     * ({@link CompositeTaskDecorator}는 마지막 Decorator가 가장 바깥에서 실행됩니다.)</p>
+     */
+    static TaskDecorator contextPropagatingDecorator(ObservationRegistry observationRegistry, String executorName) {
+        return new CompositeTaskDecorator(List.of(
+                AsyncTaskEvent.decorator(executorName),
+                new ObservingTaskDecorator(observationRegistry, executorName),
+                new MdcTaskDecorator(),
+                new ContextPropagatingTaskDecorator()));
+    }
+
+    /**
+     * 비동기 작업 실행 구간을 {@code async.task} Observation(Span + Timer)으로 기록하는 TaskDecorator.
+     * 
+     * <p>작업 스레드에서 복원된 부모 Span의 자식으로 생성되므로,
+     * 요청 Trace 안에서 큐 대기 이후의 실제 실행 시간을 확인할 수 있습니다.</p>
+     */
+    private static class ObservingTaskDecorator implements TaskDecorator {
+
+        private final ObservationRegistry observationRegistry;
+        private final String executorName;
+
+        ObservingTaskDecorator(ObservationRegistry observationRegistry, String executorName) {
+            this.observationRegistry = observationRegistry;
+            this.executorName = executorName;
+        }
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            return () -> Observation.createNotStarted("async.task", observationRegistry)
+                    .contextualName("async " + executorName)
+                    .lowCardinalityKeyValue("executor", executorName)
+                    .observe(runnable);
+        }
+    }
+
     /**
      * MDC를 비동기 작업으로 전파하는 TaskDecorator.
      * 
@@ -106,24 +191,35 @@ public class AsyncConfig {
      * 
      * <p>참고: 커넥션 풀 크기의 50-70% 수준으로 설정합니다.</p>
      * 
+     * <p>taskExecutor와 동일하게 MDC / Trace 컨텍스트를 전파합니다.</p>
+     * 
+     * @param meterRegistry 큐 포화(CallerRuns) 횟수 기록용
+     * @param observationRegistry 비동기 작업 Span 기록용
      * @return ThreadPoolTaskExecutor 인스턴스
      */
     @Bean(name = "dbExecutor")
-    public Executor dbExecutor() {
+    public Executor dbExecutor(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        ExecutorLimits limits = properties.getDb();
+        if (virtualThreads) {
+            // 동시 실행 상한 = DB 커넥션 사용 상한 (virtual-concurrency-limit 기본값은 max-pool-size와 동일)
+            return virtualThreadExecutor("dbExecutor", limits, meterRegistry, observationRegistry);
+        }
+        
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
         // 커넥션 풀 크기의 50-70% 수준으로 설정
         // 예: 커넥션 풀 10개 → Executor 5-7개
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(7);  // maximum-pool-size의 70%
+        executor.setCorePoolSize(limits.getCorePoolSize());
+        executor.setMaxPoolSize(limits.getMaxPoolSize());  // maximum-pool-size의 70%
         
         // 큐 크기는 커넥션 풀 크기의 10-20배
-        executor.setQueueCapacity(100);
+        executor.setQueueCapacity(limits.getQueueCapacity());
         
         executor.setThreadNamePrefix("async-db-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(contextPropagatingDecorator(observationRegistry, "dbExecutor"));
+        executor.setRejectedExecutionHandler(new CountingCallerRunsPolicy(meterRegistry, "dbExecutor"));
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
         executor.initialize();
         
         log.info("DbExecutor initialized: corePoolSize={}, maxPoolSize={}, queueCapacity={}",
@@ -131,4 +227,43 @@ public class AsyncConfig {
         
         return executor;
     }
+
+    /**
+     * Virtual Thread 모드 Executor (Semaphore 동시 실행 제한, 대기 상한 초과 시 호출 스레드 실행).
+     */
+    static BoundedVirtualThreadExecutor virtualThreadExecutor(String name, ExecutorLimits limits,
+                                                              MeterRegistry meterRegistry,
+                                                              ObservationRegistry observationRegistry) {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(name,
+                limits.getVirtualConcurrencyLimit(), limits.getQueueCapacity(),
+                contextPropagatingDecorator(observationRegistry, name), meterRegistry, AWAIT_TERMINATION_SECONDS);
+        log.info("{} initialized with virtual threads: concurrencyLimit={}, maxPending={}",
+                name, executor.getConcurrencyLimit(), executor.getMaxPending());
+        return executor;
+    }
+
+    /**
+     * 거부 횟수를 기록하는 CallerRunsPolicy.
+     * 
+     * <p>큐가 가득 차면 기존과 동일하게 호출 스레드에서 작업을 실행하되,
+     * 요청 스레드가 비동기 작업을 떠안은 횟수를 {@code executor.rejected}로 남깁니다.</p>
+     */
+    private static class CountingCallerRunsPolicy implements RejectedExecutionHandler {
+
+        private final RejectedExecutionHandler delegate = new ThreadPoolExecutor.CallerRunsPolicy();
+        private final Counter rejected;
+
+        CountingCallerRunsPolicy(MeterRegistry meterRegistry, String executorName) {
+            this.rejected = Counter.builder("executor.rejected")
+                    .description("Tasks rejected by a saturated executor and run on the caller thread")
+                    .tag("name", executorName)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            rejected.increment();
+            delegate.rejectedExecution(runnable, executor);
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package vibe.scon.scon_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 실행 수가 제한된 Virtual Thread Executor.
+ *
+ * <p>작업마다 Virtual Thread를 만들고, 실행 전에 Semaphore 허가를 얻도록 하여
+ * 스레드 풀 크기 대신 허가 수({@code concurrencyLimit})로 동시 실행을 제한합니다.
+ * 허가를 기다리는 작업은 플랫폼 스레드를 점유하지 않으므로 GA4 HTTP 호출 같은 I/O 대기 작업을 많이 겹쳐 실행할 수 있고,
+ * dbExecutor는 허가 수를 기존 최대 풀 크기와 같게 두어 DB 커넥션 사용 상한을 그대로 유지합니다.</p>
+ *
+ * <h3>ThreadPoolTaskExecutor와의 대응:</h3>
+ * <ul>
+ *   <li>{@code concurrencyLimit} - maxPoolSize (동시 실행 상한)</li>
+ *   <li>{@code maxPending} - queueCapacity (허가 대기 작업 상한). 초과 시 호출 스레드에서 실행하고
+ *       {@code executor.rejected}로 기록합니다 (CallerRunsPolicy와 동일).</li>
+ *   <li>{@code executor.active} / {@code executor.queued} 게이지를 같은 {@code name} 태그로 기록합니다.</li>
+ * </ul>
+ *
+ * <h3>주의사항:</h3>
+ * <ul>
+ *   <li>SQLite JDBC 네이티브 호출과 {@code synchronized} 구간에서는 Virtual Thread가 캐리어 스레드에 고정(pinning)됩니다.
+ *       DB 작업은 허가 수로 제한되므로 캐리어 스레드가 모두 고정되지 않도록 {@code concurrencyLimit}를 작게 유지해야 합니다.</li>
+ *   <li>종료 시 실행 중/대기 중 작업을 최대 {@code awaitTerminationSeconds}초 기다립니다.</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (I/O 대기 작업 처리량)</li>
+ * </ul>
+ *
+ * @see AsyncConfig
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements TaskExecutor, DisposableBean {
+
+    private final String name;
+    private final int concurrencyLimit;
+    private final int maxPending;
+    private final TaskDecorator taskDecorator;
+    private final long awaitTerminationSeconds;
+
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter rejected;
+
+    public BoundedVirtualThreadExecutor(String name, int concurrencyLimit, int maxPending,
+                                        TaskDecorator taskDecorator, MeterRegistry meterRegistry,
+                                        long awaitTerminationSeconds) {
+        this.name = name;
+        this.concurrencyLimit = concurrencyLimit;
+        this.maxPending = maxPending;
+        this.taskDecorator = taskDecorator;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+        this.permits = new Semaphore(concurrencyLimit, true);
+        this.executorService = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(name + "-vt-", 0).factory());
+
+        Gauge.builder("executor.active", active, AtomicInteger::get)
+                .description("Tasks currently running")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.queued", pending, AtomicInteger::get)
+                .description("Tasks waiting for a concurrency permit")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("executor.rejected")
+                .description("Tasks rejected by a saturated executor and run on the caller thread")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable decorated = taskDecorator != null ? taskDecorator.decorate(task) : task;
+
+        if (pending.incrementAndGet() > maxPending) {
+            runOnCaller(decorated);
+            return;
+        }
+
+        try {
+            executorService.execute(() -> runWithPermit(decorated));
+        } catch (RejectedExecutionException e) {
+            // 종료 중 제출된 작업
+            runOnCaller(decorated);
+        }
+    }
+
+    private void runOnCaller(Runnable decorated) {
+        // 대기 작업이 상한을 넘으면 호출 스레드에서 실행 (CallerRunsPolicy와 동일한 배압)
+        pending.decrementAndGet();
+        rejected.increment();
+        decorated.run();
+    }
+
+    private void runWithPermit(Runnable decorated) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            log.warn("{} task interrupted while waiting for a permit", name);
+            return;
+        }
+        pending.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            decorated.run();
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executorService.shutdown();
+        if (!executorService.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+            log.warn("{} did not finish within {}s: active={}, pending={}",
+                    name, awaitTerminationSeconds, active.get(), pending.get());
+            executorService.shutdownNow();
+        }
+    }
+}
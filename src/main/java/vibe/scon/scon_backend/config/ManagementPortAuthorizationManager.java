@@ -0,0 +1,41 @@
+package vibe.scon.scon_backend.config;
+
+import org.springframework.core.env.Environment;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 관리 포트 전용 인가 규칙.
+ *
+ * <p>요청이 들어온 서버 포트({@code getLocalPort()})가 {@code management.server.port}와 같을 때만 허용합니다.
+ * 프록시 헤더가 아닌 실제 수신 포트로 판단하므로 외부 요청이 우회할 수 없습니다.
+ * 관리 포트가 설정되지 않았거나 API 포트와 같으면 항상 거부합니다.</p>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-001} - 데이터 격리 및 접근 제어</li>
+ * </ul>
+ *
+ * @see vibe.scon.scon_backend.config.filter.RouteClassifier#MANAGEMENT_ONLY_PATHS
+ */
+public class ManagementPortAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final Integer managementPort;
+
+    public ManagementPortAuthorizationManager(Environment environment) {
+        Integer port = environment.getProperty("management.server.port", Integer.class);
+        Integer serverPort = environment.getProperty("server.port", Integer.class, 8080);
+        this.managementPort = port != null && port > 0 && !Objects.equals(port, serverPort) ? port : null;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(managementPort != null
+                && context.getRequest().getLocalPort() == managementPort);
+    }
+}
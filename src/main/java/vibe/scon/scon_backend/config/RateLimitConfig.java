@@ -0,0 +1,52 @@
+package vibe.scon.scon_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.ratelimit.DatabaseRateLimitStore;
+import vibe.scon.scon_backend.config.ratelimit.InMemoryRateLimitStore;
+import vibe.scon.scon_backend.config.ratelimit.RateLimitStore;
+import vibe.scon.scon_backend.repository.RateLimitCounterRepository;
+
+/**
+ * Rate Limit 저장소 설정.
+ *
+ * <p>{@code app.rate-limit.store} 값에 따라 {@link RateLimitStore} 구현체를 선택합니다.</p>
+ *
+ * <h3>저장소 선택:</h3>
+ * <ul>
+ *   <li>{@code memory} (기본값) - 인스턴스 로컬 토큰 버킷</li>
+ *   <li>{@code database} - 다중 인스턴스 간 한도 공유 (일괄 반영)</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-002} - 백엔드 보안 강화 (Rate Limiting)</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+    public RateLimitStore inMemoryRateLimitStore(AppProperties appProperties) {
+        log.info("Rate limit store: memory (instance-local)");
+        return new InMemoryRateLimitStore(appProperties.getRateLimit());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.rate-limit", name = "store", havingValue = "database")
+    public RateLimitStore databaseRateLimitStore(
+            AppProperties appProperties,
+            RateLimitCounterRepository rateLimitCounterRepository,
+            PlatformTransactionManager transactionManager) {
+        log.info("Rate limit store: database (shared, flush interval {})",
+                appProperties.getRateLimit().getFlushInterval());
+        return new DatabaseRateLimitStore(
+                appProperties.getRateLimit(), rateLimitCounterRepository, transactionManager);
+    }
+}
@@ -4,6 +4,7 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
@@ -22,6 +23,8 @@ import java.util.concurrent.TimeUnit;
  *   <li>Connection Pool: 최대 100개, 라우트당 20개</li>
  *   <li>타임아웃: 연결/요청/응답 모두 5초</li>
  *   <li>Idle Connection 정리: 30초</li>
+ *   <li>분산 추적: Boot의 {@link RestTemplateBuilder}로 생성하여 호출별 클라이언트 Span과
+ *       W3C {@code traceparent} 헤더 전파를 적용</li>
  * </ul>
  * 
  * <h3>요구사항 추적:</h3>
@@ -39,10 +42,11 @@ public class RestTemplateConfig {
      * 
      * <p>Apache HttpClient 5.x를 사용하여 Connection Pool과 타임아웃을 설정합니다.</p>
      * 
+     * @param restTemplateBuilder Observation(추적/메트릭) 설정이 적용된 Boot RestTemplateBuilder
      * @return RestTemplate 인스턴스
      */
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
         // Connection Pool 설정
         PoolingHttpClientConnectionManager connectionManager = 
             new PoolingHttpClientConnectionManager();
@@ -62,6 +66,8 @@ public class RestTemplateConfig {
         factory.setConnectTimeout(Duration.ofSeconds(5));
         factory.setConnectionRequestTimeout(Duration.ofSeconds(5));
         
-        return new RestTemplate(factory);
+        return restTemplateBuilder
+            .requestFactory(() -> factory)
+            .build();
     }
 }
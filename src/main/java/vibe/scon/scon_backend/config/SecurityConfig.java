@@ -1,5 +1,6 @@
 package vibe.scon.scon_backend.config;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -22,6 +23,7 @@ import vibe.scon.scon_backend.config.filter.JwtAuthenticationFilter;
 import vibe.scon.scon_backend.config.filter.RateLimitingFilter;
 import vibe.scon.scon_backend.config.filter.RequestIdTrackingFilter;
 import vibe.scon.scon_backend.config.filter.RequestResponseLoggingFilter;
+import vibe.scon.scon_backend.config.filter.RouteClassifier;
 
 import java.util.Arrays;
 import java.util.List;
@@ -118,18 +120,16 @@ public class SecurityConfig {
                 
                 // HTTP 요청 인가 설정
                 .authorizeHttpRequests(auth -> {
-                    auth.requestMatchers(
-                            "/api/v1/auth/signup",
-                            "/api/v1/auth/login",
-                            "/api/v1/auth/refresh",
-                            "/api/v1/auth/logout",
-                            "/health",
-                            "/api/health",
-                            "/api/v1/health"
-                    ).permitAll();
-                    
-                    // Swagger/OpenAPI (추후 추가 시)
-                    auth.requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll();
+                    // 공개 경로: 인증 API, 헬스체크, Swagger/OpenAPI
+                    // (JwtAuthenticationFilter 스킵 판정과 같은 목록 사용 - RouteClassifier)
+                    auth.requestMatchers(RouteClassifier.PUBLIC_PATHS).permitAll();
+
+                    // 진단 엔드포인트(JFR 등): 관리 포트로 들어온 요청만 허용 (API 포트에서는 인증되어도 거부)
+                    auth.requestMatchers(RouteClassifier.MANAGEMENT_ONLY_PATHS)
+                            .access(new ManagementPortAuthorizationManager(environment));
+
+                    // 비동기 응답(SSE/Long-poll) 디스패치: 최초 요청에서 이미 인증/인가됨
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     
                     // 그 외 모든 요청은 인증 필요
                     auth.anyRequest().authenticated();
@@ -163,22 +163,22 @@ public class SecurityConfig {
                 )
                 
                 // 필터 등록 순서:
-                // 1. RateLimitingFilter (가장 먼저 실행 - POC-BE-SEC-002)
-                // 2. RequestIdTrackingFilter (Request ID 추적 - 신규 추가)
+                // 1. RequestIdTrackingFilter (Request ID 추적 - 429 응답에도 X-Request-ID 포함)
+                // 2. RateLimitingFilter (인증 이전 실행 - POC-BE-SEC-002)
                 // 3. JwtAuthenticationFilter (JWT 토큰 검증)
                 // 4. RequestResponseLoggingFilter (요청/응답 로깅)
                 // 5. UsernamePasswordAuthenticationFilter (Spring Security 기본 필터)
                 
-                // Rate Limiting 필터 추가 (가장 먼저 실행 - POC-BE-SEC-002)
+                // Rate Limiting 필터 추가 (JWT 검증 이전 실행 - POC-BE-SEC-002)
                 // RateLimitingFilter 내부에서 테스트 프로파일 확인하여 비활성화
                 .addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class)
                 
-                // Request ID Tracking 필터 추가 (RateLimitingFilter와 JwtAuthenticationFilter 사이)
-                .addFilterBefore(requestIdTrackingFilter, JwtAuthenticationFilter.class)
-                
                 // JWT 필터 추가 (UsernamePasswordAuthenticationFilter 이전에 실행)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 
+                // Request ID Tracking 필터 추가 (JwtAuthenticationFilter 이전, 순서 등록 후에 참조 가능)
+                .addFilterBefore(requestIdTrackingFilter, JwtAuthenticationFilter.class)
+                
                 // Request/Response Logging 필터 추가 (JwtAuthenticationFilter 이후 실행)
                 .addFilterAfter(requestResponseLoggingFilter, JwtAuthenticationFilter.class)
                 
@@ -284,7 +284,11 @@ public class SecurityConfig {
         // 노출할 응답 헤더
         configuration.setExposedHeaders(List.of(
                 "Authorization",
-                "X-Request-ID"  // Request ID 추적용 헤더
+                "X-Request-ID",  // Request ID 추적용 헤더
+                "RateLimit-Limit",  // Rate Limiting 헤더 (POC-BE-SEC-002)
+                "RateLimit-Remaining",
+                "RateLimit-Reset",
+                "Retry-After"
         ));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
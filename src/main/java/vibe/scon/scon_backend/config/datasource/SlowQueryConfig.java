@@ -0,0 +1,50 @@
+package vibe.scon.scon_backend.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+
+import javax.sql.DataSource;
+
+/**
+ * Slow Query 로그 / 실행 계획 수집 설정.
+ *
+ * <p>{@code app.slow-query.enabled=true}(기본값)이면 DataSource를 프록시로 감싸 모든 JDBC 문의 실행 시간을
+ * 측정합니다. Hibernate 통계({@code MetricsConfig})가 요청 단위 문 개수를 본다면,
+ * 여기서는 SQL 문 단위로 느린 쿼리와 인덱스 누락을 찾습니다.</p>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (Slow Query 탐지)</li>
+ * </ul>
+ *
+ * @see SlowQueryMonitor
+ * @see SlowQueryEndpoint
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public static SlowQueryProxyPostProcessor slowQueryProxyPostProcessor(
+            ObjectProvider<SlowQueryMonitor> monitorProvider) {
+        return new SlowQueryProxyPostProcessor(monitorProvider);
+    }
+
+    @Bean
+    public SlowQueryMonitor slowQueryMonitor(AppProperties appProperties, ObjectProvider<DataSource> dataSourceProvider) {
+        AppProperties.SlowQueryProperties slowQuery = appProperties.getSlowQuery();
+        log.info("Slow query log enabled: threshold={}ms, explainInterval={}",
+                slowQuery.getThreshold().toMillis(), slowQuery.getExplainInterval());
+        return new SlowQueryMonitor(slowQuery, dataSourceProvider);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryMonitor slowQueryMonitor) {
+        return new SlowQueryEndpoint(slowQueryMonitor);
+    }
+}
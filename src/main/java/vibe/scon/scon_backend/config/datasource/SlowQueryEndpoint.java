@@ -0,0 +1,54 @@
+package vibe.scon.scon_backend.config.datasource;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Slow Query 관리 엔드포인트 ({@code /actuator/slowqueries}).
+ *
+ * <p>SQL 문과 실행 계획을 노출하고 EXPLAIN 수집/초기화로 상태를 바꾸므로 관리 포트({@code management.server.port})로
+ * 들어온 요청만 허용합니다({@link vibe.scon.scon_backend.config.filter.RouteClassifier#MANAGEMENT_ONLY_PATHS}).
+ * API 포트로 들어온 요청은 인증되어도 403입니다.</p>
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/slowqueries} - 누적 실행 시간 상위 20개 문, 실행 계획, 인덱스 후보</li>
+ *   <li>{@code POST /actuator/slowqueries} - 실행 계획 즉시 수집</li>
+ *   <li>{@code DELETE /actuator/slowqueries} - 집계 초기화</li>
+ * </ul>
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private static final int TOP_STATEMENTS = 20;
+
+    private final SlowQueryMonitor monitor;
+
+    public SlowQueryEndpoint(SlowQueryMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("trackedStatements", monitor.getTrackedStatementCount());
+        report.put("indexCandidates", monitor.getIndexCandidates());
+        report.put("statements", monitor.getTopStatements(TOP_STATEMENTS));
+        return report;
+    }
+
+    @WriteOperation
+    public Map<String, Object> explain() {
+        monitor.captureExplainPlans();
+        return report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        monitor.reset();
+    }
+}
@@ -0,0 +1,393 @@
+package vibe.scon.scon_backend.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import vibe.scon.scon_backend.config.properties.AppProperties.SlowQueryProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC 문 실행 시간 집계 및 Slow Query 로그.
+ *
+ * <p>DataSource 프록시({@link SlowQueryProxyPostProcessor})가 모든 문 실행 후 호출합니다.
+ * SQL 문자열별로 실행 횟수/누적/최대 시간을 집계하고, {@code app.slow-query.threshold} 이상 걸린 문은
+ * 바인딩 파라미터의 <b>타입</b>과 함께 WARN 로그로 남깁니다 (값은 개인정보가 포함될 수 있어 기록하지 않음).</p>
+ *
+ * <pre>
+ * Slow query 412ms (threshold 200ms): select ... from shifts s1_0 where s1_0.schedule_id=? params=[Long]
+ * </pre>
+ *
+ * <p>{@code app.slow-query.explain-interval}마다 누적 실행 시간 상위 문에 대해 {@code EXPLAIN QUERY PLAN}을
+ * 실행하고, 인덱스 없이 테이블 전체를 읽는 단계({@code SCAN <table>})와 조건 컬럼을 인덱스 후보로 기록합니다.
+ * 결과는 {@code /actuator/slowqueries}({@link SlowQueryEndpoint})에서 확인합니다.</p>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (누락된 인덱스 자동 발견)</li>
+ * </ul>
+ */
+@Slf4j
+public class SlowQueryMonitor implements QueryExecutionListener {
+
+    static final String EXPLAIN_PREFIX = "EXPLAIN QUERY PLAN ";
+
+    private static final String START_NANOS = SlowQueryMonitor.class.getName() + ".start";
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(select|with|update|delete)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern TABLE_ALIAS = Pattern.compile(
+            "\\b(?:from|join|update)\\s+(\\w+)(?:\\s+(?:as\\s+)?(?!where\\b|on\\b|join\\b|set\\b|left\\b|inner\\b|order\\b|group\\b|limit\\b)(\\w+))?",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern FULL_SCAN = Pattern.compile("^SCAN (?:TABLE )?(\\w+)(?: AS (\\w+))?(.*)$");
+
+    private final SlowQueryProperties properties;
+    private final ObjectProvider<DataSource> dataSourceProvider;
+    private final Clock clock;
+    private final Cache<String, StatementStats> statements;
+
+    public SlowQueryMonitor(SlowQueryProperties properties, ObjectProvider<DataSource> dataSourceProvider) {
+        this(properties, dataSourceProvider, Clock.systemUTC());
+    }
+
+    SlowQueryMonitor(SlowQueryProperties properties, ObjectProvider<DataSource> dataSourceProvider, Clock clock) {
+        this.properties = properties;
+        this.dataSourceProvider = dataSourceProvider;
+        this.clock = clock;
+        this.statements = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedStatements())
+                .build();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = start != null
+                ? System.nanoTime() - start
+                : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = queryInfo.getQuery();
+            if (sql == null || sql.startsWith(EXPLAIN_PREFIX)) {
+                continue;
+            }
+            record(sql, parameterShape(queryInfo.getParametersList()), elapsedNanos, execInfo.isSuccess());
+        }
+    }
+
+    /**
+     * 실행 1건 기록.
+     *
+     * @param sql 실행한 SQL (파라미터 자리표시자 포함)
+     * @param parameterShape 바인딩 파라미터 타입 ({@link #parameterShape(List)})
+     * @param elapsedNanos 실행 시간
+     * @param success 예외 없이 완료 여부
+     */
+    void record(String sql, String parameterShape, long elapsedNanos, boolean success) {
+        StatementStats stats = statements.get(sql, key -> new StatementStats());
+        stats.record(elapsedNanos, parameterShape);
+
+        long thresholdNanos = properties.getThreshold().toNanos();
+        if (elapsedNanos >= thresholdNanos) {
+            stats.slowCount.increment();
+            log.warn("Slow query {}ms (threshold {}ms{}): {} params={}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    properties.getThreshold().toMillis(),
+                    success ? "" : ", failed",
+                    abbreviate(sql),
+                    parameterShape);
+        }
+    }
+
+    /**
+     * 누적 실행 시간 상위 문의 실행 계획 수집.
+     *
+     * <p>파라미터는 바인딩하지 않으며(NULL), SQLite는 값과 무관하게 같은 계획을 반환합니다.
+     * 수집 쿼리 자체는 {@link #EXPLAIN_PREFIX}로 구분하여 집계에서 제외합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.slow-query.explain-interval:PT5M}",
+            initialDelayString = "${app.slow-query.explain-interval:PT5M}")
+    public void captureExplainPlans() {
+        DataSource dataSource = dataSourceProvider.getIfAvailable();
+        if (dataSource == null) {
+            return;
+        }
+        List<Map.Entry<String, StatementStats>> targets = statements.asMap().entrySet().stream()
+                .filter(entry -> EXPLAINABLE.matcher(entry.getKey()).find())
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, StatementStats> entry) -> entry.getValue().totalNanos.sum()).reversed())
+                .limit(properties.getExplainTopN())
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            for (Map.Entry<String, StatementStats> target : targets) {
+                target.getValue().plan = explain(connection, target.getKey());
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to capture query plans: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 집계 결과 (누적 실행 시간 내림차순).
+     */
+    public List<StatementSummary> getTopStatements(int limit) {
+        return statements.asMap().entrySet().stream()
+                .map(entry -> entry.getValue().toSummary(entry.getKey()))
+                .sorted(Comparator.comparingDouble(StatementSummary::getTotalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 실행 계획상 전체 테이블 스캔이 있는 문의 인덱스 후보 ({@code shifts(schedule_id)} 형태).
+     */
+    public Set<String> getIndexCandidates() {
+        Set<String> candidates = new LinkedHashSet<>();
+        statements.asMap().values().forEach(stats -> {
+            if (stats.plan != null) {
+                candidates.addAll(stats.plan.getIndexCandidates());
+            }
+        });
+        return candidates;
+    }
+
+    public long getTrackedStatementCount() {
+        return statements.estimatedSize();
+    }
+
+    public void reset() {
+        statements.invalidateAll();
+    }
+
+    /**
+     * 바인딩 파라미터 타입 목록.
+     *
+     * <p>{@code [Long, String, null]} 형태이며, 배치 실행이면 {@code [Long, String] x25}처럼 배치 크기를 붙입니다.</p>
+     */
+    static String parameterShape(List<List<ParameterSetOperation>> parametersList) {
+        if (parametersList == null || parametersList.isEmpty()) {
+            return "[]";
+        }
+        Map<Object, String> types = new TreeMap<>(Comparator.comparing(String::valueOf));
+        for (ParameterSetOperation operation : parametersList.get(0)) {
+            Object[] args = operation.getArgs();
+            if (args == null || args.length == 0) {
+                continue;
+            }
+            Object value = args.length > 1 ? args[1] : null;
+            String type = ParameterSetOperation.isSetNullParameterOperation(operation) || value == null
+                    ? "null"
+                    : value.getClass().getSimpleName();
+            types.put(args[0] instanceof Integer index ? String.format("%05d", index) : args[0], type);
+        }
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        types.values().forEach(joiner::add);
+        return parametersList.size() > 1 ? joiner + " x" + parametersList.size() : joiner.toString();
+    }
+
+    static QueryPlan parsePlan(String sql, List<String> details, Instant capturedAt) {
+        Map<String, String> tables = new HashMap<>();
+        Matcher alias = TABLE_ALIAS.matcher(sql);
+        while (alias.find()) {
+            String table = alias.group(1).toLowerCase(Locale.ROOT);
+            tables.put(table, table);
+            if (alias.group(2) != null) {
+                tables.put(alias.group(2).toLowerCase(Locale.ROOT), table);
+            }
+        }
+
+        List<String> fullScans = new ArrayList<>();
+        Set<String> candidates = new LinkedHashSet<>();
+        boolean outerLoop = true;
+        for (String detail : details) {
+            String step = detail.trim();
+            Matcher scan = FULL_SCAN.matcher(step);
+            boolean loop = step.startsWith("SCAN ") || step.startsWith("SEARCH ");
+            if (!scan.matches() || scan.group(3).contains("USING")) {
+                outerLoop &= !loop;
+                continue;
+            }
+            String name = (scan.group(2) != null ? scan.group(2) : scan.group(1)).toLowerCase(Locale.ROOT);
+            String table = tables.getOrDefault(name, name);
+            fullScans.add(table);
+            // 바깥 루프 테이블은 JOIN 컬럼이 아닌 상수/파라미터 조건만 인덱스로 줄일 수 있음
+            Set<String> columns = predicateColumns(sql, name, !outerLoop);
+            outerLoop = false;
+            if (!columns.isEmpty()) {
+                candidates.add(table + "(" + String.join(", ", columns) + ")");
+            }
+        }
+        return QueryPlan.builder()
+                .steps(List.copyOf(details))
+                .fullScans(fullScans)
+                .indexCandidates(List.copyOf(candidates))
+                .capturedAt(capturedAt)
+                .build();
+    }
+
+    private QueryPlan explain(Connection connection, String sql) {
+        Instant capturedAt = clock.instant();
+        try (PreparedStatement statement = connection.prepareStatement(EXPLAIN_PREFIX + sql);
+             ResultSet rs = statement.executeQuery()) {
+            List<String> details = new ArrayList<>();
+            while (rs.next()) {
+                details.add(rs.getString("detail"));
+            }
+            QueryPlan plan = parsePlan(sql, details, capturedAt);
+            if (!plan.getIndexCandidates().isEmpty()) {
+                log.info("Full table scan in frequent query, index candidates {}: {}",
+                        plan.getIndexCandidates(), abbreviate(sql));
+            }
+            return plan;
+        } catch (SQLException e) {
+            log.debug("EXPLAIN QUERY PLAN failed for {}: {}", abbreviate(sql), e.getMessage());
+            return QueryPlan.builder()
+                    .steps(List.of())
+                    .fullScans(List.of())
+                    .indexCandidates(List.of())
+                    .error(e.getMessage())
+                    .capturedAt(capturedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * 조건절(WHERE/ON)에서 비교 연산자와 함께 쓰인 {@code alias.column} 목록.
+     *
+     * @param includeJoins 다른 테이블 컬럼과 비교하는 JOIN 조건 포함 여부
+     */
+    private static Set<String> predicateColumns(String sql, String alias, boolean includeJoins) {
+        String quoted = Pattern.quote(alias);
+        String operator = "(=|<>|!=|<=|>=|<|>|\\bin\\b|\\blike\\b|\\bbetween\\b|\\bis\\b)";
+        Pattern left = Pattern.compile("\\b" + quoted + "\\.(\\w+)\\s*" + operator + "\\s*(\\w+\\.\\w+)?",
+                Pattern.CASE_INSENSITIVE);
+        Pattern right = Pattern.compile("(\\w+\\.\\w+)?\\s*(=|<>|!=|<=|>=|<|>)\\s*\\b" + quoted + "\\.(\\w+)",
+                Pattern.CASE_INSENSITIVE);
+        Set<String> columns = new LinkedHashSet<>();
+        Matcher matcher = left.matcher(sql);
+        while (matcher.find()) {
+            if (includeJoins || matcher.group(3) == null) {
+                columns.add(matcher.group(1).toLowerCase(Locale.ROOT));
+            }
+        }
+        matcher = right.matcher(sql);
+        while (matcher.find()) {
+            if (includeJoins || matcher.group(1) == null) {
+                columns.add(matcher.group(3).toLowerCase(Locale.ROOT));
+            }
+        }
+        return columns;
+    }
+
+    private String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        int max = properties.getMaxLoggedSqlLength();
+        return max > 0 && singleLine.length() > max ? singleLine.substring(0, max) + "..." : singleLine;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static class StatementStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile String lastParameterShape;
+        private volatile QueryPlan plan;
+
+        void record(long elapsedNanos, String parameterShape) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            lastParameterShape = parameterShape;
+        }
+
+        StatementSummary toSummary(String sql) {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            return StatementSummary.builder()
+                    .sql(sql)
+                    .count(executions)
+                    .slowCount(slowCount.sum())
+                    .totalMs(toMillis(total))
+                    .avgMs(executions == 0 ? 0.0 : toMillis(total / executions))
+                    .maxMs(toMillis(maxNanos.get()))
+                    .parameters(lastParameterShape)
+                    .plan(plan)
+                    .build();
+        }
+    }
+
+    /**
+     * SQL 문별 실행 통계.
+     */
+    @Getter
+    @Builder
+    public static class StatementSummary {
+        private final String sql;
+        private final long count;
+        private final long slowCount;
+        private final double totalMs;
+        private final double avgMs;
+        private final double maxMs;
+        /** 마지막 실행의 바인딩 파라미터 타입 */
+        private final String parameters;
+        /** 마지막으로 수집한 실행 계획 (미수집 시 null) */
+        private final QueryPlan plan;
+    }
+
+    /**
+     * {@code EXPLAIN QUERY PLAN} 결과.
+     */
+    @Getter
+    @Builder
+    public static class QueryPlan {
+        /** 실행 계획 단계 ({@code detail} 컬럼) */
+        private final List<String> steps;
+        /** 인덱스 없이 전체를 읽는 테이블 */
+        private final List<String> fullScans;
+        /** 전체 스캔 테이블의 조건 컬럼 ({@code table(column, ...)}) */
+        private final List<String> indexCandidates;
+        private final String error;
+        private final Instant capturedAt;
+    }
+}
@@ -0,0 +1,74 @@
+package vibe.scon.scon_backend.config.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * DataSource Bean을 실행 시간 측정 프록시로 감싸는 후처리기.
+ *
+ * <p>Hikari 풀은 그대로 두고 바깥에 {@link ProxyDataSource}를 씌우므로 커넥션 풀 메트릭/헬스 체크는
+ * {@code unwrap}으로 원본 풀에 접근합니다. 리스너({@link SlowQueryMonitor})는 첫 실행 시점에 조회하여
+ * DataSource 생성 순서에 의존하지 않습니다.</p>
+ */
+public class SlowQueryProxyPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryMonitor> monitorProvider;
+
+    public SlowQueryProxyPostProcessor(ObjectProvider<SlowQueryMonitor> monitorProvider) {
+        this.monitorProvider = monitorProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new DeferredListener(monitorProvider))
+                    .build();
+        }
+        return bean;
+    }
+
+    private static class DeferredListener implements QueryExecutionListener {
+
+        private final ObjectProvider<SlowQueryMonitor> monitorProvider;
+        private volatile SlowQueryMonitor monitor;
+
+        DeferredListener(ObjectProvider<SlowQueryMonitor> monitorProvider) {
+            this.monitorProvider = monitorProvider;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SlowQueryMonitor current = monitor();
+            if (current != null) {
+                current.beforeQuery(execInfo, queryInfoList);
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SlowQueryMonitor current = monitor();
+            if (current != null) {
+                current.afterQuery(execInfo, queryInfoList);
+            }
+        }
+
+        private SlowQueryMonitor monitor() {
+            SlowQueryMonitor current = monitor;
+            if (current == null) {
+                current = monitorProvider.getIfAvailable();
+                monitor = current;
+            }
+            return current;
+        }
+    }
+}
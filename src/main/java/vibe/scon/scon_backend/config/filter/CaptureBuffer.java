@@ -0,0 +1,62 @@
+package vibe.scon.scon_backend.config.filter;
+
+import java.util.Arrays;
+
+/**
+ * 크기 상한이 있는 본문 캡처 버퍼.
+ *
+ * <p>상한까지만 복사하고 이후 바이트는 개수만 셉니다.
+ * 내부 배열은 실제 캡처한 크기만큼만 늘어나므로 작은 본문에 상한 크기를 미리 할당하지 않습니다.</p>
+ */
+final class CaptureBuffer {
+
+    private static final int INITIAL_SIZE = 256;
+
+    private final int limit;
+    private byte[] data = new byte[0];
+    private int captured;
+    private long total;
+
+    CaptureBuffer(int limit) {
+        this.limit = Math.max(0, limit);
+    }
+
+    void write(int b) {
+        if (captured < limit) {
+            ensureCapacity(captured + 1);
+            data[captured++] = (byte) b;
+        }
+        total++;
+    }
+
+    void write(byte[] source, int offset, int length) {
+        int copy = Math.min(length, limit - captured);
+        if (copy > 0) {
+            ensureCapacity(captured + copy);
+            System.arraycopy(source, offset, data, captured, copy);
+            captured += copy;
+        }
+        total += length;
+    }
+
+    /**
+     * 캡처한 바이트 (없으면 null).
+     */
+    byte[] toByteArray() {
+        return captured == 0 ? null : Arrays.copyOf(data, captured);
+    }
+
+    /**
+     * 상한과 관계없이 지나간 전체 바이트 수.
+     */
+    long totalBytes() {
+        return total;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) {
+            int grown = Math.max(required, Math.max(INITIAL_SIZE, data.length * 2));
+            data = Arrays.copyOf(data, Math.min(grown, limit));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package vibe.scon.scon_backend.config.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * 응답 본문 Tee 캡처 래퍼.
+ *
+ * <p>{@code ContentCachingResponseWrapper}와 달리 응답을 메모리에 모아두지 않고
+ * 바로 원래 스트림으로 흘려보내며, 앞부분({@code limit}바이트)만 로깅용으로 복사합니다.
+ * 따라서 {@code copyBodyToResponse()} 단계가 없고 대용량 응답도 이중 버퍼링되지 않습니다.</p>
+ */
+final class CapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final CaptureBuffer capture;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CapturingResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.capture = new CaptureBuffer(limit);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream(), capture);
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            Charset charset = Charset.forName(getCharacterEncoding());
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * PrintWriter에 남아있는 내용을 원래 스트림으로 내보냅니다.
+     */
+    void flush() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    byte[] getCapturedBody() {
+        return capture.toByteArray();
+    }
+
+    long getBodyLength() {
+        return capture.totalBytes();
+    }
+
+    private static final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final CaptureBuffer capture;
+
+        private TeeOutputStream(ServletOutputStream delegate, CaptureBuffer capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            delegate.write(buffer, offset, length);
+            capture.write(buffer, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -53,6 +53,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final RouteClassifier routeClassifier;
 
     /**
      * JWT 토큰 검증 및 인증 처리.
@@ -164,14 +165,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        
-        // 공개 API 경로는 필터 스킵
-        return path.startsWith("/api/v1/auth/") ||
-               path.equals("/health") ||
-               path.equals("/api/health") ||
-               path.equals("/api/v1/health") ||
-               path.startsWith("/swagger-ui") ||
-               path.startsWith("/v3/api-docs");
+        // 공개 API 경로는 필터 스킵 (SecurityConfig permitAll 경로와 동일)
+        return routeClassifier.classify(request.getRequestURI()).isPublicPath();
     }
 }
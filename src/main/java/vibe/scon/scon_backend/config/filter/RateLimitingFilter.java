@@ -5,145 +5,180 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.RateLimitPolicy;
+import vibe.scon.scon_backend.config.filter.RouteClassifier.RateLimitGroup;
+import vibe.scon.scon_backend.config.properties.AppProperties.RateLimitProperties;
+import vibe.scon.scon_backend.config.ratelimit.RateLimitDecision;
+import vibe.scon.scon_backend.config.ratelimit.RateLimitStore;
 import vibe.scon.scon_backend.dto.ErrorResponse;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Rate Limiting 필터.
- * 
+ *
  * <p>무차별 대입 공격(Brute Force Attack)을 방어하기 위한 Rate Limiting을 구현합니다.
- * IP 기반으로 요청 횟수를 제한합니다.</p>
- * 
- * <h3>Rate Limit 설정:</h3>
+ * IP + 경로 그룹 단위로 한도를 적용하며, 카운터는 {@link RateLimitStore}에 위임합니다.</p>
+ *
+ * <h3>Rate Limit 설정 ({@code app.rate-limit.*}):</h3>
  * <ul>
- *   <li>최대 요청 수: 5회/분 (설정 가능)</li>
- *   <li>적용 대상: /api/v1/auth/login, /api/v1/auth/signup</li>
+ *   <li>login: /api/v1/auth/login (기본 5회/분)</li>
+ *   <li>signup: /api/v1/auth/signup (기본 5회/분)</li>
+ *   <li>refresh: /api/v1/auth/refresh (기본 10회/분)</li>
+ *   <li>api: 그 외 /api/** (기본 120회/분, 헬스체크 제외)</li>
  * </ul>
- * 
+ *
+ * <h3>응답 헤더:</h3>
+ * <ul>
+ *   <li>{@code RateLimit-Limit} - 버킷 용량</li>
+ *   <li>{@code RateLimit-Remaining} - 남은 요청 수</li>
+ *   <li>{@code RateLimit-Reset} - 한도가 회복될 때까지 남은 시간 (초)</li>
+ *   <li>{@code Retry-After} - 429 응답 시 재시도 가능 시각까지 남은 시간 (초)</li>
+ * </ul>
+ *
  * <h3>요구사항 추적 (Traceability):</h3>
  * <ul>
  *   <li>{@code POC-BE-SEC-002} - 백엔드 보안 강화 (Rate Limiting)</li>
  * </ul>
- * 
+ *
  * <h3>주의사항:</h3>
  * <ul>
- *   <li>현재는 메모리 기반 구현 (개발/테스트용)</li>
- *   <li>프로덕션 환경에서는 Redis 기반 Rate Limiting 사용 권장</li>
+ *   <li>카운터는 크기({@code max-tracked-clients})와 유휴 TTL({@code idle-timeout})이 제한된
+ *       캐시에 보관되므로 IP를 바꿔가며 요청해도 메모리 사용량이 증가하지 않습니다.</li>
+ *   <li>다중 인스턴스 환경에서는 {@code app.rate-limit.store=database}로 한도를 공유합니다.</li>
  * </ul>
- * 
+ *
  * @see <a href="../../SCON-Update-Plan/POC-BE-SEC-002.md">POC-BE-SEC-002</a>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    private final Environment environment;
+    static final String HEADER_LIMIT = "RateLimit-Limit";
+    static final String HEADER_REMAINING = "RateLimit-Remaining";
+    static final String HEADER_RESET = "RateLimit-Reset";
+
     private final ObjectMapper objectMapper;
+    private final RateLimitProperties properties;
+    private final RateLimitStore rateLimitStore;
+    private final RouteClassifier routeClassifier;
+
+    // 활성 프로파일은 실행 중 바뀌지 않으므로 시작 시 한 번만 판정
+    private final boolean active;
+
+    public RateLimitingFilter(
+            Environment environment,
+            ObjectMapper objectMapper,
+            AppProperties appProperties,
+            RateLimitStore rateLimitStore,
+            RouteClassifier routeClassifier) {
+        this.objectMapper = objectMapper;
+        this.properties = appProperties.getRateLimit();
+        this.rateLimitStore = rateLimitStore;
+        this.routeClassifier = routeClassifier;
+        // 테스트 환경에서는 Rate Limiting 비활성화
+        this.active = properties.isEnabled() && !environment.acceptsProfiles(Profiles.of("test"));
+    }
 
-    // IP별 요청 횟수 추적 (메모리 기반, 프로덕션에서는 Redis 사용 권장)
-    private final Map<String, RateLimitInfo> rateLimitMap = new ConcurrentHashMap<>();
-    
-    // Rate Limit 설정
-    private static final int MAX_REQUESTS = 5; // 최대 요청 수
-    private static final long TIME_WINDOW_MS = 60000; // 1분 (밀리초)
-    
-    // Rate Limiting 적용 대상 경로
-    private static final List<String> RATE_LIMIT_PATHS = Arrays.asList(
-            "/api/v1/auth/login",
-            "/api/v1/auth/signup"
-    );
-    
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
-        
-        // 테스트 환경에서는 Rate Limiting 비활성화
-        String[] activeProfiles = environment.getActiveProfiles();
-        boolean isTestProfile = java.util.Arrays.asList(activeProfiles).contains("test");
-        if (isTestProfile) {
+
+        if (!active) {
             filterChain.doFilter(request, response);
             return;
         }
-        
+
         String path = request.getRequestURI();
-        
-        // Rate Limiting 적용 대상 경로인지 확인
-        boolean shouldRateLimit = RATE_LIMIT_PATHS.stream()
-                .anyMatch(path::startsWith);
-        
-        if (shouldRateLimit) {
-            String clientIp = getClientIp(request);
-            RateLimitInfo info = rateLimitMap.computeIfAbsent(
-                    clientIp,
-                    k -> new RateLimitInfo()
+
+        // Rate Limiting 적용 대상 경로 그룹 확인
+        RateLimitGroup group = routeClassifier.classify(path).getRateLimitGroup();
+        RateLimitPolicy policy = policyOf(group);
+        if (policy == null || !policy.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientIp = getClientIp(request);
+        RateLimitDecision decision = rateLimitStore.tryConsume(group.key() + ":" + clientIp, policy);
+
+        response.setHeader(HEADER_LIMIT, String.valueOf(decision.getLimit()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(decision.getRemaining()));
+        response.setHeader(HEADER_RESET, String.valueOf(decision.getResetSeconds()));
+
+        if (decision.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Rate Limit 초과 시
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getResetSeconds()));
+        log.warn("Rate limit exceeded for IP: {}, route: {}, path: {}", clientIp, group.key(), path);
+        writeTooManyRequests(response, path);
+    }
+
+    /**
+     * 경로 그룹에 해당하는 정책 반환.
+     *
+     * @param group 경로 그룹
+     * @return 정책 또는 적용 대상이 아니면 {@code null}
+     */
+    private RateLimitPolicy policyOf(RateLimitGroup group) {
+        return switch (group) {
+            case LOGIN -> properties.getLogin();
+            case SIGNUP -> properties.getSignup();
+            case REFRESH -> properties.getRefresh();
+            case API -> properties.getApi();
+            case NONE -> null;
+        };
+    }
+
+    /**
+     * 429 Too Many Requests 응답 작성.
+     */
+    private void writeTooManyRequests(HttpServletResponse response, String path) throws IOException {
+        // 표준 ErrorResponse 형식으로 응답 (INTG-BE-Phase2-v1.1.0)
+        ErrorResponse errorResponse = ErrorResponse.of(
+                429,
+                "TOO_MANY_REQUESTS",
+                "너무 많은 요청입니다. 잠시 후 다시 시도해주세요.",
+                path
+        );
+
+        response.setStatus(429); // HttpStatus.TOO_MANY_REQUESTS (429)
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        try {
+            String jsonResponse = objectMapper.writeValueAsString(errorResponse);
+            response.getWriter().write(jsonResponse);
+        } catch (Exception e) {
+            log.error("Failed to serialize ErrorResponse to JSON", e);
+            // 폴백: 간단한 JSON 응답
+            response.getWriter().write(
+                    "{\"status\":429,\"error\":\"TOO_MANY_REQUESTS\"," +
+                    "\"message\":\"너무 많은 요청입니다. 잠시 후 다시 시도해주세요.\"," +
+                    "\"path\":\"" + path + "\",\"timestamp\":\"" +
+                    java.time.LocalDateTime.now() + "\"}"
             );
-            
-            long now = System.currentTimeMillis();
-            
-            // 시간 윈도우 초과 시 리셋
-            if (now - info.getFirstRequestTime() > TIME_WINDOW_MS) {
-                info.reset();
-            }
-            
-            // 요청 횟수 증가
-            info.increment();
-            
-            // Rate Limit 초과 시
-            if (info.getCount() > MAX_REQUESTS) {
-                log.warn("Rate limit exceeded for IP: {}, path: {}", clientIp, path);
-                
-                // 표준 ErrorResponse 형식으로 응답 (INTG-BE-Phase2-v1.1.0)
-                ErrorResponse errorResponse = ErrorResponse.of(
-                        429,
-                        "TOO_MANY_REQUESTS",
-                        "너무 많은 요청입니다. 잠시 후 다시 시도해주세요.",
-                        path
-                );
-                
-                response.setStatus(429); // HttpStatus.TOO_MANY_REQUESTS (429)
-                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-                response.setCharacterEncoding("UTF-8");
-                
-                try {
-                    String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-                    response.getWriter().write(jsonResponse);
-                } catch (Exception e) {
-                    log.error("Failed to serialize ErrorResponse to JSON", e);
-                    // 폴백: 간단한 JSON 응답
-                    response.getWriter().write(
-                            "{\"status\":429,\"error\":\"TOO_MANY_REQUESTS\"," +
-                            "\"message\":\"너무 많은 요청입니다. 잠시 후 다시 시도해주세요.\"," +
-                            "\"path\":\"" + path + "\",\"timestamp\":\"" +
-                            java.time.LocalDateTime.now() + "\"}"
-                    );
-                }
-                return;
-            }
         }
-        
-        filterChain.doFilter(request, response);
     }
-    
+
     /**
      * 클라이언트 IP 주소 추출.
-     * 
+     *
      * <p>프록시나 로드밸런서를 통한 요청도 고려하여 X-Forwarded-For 헤더를 확인합니다.</p>
-     * 
+     *
      * @param request HTTP 요청
      * @return 클라이언트 IP 주소
      */
@@ -153,37 +188,12 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             // X-Forwarded-For는 여러 IP가 쉼표로 구분될 수 있음 (첫 번째가 실제 클라이언트 IP)
             return xForwardedFor.split(",")[0].trim();
         }
-        
+
         String xRealIp = request.getHeader("X-Real-IP");
         if (xRealIp != null && !xRealIp.isEmpty()) {
             return xRealIp.trim();
         }
-        
+
         return request.getRemoteAddr();
     }
-    
-    /**
-     * Rate Limit 정보를 저장하는 내부 클래스.
-     */
-    @Data
-    private static class RateLimitInfo {
-        private int count = 0;
-        private long firstRequestTime = System.currentTimeMillis();
-        
-        /**
-         * 요청 횟수 증가.
-         */
-        public void increment() {
-            count++;
-        }
-        
-        /**
-         * Rate Limit 정보 리셋.
-         */
-        public void reset() {
-            count = 1;
-            firstRequestTime = System.currentTimeMillis();
-        }
-    }
 }
-
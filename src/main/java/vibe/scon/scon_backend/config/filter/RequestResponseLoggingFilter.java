@@ -4,41 +4,57 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.ApiLoggingProperties;
 import vibe.scon.scon_backend.util.ApiLogger;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Request/Response Logging Filter
- * 
+ *
  * 모든 HTTP 요청과 응답을 로깅합니다.
- * 
+ *
+ * <h3>샘플링 ({@code app.logging.*}):</h3>
+ * <ul>
+ *   <li>요청 시작 시 {@code sample-rate} 비율로 본문 캡처 여부를 결정합니다 (head-based).</li>
+ *   <li>샘플링된 요청: Tee 래퍼로 본문 앞부분({@code max-capture-bytes})만 복사하며 응답은 그대로 흘려보냅니다.</li>
+ *   <li>샘플링되지 않은 요청: 래퍼를 만들지 않으며, 오류(4xx/5xx)이거나
+ *       {@code slow-request-threshold}보다 느린 경우에만 본문 없이 기록합니다.</li>
+ *   <li>요청/응답 로깅이 모두 비활성화되면 아무 처리 없이 통과합니다.</li>
+ * </ul>
+ *
  * <h3>주의사항:</h3>
  * <ul>
- *   <li>요청/응답 본문을 읽기 위해 ContentCachingRequestWrapper/ResponseWrapper 사용</li>
+ *   <li>응답을 메모리에 모아두지 않으므로 대용량 응답도 이중 버퍼링되지 않습니다.</li>
  *   <li>필터 순서: SecurityConfig에서 명시적으로 등록 (JwtAuthenticationFilter 이후)</li>
  *   <li>성능 영향 최소화를 위해 개발 환경에서만 기본 활성화</li>
- *   <li>요청 본문 크기 제한: 1MB (설정 가능)</li>
  * </ul>
- * 
+ *
  * <h3>필터 등록:</h3>
  * <p>이 필터는 SecurityConfig에서 명시적으로 등록되어야 합니다.
  * SecurityConfig에서 addFilterAfter로 등록합니다.</p>
  */
 @Slf4j
-@RequiredArgsConstructor
+@Component
 public class RequestResponseLoggingFilter extends OncePerRequestFilter {
-    
-    // 요청 본문 최대 크기 (1MB) - 큰 요청은 로깅하지 않음
-    private static final int MAX_REQUEST_BODY_SIZE = 1024 * 1024;
 
     private final ApiLogger apiLogger;
+    private final double sampleRate;
+    private final long slowRequestThresholdMillis;
+    private final int maxCaptureBytes;
+
+    public RequestResponseLoggingFilter(ApiLogger apiLogger, AppProperties appProperties) {
+        ApiLoggingProperties properties = appProperties.getLogging();
+        this.apiLogger = apiLogger;
+        this.sampleRate = properties.getSampleRate();
+        this.slowRequestThresholdMillis = properties.getSlowRequestThreshold().toMillis();
+        this.maxCaptureBytes = properties.getMaxCaptureBytes();
+    }
 
     @Override
     protected void doFilterInternal(
@@ -46,52 +62,47 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        
+
+        if (!apiLogger.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         long startTime = System.currentTimeMillis();
 
-        // 요청 본문 크기 확인 (너무 큰 요청은 Wrapper 생성하지 않음)
-        int contentLength = request.getContentLength();
-        if (contentLength > MAX_REQUEST_BODY_SIZE) {
-            log.debug("Request body too large ({} bytes), skipping logging", contentLength);
+        if (!isSampled()) {
+            // 래퍼 없이 그대로 처리하고, 오류/느린 요청만 본문 없이 기록
             filterChain.doFilter(request, response);
+            long duration = System.currentTimeMillis() - startTime;
+            if (response.getStatus() >= 400 || duration >= slowRequestThresholdMillis) {
+                apiLogger.logBackendRequest(request, null, 0L);
+                apiLogger.logBackendResponse(request, response, null, 0L, duration);
+            }
             return;
         }
 
-        // 요청 본문을 읽기 위해 Wrapper 사용
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        // 본문 앞부분만 복사하는 Tee 래퍼 (응답은 즉시 원래 스트림으로 전달)
+        CapturingRequestWrapper requestWrapper = new CapturingRequestWrapper(request, maxCaptureBytes);
+        CapturingResponseWrapper responseWrapper = new CapturingResponseWrapper(response, maxCaptureBytes);
 
         try {
             // 필터 체인 실행
             filterChain.doFilter(requestWrapper, responseWrapper);
+        } finally {
+            responseWrapper.flush();
+        }
 
-            // 응답 시간 계산
-            long duration = System.currentTimeMillis() - startTime;
-
-            // 요청 본문 읽기
-            byte[] requestBodyBytes = requestWrapper.getContentAsByteArray();
-            String requestBody = null;
-            if (requestBodyBytes.length > 0 && requestBodyBytes.length <= MAX_REQUEST_BODY_SIZE) {
-                requestBody = new String(requestBodyBytes, StandardCharsets.UTF_8);
-            }
-
-            // 응답 본문 읽기
-            byte[] responseBodyBytes = responseWrapper.getContentAsByteArray();
-            String responseBody = null;
-            if (responseBodyBytes.length > 0) {
-                responseBody = new String(responseBodyBytes, StandardCharsets.UTF_8);
-            }
-
-            // 로깅
-            apiLogger.logBackendRequest(requestWrapper, requestBody);
-            apiLogger.logBackendResponse(requestWrapper, responseWrapper, responseBody, duration);
+        // 응답 시간 계산
+        long duration = System.currentTimeMillis() - startTime;
 
-            // 응답 본문 복사 (Wrapper로 읽었으므로 다시 복사 필요)
-            responseWrapper.copyBodyToResponse();
+        // 로깅 (링 버퍼에 적재만 하므로 응답 지연 없음)
+        apiLogger.logBackendRequest(requestWrapper,
+                requestWrapper.getCapturedBody(), requestWrapper.getBodyLength());
+        apiLogger.logBackendResponse(requestWrapper, responseWrapper,
+                responseWrapper.getCapturedBody(), responseWrapper.getBodyLength(), duration);
+    }
 
-        } catch (Exception e) {
-            log.error("Error in RequestResponseLoggingFilter", e);
-            throw e;
-        }
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
     }
 }
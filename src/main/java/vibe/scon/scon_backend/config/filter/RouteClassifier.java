@@ -0,0 +1,298 @@
+package vibe.scon.scon_backend.config.filter;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 경로 분류기.
+ *
+ * <p>필터들이 요청마다 반복하던 경로 판정({@code startsWith} 체인, 스트림 {@code anyMatch})을
+ * 애플리케이션 시작 시 한 번 구성한 Prefix Trie(Radix 압축)로 대체합니다.
+ * 분류 결과({@link Route})는 빌드 시점에 미리 병합되어 있으므로
+ * 요청당 비용은 경로 길이에 비례(O(path length))하며 객체를 생성하지 않습니다.</p>
+ *
+ * <h3>분류 항목:</h3>
+ * <ul>
+ *   <li>{@code publicPath} - 인증 없이 접근 가능한 경로 ({@link #PUBLIC_PATHS}, SecurityConfig와 공유)</li>
+ *   <li>{@code rateLimitGroup} - Rate Limit 정책 그룹 (login, signup, refresh, api)</li>
+ *   <li>{@code loggingExcluded} - API 로깅 제외 경로 (헬스체크, actuator)</li>
+ * </ul>
+ *
+ * <h3>매칭 규칙:</h3>
+ * <ul>
+ *   <li>정확 일치 규칙이 접두사 규칙보다 우선합니다.</li>
+ *   <li>접두사 규칙끼리는 더 긴(구체적인) 규칙의 Rate Limit 그룹이 우선합니다.</li>
+ *   <li>{@code /**} 패턴은 Spring Security와 동일하게 경로 자체와 하위 경로에 일치합니다.</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-002} - 백엔드 보안 강화 (Rate Limiting)</li>
+ * </ul>
+ */
+@Component
+public class RouteClassifier {
+
+    /**
+     * 인증 없이 접근 가능한 경로 (Spring Security 패턴 형식).
+     *
+     * <p>SecurityConfig의 permitAll 설정과 JwtAuthenticationFilter의 스킵 판정이 같은 목록을 사용합니다.</p>
+     */
+    public static final String[] PUBLIC_PATHS = {
+            "/api/v1/auth/signup",
+            "/api/v1/auth/login",
+            "/api/v1/auth/refresh",
+            "/api/v1/auth/logout",
+            "/health",
+            "/api/health",
+            "/api/v1/health",
+            "/api/v1/health/live",
+            "/api/v1/health/ready",
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            // 모니터링 (운영에서는 management.server.port로 분리된 내부 포트에서만 노출)
+            "/actuator/health/**",
+            "/actuator/prometheus"
+    };
+
+    /**
+     * 관리 포트({@code management.server.port})로 들어온 요청만 허용하는 진단 경로 (Spring Security 패턴 형식).
+     *
+     * <p>JFR 스냅샷 파싱/덤프, Slow Query EXPLAIN 수집/집계 초기화처럼 비용이 크거나 운영 상태를 바꾸는
+     * 엔드포인트로, API 포트에서는 인증되어도 거부합니다.
+     * 관리 포트가 설정되지 않은 환경에서는 사용할 수 없습니다.</p>
+     *
+     * @see vibe.scon.scon_backend.config.ManagementPortAuthorizationManager
+     */
+    public static final String[] MANAGEMENT_ONLY_PATHS = {
+            "/actuator/jfr/**",
+            "/actuator/slowqueries/**"
+    };
+
+    // 로깅 제외 경로 (접두사)
+    private static final String[] LOGGING_EXCLUDED_PREFIXES = {
+            "/api/v1/health",
+            "/actuator"
+    };
+
+    // 빌드 전용 문자 단위 Trie (컴파일 후 폐기)
+    private BuildNode buildRoot = new BuildNode();
+
+    // 요청 판정용 압축(Radix) Trie
+    private final Node root;
+
+    public RouteClassifier() {
+        for (String pattern : PUBLIC_PATHS) {
+            if (pattern.endsWith("/**")) {
+                String base = pattern.substring(0, pattern.length() - 3);
+                insert(base, false).publicPath = Boolean.TRUE;
+                insert(base + "/", true).publicPath = Boolean.TRUE;
+            } else {
+                insert(pattern, false).publicPath = Boolean.TRUE;
+            }
+        }
+
+        // Rate Limit 그룹 (접두사, 구체적인 규칙 우선)
+        insert("/api/", true).rateLimitGroup = RateLimitGroup.API;
+        insert("/api/v1/auth/login", true).rateLimitGroup = RateLimitGroup.LOGIN;
+        insert("/api/v1/auth/signup", true).rateLimitGroup = RateLimitGroup.SIGNUP;
+        insert("/api/v1/auth/refresh", true).rateLimitGroup = RateLimitGroup.REFRESH;
+        // 헬스체크는 모니터링 주기로 호출되므로 Rate Limiting 제외
+        insert("/api/health", true).rateLimitGroup = RateLimitGroup.NONE;
+        insert("/api/v1/health", true).rateLimitGroup = RateLimitGroup.NONE;
+
+        for (String prefix : LOGGING_EXCLUDED_PREFIXES) {
+            insert(prefix, true).loggingExcluded = Boolean.TRUE;
+        }
+
+        this.root = Node.compile(buildRoot, "", Route.DEFAULT);
+        this.buildRoot = null;
+    }
+
+    /**
+     * 요청 경로 분류.
+     *
+     * @param path 요청 URI
+     * @return 분류 결과 (매칭되는 규칙이 없으면 {@link Route#DEFAULT})
+     */
+    public Route classify(String path) {
+        if (path == null) {
+            return Route.DEFAULT;
+        }
+
+        Node node = root;
+        int offset = 0;
+        while (offset < path.length()) {
+            Node child = node.child(path.charAt(offset));
+            // 자식 간선 레이블과 일치하지 않으면 (간선 중간 노드에는 규칙이 없으므로) 현재 노드의 결과
+            if (child == null || !path.startsWith(child.label, offset)) {
+                return node.prefixRoute;
+            }
+            offset += child.label.length();
+            node = child;
+        }
+        return node.exactRoute;
+    }
+
+    /**
+     * 규칙 삽입 위치의 노드 규칙 스펙 반환.
+     */
+    private RuleSpec insert(String path, boolean prefix) {
+        BuildNode node = buildRoot;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.getOrCreateChild(path.charAt(i));
+        }
+        if (prefix) {
+            if (node.prefixSpec == null) {
+                node.prefixSpec = new RuleSpec();
+            }
+            return node.prefixSpec;
+        }
+        if (node.exactSpec == null) {
+            node.exactSpec = new RuleSpec();
+        }
+        return node.exactSpec;
+    }
+
+    /**
+     * Rate Limit 정책 그룹.
+     */
+    public enum RateLimitGroup {
+        LOGIN("login"),
+        SIGNUP("signup"),
+        REFRESH("refresh"),
+        API("api"),
+        NONE("none");
+
+        private final String key;
+
+        RateLimitGroup(String key) {
+            this.key = key;
+        }
+
+        /**
+         * 버킷 키 접두사로 사용하는 그룹명.
+         */
+        public String key() {
+            return key;
+        }
+    }
+
+    /**
+     * 경로 분류 결과 (불변).
+     */
+    @Getter
+    public static final class Route {
+
+        static final Route DEFAULT = new Route(false, RateLimitGroup.NONE, false);
+
+        private final boolean publicPath;
+        private final RateLimitGroup rateLimitGroup;
+        private final boolean loggingExcluded;
+
+        private Route(boolean publicPath, RateLimitGroup rateLimitGroup, boolean loggingExcluded) {
+            this.publicPath = publicPath;
+            this.rateLimitGroup = rateLimitGroup;
+            this.loggingExcluded = loggingExcluded;
+        }
+
+        private Route merge(RuleSpec spec) {
+            if (spec == null) {
+                return this;
+            }
+            return new Route(
+                    publicPath || Boolean.TRUE.equals(spec.publicPath),
+                    spec.rateLimitGroup != null ? spec.rateLimitGroup : rateLimitGroup,
+                    loggingExcluded || Boolean.TRUE.equals(spec.loggingExcluded));
+        }
+    }
+
+    /**
+     * 빌드 시점에만 사용하는 규칙 스펙 (null = 상위 규칙 상속).
+     */
+    private static final class RuleSpec {
+        private Boolean publicPath;
+        private RateLimitGroup rateLimitGroup;
+        private Boolean loggingExcluded;
+    }
+
+    /**
+     * 빌드용 문자 단위 Trie 노드.
+     */
+    private static final class BuildNode {
+
+        private final Map<Character, BuildNode> children = new LinkedHashMap<>();
+        private RuleSpec prefixSpec;
+        private RuleSpec exactSpec;
+
+        private BuildNode getOrCreateChild(char c) {
+            return children.computeIfAbsent(c, key -> new BuildNode());
+        }
+
+        private boolean hasRules() {
+            return prefixSpec != null || exactSpec != null;
+        }
+    }
+
+    /**
+     * 판정용 Radix Trie 노드.
+     *
+     * <p>규칙이 없는 단일 자식 체인은 하나의 간선 레이블로 압축되어
+     * 문자 단위 탐색 대신 {@link String#startsWith(String, int)} 비교 한 번으로 처리됩니다.
+     * 자식은 팬아웃이 작으므로 첫 문자 배열을 선형 탐색합니다.</p>
+     */
+    private static final class Node {
+
+        private final String label;
+        private final Route prefixRoute;
+        private final Route exactRoute;
+        private final char[] firstChars;
+        private final Node[] children;
+
+        private Node(String label, Route prefixRoute, Route exactRoute, char[] firstChars, Node[] children) {
+            this.label = label;
+            this.prefixRoute = prefixRoute;
+            this.exactRoute = exactRoute;
+            this.firstChars = firstChars;
+            this.children = children;
+        }
+
+        private Node child(char c) {
+            char[] keys = firstChars;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 빌드 노드를 압축 노드로 변환하며 상위 접두사 규칙을 미리 병합합니다.
+         */
+        private static Node compile(BuildNode source, String label, Route inherited) {
+            Route prefixRoute = inherited.merge(source.prefixSpec);
+            Route exactRoute = prefixRoute.merge(source.exactSpec);
+
+            char[] firstChars = new char[source.children.size()];
+            Node[] children = new Node[source.children.size()];
+            int index = 0;
+            for (Map.Entry<Character, BuildNode> entry : source.children.entrySet()) {
+                StringBuilder edge = new StringBuilder().append(entry.getKey());
+                BuildNode target = entry.getValue();
+                while (!target.hasRules() && target.children.size() == 1) {
+                    Map.Entry<Character, BuildNode> only = target.children.entrySet().iterator().next();
+                    edge.append(only.getKey());
+                    target = only.getValue();
+                }
+                firstChars[index] = entry.getKey();
+                children[index] = compile(target, edge.toString(), prefixRoute);
+                index++;
+            }
+            return new Node(label, prefixRoute, exactRoute, firstChars, children);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package vibe.scon.scon_backend.config.health;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.config.BoundedVirtualThreadExecutor;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.HealthProperties;
+import vibe.scon.scon_backend.dto.HealthCheckResult;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 백그라운드 헬스 프로브 모니터.
+ *
+ * <p>DB·디스크·WAL·Executor 상태를 주기적으로 점검하여 결과를 캐시합니다.
+ * 헬스체크 요청은 캐시된 결과만 읽으므로 요청 스레드에서 DB에 접근하지 않습니다.</p>
+ *
+ * <h3>프로브:</h3>
+ * <ul>
+ *   <li>{@code db} - {@code SELECT 1} 응답 시간 (느리면 DEGRADED, 실패/시간 초과 시 DOWN)</li>
+ *   <li>{@code wal} - SQLite WAL 파일 크기 (체크포인트 지연 시 DEGRADED)</li>
+ *   <li>{@code disk} - {@code SQLITE_DB_PATH} 볼륨 여유 공간 (부족 시 DOWN)</li>
+ *   <li>{@code executor.*} - taskExecutor/dbExecutor 포화도 (스레드 전부 사용 + 큐 임계치 초과 시 DOWN)</li>
+ * </ul>
+ *
+ * <h3>동작 방식:</h3>
+ * <ul>
+ *   <li>갱신 루프는 전용 스레드에서 실행되어 다른 {@code @Scheduled} 작업이 막혀도 영향을 받지 않습니다.</li>
+ *   <li>I/O 프로브는 {@code probe-timeout} 안에 끝나지 않으면 DOWN으로 기록하며,
+ *       멈춘 프로브가 끝날 때까지 같은 프로브를 다시 제출하지 않습니다 (스레드 누적 방지).</li>
+ *   <li>readiness: 결과가 {@code stale-after}보다 오래되었거나 DOWN 프로브가 있으면 준비 안 됨</li>
+ *   <li>liveness: 갱신 루프가 {@code stale-after} 안에 한 번이라도 완료되었으면 정상 (의존성 장애로 재시작하지 않음)</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능/가용성 요구사항 (장애 노드 트래픽 차단)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class HealthProbeMonitor {
+
+    static final String DB = "db";
+    static final String WAL = "wal";
+    static final String DISK = "disk";
+    static final String EXECUTOR_PREFIX = "executor.";
+
+    private static final String SQLITE_URL_PREFIX = "jdbc:sqlite:";
+
+    private final DataSource dataSource;
+    private final Map<String, Executor> executors;
+    private final HealthProperties properties;
+    private final Path databasePath;
+    private final Clock clock;
+    private final Instant startedAt;
+
+    private final ExecutorService probeExecutor;
+    private final Map<String, Future<HealthCheckResult>> inFlight = new ConcurrentHashMap<>();
+    private ScheduledExecutorService refresher;
+
+    private volatile Map<String, HealthCheckResult> snapshot = Collections.emptyMap();
+    private volatile Instant lastRefresh;
+
+    @Autowired
+    public HealthProbeMonitor(
+            DataSource dataSource,
+            @Qualifier("taskExecutor") Executor taskExecutor,
+            @Qualifier("dbExecutor") Executor dbExecutor,
+            AppProperties appProperties,
+            @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this(dataSource, orderedExecutors(taskExecutor, dbExecutor), appProperties.getHealth(),
+                datasourceUrl, Clock.systemUTC());
+    }
+
+    HealthProbeMonitor(DataSource dataSource, Map<String, Executor> executors,
+                       HealthProperties properties, String datasourceUrl, Clock clock) {
+        this.dataSource = dataSource;
+        this.executors = executors;
+        this.properties = properties;
+        this.databasePath = resolveDatabasePath(datasourceUrl);
+        this.clock = clock;
+        this.startedAt = clock.instant();
+        this.probeExecutor = Executors.newCachedThreadPool(daemonThreads("health-probe-"));
+    }
+
+    @PostConstruct
+    public void start() {
+        refresher = Executors.newSingleThreadScheduledExecutor(daemonThreads("health-refresh-"));
+        long intervalMillis = properties.getRefreshInterval().toMillis();
+        refresher.scheduleWithFixedDelay(this::refreshSafely, 0L, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Health probes started: interval={}, timeout={}, database={}",
+                properties.getRefreshInterval(), properties.getProbeTimeout(),
+                databasePath != null ? databasePath.toAbsolutePath() : "in-memory");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+        probeExecutor.shutdownNow();
+    }
+
+    /**
+     * 모든 프로브를 실행하고 캐시를 갱신.
+     */
+    public void refresh() {
+        Map<String, Callable<HealthCheckResult>> ioProbes = new LinkedHashMap<>();
+        ioProbes.put(DB, this::probeDatabase);
+        ioProbes.put(WAL, this::probeWal);
+        ioProbes.put(DISK, this::probeDisk);
+
+        Map<String, HealthCheckResult> results = new LinkedHashMap<>();
+        Map<String, Future<HealthCheckResult>> submitted = new LinkedHashMap<>();
+        for (Map.Entry<String, Callable<HealthCheckResult>> probe : ioProbes.entrySet()) {
+            Future<HealthCheckResult> previous = inFlight.get(probe.getKey());
+            if (previous != null && !previous.isDone()) {
+                results.put(probe.getKey(), down(null, "previous probe still running"));
+                continue;
+            }
+            Future<HealthCheckResult> future = probeExecutor.submit(probe.getValue());
+            inFlight.put(probe.getKey(), future);
+            submitted.put(probe.getKey(), future);
+        }
+
+        long timeoutMillis = properties.getProbeTimeout().toMillis();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Map.Entry<String, Future<HealthCheckResult>> entry : submitted.entrySet()) {
+            results.put(entry.getKey(), await(entry.getValue(), deadline, timeoutMillis));
+        }
+
+        for (Map.Entry<String, Executor> entry : executors.entrySet()) {
+            results.put(EXECUTOR_PREFIX + entry.getKey(), probeExecutor(entry.getValue()));
+        }
+
+        snapshot = Collections.unmodifiableMap(results);
+        lastRefresh = clock.instant();
+    }
+
+    /**
+     * 캐시된 프로브 결과 (프로브 이름 → 결과).
+     */
+    public Map<String, HealthCheckResult> getChecks() {
+        return snapshot;
+    }
+
+    /**
+     * 전체 상태 (UP / DEGRADED / DOWN / UNKNOWN).
+     */
+    public String getStatus() {
+        if (lastRefresh == null) {
+            return HealthCheckResult.UNKNOWN;
+        }
+        if (isStale(lastRefresh)) {
+            return HealthCheckResult.DOWN;
+        }
+        String status = HealthCheckResult.UP;
+        for (HealthCheckResult result : snapshot.values()) {
+            if (result.isDown()) {
+                return HealthCheckResult.DOWN;
+            }
+            if (HealthCheckResult.DEGRADED.equals(result.getStatus())) {
+                status = HealthCheckResult.DEGRADED;
+            }
+        }
+        return status;
+    }
+
+    /**
+     * 트래픽 수신 가능 여부 (DEGRADED는 수신 가능).
+     */
+    public boolean isReady() {
+        String status = getStatus();
+        return HealthCheckResult.UP.equals(status) || HealthCheckResult.DEGRADED.equals(status);
+    }
+
+    /**
+     * 프로세스 생존 여부 (갱신 루프 동작 여부, 시작 직후에는 유예).
+     */
+    public boolean isLive() {
+        Instant last = lastRefresh;
+        return !isStale(last != null ? last : startedAt);
+    }
+
+    /**
+     * 마지막 갱신 시각 (갱신 전이면 null).
+     */
+    public Instant getLastRefresh() {
+        return lastRefresh;
+    }
+
+    // =========================================================================
+    // Probes
+    // =========================================================================
+
+    private HealthCheckResult probeDatabase() throws Exception {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1L, properties.getProbeTimeout().toSeconds()));
+            statement.execute("SELECT 1");
+        }
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        boolean slow = latencyMs > properties.getDbSlowThreshold().toMillis();
+        return result(slow ? HealthCheckResult.DEGRADED : HealthCheckResult.UP, latencyMs,
+                slow ? "slow query response" : null, null);
+    }
+
+    private HealthCheckResult probeWal() throws IOException {
+        if (databasePath == null) {
+            return result(HealthCheckResult.UP, null, null, Map.<String, Object>of("mode", "in-memory"));
+        }
+        Path wal = Paths.get(databasePath + "-wal");
+        long size = Files.exists(wal) ? Files.size(wal) : 0L;
+        boolean large = size > properties.getWalWarnBytes();
+        return result(large ? HealthCheckResult.DEGRADED : HealthCheckResult.UP, null,
+                large ? "WAL checkpoint lagging" : null, Map.<String, Object>of("sizeBytes", size));
+    }
+
+    private HealthCheckResult probeDisk() throws IOException {
+        Path target = databasePath != null ? databasePath.toAbsolutePath() : Paths.get("").toAbsolutePath();
+        while (target != null && !Files.exists(target)) {
+            target = target.getParent();
+        }
+        if (target == null) {
+            return down(null, "volume not found");
+        }
+        long usable = Files.getFileStore(target).getUsableSpace();
+        boolean low = usable < properties.getMinFreeDiskBytes();
+        return result(low ? HealthCheckResult.DOWN : HealthCheckResult.UP, null,
+                low ? "low disk space" : null,
+                // 공개 헬스 응답이므로 볼륨 경로는 노출하지 않음 (시작 로그에만 기록)
+                Map.<String, Object>of("freeBytes", usable, "thresholdBytes", properties.getMinFreeDiskBytes()));
+    }
+
+    private HealthCheckResult probeExecutor(Executor executor) {
+        int active;
+        int max;
+        int queued;
+        int capacity;
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            active = pool.getActiveCount();
+            max = pool.getMaxPoolSize();
+            queued = pool.getQueueSize();
+            capacity = pool.getQueueCapacity();
+        } else if (executor instanceof BoundedVirtualThreadExecutor bounded) {
+            // Virtual Thread 모드: 동시 실행 상한 = 최대 풀 크기, 허가 대기 = 큐
+            active = bounded.getActiveCount();
+            max = bounded.getConcurrencyLimit();
+            queued = bounded.getPendingCount();
+            capacity = bounded.getMaxPending();
+        } else {
+            return result(HealthCheckResult.UP, null, null, null);
+        }
+        double queueRatio = capacity > 0 ? (double) queued / capacity : 0.0;
+
+        String status = HealthCheckResult.UP;
+        String message = null;
+        if (active >= max) {
+            boolean saturated = queueRatio >= properties.getExecutorSaturationThreshold();
+            status = saturated ? HealthCheckResult.DOWN : HealthCheckResult.DEGRADED;
+            message = saturated ? "executor saturated" : "all threads busy";
+        }
+        return result(status, null, message,
+                Map.<String, Object>of("active", active, "maxPoolSize", max, "queued", queued, "queueCapacity", capacity));
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private HealthCheckResult await(Future<HealthCheckResult> future, long deadlineNanos, long timeoutMillis) {
+        try {
+            long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return down(timeoutMillis, "timed out after " + timeoutMillis + "ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return down(null, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return down(null, "interrupted");
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Health probe refresh failed", e);
+        }
+    }
+
+    private boolean isStale(Instant since) {
+        return Duration.between(since, clock.instant()).compareTo(properties.getStaleAfter()) > 0;
+    }
+
+    private HealthCheckResult result(String status, Long latencyMs, String message, Map<String, Object> details) {
+        return HealthCheckResult.builder()
+                .status(status)
+                .latencyMs(latencyMs)
+                .message(message)
+                .details(details)
+                .checkedAt(clock.instant())
+                .build();
+    }
+
+    private HealthCheckResult down(Long latencyMs, String message) {
+        return result(HealthCheckResult.DOWN, latencyMs, message, null);
+    }
+
+    /**
+     * {@code spring.datasource.url}에서 SQLite DB 파일 경로 추출 (인메모리/비 SQLite면 null).
+     */
+    static Path resolveDatabasePath(String datasourceUrl) {
+        if (datasourceUrl == null || !datasourceUrl.startsWith(SQLITE_URL_PREFIX)) {
+            return null;
+        }
+        String path = datasourceUrl.substring(SQLITE_URL_PREFIX.length());
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        if (path.startsWith("file:")) {
+            path = path.substring("file:".length());
+        }
+        if (path.isEmpty() || path.contains(":memory:")) {
+            return null;
+        }
+        return Paths.get(path);
+    }
+
+    private static Map<String, Executor> orderedExecutors(Executor taskExecutor, Executor dbExecutor) {
+        Map<String, Executor> executors = new LinkedHashMap<>();
+        executors.put("taskExecutor", taskExecutor);
+        executors.put("dbExecutor", dbExecutor);
+        return executors;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package vibe.scon.scon_backend.config.health;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator 헬스 지표 ({@code probes}).
+ *
+ * <p>{@link HealthProbeMonitor}의 캐시된 결과를 {@code /actuator/health/readiness} 그룹에 노출합니다.
+ * DB에 직접 접근하지 않으며, DEGRADED는 트래픽 수신이 가능하므로 UP으로 보고합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProbesHealthIndicator implements HealthIndicator {
+
+    private final HealthProbeMonitor monitor;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = monitor.isReady() ? Health.up() : Health.down();
+        builder.withDetail("status", monitor.getStatus());
+        monitor.getChecks().forEach(builder::withDetail);
+        return builder.build();
+    }
+}
@@ -0,0 +1,46 @@
+package vibe.scon.scon_backend.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버린 이벤트 수를 기록하는 비동기 Appender.
+ *
+ * <p>{@code neverBlock=true}로 설정하면 큐가 가득 찼을 때 요청 스레드를 대기시키지 않고 이벤트를 버립니다.
+ * 버린 이벤트는 사유별로 집계하여 {@link LogPipelineMetrics}가 {@code logback.events.dropped}로 노출합니다.</p>
+ *
+ * <ul>
+ *   <li>{@code discarded} - 큐 잔여 용량이 {@code discardingThreshold} 미만일 때 버린 TRACE/DEBUG/INFO</li>
+ *   <li>{@code queue_full} - 큐가 가득 차서 버린 이벤트 (WARN/ERROR 포함)</li>
+ * </ul>
+ *
+ * <p>큐 잔여 용량 확인과 삽입 사이의 경합으로 집계는 근사값입니다.</p>
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isQueueBelowDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+            return;
+        }
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            queueFull.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getQueueFullCount() {
+        return queueFull.sum();
+    }
+}
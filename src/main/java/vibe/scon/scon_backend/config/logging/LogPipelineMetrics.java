@@ -0,0 +1,86 @@
+package vibe.scon.scon_backend.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * 로그 파이프라인 메트릭.
+ *
+ * <p>logback-spring.xml에 설정된 {@link CountingAsyncAppender}와 {@link LoggerRateLimitFilter}를 찾아
+ * 버린 이벤트 수와 큐 사용량을 노출합니다. 레벨별 이벤트 수({@code logback.events})는 Boot가 기록합니다.</p>
+ *
+ * <ul>
+ *   <li>{@code logback.events.dropped{appender, reason=discarded|queue_full}} - 비동기 Appender에서 버린 이벤트</li>
+ *   <li>{@code logback.events.rate.limited{logger}} - 로거별 초당 제한으로 버린 이벤트</li>
+ *   <li>{@code logback.async.queue.size{appender}} - 비동기 Appender 큐에 쌓인 이벤트</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (로그 I/O가 요청 처리 경로를 막지 않음)</li>
+ * </ul>
+ */
+@Component
+public class LogPipelineMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        for (CountingAsyncAppender appender : asyncAppenders(context)) {
+            String name = appender.getName();
+            FunctionCounter.builder("logback.events.dropped", appender, CountingAsyncAppender::getDiscardedCount)
+                    .description("Log events discarded by an async appender near capacity")
+                    .tags("appender", name, "reason", "discarded")
+                    .register(registry);
+            FunctionCounter.builder("logback.events.dropped", appender, CountingAsyncAppender::getQueueFullCount)
+                    .description("Log events dropped because the async appender queue was full")
+                    .tags("appender", name, "reason", "queue_full")
+                    .register(registry);
+            Gauge.builder("logback.async.queue.size", appender, CountingAsyncAppender::getNumberOfElementsInQueue)
+                    .description("Log events waiting in the async appender queue")
+                    .tag("appender", name)
+                    .register(registry);
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof LoggerRateLimitFilter rateLimitFilter) {
+                for (LoggerRateLimitFilter.Limiter limiter : rateLimitFilter.getLimiters()) {
+                    FunctionCounter.builder("logback.events.rate.limited", limiter,
+                                    LoggerRateLimitFilter.Limiter::getLimitedCount)
+                            .description("Log events suppressed by the per-logger rate limit")
+                            .tag("logger", limiter.getPrefix())
+                            .register(registry);
+                }
+            }
+        }
+    }
+
+    private static Set<CountingAsyncAppender> asyncAppenders(LoggerContext context) {
+        // 같은 Appender가 여러 로거에 연결될 수 있음
+        Set<CountingAsyncAppender> appenders = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof CountingAsyncAppender appender) {
+                    appenders.add(appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
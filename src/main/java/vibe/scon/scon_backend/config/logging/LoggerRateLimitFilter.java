@@ -0,0 +1,124 @@
+package vibe.scon.scon_backend.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로거별 초당 로그 건수 제한 TurboFilter.
+ *
+ * <p>{@code limits}에 {@code 로거접두사=초당건수}를 쉼표로 나열합니다
+ * (예: {@code org.hibernate.SQL=50,vibe.scon.scon_backend.service=200}).
+ * 가장 긴 접두사가 적용되며, 제한을 넘은 이벤트는 LoggingEvent 생성 전에 버리고
+ * {@link LogPipelineMetrics}가 {@code logback.events.rate.limited}로 노출합니다.</p>
+ *
+ * <p>WARN/ERROR는 제한하지 않으며, {@code isDebugEnabled()} 같은 레벨 확인 호출은 건수에 포함하지 않습니다.</p>
+ */
+public class LoggerRateLimitFilter extends TurboFilter {
+
+    private final List<Limiter> limiters = new ArrayList<>();
+    private final Map<String, Optional<Limiter>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * 제한 목록 설정 ({@code 로거접두사=초당건수}, 쉼표 구분).
+     */
+    public void setLimits(String limits) {
+        limiters.clear();
+        resolved.clear();
+        if (limits == null || limits.isBlank()) {
+            return;
+        }
+        for (String entry : limits.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                addWarn("Ignoring malformed rate limit entry [" + entry + "]");
+                continue;
+            }
+            try {
+                limiters.add(new Limiter(parts[0].trim(), Integer.parseInt(parts[1].trim())));
+            } catch (NumberFormatException e) {
+                addWarn("Ignoring malformed rate limit entry [" + entry + "]");
+            }
+        }
+        // 가장 긴 접두사 우선
+        limiters.sort(Comparator.comparingInt((Limiter limiter) -> limiter.prefix.length()).reversed());
+    }
+
+    public List<Limiter> getLimiters() {
+        return Collections.unmodifiableList(limiters);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (format == null || level.toInt() > Level.INFO_INT || limiters.isEmpty()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Optional<Limiter> limiter = resolved.computeIfAbsent(logger.getName(), this::resolve);
+        if (limiter.isEmpty() || limiter.get().tryAcquire()) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private Optional<Limiter> resolve(String loggerName) {
+        return limiters.stream()
+                .filter(limiter -> loggerName.equals(limiter.prefix) || loggerName.startsWith(limiter.prefix + "."))
+                .findFirst();
+    }
+
+    /**
+     * 1초 고정 윈도우 카운터.
+     */
+    public static class Limiter {
+
+        private final String prefix;
+        private final int permitsPerSecond;
+        private final AtomicLong window = new AtomicLong();
+        private final AtomicLong used = new AtomicLong();
+        private final LongAdder limited = new LongAdder();
+
+        Limiter(String prefix, int permitsPerSecond) {
+            this.prefix = prefix;
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        boolean tryAcquire() {
+            long second = System.nanoTime() / 1_000_000_000L;
+            long current = window.get();
+            if (current != second && window.compareAndSet(current, second)) {
+                used.set(0);
+            }
+            if (used.incrementAndGet() <= permitsPerSecond) {
+                return true;
+            }
+            limited.increment();
+            return false;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public int getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public long getLimitedCount() {
+            return limited.sum();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package vibe.scon.scon_backend.config.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * JDBC 실행 시간 측정 리스너.
+ *
+ * <p>Hibernate 세션마다 생성되며({@code hibernate.session.events.auto}),
+ * 문/배치 실행 시간을 현재 스레드의 {@link RequestQueryStats}에 더합니다.</p>
+ */
+public class JdbcTimingListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null && start != 0L) {
+            stats.recordExecution(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package vibe.scon.scon_backend.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+
+/**
+ * 애플리케이션 메트릭 설정.
+ *
+ * <p>Spring Boot Actuator가 자동 수집하는 메트릭에 더해 요청당 SQL 문 수를 수집합니다.
+ * 모든 메트릭은 {@code /actuator/prometheus}로 노출됩니다.</p>
+ *
+ * <h3>수집 메트릭:</h3>
+ * <ul>
+ *   <li>{@code http.server.requests} - 엔드포인트별 지연시간 히스토그램 (자동)</li>
+ *   <li>{@code hikaricp.connections.acquire} - 커넥션 풀 대기시간 (자동)</li>
+ *   <li>{@code executor.*} - taskExecutor/dbExecutor 큐 깊이, 활성 스레드 (자동),
+ *       {@code executor.rejected} - 큐 포화로 호출 스레드에서 실행된 작업 수 ({@code AsyncConfig})</li>
+ *   <li>{@code hibernate.statements.per.request} - 요청당 SQL 문 수 ({@link RequestMetricsInterceptor})</li>
+ *   <li>{@code hibernate.statements.budget.exceeded} - SQL 문 예산 초과/N+1 의심 요청 수 ({@code app.query-budget})</li>
+ *   <li>{@code scon.jwt}, {@code scon.crypto} - JWT 서명/검증, PII 암복호화 시간</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (p95 응답 시간 검증)</li>
+ * </ul>
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final AppProperties appProperties;
+
+    public MetricsConfig(MeterRegistry meterRegistry, AppProperties appProperties) {
+        this.meterRegistry = meterRegistry;
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * Hibernate StatementInspector / SessionEventListener 등록 (요청당 SQL 문 수, JDBC 실행 시간 집계).
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingListener.class.getName());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, appProperties));
+    }
+}
@@ -0,0 +1,65 @@
+package vibe.scon.scon_backend.config.metrics;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * 요청당 SQL 통계 응답 헤더 추가.
+ *
+ * <p>본문이 쓰여 응답이 커밋되기 직전에 {@code X-DB-Queries}(SQL 문 수),
+ * {@code X-DB-Time}(JDBC 실행 시간 ms) 헤더를 붙입니다.
+ * 내부 정보이므로 프로덕션에서는 {@code app.query-budget.expose-headers=false}로 비활성화합니다.</p>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (N+1 회귀 감지)</li>
+ * </ul>
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "app.query-budget", name = "expose-headers", havingValue = "true", matchIfMissing = true)
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-DB-Queries";
+    public static final String QUERY_TIME_HEADER = "X-DB-Time";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(QUERY_TIME_HEADER, formatMillis(stats));
+        }
+        return body;
+    }
+
+    /**
+     * 아직 커밋되지 않은 응답에 SQL 통계 헤더 추가 (이미 있으면 유지).
+     */
+    static void writeHeaders(HttpServletResponse response, RequestQueryStats stats) {
+        if (stats == null || response.isCommitted() || response.containsHeader(QUERY_COUNT_HEADER)) {
+            return;
+        }
+        response.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+        response.setHeader(QUERY_TIME_HEADER, formatMillis(stats));
+    }
+
+    private static String formatMillis(RequestQueryStats stats) {
+        return String.format(Locale.ROOT, "%.2f", stats.getExecutionMillis());
+    }
+}
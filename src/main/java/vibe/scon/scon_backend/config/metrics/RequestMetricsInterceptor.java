@@ -0,0 +1,125 @@
+package vibe.scon.scon_backend.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+
+import java.util.Locale;
+
+/**
+ * 요청당 Hibernate SQL 문 수 기록 및 예산 검사 인터셉터.
+ *
+ * <p>컨트롤러 처리 구간의 SQL 문 수를 {@code hibernate.statements.per.request} 분포로 기록합니다.
+ * {@code uri} 태그는 {@code http.server.requests}와 같은 매핑 패턴(예: {@code /api/v1/stores/{storeId}})을
+ * 사용하므로 카디널리티가 엔드포인트 수로 제한됩니다.</p>
+ *
+ * <p>{@code app.query-budget}이 활성화되어 있으면 엔드포인트별 예산 초과와
+ * 동일 SQL 반복(N+1 의심)을 WARN 로그와 {@code hibernate.statements.budget.exceeded} 카운터로 남깁니다.</p>
+ *
+ * <p>비동기 요청(SSE, Long-poll)은 요청 스레드가 {@code afterCompletion} 없이 반납되므로
+ * {@link #afterConcurrentHandlingStarted}에서 측정 구간을 해제합니다. 비동기 디스패치는 별도 요청으로 다시 측정됩니다.</p>
+ */
+@Slf4j
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String STATEMENTS_PER_REQUEST = "hibernate.statements.per.request";
+    static final String BUDGET_EXCEEDED = "hibernate.statements.budget.exceeded";
+
+    // 경고 로그에 포함할 SQL 최대 길이
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final AppProperties.QueryBudgetProperties budget;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, AppProperties appProperties) {
+        this.meterRegistry = meterRegistry;
+        this.budget = appProperties.getQueryBudget();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestQueryStats.begin();
+        return true;
+    }
+
+    @Override
+    public void postHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        // 본문이 있는 응답은 QueryStatsHeaderAdvice가 커밋 전에 헤더를 붙임 (본문 없는 응답 보완)
+        if (budget.isExposeHeaders()) {
+            QueryStatsHeaderAdvice.writeHeaders(response, RequestQueryStats.current());
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 컨테이너 스레드 반납 전에 ThreadLocal 해제 (다음 요청으로 통계가 새지 않도록)
+        RequestQueryStats.end();
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestQueryStats stats = RequestQueryStats.end();
+        if (stats == null) {
+            return;
+        }
+
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        long statements = stats.getStatementCount();
+
+        DistributionSummary.builder(STATEMENTS_PER_REQUEST)
+                .description("Hibernate SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (budget.isEnabled()) {
+            checkBudget(method, uri, stats);
+        }
+    }
+
+    private void checkBudget(String method, String uri, RequestQueryStats stats) {
+        int limit = budget.budgetFor(method, uri);
+        boolean overBudget = stats.getStatementCount() > limit;
+        boolean repeated = stats.getMostRepeatedCount() >= budget.getRepeatedStatementThreshold();
+        if (!overBudget && !repeated) {
+            return;
+        }
+
+        Counter.builder(BUDGET_EXCEEDED)
+                .description("Requests that exceeded the SQL statement budget or repeated a statement")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+
+        if (overBudget) {
+            log.warn("SQL statement budget exceeded: {} {} - statements={}, budget={}, dbTime={}ms",
+                    method, uri, stats.getStatementCount(), limit,
+                    String.format(Locale.ROOT, "%.2f", stats.getExecutionMillis()));
+        }
+        if (repeated) {
+            log.warn("Possible N+1 query: {} {} - same statement executed {} times: {}",
+                    method, uri, stats.getMostRepeatedCount(), abbreviate(stats.getMostRepeatedSql()));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_LOGGED_SQL_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,114 @@
+package vibe.scon.scon_backend.config.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 통계.
+ *
+ * <p>현재 스레드에 바인딩된 측정 구간 동안 실행된 SQL 문 수, JDBC 실행 시간,
+ * 동일 SQL의 반복 횟수(N+1 감지용)를 집계합니다.</p>
+ *
+ * <ul>
+ *   <li>문 수/반복 횟수: {@link StatementCounter} (Hibernate StatementInspector)</li>
+ *   <li>실행 시간: {@link JdbcTimingListener} (Hibernate SessionEventListener)</li>
+ *   <li>측정 구간: {@link RequestMetricsInterceptor}가 요청 시작/종료 시 {@link #begin()}/{@link #end()}</li>
+ * </ul>
+ *
+ * <p>{@code @Async} 스레드에서 실행된 SQL은 요청 통계에 포함되지 않습니다.</p>
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    // 반복 횟수를 추적할 서로 다른 SQL 최대 개수 (메모리 상한)
+    private static final int MAX_TRACKED_STATEMENTS = 128;
+
+    private long statementCount;
+    private long executionNanos;
+    private final Map<String, int[]> repeats = new HashMap<>();
+
+    private String mostRepeatedSql;
+    private int mostRepeatedCount;
+
+    private RequestQueryStats() {
+    }
+
+    /**
+     * 현재 스레드의 측정 시작.
+     *
+     * @return 새 측정 통계
+     */
+    public static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 측정 통계 (측정 중이 아니면 null).
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 측정 종료.
+     *
+     * @return 측정 통계 (측정 중이 아니었으면 null)
+     */
+    public static RequestQueryStats end() {
+        RequestQueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void recordStatement(String sql) {
+        statementCount++;
+        int[] count = repeats.get(sql);
+        if (count == null) {
+            if (repeats.size() >= MAX_TRACKED_STATEMENTS) {
+                return;
+            }
+            count = new int[1];
+            repeats.put(sql, count);
+        }
+        count[0]++;
+        if (count[0] > mostRepeatedCount) {
+            mostRepeatedCount = count[0];
+            mostRepeatedSql = sql;
+        }
+    }
+
+    void recordExecution(long nanos) {
+        executionNanos += nanos;
+    }
+
+    /**
+     * 실행된 SQL 문 수.
+     */
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * JDBC 실행 시간 합계 (ms).
+     */
+    public double getExecutionMillis() {
+        return executionNanos / 1_000_000.0;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL (없으면 null).
+     */
+    public String getMostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL의 실행 횟수.
+     */
+    public int getMostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+}
@@ -0,0 +1,22 @@
+package vibe.scon.scon_backend.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 단위 SQL 문 카운터.
+ *
+ * <p>Hibernate가 실행 직전 모든 SQL을 {@link #inspect(String)}에 넘기므로,
+ * 현재 스레드에 {@link RequestQueryStats} 측정 구간이 열려 있으면 문 수와 반복 횟수를 기록합니다.
+ * SQL은 변경하지 않습니다.</p>
+ */
+public class StatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+        return sql;
+    }
+}
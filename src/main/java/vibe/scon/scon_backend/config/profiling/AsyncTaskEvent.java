@@ -0,0 +1,58 @@
+package vibe.scon.scon_backend.config.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 비동기 작업 실행 JFR 이벤트 ({@code vibe.scon.AsyncTask}).
+ *
+ * <p>Executor 큐 대기 시간과 실제 실행 시간을 분리하여 기록합니다.
+ * {@link #decorator(String)}를 Executor의 TaskDecorator 조합에 추가하여 사용합니다.</p>
+ */
+@Name(AsyncTaskEvent.NAME)
+@Label("Async Task")
+@Category({"SCON", "Async"})
+@Description("Task executed by an application executor")
+@StackTrace(false)
+public class AsyncTaskEvent extends Event {
+
+    public static final String NAME = "vibe.scon.AsyncTask";
+
+    @Label("Executor")
+    String executor;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueWait;
+
+    @Label("Success")
+    boolean success;
+
+    public static TaskDecorator decorator(String executorName) {
+        return runnable -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                AsyncTaskEvent event = new AsyncTaskEvent();
+                event.begin();
+                long queueWait = System.nanoTime() - submittedAt;
+                try {
+                    runnable.run();
+                    event.success = true;
+                } finally {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.executor = executorName;
+                        event.queueWait = queueWait;
+                        event.commit();
+                    }
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package vibe.scon.scon_backend.config.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * 인증 처리 JFR 이벤트 ({@code vibe.scon.Auth}).
+ *
+ * <p>회원가입/로그인/토큰 갱신/로그아웃의 트랜잭션 커밋까지 포함한 소요 시간을 기록합니다.
+ * BCrypt 해시 비교처럼 CPU를 많이 쓰는 구간을 CPU 샘플과 함께 확인하는 용도이며,
+ * 이메일 등 사용자 식별 정보는 기록하지 않습니다.</p>
+ */
+@Name(AuthEvent.NAME)
+@Label("Authentication")
+@Category({"SCON", "Auth"})
+@Description("Signup, login, token refresh or logout")
+@StackTrace(false)
+public class AuthEvent extends Event {
+
+    public static final String NAME = "vibe.scon.Auth";
+
+    @Label("Action")
+    String action;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * 작업 실행 구간을 이벤트로 기록합니다.
+     *
+     * @param action {@code signup}, {@code login}, {@code refresh}, {@code logout}
+     * @param work 인증 작업
+     * @return 작업 결과
+     */
+    public static <T> T record(String action, Supplier<T> work) {
+        AuthEvent event = new AuthEvent();
+        event.begin();
+        try {
+            T result = work.get();
+            event.success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.action = action;
+                event.commit();
+            }
+        }
+    }
+}
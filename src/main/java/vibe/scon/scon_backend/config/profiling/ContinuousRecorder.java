@@ -0,0 +1,330 @@
+package vibe.scon.scon_backend.config.profiling;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import vibe.scon.scon_backend.config.properties.AppProperties.ProfilingProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * JFR(Java Flight Recorder) 연속 기록.
+ *
+ * <p>애플리케이션 시작 시 {@code app.profiling.settings}(기본 {@code default}, 오버헤드 1% 내외) 설정으로
+ * 디스크 기반 Recording을 시작하고 최근 {@code max-age}/{@code max-size}만 유지합니다.
+ * 지연이 발생한 뒤에 직전 N분 구간을 파일로 내려받거나({@link #dump(Duration)}),
+ * 할당/락 경합 상위 지점과 SCON 이벤트 통계를 바로 확인({@link #summarize(Duration)})할 수 있습니다.</p>
+ *
+ * <h3>SCON 이벤트:</h3>
+ * <ul>
+ *   <li>{@link ScheduleUpdateEvent} - 스케줄 수정</li>
+ *   <li>{@link AuthEvent} - 회원가입/로그인/토큰 갱신/로그아웃</li>
+ *   <li>{@link AsyncTaskEvent} - taskExecutor/dbExecutor 작업 (큐 대기 시간 포함)</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (운영 지연 원인 사후 분석)</li>
+ * </ul>
+ */
+@Slf4j
+public class ContinuousRecorder {
+
+    static final String RECORDING_NAME = "scon-continuous";
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    static final String THREAD_PARK = "jdk.ThreadPark";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+    private static final List<String> SCON_EVENTS =
+            List.of(ScheduleUpdateEvent.NAME, AuthEvent.NAME, AsyncTaskEvent.NAME);
+
+    private final ProfilingProperties properties;
+    private final Clock clock;
+
+    private Recording recording;
+
+    public ContinuousRecorder(ProfilingProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    ContinuousRecorder(ProfilingProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public synchronized void start() throws IOException, ParseException {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("JFR is not available in this JVM, continuous recording disabled");
+            return;
+        }
+        recording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSizeBytes());
+        SCON_EVENTS.forEach(name -> recording.enable(name).withoutStackTrace());
+        recording.start();
+        log.info("JFR continuous recording started: settings={}, maxAge={}, maxSizeBytes={}",
+                properties.getSettings(), properties.getMaxAge(), properties.getMaxSizeBytes());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * 최근 구간을 {@code dump-directory}에 {@code .jfr} 파일로 저장합니다.
+     *
+     * <p>저장 파일은 JDK Mission Control 또는 {@code jfr print}로 분석합니다.
+     * 디렉터리에는 최근 {@code max-dump-files}개만 유지합니다.</p>
+     *
+     * @param window 저장할 구간 (최대 {@code max-age})
+     * @return 저장한 파일 경로
+     */
+    public Path dump(Duration window) throws IOException {
+        Duration effective = clamp(window);
+        Path directory = Paths.get(properties.getDumpDirectory());
+        Files.createDirectories(directory);
+        Path target = directory.resolve(String.format("scon-%s-%ds.jfr",
+                FILE_TIMESTAMP.format(clock.instant()), effective.toSeconds()));
+
+        Path snapshot = snapshot();
+        try (RecordingFile file = new RecordingFile(snapshot)) {
+            Instant cutoff = clock.instant().minus(effective);
+            file.write(target, event -> !event.getEndTime().isBefore(cutoff));
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+        pruneDumps(directory);
+        log.info("JFR dump written: path={}, window={}", target.toAbsolutePath(), effective);
+        return target;
+    }
+
+    /**
+     * 최근 구간의 이벤트 요약.
+     *
+     * <ul>
+     *   <li>할당 상위 지점 - {@code jdk.ObjectAllocationSample}의 추정 할당량(weight)을 호출 위치별 합산</li>
+     *   <li>락 경합 상위 지점 - {@code jdk.JavaMonitorEnter}/{@code jdk.ThreadPark} 대기 시간을 모니터 클래스와 호출 위치별 합산</li>
+     *   <li>SCON 이벤트 - 종류(및 action/executor)별 횟수, 평균/최대 시간, 실패 수</li>
+     * </ul>
+     *
+     * @param window 요약할 구간 (최대 {@code max-age})
+     */
+    public ProfileSummary summarize(Duration window) throws IOException {
+        Duration effective = clamp(window);
+        Instant cutoff = clock.instant().minus(effective);
+        Map<String, Hotspot> allocations = new HashMap<>();
+        Map<String, Hotspot> contention = new HashMap<>();
+        Map<String, EventStats> events = new HashMap<>();
+
+        Path snapshot = snapshot();
+        try (RecordingFile file = new RecordingFile(snapshot)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (event.getEndTime().isBefore(cutoff)) {
+                    continue;
+                }
+                String type = event.getEventType().getName();
+                switch (type) {
+                    case ALLOCATION_SAMPLE -> allocations
+                            .computeIfAbsent(topFrame(event), Hotspot::new)
+                            .add(event.getLong("weight"));
+                    case MONITOR_ENTER, THREAD_PARK -> contention
+                            .computeIfAbsent(lockKey(event), Hotspot::new)
+                            .add(event.getDuration().toNanos());
+                    case ScheduleUpdateEvent.NAME -> events
+                            .computeIfAbsent(type, EventStats::new)
+                            .add(event);
+                    case AuthEvent.NAME -> events
+                            .computeIfAbsent(type + " " + event.getString("action"), EventStats::new)
+                            .add(event);
+                    case AsyncTaskEvent.NAME -> events
+                            .computeIfAbsent(type + " " + event.getString("executor"), EventStats::new)
+                            .add(event);
+                    default -> {
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+
+        int topN = properties.getSummaryTopN();
+        return ProfileSummary.builder()
+                .from(cutoff)
+                .to(clock.instant())
+                .allocationHotspots(top(allocations.values(), Hotspot::getTotal, topN))
+                .contentionHotspots(top(contention.values(), Hotspot::getTotal, topN))
+                .events(top(events.values(), EventStats::getTotalMs, Integer.MAX_VALUE))
+                .build();
+    }
+
+    private Path snapshot() throws IOException {
+        if (!isRecording()) {
+            throw new IllegalStateException("JFR continuous recording is not running");
+        }
+        Path file = Files.createTempFile("scon-jfr-", ".jfr");
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            snapshot.dump(file);
+        }
+        return file;
+    }
+
+    private Duration clamp(Duration window) {
+        if (window == null || window.isNegative() || window.isZero()) {
+            return properties.getDefaultWindow();
+        }
+        return window.compareTo(properties.getMaxAge()) > 0 ? properties.getMaxAge() : window;
+    }
+
+    private void pruneDumps(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> dumps = files
+                    .filter(path -> path.getFileName().toString().matches("scon-.*\\.jfr"))
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .toList();
+            for (Path old : dumps.subList(Math.min(properties.getMaxDumpFiles(), dumps.size()), dumps.size())) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<unknown>";
+        }
+        // 할당 지점은 JDK 내부(컬렉션, 문자열 등)보다 이를 호출한 애플리케이션 프레임이 유용
+        RecordedFrame fallback = stackTrace.getFrames().get(0);
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("vibe.scon.")) {
+                return frameName(frame);
+            }
+        }
+        return frameName(fallback);
+    }
+
+    private static String lockKey(RecordedEvent event) {
+        RecordedClass monitorClass = event.hasField("monitorClass")
+                ? event.getClass("monitorClass")
+                : event.hasField("parkedClass") ? event.getClass("parkedClass") : null;
+        String monitor = monitorClass != null ? monitorClass.getName() : "<unknown>";
+        return monitor + " @ " + topFrame(event);
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static <T> List<T> top(Collection<T> values, Function<T, ? extends Number> metric, int limit) {
+        return values.stream()
+                .sorted(Comparator.comparingDouble((T value) -> metric.apply(value).doubleValue()).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 이벤트 요약 결과.
+     */
+    @Getter
+    @Builder
+    public static class ProfileSummary {
+        private final Instant from;
+        private final Instant to;
+        /** 추정 할당 바이트 상위 호출 위치 */
+        private final List<Hotspot> allocationHotspots;
+        /** 락 대기 시간(ns) 상위 모니터 / 호출 위치 */
+        private final List<Hotspot> contentionHotspots;
+        /** SCON 이벤트 통계 */
+        private final List<EventStats> events;
+    }
+
+    /**
+     * 호출 위치별 합계 (할당: 바이트, 락 경합: 나노초).
+     */
+    @Getter
+    public static class Hotspot {
+        private final String location;
+        private long count;
+        private long total;
+
+        Hotspot(String location) {
+            this.location = location;
+        }
+
+        void add(long value) {
+            count++;
+            total += value;
+        }
+    }
+
+    /**
+     * SCON 이벤트 종류별 통계.
+     */
+    @Getter
+    public static class EventStats {
+        private final String name;
+        private long count;
+        private long failures;
+        private double totalMs;
+        private double maxMs;
+
+        EventStats(String name) {
+            this.name = name;
+        }
+
+        void add(RecordedEvent event) {
+            double millis = event.getDuration().toNanos() / 1_000_000.0;
+            count++;
+            totalMs += millis;
+            maxMs = Math.max(maxMs, millis);
+            if (!event.getBoolean("success")) {
+                failures++;
+            }
+        }
+
+        public double getAvgMs() {
+            return count == 0 ? 0.0 : totalMs / count;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package vibe.scon.scon_backend.config.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import vibe.scon.scon_backend.config.properties.AppProperties.ProfilingProperties;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * JFR 관리 엔드포인트 ({@code /actuator/jfr}).
+ *
+ * <p>관리 포트로 들어온 요청만 허용됩니다 (SecurityConfig, {@code RouteClassifier.MANAGEMENT_ONLY_PATHS}).
+ * 스냅샷/파싱/덤프는 요청 스레드가 아닌 전용 스레드 1개에서 실행하며, 실행 중이거나
+ * {@code min-request-interval} 안에 다시 요청하면 429를 반환합니다.</p>
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/jfr} - 최근 {@code default-window} 구간 요약</li>
+ *   <li>{@code GET /actuator/jfr/{minutes}} - 최근 N분 요약 (할당/락 경합 상위 지점, SCON 이벤트 통계)</li>
+ *   <li>{@code POST /actuator/jfr} - 최근 {@code default-window} 구간을 파일로 저장</li>
+ *   <li>{@code POST /actuator/jfr/{minutes}} - 최근 N분을 파일로 저장</li>
+ * </ul>
+ */
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final ContinuousRecorder recorder;
+    private final ProfilingProperties properties;
+    // 1개만 실행 (실행 여부는 inFlight로 판정, 큐는 작업 종료 직후의 인계 1건만 수용)
+    private final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), runnable -> {
+                Thread thread = new Thread(runnable, "jfr-endpoint");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+
+    private long lastStartedAt;
+    private boolean inFlight;
+
+    public JfrEndpoint(ContinuousRecorder recorder, ProfilingProperties properties) {
+        this.recorder = recorder;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Object> summary() {
+        return execute(() -> recorder.summarize(null));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Object> summary(@Selector int minutes) {
+        return execute(() -> recorder.summarize(Duration.ofMinutes(minutes)));
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> dump() {
+        return execute(() -> dumpResult(recorder.dump(null).toAbsolutePath().toString()));
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> dump(@Selector int minutes) {
+        return execute(() -> dumpResult(recorder.dump(Duration.ofMinutes(minutes)).toAbsolutePath().toString()));
+    }
+
+    /**
+     * 전용 스레드를 종료합니다 (Bean 소멸 시).
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private WebEndpointResponse<Object> execute(Callable<Object> operation) {
+        Future<Object> future;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (lastStartedAt != 0 && now - lastStartedAt < properties.getMinRequestInterval().toNanos()) {
+                return error(TOO_MANY_REQUESTS, "JFR request too frequent. Retry after "
+                        + properties.getMinRequestInterval().toSeconds() + "s");
+            }
+            if (inFlight) {
+                return error(TOO_MANY_REQUESTS, "Another JFR request is in progress");
+            }
+            try {
+                future = executor.submit(() -> {
+                    try {
+                        return operation.call();
+                    } finally {
+                        finished();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                return error(TOO_MANY_REQUESTS, "Another JFR request is in progress");
+            }
+            inFlight = true;
+            lastStartedAt = now;
+        }
+
+        try {
+            return new WebEndpointResponse<>(future.get(properties.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // 실행 중인 파싱은 끝날 때까지 두고(다음 요청은 429), 응답만 종료
+            return error(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE, "JFR request timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return error(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE, "JFR request interrupted");
+        } catch (ExecutionException e) {
+            return error(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR, "JFR request failed: " + e.getCause().getMessage());
+        }
+    }
+
+    private synchronized void finished() {
+        inFlight = false;
+    }
+
+    private static WebEndpointResponse<Object> error(int status, String message) {
+        return new WebEndpointResponse<>(Map.of("error", message), status);
+    }
+
+    private static Map<String, String> dumpResult(String path) {
+        return Map.of("path", path);
+    }
+}
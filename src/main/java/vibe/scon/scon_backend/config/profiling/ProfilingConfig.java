@@ -0,0 +1,33 @@
+package vibe.scon.scon_backend.config.profiling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+
+/**
+ * JFR 연속 기록 설정.
+ *
+ * <p>{@code app.profiling.enabled=true}(기본값)이면 {@link ContinuousRecorder}를 시작하고
+ * {@code /actuator/jfr}({@link JfrEndpoint})로 덤프/요약을 제공합니다.
+ * SCON 이벤트는 기록 여부와 관계없이 발생시키며, Recording이 없으면 JFR이 즉시 버립니다.</p>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (운영 지연 원인 사후 분석)</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.profiling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProfilingConfig {
+
+    @Bean
+    public ContinuousRecorder continuousRecorder(AppProperties appProperties) {
+        return new ContinuousRecorder(appProperties.getProfiling());
+    }
+
+    @Bean
+    public JfrEndpoint jfrEndpoint(ContinuousRecorder continuousRecorder, AppProperties appProperties) {
+        return new JfrEndpoint(continuousRecorder, appProperties.getProfiling());
+    }
+}
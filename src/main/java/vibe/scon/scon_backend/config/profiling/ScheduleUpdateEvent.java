@@ -0,0 +1,61 @@
+package vibe.scon.scon_backend.config.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * 스케줄 수정 JFR 이벤트 ({@code vibe.scon.ScheduleUpdate}).
+ *
+ * <p>동기/비동기 경로 모두 {@code ScheduleService.updateSchedule}에서 기록되며,
+ * Shift 전체 교체(삭제 + 생성) 구간의 소요 시간을 GC/락 이벤트와 같은 타임라인에서 볼 수 있습니다.</p>
+ */
+@Name(ScheduleUpdateEvent.NAME)
+@Label("Schedule Update")
+@Category({"SCON", "Schedule"})
+@Description("Schedule update including full shift replacement")
+@StackTrace(false)
+public class ScheduleUpdateEvent extends Event {
+
+    public static final String NAME = "vibe.scon.ScheduleUpdate";
+
+    @Label("Schedule ID")
+    long scheduleId;
+
+    @Label("Shift Count")
+    @Description("Number of shifts in the request, -1 when shifts are unchanged")
+    int shiftCount;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * 작업 실행 구간을 이벤트로 기록합니다.
+     *
+     * @param scheduleId 스케줄 ID
+     * @param shiftCount 요청의 Shift 개수 (Shift 변경이 없으면 -1)
+     * @param work 수정 작업
+     * @return 작업 결과
+     */
+    public static <T> T record(long scheduleId, int shiftCount, Supplier<T> work) {
+        ScheduleUpdateEvent event = new ScheduleUpdateEvent();
+        event.begin();
+        try {
+            T result = work.get();
+            event.success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.scheduleId = scheduleId;
+                event.shiftCount = shiftCount;
+                event.commit();
+            }
+        }
+    }
+}
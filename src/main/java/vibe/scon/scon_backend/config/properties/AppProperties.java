@@ -3,10 +3,15 @@ package vibe.scon.scon_backend.config.properties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * 애플리케이션 커스텀 설정 프로퍼티.
  * 
@@ -24,6 +29,16 @@ import lombok.Setter;
  * @see JwtProperties
  * @see EncryptionProperties
  * @see AiProperties
+ * @see RateLimitProperties
+ * @see LoginLockoutProperties
+ * @see OwnershipCacheProperties
+ * @see ApiLoggingProperties
+ * @see QueryBudgetProperties
+ * @see HealthProperties
+ * @see TracingProperties
+ * @see SlowQueryProperties
+ * @see ProfilingProperties
+ * @see LogPipelineProperties
  */
 @Configuration
 @EnableConfigurationProperties
@@ -57,6 +72,86 @@ public class AppProperties {
      */
     private StorageProperties storage = new StorageProperties();
 
+    /**
+     * Rate Limiting 설정.
+     */
+    private RateLimitProperties rateLimit = new RateLimitProperties();
+
+    /**
+     * 로그인 실패 잠금 설정.
+     */
+    private LoginLockoutProperties loginLockout = new LoginLockoutProperties();
+
+    /**
+     * 매장 소유권 캐시 설정.
+     */
+    private OwnershipCacheProperties ownershipCache = new OwnershipCacheProperties();
+
+    /**
+     * API 요청/응답 로깅 설정.
+     */
+    private ApiLoggingProperties logging = new ApiLoggingProperties();
+
+    /**
+     * 요청당 SQL 문 예산 설정.
+     */
+    private QueryBudgetProperties queryBudget = new QueryBudgetProperties();
+
+    /**
+     * 헬스체크(liveness/readiness) 프로브 설정.
+     */
+    private HealthProperties health = new HealthProperties();
+
+    /**
+     * 분산 추적 Span Export 설정.
+     */
+    private TracingProperties tracing = new TracingProperties();
+
+    /**
+     * Slow Query 로그 / 실행 계획 수집 설정.
+     */
+    private SlowQueryProperties slowQuery = new SlowQueryProperties();
+
+    /**
+     * JFR 연속 기록 설정.
+     */
+    private ProfilingProperties profiling = new ProfilingProperties();
+
+    /**
+     * 로그 파이프라인 설정 (logback-spring.xml에서 사용).
+     */
+    private LogPipelineProperties logPipeline = new LogPipelineProperties();
+
+    /**
+     * 비동기 작업 상태 관리 설정 (메모리 레지스트리 + Write-Behind).
+     */
+    private AsyncTaskProperties asyncTask = new AsyncTaskProperties();
+
+    /**
+     * 작업 상태 스트림(SSE/Long-poll) 설정.
+     */
+    private TaskEventsProperties taskEvents = new TaskEventsProperties();
+
+    /**
+     * 비동기 Executor 크기 / Virtual Thread 모드 동시 실행 상한 설정.
+     */
+    private AsyncExecutorProperties asyncExecutor = new AsyncExecutorProperties();
+
+    /**
+     * 비동기 작업 Dispatcher 설정 (우선순위 대기열, 동시 실행 상한, 타임아웃, 재시도).
+     */
+    private AsyncJobProperties asyncJob = new AsyncJobProperties();
+
+    /**
+     * 보존 기간 정리 설정 (만료 행 배치 삭제).
+     */
+    private RetentionProperties retention = new RetentionProperties();
+
+    /**
+     * 반복 작업 스케줄러 설정 (cron, 지터, 누락 실행 보정).
+     */
+    private RecurringJobProperties recurringJob = new RecurringJobProperties();
+
     // =========================================================================
     // Nested Configuration Classes
     // =========================================================================
@@ -306,4 +401,703 @@ public class AppProperties {
                 && secretKey != null && !secretKey.isBlank();
         }
     }
+
+    /**
+     * Rate Limiting 설정 프로퍼티.
+     *
+     * <p>IP + 경로 그룹 단위로 토큰 버킷을 할당합니다. 버킷은 크기/TTL이 제한된
+     * 캐시에 보관되므로 IP가 계속 바뀌는 분산 공격에서도 메모리 사용량이 일정합니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class RateLimitProperties {
+        /**
+         * Rate Limiting 활성화 여부. 기본값: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 카운터 저장소: memory (인스턴스 로컬), database (DB 공유). 기본값: memory.
+         */
+        private String store = "memory";
+
+        /**
+         * database 저장소의 로컬 증가분 DB 반영 주기. 기본값: 1초.
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * database 저장소의 만료 카운터 정리 주기. 기본값: 1분.
+         */
+        private Duration cleanupInterval = Duration.ofMinutes(1);
+
+        /**
+         * 동시에 추적할 최대 버킷 수. 초과 시 오래된 버킷부터 제거됩니다.
+         */
+        private long maxTrackedClients = 100_000L;
+
+        /**
+         * 마지막 요청 이후 버킷을 유지하는 시간. 기본값: 10분.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        /**
+         * 로그인 API 정책. 기본값: 5회/분.
+         */
+        private RateLimitPolicy login = new RateLimitPolicy(5, Duration.ofMinutes(1));
+
+        /**
+         * 회원가입 API 정책. 기본값: 5회/분.
+         */
+        private RateLimitPolicy signup = new RateLimitPolicy(5, Duration.ofMinutes(1));
+
+        /**
+         * 토큰 갱신 API 정책. 기본값: 10회/분.
+         */
+        private RateLimitPolicy refresh = new RateLimitPolicy(10, Duration.ofMinutes(1));
+
+        /**
+         * 그 외 일반 API 정책. 기본값: 120회/분.
+         */
+        private RateLimitPolicy api = new RateLimitPolicy(120, Duration.ofMinutes(1));
+    }
+
+    /**
+     * 경로 그룹별 토큰 버킷 정책.
+     */
+    @Getter
+    @Setter
+    public static class RateLimitPolicy {
+        /**
+         * 정책 활성화 여부. 기본값: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 버킷 용량 (refillPeriod 동안 허용되는 최대 요청 수).
+         */
+        private long capacity;
+
+        /**
+         * 용량만큼 토큰이 다시 채워지는 주기.
+         */
+        private Duration refillPeriod;
+
+        public RateLimitPolicy() {
+        }
+
+        public RateLimitPolicy(long capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+
+    /**
+     * 로그인 실패 잠금 설정 프로퍼티.
+     *
+     * <p>연속 실패 횟수는 크기/TTL이 제한된 메모리 캐시에서 집계하며,
+     * DB에는 잠금/해제 시점에만 기록합니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class LoginLockoutProperties {
+        /**
+         * 잠금까지 허용하는 연속 실패 횟수. 기본값: 5회.
+         */
+        private int maxFailedAttempts = 5;
+
+        /**
+         * 계정 잠금 시간. 기본값: 30분.
+         */
+        private Duration lockDuration = Duration.ofMinutes(30);
+
+        /**
+         * 실패 횟수 유지 시간. 마지막 실패 이후 이 시간 동안 실패가 없으면 횟수가 초기화됩니다. 기본값: 15분.
+         */
+        private Duration failureWindow = Duration.ofMinutes(15);
+
+        /**
+         * 실패 횟수를 추적할 최대 계정 수. 기본값: 100,000.
+         */
+        private long maxTrackedAccounts = 100_000L;
+    }
+
+    /**
+     * 매장 소유권 캐시 설정 프로퍼티.
+     */
+    @Getter
+    @Setter
+    public static class OwnershipCacheProperties {
+        /**
+         * 캐시할 최대 사장님 수. 기본값: 10,000.
+         */
+        private long maxOwners = 10_000L;
+
+        /**
+         * 캐시 유지 시간 (마지막 적재 기준). 기본값: 5분.
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    /**
+     * API 요청/응답 로깅 설정 프로퍼티.
+     *
+     * <p>요청 스레드는 원본 바이트와 메타데이터만 링 버퍼에 넣고,
+     * 파싱/마스킹/직렬화는 백그라운드 스레드에서 수행합니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class ApiLoggingProperties {
+        /**
+         * API 요청 로깅 활성화 여부. 기본값: true.
+         */
+        private boolean enableRequestLogging = true;
+
+        /**
+         * API 응답 로깅 활성화 여부. 기본값: true.
+         */
+        private boolean enableResponseLogging = true;
+
+        /**
+         * 로그 이벤트 링 버퍼 크기. 가득 차면 요청을 대기시키지 않고 이벤트를 버립니다. 기본값: 8,192.
+         */
+        private int queueCapacity = 8_192;
+
+        /**
+         * 본문 문자열 값의 최대 길이 (초과분은 잘라냄). 기본값: 256자.
+         */
+        private int maxStringLength = 256;
+
+        /**
+         * 본문 배열의 최대 요소 수 (초과분은 생략 개수만 기록). 기본값: 20개.
+         */
+        private int maxArrayElements = 20;
+
+        /**
+         * 본문 객체/배열의 최대 중첩 깊이 (초과분은 [TRUNCATED]). 기본값: 16.
+         */
+        private int maxDepth = 16;
+
+        /**
+         * 본문까지 기록할 요청 비율 (0.0 ~ 1.0, 요청 시작 시 결정). 기본값: 1.0.
+         *
+         * <p>샘플링되지 않은 요청은 래퍼 없이 그대로 처리되며,
+         * 오류(4xx/5xx) 또는 느린 요청만 본문 없이 기록됩니다.</p>
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * 샘플링과 관계없이 기록할 느린 요청 기준. 기본값: 1초.
+         */
+        private Duration slowRequestThreshold = Duration.ofSeconds(1);
+
+        /**
+         * 요청/응답 본문별 최대 캡처 크기 (초과분은 전달만 하고 복사하지 않음). 기본값: 16KB.
+         */
+        private int maxCaptureBytes = 16 * 1024;
+    }
+
+    /**
+     * 요청당 SQL 문 예산(N+1 감지) 설정 프로퍼티.
+     *
+     * <p>엔드포인트 키는 {@code "METHOD 매핑패턴"} 형식입니다
+     * (예: {@code "GET /api/v1/stores/{storeId}"}, yml에서는 {@code "[...]"}로 감쌈).</p>
+     */
+    @Getter
+    @Setter
+    public static class QueryBudgetProperties {
+        /**
+         * 예산 초과/N+1 경고 로그 활성화 여부. 기본값: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 응답에 X-DB-Queries / X-DB-Time 헤더 추가 여부 (프로덕션에서는 비활성화). 기본값: true.
+         */
+        private boolean exposeHeaders = true;
+
+        /**
+         * 엔드포인트별 예산이 없을 때 적용할 요청당 최대 SQL 문 수. 기본값: 30.
+         */
+        private int defaultMaxStatements = 30;
+
+        /**
+         * 동일 SQL이 이 횟수 이상 반복되면 N+1 의심 경고. 기본값: 5.
+         */
+        private int repeatedStatementThreshold = 5;
+
+        /**
+         * 엔드포인트별 요청당 최대 SQL 문 수.
+         */
+        private Map<String, Integer> endpoints = new HashMap<>();
+
+        /**
+         * 엔드포인트의 SQL 문 예산 조회.
+         *
+         * @param method HTTP 메서드
+         * @param pattern 매핑 패턴
+         * @return 엔드포인트 예산, 없으면 기본 예산
+         */
+        public int budgetFor(String method, String pattern) {
+            return endpoints.getOrDefault(method + " " + pattern, defaultMaxStatements);
+        }
+    }
+
+    /**
+     * 헬스체크 백그라운드 프로브 설정 프로퍼티.
+     *
+     * <p>프로브는 백그라운드에서 주기적으로 실행되고, 헬스체크 요청은 캐시된 결과만 읽습니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class HealthProperties {
+        /**
+         * 프로브 갱신 주기. 기본값: 5초.
+         */
+        private Duration refreshInterval = Duration.ofSeconds(5);
+
+        /**
+         * 프로브 1회 실행 제한 시간 (초과 시 DOWN). 기본값: 2초.
+         */
+        private Duration probeTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 프로브 결과가 이 시간보다 오래되면 readiness DOWN, 갱신 루프 정지로 보고 liveness DOWN. 기본값: 30초.
+         */
+        private Duration staleAfter = Duration.ofSeconds(30);
+
+        /**
+         * DB {@code SELECT 1} 응답이 이 시간을 넘으면 DEGRADED. 기본값: 500ms.
+         */
+        private Duration dbSlowThreshold = Duration.ofMillis(500);
+
+        /**
+         * SQLite WAL 파일이 이 크기를 넘으면 DEGRADED (체크포인트 지연). 기본값: 64MB.
+         */
+        private long walWarnBytes = 64L * 1024 * 1024;
+
+        /**
+         * DB 볼륨 여유 공간이 이 크기 미만이면 DOWN. 기본값: 100MB.
+         */
+        private long minFreeDiskBytes = 100L * 1024 * 1024;
+
+        /**
+         * Executor 큐 사용률이 이 비율 이상이고 스레드가 모두 사용 중이면 DOWN. 기본값: 0.9.
+         */
+        private double executorSaturationThreshold = 0.9;
+    }
+
+    /**
+     * 분산 추적 Span Export 설정 프로퍼티.
+     *
+     * <p>샘플링/전파는 {@code management.tracing.*}, OTLP Collector 전송은
+     * {@code management.otlp.tracing.endpoint}(환경 변수 {@code MANAGEMENT_OTLP_TRACING_ENDPOINT})로 설정하며,
+     * 여기서는 Collector가 없는 환경을 위한 파일 Export만 설정합니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class TracingProperties {
+        /**
+         * 완료된 Span을 JSON Lines 파일로 기록할지 여부. 기본값: false.
+         */
+        private boolean fileExportEnabled = false;
+
+        /**
+         * Span 파일 경로. 기본값: ./logs/traces.jsonl.
+         */
+        private String filePath = "./logs/traces.jsonl";
+
+        /**
+         * Span 파일 최대 크기 (초과 시 {@code .1}로 교체 후 새 파일 작성). 기본값: 100MB.
+         */
+        private long maxFileBytes = 100L * 1024 * 1024;
+    }
+
+    /**
+     * Slow Query 로그 및 EXPLAIN QUERY PLAN 수집 설정 프로퍼티.
+     */
+    @Getter
+    @Setter
+    public static class SlowQueryProperties {
+        /**
+         * DataSource 프록시(JDBC 문 실행 시간 측정) 활성화 여부. 기본값: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 이 시간 이상 걸린 문을 WARN 로그로 기록. 기본값: 200ms.
+         */
+        private Duration threshold = Duration.ofMillis(200);
+
+        /**
+         * 실행 통계를 유지할 서로 다른 SQL 최대 개수. 기본값: 500.
+         */
+        private long maxTrackedStatements = 500L;
+
+        /**
+         * 누적 실행 시간 상위 문의 실행 계획 수집 주기. 기본값: 5분.
+         */
+        private Duration explainInterval = Duration.ofMinutes(5);
+
+        /**
+         * 실행 계획을 수집할 상위 문 개수. 기본값: 10.
+         */
+        private int explainTopN = 10;
+
+        /**
+         * 로그에 기록할 SQL 최대 길이. 기본값: 1,000자.
+         */
+        private int maxLoggedSqlLength = 1_000;
+    }
+
+    /**
+     * JFR(Java Flight Recorder) 연속 기록 설정 프로퍼티.
+     */
+    @Getter
+    @Setter
+    public static class ProfilingProperties {
+        /**
+         * 연속 기록 활성화 여부. 기본값: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * JFR 설정 이름 ({@code default}: 저오버헤드, {@code profile}: 상세). 기본값: default.
+         */
+        private String settings = "default";
+
+        /**
+         * 유지할 기록 기간. 기본값: 30분.
+         */
+        private Duration maxAge = Duration.ofMinutes(30);
+
+        /**
+         * 유지할 기록 최대 크기 (바이트). 기본값: 200MB.
+         */
+        private long maxSizeBytes = 200L * 1024 * 1024;
+
+        /**
+         * 덤프 파일 저장 디렉터리. 기본값: ./logs/jfr
+         */
+        private String dumpDirectory = "./logs/jfr";
+
+        /**
+         * 유지할 덤프 파일 최대 개수. 기본값: 10.
+         */
+        private int maxDumpFiles = 10;
+
+        /**
+         * 구간 미지정 시 덤프/요약 구간. 기본값: 5분.
+         */
+        private Duration defaultWindow = Duration.ofMinutes(5);
+
+        /**
+         * 요약에 포함할 할당/락 경합 상위 지점 개수. 기본값: 10.
+         */
+        private int summaryTopN = 10;
+
+        /**
+         * {@code /actuator/jfr} 요청 최소 간격 (스냅샷 파싱/덤프 반복 방지, 위반 시 429). 기본값: 10초.
+         */
+        private Duration minRequestInterval = Duration.ofSeconds(10);
+
+        /**
+         * {@code /actuator/jfr} 응답 대기 상한 (초과 시 503, 실행 중인 작업은 계속). 기본값: 60초.
+         */
+        private Duration requestTimeout = Duration.ofSeconds(60);
+    }
+
+    /**
+     * 로그 파이프라인 설정 프로퍼티.
+     *
+     * <p>Logback은 Spring Bean보다 먼저 초기화되므로 logback-spring.xml이
+     * {@code <springProperty>}로 같은 키를 직접 읽습니다. (여기서는 문서화/검증 용도)</p>
+     */
+    @Getter
+    @Setter
+    public static class LogPipelineProperties {
+        /**
+         * 비동기 Appender 큐 크기. 가득 차면 요청 스레드를 대기시키지 않고 버립니다. 기본값: 8,192.
+         */
+        private int asyncQueueSize = 8_192;
+
+        /**
+         * 로거별 초당 최대 건수 ({@code 로거접두사=건수}, 쉼표 구분, INFO 이하에만 적용).
+         */
+        private String rateLimits = "";
+    }
+
+    /**
+     * 비동기 작업 상태 관리 설정 프로퍼티.
+     *
+     * <p>진행 중인 작업 상태는 메모리에서 관리하고, 생성/종료 상태만 주기적으로 DB에 일괄 반영합니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class AsyncTaskProperties {
+        /**
+         * 생성/종료 상태 DB 반영 주기. 기본값: 500ms.
+         */
+        private Duration flushInterval = Duration.ofMillis(500);
+
+        /**
+         * 한 트랜잭션에 반영할 최대 작업 수. 기본값: 100.
+         */
+        private int batchSize = 100;
+
+        /**
+         * 종료 상태가 반영된 작업을 메모리에 유지하는 시간 (이후 조회는 DB). 기본값: 10분.
+         */
+        private Duration retainAfterCompletion = Duration.ofMinutes(10);
+
+        /**
+         * 작업 결과 보관 기간 (expiresAt). 기본값: 24시간.
+         */
+        private Duration resultTtl = Duration.ofHours(24);
+
+        /**
+         * 요청/결과 데이터를 GZIP으로 압축해 저장하는 최소 JSON 크기. 기본값: 1KB.
+         */
+        private DataSize compressThreshold = DataSize.ofKilobytes(1);
+
+        /**
+         * 요청/결과 데이터 JSON 최대 크기 (요청은 400, 결과는 저장하지 않음). 기본값: 1MB.
+         */
+        private DataSize maxPayloadSize = DataSize.ofMegabytes(1);
+    }
+
+    /**
+     * 작업 상태 스트림(SSE/Long-poll) 설정 프로퍼티.
+     */
+    @Getter
+    @Setter
+    public static class TaskEventsProperties {
+        /**
+         * SSE 연결 최대 유지 시간 (종료 상태 전송 시 즉시 닫힘). 기본값: 5분.
+         */
+        private Duration streamTimeout = Duration.ofMinutes(5);
+
+        /**
+         * SSE keepalive 및 메모리에 없는 작업의 상태 재조회 주기. 기본값: 15초.
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+        /**
+         * Long-poll 기본 대기 시간 ({@code timeout} 미지정 시). 기본값: 30초.
+         */
+        private Duration defaultTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Long-poll 최대 대기 시간. 기본값: 60초.
+         */
+        private Duration maxTimeout = Duration.ofSeconds(60);
+
+        /**
+         * 동시 구독(SSE + Long-poll) 최대 수. 초과 시 503. 기본값: 1,000.
+         */
+        private int maxSubscribers = 1_000;
+    }
+
+    /**
+     * 비동기 Executor 설정 프로퍼티.
+     *
+     * <p>{@code spring.threads.virtual.enabled=false}(기본)이면 풀 크기/큐 크기가,
+     * {@code true}이면 {@code virtual-concurrency-limit}(Semaphore 허가 수)와 큐 크기(허가 대기 상한)가 적용됩니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class AsyncExecutorProperties {
+        /**
+         * 일반 비동기 작업 (GA4 전송 등 I/O 대기 위주). Virtual Thread 모드 동시 실행 상한: 500.
+         */
+        private ExecutorLimits task = new ExecutorLimits(10, 50, 500, 500);
+
+        /**
+         * DB 작업. 동시 실행 상한은 두 모드 모두 DB 커넥션 풀의 70% 수준(7)으로 유지합니다.
+         */
+        private ExecutorLimits db = new ExecutorLimits(5, 7, 100, 7);
+    }
+
+    /**
+     * Executor 크기 / 동시 실행 상한.
+     */
+    @Getter
+    @Setter
+    public static class ExecutorLimits {
+        /**
+         * 기본 스레드 수 (플랫폼 스레드 모드).
+         */
+        private int corePoolSize;
+
+        /**
+         * 최대 스레드 수 (플랫폼 스레드 모드).
+         */
+        private int maxPoolSize;
+
+        /**
+         * 큐 크기 (Virtual Thread 모드에서는 허가 대기 작업 상한). 초과 시 호출 스레드에서 실행.
+         */
+        private int queueCapacity;
+
+        /**
+         * 동시 실행 상한 (Virtual Thread 모드, Semaphore 허가 수).
+         */
+        private int virtualConcurrencyLimit;
+
+        public ExecutorLimits() {
+        }
+
+        public ExecutorLimits(int corePoolSize, int maxPoolSize, int queueCapacity, int virtualConcurrencyLimit) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+            this.virtualConcurrencyLimit = virtualConcurrencyLimit;
+        }
+    }
+
+    /**
+     * 비동기 작업 Dispatcher 설정 프로퍼티.
+     */
+    @Getter
+    @Setter
+    public static class AsyncJobProperties {
+        /**
+         * 전체 동시 실행 상한 (dbExecutor 동시 실행 상한과 동일하게 유지). 기본값: 7.
+         */
+        private int maxConcurrency = 7;
+
+        /**
+         * Owner별 동시 실행 상한. 기본값: 2.
+         */
+        private int perOwnerConcurrency = 2;
+
+        /**
+         * 대기 작업 최대 수. 초과 시 503. 기본값: 500.
+         */
+        private int queueCapacity = 500;
+
+        /**
+         * Owner별 대기 작업 최대 수. 초과 시 429. 기본값: 20.
+         */
+        private int perOwnerQueueLimit = 20;
+
+        /**
+         * 대기 시간 상한. 가장 오래 대기 중인 작업이 이 시간을 넘게 기다리고 있으면 새 작업을 503으로 거부. 기본값: 30초.
+         */
+        private Duration maxQueueLatency = Duration.ofSeconds(30);
+
+        /**
+         * 거부 응답의 Retry-After 상한. 기본값: 60초.
+         */
+        private Duration maxRetryAfter = Duration.ofSeconds(60);
+
+        /**
+         * 1회 실행 제한 시간 (작업별 지정이 없을 때). 기본값: 5분.
+         */
+        private Duration defaultTimeout = Duration.ofMinutes(5);
+
+        /**
+         * 최대 실행 횟수 (첫 실행 포함, 작업별 지정이 없을 때). 기본값: 3.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 첫 재시도 대기 시간 (이후 2배씩 증가). 기본값: 1초.
+         */
+        private Duration initialBackoff = Duration.ofSeconds(1);
+
+        /**
+         * 재시도 대기 시간 상한. 기본값: 30초.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(30);
+
+        /**
+         * 실행 임대 유지 시간 (하트비트가 멈추면 이 시간 후 다른 인스턴스가 회수). 기본값: 30초.
+         */
+        private Duration leaseDuration = Duration.ofSeconds(30);
+
+        /**
+         * 임대 연장(하트비트) 주기. {@code lease-duration}의 1/3 이하로 설정. 기본값: 10초.
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+        /**
+         * 중단된 작업(임대 만료) 복구 주기. 기본값: 30초.
+         */
+        private Duration recoveryInterval = Duration.ofSeconds(30);
+
+        /**
+         * 한 번의 복구에서 처리할 최대 작업 수. 기본값: 100.
+         */
+        private int recoveryBatchSize = 100;
+
+        /**
+         * 임대 소유자 ID. 비어 있으면 실행마다 {@code pid@host/랜덤}으로 생성.
+         */
+        private String instanceId;
+    }
+
+    /**
+     * 보존 기간 정리 설정 프로퍼티.
+     */
+    @Getter
+    @Setter
+    public static class RetentionProperties {
+        /**
+         * 정리 시작 주기 (cron, "-"이면 비활성화). 기본값: 매시 15분.
+         */
+        private String cron = "0 15 * * * *";
+
+        /**
+         * 1회 삭제(트랜잭션)당 최대 행 수. 기본값: 500.
+         */
+        private int batchSize = 500;
+
+        /**
+         * 배치 사이 대기 시간 (다른 요청이 쓰기 잠금을 얻도록). 기본값: 200ms.
+         */
+        private Duration pause = Duration.ofMillis(200);
+
+        /**
+         * 대상별 1회 정리의 최대 배치 수 (남은 행은 다음 주기). 기본값: 200.
+         */
+        private int maxBatchesPerRun = 200;
+    }
+
+    /**
+     * 반복 작업 스케줄러 설정 프로퍼티.
+     */
+    @Getter
+    @Setter
+    public static class RecurringJobProperties {
+        /**
+         * 반복 작업 실행 여부. 기본값: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 실행 시각이 된 작업 조회 주기. 기본값: 30초.
+         */
+        private Duration pollInterval = Duration.ofSeconds(30);
+
+        /**
+         * 실행 시각에 더하는 임의 지연 상한 (여러 작업/인스턴스가 같은 시각에 몰리지 않도록). 기본값: 5분.
+         */
+        private Duration jitter = Duration.ofMinutes(5);
+
+        /**
+         * 서버 중단 등으로 놓친 실행을 보정 실행하는 기간. 이보다 오래 지난 실행은 건너뜀. 기본값: 12시간.
+         */
+        private Duration catchUpWindow = Duration.ofHours(12);
+
+        /**
+         * 작업 유형별 cron 재정의 (키: 작업 유형, "-"이면 비활성화). 비어 있으면 작업의 기본 cron 사용.
+         */
+        private Map<String, String> cron = new HashMap<>();
+
+        /**
+         * 다음 주 Draft 스케줄 사전 생성의 1회 INSERT당 매장 수. 기본값: 200.
+         */
+        private int draftBatchSize = 200;
+    }
 }
@@ -0,0 +1,218 @@
+package vibe.scon.scon_backend.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import vibe.scon.scon_backend.config.properties.AppProperties.RateLimitPolicy;
+import vibe.scon.scon_backend.config.properties.AppProperties.RateLimitProperties;
+import vibe.scon.scon_backend.entity.RateLimitCounter;
+import vibe.scon.scon_backend.repository.RateLimitCounterRepository;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB 공유 Rate Limit 저장소.
+ *
+ * <p>여러 인스턴스가 로드밸런서 뒤에서 동작할 때 한도를 인스턴스 합계로 적용하기 위한 구현입니다.
+ * 고정 윈도우(refill-period) 카운터를 {@code rate_limit_counters} 테이블에 공유합니다.</p>
+ *
+ * <h3>동작 방식:</h3>
+ * <ul>
+ *   <li>요청 시에는 DB에 접근하지 않고 로컬 카운터만 증가시킵니다.</li>
+ *   <li>{@code flush-interval}마다 로컬 증가분을 한 트랜잭션으로 UPSERT한 뒤,
+ *       다른 인스턴스의 반영분을 포함한 합계를 다시 읽어옵니다. 다시 읽는 키는 이번 주기에 반영한 키와
+ *       한도의 절반 이상을 사용한 키로 한정하며, 둘 다 없으면 트랜잭션을 열지 않습니다.</li>
+ *   <li>판정 기준: 마지막으로 읽은 공유 합계 + 아직 반영하지 않은 로컬 증가분</li>
+ * </ul>
+ *
+ * <h3>주의사항:</h3>
+ * <ul>
+ *   <li>인스턴스 간 합산은 최대 flush 주기만큼 지연되므로 짧은 순간 한도를 소폭 초과할 수 있습니다.
+ *       이 인스턴스에 요청이 없던 키는 다음 요청이 반영될 때 다른 인스턴스의 합계를 읽습니다.</li>
+ *   <li>DB 반영 실패 시 증가분은 로컬에 유지되어 다음 주기에 재시도됩니다.</li>
+ *   <li>프로덕션(ddl-auto: validate)은 {@code sql/migration_rate_limit_counters.sql} 적용이 필요합니다.</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-002} - 백엔드 보안 강화 (Rate Limiting)</li>
+ * </ul>
+ */
+@Slf4j
+public class DatabaseRateLimitStore implements RateLimitStore {
+
+    // SQLite 바인딩 파라미터 한도를 고려한 조회 단위
+    private static final int READ_CHUNK_SIZE = 500;
+    // 로컬 증가분이 없어도 공유 합계를 다시 읽는 사용률 (한도 근처에서만 다른 인스턴스 반영분 추적)
+    private static final double REFRESH_USAGE_RATIO = 0.5;
+
+    private final RateLimitCounterRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    // "버킷키:윈도우번호" → 로컬 카운터 (크기/TTL 제한)
+    private final Cache<String, WindowCounter> counters;
+
+    public DatabaseRateLimitStore(
+            RateLimitProperties properties,
+            RateLimitCounterRepository repository,
+            PlatformTransactionManager transactionManager) {
+        this(properties, repository, transactionManager, Clock.systemUTC());
+    }
+
+    DatabaseRateLimitStore(
+            RateLimitProperties properties,
+            RateLimitCounterRepository repository,
+            PlatformTransactionManager transactionManager,
+            Clock clock) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitPolicy policy) {
+        long now = clock.millis();
+        long periodMillis = policy.getRefillPeriod().toMillis();
+        long window = now / periodMillis;
+        long windowEndMillis = (window + 1) * periodMillis;
+
+        WindowCounter counter = counters.get(key + ":" + window,
+                k -> new WindowCounter(windowEndMillis, policy.getCapacity()));
+        return counter.tryAcquire(policy.getCapacity(), now);
+    }
+
+    /**
+     * 로컬 증가분을 DB에 일괄 반영하고 공유 합계를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.flush-interval:PT1S}")
+    public void flush() {
+        long now = clock.millis();
+        Map<String, WindowCounter> active = new HashMap<>();
+        Map<String, Long> deltas = new HashMap<>();
+
+        counters.asMap().forEach((key, counter) -> {
+            if (counter.windowEndMillis <= now) {
+                return; // 종료된 윈도우는 공유할 필요 없음
+            }
+            long delta = counter.beginFlush();
+            if (delta > 0) {
+                deltas.put(key, delta);
+                active.put(key, counter);
+            } else if (counter.isNearLimit(REFRESH_USAGE_RATIO)) {
+                active.put(key, counter);
+            }
+        });
+
+        if (active.isEmpty()) {
+            return; // 반영할 증가분도, 다시 읽을 키도 없음
+        }
+
+        try {
+            List<RateLimitCounter> totals = transactionTemplate.execute(status -> {
+                deltas.forEach((key, delta) ->
+                        repository.addHits(key, delta, active.get(key).windowEndMillis));
+                return readTotals(new ArrayList<>(active.keySet()));
+            });
+
+            Map<String, Long> sharedHits = new HashMap<>();
+            if (totals != null) {
+                totals.forEach(total -> sharedHits.put(total.getBucketKey(), total.getHits()));
+            }
+            active.forEach((key, counter) -> counter.completeFlush(sharedHits.getOrDefault(key, 0L)));
+
+            if (!deltas.isEmpty()) {
+                log.debug("Rate limit counters flushed: {} keys updated, {} keys refreshed",
+                        deltas.size(), active.size());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to flush rate limit counters, will retry: {}", e.getMessage());
+            active.values().forEach(WindowCounter::abortFlush);
+        }
+    }
+
+    /**
+     * 종료된 윈도우의 공유 카운터를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-interval:PT1M}")
+    public void purgeExpired() {
+        try {
+            Integer deleted = transactionTemplate.execute(status -> repository.deleteExpired(clock.millis()));
+            if (deleted != null && deleted > 0) {
+                log.debug("Purged {} expired rate limit counters", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge rate limit counters: {}", e.getMessage());
+        }
+    }
+
+    private List<RateLimitCounter> readTotals(List<String> keys) {
+        List<RateLimitCounter> result = new ArrayList<>(keys.size());
+        for (int from = 0; from < keys.size(); from += READ_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + READ_CHUNK_SIZE, keys.size()));
+            result.addAll(repository.findAllById(chunk));
+        }
+        return result;
+    }
+
+    /**
+     * 인스턴스 로컬 윈도우 카운터.
+     *
+     * <p>{@code shared}는 마지막으로 읽은 DB 합계(자신의 반영분 포함),
+     * {@code inFlight}는 반영 중인 증가분, {@code pending}은 아직 반영하지 않은 증가분입니다.</p>
+     */
+    private static final class WindowCounter {
+
+        private final long windowEndMillis;
+        private final long capacity;
+        private long shared;
+        private long inFlight;
+        private long pending;
+
+        private WindowCounter(long windowEndMillis, long capacity) {
+            this.windowEndMillis = windowEndMillis;
+            this.capacity = capacity;
+        }
+
+        synchronized RateLimitDecision tryAcquire(long capacity, long nowMillis) {
+            long resetSeconds = RateLimitDecision.toSeconds((windowEndMillis - nowMillis) * 1_000_000L);
+            long used = shared + inFlight + pending;
+            if (used >= capacity) {
+                return RateLimitDecision.rejected(capacity, resetSeconds);
+            }
+            pending++;
+            return RateLimitDecision.allowed(capacity, capacity - used - 1, resetSeconds);
+        }
+
+        synchronized boolean isNearLimit(double ratio) {
+            return shared + inFlight + pending >= capacity * ratio;
+        }
+
+        synchronized long beginFlush() {
+            inFlight += pending;
+            pending = 0;
+            return inFlight;
+        }
+
+        synchronized void completeFlush(long sharedHits) {
+            shared = Math.max(sharedHits, shared);
+            inFlight = 0;
+        }
+
+        synchronized void abortFlush() {
+            pending += inFlight;
+            inFlight = 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package vibe.scon.scon_backend.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import vibe.scon.scon_backend.config.properties.AppProperties.RateLimitPolicy;
+import vibe.scon.scon_backend.config.properties.AppProperties.RateLimitProperties;
+
+/**
+ * 인스턴스 로컬 Rate Limit 저장소.
+ *
+ * <p>키별 Bucket4j 토큰 버킷(greedy refill)을 크기/TTL이 제한된 캐시에 보관합니다.
+ * IP를 바꿔가며 요청하는 분산 공격에서도 메모리 사용량이 {@code max-tracked-clients}를 넘지 않습니다.</p>
+ *
+ * <p>단일 인스턴스 운영 및 테스트 환경의 기본 구현입니다.</p>
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, Bucket> buckets;
+
+    public InMemoryRateLimitStore(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitPolicy policy) {
+        Bucket bucket = buckets.get(key, k -> newBucket(policy));
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+
+        if (!probe.isConsumed()) {
+            return RateLimitDecision.rejected(
+                    policy.getCapacity(), RateLimitDecision.toSeconds(probe.getNanosToWaitForRefill()));
+        }
+        return RateLimitDecision.allowed(
+                policy.getCapacity(),
+                probe.getRemainingTokens(),
+                secondsUntilFull(policy, probe.getRemainingTokens()));
+    }
+
+    /**
+     * 현재 추적 중인 버킷 수 (모니터링/테스트용).
+     *
+     * @return 캐시에 보관된 버킷 수 (근사값)
+     */
+    public long trackedBucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * 정책에 따른 신규 토큰 버킷 생성 (greedy refill).
+     */
+    private Bucket newBucket(RateLimitPolicy policy) {
+        return Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(policy.getCapacity())
+                        .refillGreedy(policy.getCapacity(), policy.getRefillPeriod())
+                        .build())
+                .build();
+    }
+
+    /**
+     * 남은 토큰 수로부터 버킷이 가득 찰 때까지의 시간(초)을 계산.
+     */
+    private long secondsUntilFull(RateLimitPolicy policy, long remainingTokens) {
+        long missing = policy.getCapacity() - remainingTokens;
+        if (missing <= 0) {
+            return 0;
+        }
+        long periodNanos = policy.getRefillPeriod().toNanos();
+        return RateLimitDecision.toSeconds(periodNanos / policy.getCapacity() * missing);
+    }
+}
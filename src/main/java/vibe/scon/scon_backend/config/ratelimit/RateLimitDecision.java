@@ -0,0 +1,53 @@
+package vibe.scon.scon_backend.config.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit 판정 결과.
+ *
+ * <p>{@code RateLimit-*} / {@code Retry-After} 응답 헤더 값을 함께 담습니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitDecision {
+
+    /**
+     * 요청 허용 여부.
+     */
+    private final boolean allowed;
+
+    /**
+     * 정책상 허용 요청 수 (RateLimit-Limit).
+     */
+    private final long limit;
+
+    /**
+     * 남은 요청 수 (RateLimit-Remaining).
+     */
+    private final long remaining;
+
+    /**
+     * 한도가 회복될 때까지 남은 시간 (초). 거부 시 Retry-After 값으로 사용됩니다.
+     */
+    private final long resetSeconds;
+
+    public static RateLimitDecision allowed(long limit, long remaining, long resetSeconds) {
+        return new RateLimitDecision(true, limit, remaining, resetSeconds);
+    }
+
+    public static RateLimitDecision rejected(long limit, long retryAfterSeconds) {
+        return new RateLimitDecision(false, limit, 0, retryAfterSeconds);
+    }
+
+    /**
+     * 나노초를 초 단위로 올림 변환.
+     */
+    static long toSeconds(long nanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(0, (nanos + second - 1) / second);
+    }
+}
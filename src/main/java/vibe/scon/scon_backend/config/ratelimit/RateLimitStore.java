@@ -0,0 +1,32 @@
+package vibe.scon.scon_backend.config.ratelimit;
+
+import vibe.scon.scon_backend.config.properties.AppProperties.RateLimitPolicy;
+
+/**
+ * Rate Limit 카운터 저장소 SPI.
+ *
+ * <p>{@link vibe.scon.scon_backend.config.filter.RateLimitingFilter}는 이 인터페이스를 통해
+ * 요청 허용 여부를 판단합니다. 구현체는 {@code app.rate-limit.store} 설정으로 선택합니다.</p>
+ *
+ * <h3>구현체:</h3>
+ * <ul>
+ *   <li>{@code memory} - {@link InMemoryRateLimitStore} (인스턴스 로컬, 기본값)</li>
+ *   <li>{@code database} - {@link DatabaseRateLimitStore} (DB 공유, 다중 인스턴스용)</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-002} - 백엔드 보안 강화 (Rate Limiting)</li>
+ * </ul>
+ */
+public interface RateLimitStore {
+
+    /**
+     * 요청 1건에 대한 토큰을 소비합니다.
+     *
+     * @param key    버킷 키 ("경로그룹:IP")
+     * @param policy 적용할 정책
+     * @return 허용 여부 및 RateLimit 헤더 값
+     */
+    RateLimitDecision tryConsume(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,151 @@
+package vibe.scon.scon_backend.config.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 완료된 Span을 JSON Lines 파일로 기록하는 Exporter.
+ *
+ * <p>OTLP Collector가 없는 로컬/단일 서버 환경에서 느린 요청의 구간별 소요 시간을 확인하기 위한 용도입니다.
+ * OpenTelemetry BatchSpanProcessor가 백그라운드 스레드에서 호출하므로 요청 스레드에는 영향이 없습니다.</p>
+ *
+ * <pre>
+ * {"traceId":"...","spanId":"...","parentSpanId":"...","name":"http get /api/v1/stores/{id}",
+ *  "kind":"SERVER","start":"2026-01-05T00:00:00.123Z","durationMs":12.3,"status":"UNSET",
+ *  "attributes":{"uri":"/api/v1/stores/{id}", ...}}
+ * </pre>
+ *
+ * <p>파일이 {@code maxFileBytes}를 넘으면 {@code <파일>.1}로 교체하고 새 파일에 기록합니다 (백업 1개 유지).</p>
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private final Path path;
+    private final long maxFileBytes;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private BufferedWriter writer;
+    private long writtenBytes;
+
+    public FileSpanExporter(Path path, long maxFileBytes) {
+        this.path = path;
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                String line = toJson(span);
+                long lineBytes = line.getBytes(StandardCharsets.UTF_8).length + 1L;
+                rotateIfNeeded(lineBytes);
+                writer().write(line);
+                writer.newLine();
+                writtenBytes += lineBytes;
+            }
+            writer().flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Failed to export {} spans to {}: {}", spans.size(), path, e.getMessage());
+            closeQuietly();
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            if (writer != null) {
+                writer.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        closeQuietly();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    String toJson(SpanData span) throws IOException {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator json = jsonFactory.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("traceId", span.getTraceId());
+            json.writeStringField("spanId", span.getSpanId());
+            if (span.getParentSpanContext().isValid()) {
+                json.writeStringField("parentSpanId", span.getParentSpanId());
+            }
+            json.writeStringField("name", span.getName());
+            json.writeStringField("kind", span.getKind().name());
+            json.writeStringField("start", Instant.EPOCH.plusNanos(span.getStartEpochNanos()).toString());
+            json.writeNumberField("durationMs",
+                    (span.getEndEpochNanos() - span.getStartEpochNanos()) / (double) TimeUnit.MILLISECONDS.toNanos(1));
+            json.writeStringField("status", span.getStatus().getStatusCode().name());
+            json.writeObjectFieldStart("attributes");
+            span.getAttributes().forEach((key, value) -> {
+                try {
+                    json.writeStringField(key.getKey(), String.valueOf(value));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+        return out.toString();
+    }
+
+    private BufferedWriter writer() throws IOException {
+        if (writer == null) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            writtenBytes = Files.size(path);
+        }
+        return writer;
+    }
+
+    private void rotateIfNeeded(long nextLineBytes) throws IOException {
+        writer();
+        if (maxFileBytes <= 0 || writtenBytes == 0 || writtenBytes + nextLineBytes <= maxFileBytes) {
+            return;
+        }
+        closeQuietly();
+        Files.move(path, path.resolveSibling(path.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void closeQuietly() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.debug("Failed to close span file {}: {}", path, e.getMessage());
+        }
+        writer = null;
+    }
+}
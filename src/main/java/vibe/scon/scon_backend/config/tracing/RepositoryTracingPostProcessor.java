@@ -0,0 +1,72 @@
+package vibe.scon.scon_backend.config.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Spring Data Repository 호출 Span 등록.
+ *
+ * <p>Repository 프록시에 인터셉터를 추가하여 메서드 호출마다 {@code StoreRepository.findById} 형태의
+ * 자식 Span을 만듭니다. 진행 중인 Span(요청/비동기 작업)이 있을 때만 기록하여
+ * 추적 컨텍스트 밖의 호출(배치 등)이 단독 Trace를 만들지 않도록 합니다.</p>
+ *
+ * <p>Boot의 {@code spring.data.repository.invocations} 메트릭과 같은 방식
+ * ({@link RepositoryFactoryBeanSupport#addRepositoryFactoryCustomizer})으로 등록합니다.</p>
+ */
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    public RepositoryTracingPostProcessor(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(new TracingInterceptor(
+                            tracerProvider, information.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static class TracingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<Tracer> tracerProvider;
+        private final String repositoryName;
+
+        TracingInterceptor(ObjectProvider<Tracer> tracerProvider, String repositoryName) {
+            this.tracerProvider = tracerProvider;
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Tracer tracer = tracerProvider.getIfAvailable();
+            if (tracer == null || tracer.currentSpan() == null) {
+                return invocation.proceed();
+            }
+
+            String method = invocation.getMethod().getName();
+            Span span = tracer.nextSpan()
+                    .name(repositoryName + "." + method)
+                    .tag("db.repository", repositoryName)
+                    .tag("db.operation", method)
+                    .start();
+            try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
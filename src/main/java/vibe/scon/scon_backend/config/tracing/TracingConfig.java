@@ -0,0 +1,57 @@
+package vibe.scon.scon_backend.config.tracing;
+
+import io.micrometer.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+
+import java.nio.file.Paths;
+
+/**
+ * 분산 추적 설정.
+ *
+ * <p>Micrometer Tracing(OpenTelemetry Bridge) 자동 설정에 더해 Repository Span과 파일 Export를 등록합니다.</p>
+ *
+ * <h3>Span 구성:</h3>
+ * <ul>
+ *   <li>HTTP 서버 Span - 수신 {@code traceparent} 헤더를 이어받아 컨트롤러 처리 구간 기록 (Boot 자동)</li>
+ *   <li>Repository Span - {@link RepositoryTracingPostProcessor}</li>
+ *   <li>비동기 작업 Span - {@code async.task} ({@code AsyncConfig}, taskExecutor/dbExecutor 공통)</li>
+ *   <li>외부 HTTP 호출 Span - RestTemplate, 송신 {@code traceparent} 헤더 추가 ({@code RestTemplateConfig})</li>
+ * </ul>
+ *
+ * <h3>Export:</h3>
+ * <ul>
+ *   <li>OTLP Collector - {@code MANAGEMENT_OTLP_TRACING_ENDPOINT} 환경 변수 설정 시 (Boot 자동)</li>
+ *   <li>파일 - {@code app.tracing.file-export-enabled=true}이면 {@link FileSpanExporter}</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (느린 요청의 구간별 소요 시간 분석)</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public static RepositoryTracingPostProcessor repositoryTracingPostProcessor(
+            ObjectProvider<Tracer> tracerProvider) {
+        return new RepositoryTracingPostProcessor(tracerProvider);
+    }
+
+    /**
+     * Span 파일 Exporter (Boot의 OpenTelemetry 자동 설정이 SpanExporter Bean을 BatchSpanProcessor에 등록).
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing", name = "file-export-enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(AppProperties appProperties) {
+        AppProperties.TracingProperties tracing = appProperties.getTracing();
+        log.info("Span file export enabled: path={}, maxFileBytes={}", tracing.getFilePath(), tracing.getMaxFileBytes());
+        return new FileSpanExporter(Paths.get(tracing.getFilePath()), tracing.getMaxFileBytes());
+    }
+}
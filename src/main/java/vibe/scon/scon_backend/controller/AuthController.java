@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import vibe.scon.scon_backend.config.profiling.AuthEvent;
 import vibe.scon.scon_backend.dto.ApiResponse;
 import vibe.scon.scon_backend.dto.auth.LoginRequestDto;
 import vibe.scon.scon_backend.dto.auth.RefreshTokenRequestDto;
@@ -91,7 +92,8 @@ public class AuthController {
         
         log.info("Signup request received for email: {}", request.getEmail());
         
-        TokenResponseDto tokenResponse = authService.signup(request);
+        // JFR 이벤트 (vibe.scon.Auth) - 트랜잭션 커밋까지 포함
+        TokenResponseDto tokenResponse = AuthEvent.record("signup", () -> authService.signup(request));
         
         // HttpOnly Cookie로 토큰 설정
         setCookie(response, "accessToken", tokenResponse.getAccessToken(), 1800); // 30분
@@ -160,7 +162,7 @@ public class AuthController {
         
         log.info("Login request received for email: {}", request.getEmail());
         
-        TokenResponseDto tokenResponse = authService.login(request);
+        TokenResponseDto tokenResponse = AuthEvent.record("login", () -> authService.login(request));
         
         // HttpOnly Cookie로 토큰 설정
         setCookie(response, "accessToken", tokenResponse.getAccessToken(), 1800); // 30분
@@ -232,11 +234,11 @@ public class AuthController {
         }
         
         // AuthService 호출 (기존 로직 유지)
-        TokenResponseDto tokenResponse = authService.refreshToken(
+        TokenResponseDto tokenResponse = AuthEvent.record("refresh", () -> authService.refreshToken(
                 RefreshTokenRequestDto.builder()
                         .refreshToken(refreshToken)
                         .build()
-        );
+        ));
         
         // 새 토큰을 Cookie로 설정
         setCookie(response, "accessToken", tokenResponse.getAccessToken(), 1800); // 30분
@@ -292,11 +294,14 @@ public class AuthController {
         
         // refreshToken이 있으면 DB에서 삭제
         if (refreshToken != null && !refreshToken.isEmpty()) {
-            authService.logout(
-                    RefreshTokenRequestDto.builder()
-                            .refreshToken(refreshToken)
-                            .build()
-            );
+            AuthEvent.record("logout", () -> {
+                authService.logout(
+                        RefreshTokenRequestDto.builder()
+                                .refreshToken(refreshToken)
+                                .build()
+                );
+                return null;
+            });
         }
         
         // Cookie 삭제 (MaxAge를 0으로 설정)
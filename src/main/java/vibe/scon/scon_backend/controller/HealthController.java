@@ -1,20 +1,31 @@
 package vibe.scon.scon_backend.controller;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import vibe.scon.scon_backend.config.health.HealthProbeMonitor;
 import vibe.scon.scon_backend.dto.ApiResponse;
+import vibe.scon.scon_backend.dto.HealthCheckResult;
 import vibe.scon.scon_backend.dto.HealthResponse;
 
 /**
  * Health Check Controller.
  * Provides endpoints for monitoring server status and availability.
  *
+ * <p>Dependency status comes from {@link HealthProbeMonitor}, which refreshes DB, disk, WAL and
+ * executor probes in the background. Health requests only read the cached results and never
+ * touch the database on the request thread.</p>
+ *
  * <h3>Endpoints:</h3>
  * <ul>
- *   <li>GET /api/v1/health - Returns detailed server health status</li>
+ *   <li>GET /api/v1/health - Returns detailed server health status with probe results (503 when DOWN)</li>
+ *   <li>GET /api/v1/health/live - Liveness probe (503 when the probe loop has stalled)</li>
+ *   <li>GET /api/v1/health/ready - Readiness probe for load balancers (503 when a probe is DOWN or stale)</li>
  *   <li>GET /api/v1/health/ping - Simple connectivity check (for load balancers)</li>
  *   <li>GET /api/v1/ping - Legacy ping endpoint (deprecated, use /api/v1/health/ping)</li>
  * </ul>
@@ -22,8 +33,11 @@ import vibe.scon.scon_backend.dto.HealthResponse;
 @Slf4j
 @RestController
 @RequestMapping("/api/v1")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final HealthProbeMonitor healthProbeMonitor;
+
     @Value("${spring.profiles.active:default}")
     private String activeProfile;
 
@@ -47,26 +61,73 @@ public class HealthController {
      *     "timestamp": "2026-01-03T12:00:00",
      *     "applicationName": "scon-backend",
      *     "version": "0.0.1-SNAPSHOT",
-     *     "profile": "dev"
+     *     "profile": "dev",
+     *     "checks": {
+     *       "db": { "status": "UP", "latencyMs": 1, "checkedAt": "2026-01-03T03:00:00Z" },
+     *       "disk": { "status": "UP", "details": { "freeBytes": 52428800000, ... } },
+     *       ...
+     *     }
      *   },
      *   "timestamp": "2026-01-03T12:00:00"
      * }
      * }</pre>
      *
-     * @return ApiResponse containing HealthResponse data
+     * @return ApiResponse containing HealthResponse data (HTTP 503 when DOWN)
      */
     @GetMapping("/health")
-    public ApiResponse<HealthResponse> healthCheck() {
+    public ResponseEntity<ApiResponse<HealthResponse>> healthCheck() {
         log.debug("Health check requested");
 
+        String status = healthProbeMonitor.getStatus();
+        HealthResponse healthResponse = HealthResponse.builder()
+                .status(status)
+                .applicationName(applicationName)
+                .version(applicationVersion)
+                .profile(activeProfile)
+                .checks(healthProbeMonitor.getChecks())
+                .build();
+
+        boolean available = healthProbeMonitor.isReady();
+        return respond(available, available ? "Server is running" : "Server is unavailable", healthResponse);
+    }
+
+    /**
+     * Liveness probe.
+     * Reports whether the process is healthy enough to keep running; dependency failures
+     * (DB, disk) do not fail liveness since a restart would not fix them.
+     *
+     * @return ApiResponse with liveness status (HTTP 503 when the probe loop has stalled)
+     */
+    @GetMapping("/health/live")
+    public ResponseEntity<ApiResponse<HealthResponse>> liveness() {
+        boolean live = healthProbeMonitor.isLive();
         HealthResponse healthResponse = HealthResponse.builder()
-                .status("UP")
+                .status(live ? HealthCheckResult.UP : HealthCheckResult.DOWN)
                 .applicationName(applicationName)
                 .version(applicationVersion)
                 .profile(activeProfile)
                 .build();
+        return respond(live, live ? "Server is alive" : "Health probe loop stalled", healthResponse);
+    }
 
-        return ApiResponse.success("Server is running", healthResponse);
+    /**
+     * Readiness probe for load balancers.
+     * Returns 503 while any cached probe is DOWN or the results are stale, so traffic
+     * is drained from a wedged node.
+     *
+     * @return ApiResponse with readiness status and probe results
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<ApiResponse<HealthResponse>> readiness() {
+        boolean ready = healthProbeMonitor.isReady();
+        HealthResponse healthResponse = HealthResponse.builder()
+                .status(healthProbeMonitor.getStatus())
+                .applicationName(applicationName)
+                .version(applicationVersion)
+                .profile(activeProfile)
+                .checks(healthProbeMonitor.getChecks())
+                .build();
+        return respond(ready, ready ? "Server is ready" : "Server is not ready", healthResponse);
     }
 
     /**
@@ -96,5 +157,15 @@ public class HealthController {
         log.warn("Deprecated endpoint /api/v1/ping used. Please migrate to /api/v1/health/ping");
         return ApiResponse.success("pong");
     }
-}
 
+    private ResponseEntity<ApiResponse<HealthResponse>> respond(
+            boolean available, String message, HealthResponse healthResponse) {
+        HttpStatus httpStatus = available ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        ApiResponse<HealthResponse> body = ApiResponse.<HealthResponse>builder()
+                .status(httpStatus.value())
+                .message(message)
+                .data(healthResponse)
+                .build();
+        return ResponseEntity.status(httpStatus).body(body);
+    }
+}
@@ -14,12 +14,12 @@ import vibe.scon.scon_backend.dto.schedule.UpdateScheduleRequestDto;
 import org.springframework.http.HttpStatus;
 import vibe.scon.scon_backend.dto.async.AsyncTaskResponseDto;
 import vibe.scon.scon_backend.entity.Schedule;
-import vibe.scon.scon_backend.entity.enums.TaskStatus;
 import vibe.scon.scon_backend.repository.ScheduleRepository;
-import vibe.scon.scon_backend.service.AsyncScheduleService;
-import vibe.scon.scon_backend.service.AsyncTaskService;
 import vibe.scon.scon_backend.service.ScheduleService;
 import vibe.scon.scon_backend.service.StoreService;
+import vibe.scon.scon_backend.service.AsyncTaskService;
+import vibe.scon.scon_backend.service.job.AsyncJobDispatcher;
+import vibe.scon.scon_backend.service.job.ScheduleUpdateJob;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -45,7 +45,7 @@ public class ScheduleController {
     private final ScheduleRepository scheduleRepository;
     private final StoreService storeService;
     private final ScheduleService scheduleService;
-    private final AsyncScheduleService asyncScheduleService;
+    private final AsyncJobDispatcher asyncJobDispatcher;
     private final AsyncTaskService asyncTaskService;
 
     /**
@@ -185,30 +185,28 @@ public class ScheduleController {
      * @param authentication 인증 정보 (ownerId)
      * @param id 스케줄 ID
      * @param request 스케줄 수정 요청 DTO
+     * @param idempotencyKey 멱등성 키 (선택, 같은 키로 재요청하면 기존 작업을 반환)
      * @return 작업 접수 응답 (202 Accepted)
      */
     @PutMapping("/{id}/async")
     public ResponseEntity<ApiResponse<AsyncTaskResponseDto>> updateScheduleAsync(
             Authentication authentication,
             @PathVariable Long id,
-            @Valid @RequestBody UpdateScheduleRequestDto request) {
+            @Valid @RequestBody UpdateScheduleRequestDto request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         
         Long ownerId = (Long) authentication.getPrincipal();
         log.info("Update schedule async request. scheduleId: {}, ownerId: {}", id, ownerId);
         
-        // 작업 생성
-        String taskId = asyncTaskService.createTask("SCHEDULE_UPDATE", ownerId, request);
-        
-        // 비동기 작업 시작
-        asyncScheduleService.updateScheduleAsync(taskId, ownerId, id, request);
+        // 소유권 확인 (타인 스케줄 작업이 대기열에 들어가 병합/대체되지 않도록 접수 전에 검증)
+        scheduleService.requireScheduleOwner(ownerId, id);
+
+        // 작업 생성 및 대기열 등록
+        String taskId = asyncJobDispatcher.submit(ScheduleUpdateJob.class, ownerId,
+                new ScheduleUpdateJob.Input(id, request), idempotencyKey);
         
-        // 즉시 응답 (202 Accepted)
-        AsyncTaskResponseDto response = AsyncTaskResponseDto.builder()
-                .taskId(taskId)
-                .status(TaskStatus.IN_PROGRESS)
-                .taskType("SCHEDULE_UPDATE")
-                .progress(0)
-                .build();
+        // 즉시 응답 (202 Accepted, 같은 Idempotency-Key 재요청이면 기존 작업 상태)
+        AsyncTaskResponseDto response = asyncTaskService.getTaskStatus(taskId);
         
         return ResponseEntity
                 .status(HttpStatus.ACCEPTED)
@@ -13,11 +13,11 @@ import vibe.scon.scon_backend.dto.ApiResponse;
 import vibe.scon.scon_backend.dto.async.AsyncTaskResponseDto;
 import vibe.scon.scon_backend.dto.store.StoreRequestDto;
 import vibe.scon.scon_backend.dto.store.StoreResponseDto;
-import vibe.scon.scon_backend.entity.enums.TaskStatus;
 import vibe.scon.scon_backend.service.AnalyticsService;
-import vibe.scon.scon_backend.service.AsyncStoreService;
-import vibe.scon.scon_backend.service.AsyncTaskService;
 import vibe.scon.scon_backend.service.StoreService;
+import vibe.scon.scon_backend.service.AsyncTaskService;
+import vibe.scon.scon_backend.service.job.AsyncJobDispatcher;
+import vibe.scon.scon_backend.service.job.StoreCreateJob;
 import com.github.f4b6a3.ulid.UlidCreator;
 
 import java.util.List;
@@ -53,7 +53,7 @@ import java.util.Map;
 public class StoreController {
 
     private final StoreService storeService;
-    private final AsyncStoreService asyncStoreService;
+    private final AsyncJobDispatcher asyncJobDispatcher;
     private final AsyncTaskService asyncTaskService;
     private final AnalyticsService analyticsService;
 
@@ -226,29 +226,23 @@ public class StoreController {
      * 
      * @param authentication 인증 정보 (ownerId)
      * @param request 매장 생성 요청 DTO
+     * @param idempotencyKey 멱등성 키 (선택, 같은 키로 재요청하면 기존 작업을 반환)
      * @return 작업 접수 응답 (202 Accepted)
      */
     @PostMapping("/async")
     public ResponseEntity<ApiResponse<AsyncTaskResponseDto>> createStoreAsync(
             Authentication authentication,
-            @Valid @RequestBody StoreRequestDto request) {
+            @Valid @RequestBody StoreRequestDto request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         
         Long ownerId = (Long) authentication.getPrincipal();
         log.info("Create store async request. ownerId: {}, storeName: {}", ownerId, request.getName());
         
-        // 작업 생성
-        String taskId = asyncTaskService.createTask("STORE_CREATE", ownerId, request);
-        
-        // 비동기 작업 시작
-        asyncStoreService.createStoreAsync(taskId, ownerId, request);
+        // 작업 생성 및 대기열 등록
+        String taskId = asyncJobDispatcher.submit(StoreCreateJob.class, ownerId, request, idempotencyKey);
         
-        // 즉시 응답 (202 Accepted)
-        AsyncTaskResponseDto response = AsyncTaskResponseDto.builder()
-                .taskId(taskId)
-                .status(TaskStatus.IN_PROGRESS)
-                .taskType("STORE_CREATE")
-                .progress(0)
-                .build();
+        // 즉시 응답 (202 Accepted, 같은 Idempotency-Key 재요청이면 기존 작업 상태)
+        AsyncTaskResponseDto response = asyncTaskService.getTaskStatus(taskId);
         
         return ResponseEntity
                 .status(HttpStatus.ACCEPTED)
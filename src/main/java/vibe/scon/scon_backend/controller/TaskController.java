@@ -1,16 +1,26 @@
 package vibe.scon.scon_backend.controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import vibe.scon.scon_backend.dto.ApiResponse;
 import vibe.scon.scon_backend.dto.async.AsyncTaskResponseDto;
+import vibe.scon.scon_backend.dto.async.RawJson;
 import vibe.scon.scon_backend.entity.AsyncTask;
 import vibe.scon.scon_backend.entity.enums.TaskStatus;
 import vibe.scon.scon_backend.exception.BadRequestException;
 import vibe.scon.scon_backend.service.AsyncTaskService;
+import vibe.scon.scon_backend.service.TaskEventService;
+import vibe.scon.scon_backend.service.TaskPayloadCodec;
+import vibe.scon.scon_backend.service.job.AsyncJobDispatcher;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 비동기 작업 상태 조회 컨트롤러.
@@ -26,6 +36,9 @@ import vibe.scon.scon_backend.service.AsyncTaskService;
  * <ul>
  *   <li>{@code GET /api/v1/tasks/{taskId}} - 작업 상태 조회</li>
  *   <li>{@code GET /api/v1/tasks/{taskId}/result} - 작업 결과 조회</li>
+ *   <li>{@code GET /api/v1/tasks/{taskId}/events} - 작업 상태 스트림 (SSE)</li>
+ *   <li>{@code GET /api/v1/tasks/{taskId}/events?waitFor=COMPLETED&timeout=30} - 상태 도달 대기 (Long-poll)</li>
+ *   <li>{@code DELETE /api/v1/tasks/{taskId}} - 작업 취소</li>
  * </ul>
  */
 @Slf4j
@@ -35,7 +48,9 @@ import vibe.scon.scon_backend.service.AsyncTaskService;
 public class TaskController {
     
     private final AsyncTaskService asyncTaskService;
-    private final ObjectMapper objectMapper;
+    private final TaskEventService taskEventService;
+    private final AsyncJobDispatcher asyncJobDispatcher;
+    private final TaskPayloadCodec taskPayloadCodec;
     
     /**
      * 작업 상태 조회 API.
@@ -93,7 +108,7 @@ public class TaskController {
      * @throws BadRequestException 작업이 아직 완료되지 않은 경우 (400 Bad Request)
      */
     @GetMapping("/{taskId}/result")
-    public ResponseEntity<ApiResponse<Object>> getTaskResult(
+    public ResponseEntity<ApiResponse<RawJson>> getTaskResult(
             @PathVariable String taskId) {
         
         log.debug("Get task result request. taskId: {}", taskId);
@@ -106,10 +121,8 @@ public class TaskController {
         }
         
         try {
-            // JSON 결과 데이터를 Object로 역직렬화
-            Object result = task.getResultData() != null
-                    ? objectMapper.readValue(task.getResultData(), Object.class)
-                    : null;
+            // 저장된 JSON을 파싱하지 않고 그대로 응답 (압축된 경우 해제만 수행)
+            RawJson result = RawJson.of(taskPayloadCodec.decodeJson(task.getResultData()));
             
             return ResponseEntity.ok(ApiResponse.success("결과 조회 성공", result));
         } catch (Exception e) {
@@ -117,4 +130,88 @@ public class TaskController {
             throw new BadRequestException("결과 데이터를 읽을 수 없습니다");
         }
     }
+    
+    /**
+     * 작업 상태 스트림 API (Server-Sent Events).
+     * 
+     * <p>연결 직후 현재 상태를, 이후 진행률/상태가 바뀔 때마다 {@code status} 이벤트를 전송합니다.
+     * 종료 상태(COMPLETED, FAILED, CANCELLED)를 보낸 뒤 스트림을 닫습니다.</p>
+     * 
+     * <h4>응답 예시:</h4>
+     * <pre>{@code
+     * event:status
+     * data:{"taskId":"550e8400-...","status":"IN_PROGRESS","taskType":"SCHEDULE_UPDATE","progress":10,...}
+     * 
+     * event:status
+     * data:{"taskId":"550e8400-...","status":"COMPLETED","taskType":"SCHEDULE_UPDATE","progress":100,...}
+     * }</pre>
+     * 
+     * @param taskId 작업 ID (UUID)
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/{taskId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(@PathVariable String taskId) {
+        
+        log.debug("Task event stream request. taskId: {}", taskId);
+        
+        return taskEventService.openStream(taskId);
+    }
+    
+    /**
+     * 작업 상태 도달 대기 API (Long-poll).
+     * 
+     * <p>작업이 {@code waitFor} 상태(또는 다른 종료 상태)에 도달하면 즉시 응답하고,
+     * {@code timeout}초 안에 도달하지 않으면 그 시점의 상태를 응답합니다.
+     * 응답 형식은 {@code GET /api/v1/tasks/{taskId}}와 같습니다.</p>
+     * 
+     * @param taskId 작업 ID (UUID)
+     * @param waitFor 기다릴 상태 (예: COMPLETED)
+     * @param timeout 최대 대기 시간 (초, 서버 상한 적용)
+     * @return 작업 상태 응답 (200 OK)
+     */
+    @GetMapping(value = "/{taskId}/events", params = "waitFor")
+    public DeferredResult<ResponseEntity<ApiResponse<AsyncTaskResponseDto>>> waitForTaskStatus(
+            @PathVariable String taskId,
+            @RequestParam TaskStatus waitFor,
+            @RequestParam(required = false) Integer timeout) {
+        
+        log.debug("Task long-poll request. taskId: {}, waitFor: {}, timeout: {}", taskId, waitFor, timeout);
+        
+        Duration wait = taskEventService.resolveTimeout(timeout);
+        CompletableFuture<AsyncTaskResponseDto> future = taskEventService.awaitStatus(taskId, waitFor);
+        
+        DeferredResult<ResponseEntity<ApiResponse<AsyncTaskResponseDto>>> result =
+                new DeferredResult<>(wait.toMillis());
+        future.thenAccept(status -> result.setResult(
+                ResponseEntity.ok(ApiResponse.success("작업 상태 조회 성공", status))));
+        result.onTimeout(() -> result.setResult(ResponseEntity.ok(
+                ApiResponse.success("작업 상태 조회 성공", asyncTaskService.getTaskStatus(taskId)))));
+        result.onCompletion(() -> future.cancel(false));
+        return result;
+    }
+    
+    /**
+     * 작업 취소 API.
+     * 
+     * <p>대기 중인 작업은 즉시 CANCELLED가 되며, 실행 중인 작업은 중단 요청 후 작업이 멈추면 CANCELLED가 됩니다
+     * (이미 완료 직전인 작업은 COMPLETED로 끝날 수 있습니다). 응답은 취소 요청 직후의 상태입니다.</p>
+     * 
+     * @param authentication 인증 정보 (ownerId)
+     * @param taskId 작업 ID (UUID)
+     * @return 작업 상태 응답 (200 OK)
+     * @throws vibe.scon.scon_backend.exception.ForbiddenException 다른 사용자의 작업인 경우 (403)
+     * @throws BadRequestException 이미 종료된 작업인 경우 (400)
+     */
+    @DeleteMapping("/{taskId}")
+    public ResponseEntity<ApiResponse<AsyncTaskResponseDto>> cancelTask(
+            Authentication authentication,
+            @PathVariable String taskId) {
+        
+        Long ownerId = (Long) authentication.getPrincipal();
+        log.info("Cancel task request. taskId: {}, ownerId: {}", taskId, ownerId);
+        
+        AsyncTaskResponseDto response = asyncJobDispatcher.cancel(taskId, ownerId);
+        
+        return ResponseEntity.ok(ApiResponse.success("작업 취소 요청이 접수되었습니다", response));
+    }
 }
@@ -0,0 +1,53 @@
+package vibe.scon.scon_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Result of a single background health probe (DB, disk, WAL, executor).
+ * Probes are refreshed in the background; this is the last cached result.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HealthCheckResult {
+
+    public static final String UP = "UP";
+    public static final String DEGRADED = "DEGRADED";
+    public static final String DOWN = "DOWN";
+    public static final String UNKNOWN = "UNKNOWN";
+
+    /**
+     * Probe status.
+     * Values: "UP", "DEGRADED", "DOWN", "UNKNOWN"
+     */
+    private final String status;
+
+    /**
+     * Probe latency in milliseconds.
+     */
+    private final Long latencyMs;
+
+    /**
+     * Reason for a non-UP status (optional).
+     */
+    private final String message;
+
+    /**
+     * Probe-specific measurements (bytes, queue depth, ...).
+     */
+    private final Map<String, Object> details;
+
+    /**
+     * When the probe finished.
+     */
+    private final Instant checkedAt;
+
+    public boolean isDown() {
+        return DOWN.equals(status) || UNKNOWN.equals(status);
+    }
+}
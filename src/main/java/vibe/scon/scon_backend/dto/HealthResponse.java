@@ -1,9 +1,11 @@
 package vibe.scon.scon_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * Health check response DTO.
@@ -39,5 +41,10 @@ public class HealthResponse {
      * Active Spring profile.
      */
     private final String profile;
-}
 
+    /**
+     * Cached background probe results keyed by probe name (optional).
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Map<String, HealthCheckResult> checks;
+}
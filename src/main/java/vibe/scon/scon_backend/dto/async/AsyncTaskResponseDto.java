@@ -68,6 +68,11 @@ public class AsyncTaskResponseDto {
      */
     private String errorMessage;
     
+    /**
+     * 이 작업을 대체한 작업 ID (최신 요청으로 대체되어 CANCELLED된 경우에만).
+     */
+    private String supersededBy;
+    
     /**
      * AsyncTask 엔티티로부터 DTO를 생성합니다.
      * 
@@ -84,6 +89,7 @@ public class AsyncTaskResponseDto {
                 .completedAt(task.getCompletedAt())
                 .expiresAt(task.getExpiresAt())
                 .errorMessage(task.getErrorMessage())
+                .supersededBy(task.getSupersededBy())
                 .build();
     }
 }
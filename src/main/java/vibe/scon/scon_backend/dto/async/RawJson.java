@@ -0,0 +1,48 @@
+package vibe.scon.scon_backend.dto.async;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+/**
+ * 이미 직렬화된 JSON을 그대로 응답에 포함하기 위한 래퍼.
+ *
+ * <p>저장된 작업 결과를 {@code Object}로 파싱한 뒤 다시 직렬화하지 않고,
+ * {@link vibe.scon.scon_backend.dto.ApiResponse}의 {@code data}에 원본 JSON을 그대로 씁니다.
+ * 신뢰할 수 있는(서버가 직렬화한) JSON에만 사용해야 합니다.</p>
+ *
+ * <h3>요구사항 추적:</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ * </ul>
+ */
+@JsonSerialize(using = RawJson.Serializer.class)
+public final class RawJson {
+
+    private final String json;
+
+    private RawJson(String json) {
+        this.json = json;
+    }
+
+    /**
+     * @param json 유효한 JSON 문자열 (null이면 null 반환)
+     */
+    public static RawJson of(String json) {
+        return json != null ? new RawJson(json) : null;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    static class Serializer extends JsonSerializer<RawJson> {
+        @Override
+        public void serialize(RawJson value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeRawValue(value.json);
+        }
+    }
+}
@@ -25,7 +25,13 @@ import java.time.LocalDateTime;
  * @see vibe.scon.scon_backend.service.AsyncTaskService
  */
 @Entity
-@Table(name = "async_tasks")
+@Table(name = "async_tasks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_async_tasks_user_idempotency",
+                columnNames = {"user_id", "idempotency_key"}),
+        indexes = {
+                @Index(name = "idx_async_tasks_status_lease", columnList = "status, lease_expires_at"),
+                @Index(name = "idx_async_tasks_status_expires", columnList = "status, expires_at")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -99,6 +105,44 @@ public class AsyncTask {
     @Column(name = "expires_at")
     private LocalDateTime expiresAt;
     
+    /**
+     * 멱등성 키 최대 길이 ({@code idempotency_key} 컬럼 길이).
+     */
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 100;
+
+    /**
+     * 클라이언트 멱등성 키 ({@code Idempotency-Key} 헤더, 사용자별 고유).
+     */
+    @Column(name = "idempotency_key", length = IDEMPOTENCY_KEY_MAX_LENGTH, updatable = false)
+    private String idempotencyKey;
+    
+    /**
+     * 작업을 실행 중인 인스턴스 (임대 소유자).
+     * 
+     * <p>임대 컬럼은 {@link vibe.scon.scon_backend.service.job.JobQueueStore}의 UPDATE 쿼리로만 변경되며,
+     * 엔티티 상태 반영(Write-Behind)에서는 덮어쓰지 않습니다.</p>
+     */
+    @Column(name = "lease_owner", length = 100, updatable = false)
+    private String leaseOwner;
+    
+    /**
+     * 임대 만료 시간 (하트비트로 연장, 지나면 다른 인스턴스가 회수).
+     */
+    @Column(name = "lease_expires_at", updatable = false)
+    private LocalDateTime leaseExpiresAt;
+    
+    /**
+     * 실행 시도 횟수 (임대 획득마다 증가).
+     */
+    @Column(name = "attempts", updatable = false)
+    private Integer attempts;
+    
+    /**
+     * 이 작업을 대체한 작업 ID (같은 대상의 최신 요청으로 대체되어 CANCELLED된 경우).
+     */
+    @Column(name = "superseded_by", length = 36)
+    private String supersededBy;
+    
     /**
      * 생성 시간 (자동 설정).
      */
@@ -117,7 +161,8 @@ public class AsyncTask {
     private AsyncTask(String taskId, TaskStatus status, String taskType, Long userId,
                      String requestData, String resultData, String errorMessage,
                      Integer progress, LocalDateTime startedAt, LocalDateTime completedAt,
-                     LocalDateTime expiresAt) {
+                     LocalDateTime expiresAt, String idempotencyKey, String leaseOwner,
+                     LocalDateTime leaseExpiresAt, Integer attempts, String supersededBy) {
         this.taskId = taskId;
         this.status = status;
         this.taskType = taskType;
@@ -129,6 +174,11 @@ public class AsyncTask {
         this.startedAt = startedAt;
         this.completedAt = completedAt;
         this.expiresAt = expiresAt;
+        this.idempotencyKey = idempotencyKey;
+        this.leaseOwner = leaseOwner;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.attempts = attempts;
+        this.supersededBy = supersededBy;
     }
     
     /**
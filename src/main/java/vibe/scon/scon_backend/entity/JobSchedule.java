@@ -0,0 +1,65 @@
+package vibe.scon.scon_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 작업 스케줄 엔티티.
+ *
+ * <p>{@link vibe.scon.scon_backend.service.job.RecurringJobScheduler}가 작업 유형별 다음 실행 시각을 보관합니다.
+ * 인스턴스들은 {@code next_run_at}을 조건부 UPDATE로 선점하므로, 한 실행 시각은 한 인스턴스만 실행합니다.
+ * 실제 실행은 {@code async_tasks} 작업으로 기록됩니다 ({@code last_task_id}).</p>
+ *
+ * <h3>테이블 정보:</h3>
+ * <ul>
+ *   <li>테이블명: {@code job_schedules}</li>
+ *   <li>기본키: {@code job_type} ({@link vibe.scon.scon_backend.service.job.AsyncJob#type()})</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ *   <li>{@code REQ-NF-004} - 서비스 가용성 (재시작 후 놓친 실행 보정)</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "job_schedules")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobSchedule {
+
+    /**
+     * 작업 유형.
+     */
+    @Id
+    @Column(name = "job_type", length = 50)
+    private String jobType;
+
+    /**
+     * 등록 시점의 cron 표현식 (변경되면 다음 실행 시각을 다시 계산).
+     */
+    @Column(nullable = false, length = 100)
+    private String cron;
+
+    /**
+     * 다음 실행 시각 (지터 포함).
+     */
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    /**
+     * 마지막으로 실행을 선점한 시각.
+     */
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    /**
+     * 마지막 실행 작업 ID (async_tasks.task_id).
+     */
+    @Column(name = "last_task_id", length = 36)
+    private String lastTaskId;
+}
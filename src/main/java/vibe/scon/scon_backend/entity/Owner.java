@@ -190,6 +190,31 @@ public class Owner extends BaseEntity {
         this.lockedUntil = LocalDateTime.now().plusMinutes(minutes);
     }
 
+    /**
+     * 연속 실패로 인한 계정 잠금.
+     * 
+     * <p>실패 횟수는 메모리({@code LoginAttemptTracker})에서 집계하고,
+     * 잠금 시점에만 누적 횟수와 잠금 해제 시간을 함께 기록합니다.</p>
+     * 
+     * @param minutes        잠금 시간 (분)
+     * @param failedAttempts 잠금 시점의 연속 실패 횟수
+     */
+    public void lockAccount(int minutes, int failedAttempts) {
+        this.failedLoginAttempts = failedAttempts;
+        lockAccount(minutes);
+    }
+
+    /**
+     * 실패 횟수 또는 잠금 기록이 남아있는지 확인.
+     * 
+     * <p>로그인 성공 시 리셋(DB 쓰기)이 필요한지 판단하는 데 사용합니다.</p>
+     * 
+     * @return 리셋할 상태가 있으면 true
+     */
+    public boolean hasFailedAttemptState() {
+        return failedLoginAttempts != 0 || lockedUntil != null;
+    }
+
     /**
      * 로그인 실패 횟수 증가.
      */
@@ -0,0 +1,53 @@
+package vibe.scon.scon_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공유 Rate Limit 카운터 엔티티.
+ *
+ * <p>{@link vibe.scon.scon_backend.config.ratelimit.DatabaseRateLimitStore}가 인스턴스 간
+ * 요청 수를 합산하기 위해 사용하는 고정 윈도우 카운터입니다.
+ * 각 인스턴스는 로컬에서 증가분을 모았다가 주기적으로 일괄 반영합니다.</p>
+ *
+ * <h3>테이블 정보:</h3>
+ * <ul>
+ *   <li>테이블명: {@code rate_limit_counters}</li>
+ *   <li>기본키: {@code bucket_key} ("경로그룹:IP:윈도우번호")</li>
+ *   <li>인덱스: {@code window_end_millis} (만료 카운터 정리용)</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-002} - 백엔드 보안 강화 (Rate Limiting)</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "rate_limit_counters", indexes = {
+    @Index(name = "idx_rate_limit_counters_window_end", columnList = "window_end_millis")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RateLimitCounter {
+
+    /**
+     * 버킷 키 + 윈도우 번호.
+     */
+    @Id
+    @Column(name = "bucket_key", length = 255)
+    private String bucketKey;
+
+    /**
+     * 윈도우 내 누적 요청 수 (전체 인스턴스 합계).
+     */
+    @Column(nullable = false)
+    private long hits;
+
+    /**
+     * 윈도우 종료 시각 (epoch millis).
+     */
+    @Column(name = "window_end_millis", nullable = false)
+    private long windowEndMillis;
+}
@@ -3,6 +3,8 @@ package vibe.scon.scon_backend.exception;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+import java.time.Duration;
+
 /**
  * Abstract base exception for all business logic errors.
  * Provides a consistent structure for domain-specific exceptions
@@ -27,6 +29,12 @@ public abstract class BusinessException extends RuntimeException {
      */
     private final HttpStatus httpStatus;
 
+    /**
+     * Suggested delay before the client retries, sent as the {@code Retry-After} header.
+     * {@code null} when the request should not simply be retried.
+     */
+    private final Duration retryAfter;
+
     /**
      * Constructs a new BusinessException with error code, message, and HTTP status.
      *
@@ -35,9 +43,22 @@ public abstract class BusinessException extends RuntimeException {
      * @param httpStatus HTTP status code for the response
      */
     protected BusinessException(String errorCode, String message, HttpStatus httpStatus) {
+        this(errorCode, message, httpStatus, (Duration) null);
+    }
+
+    /**
+     * Constructs a new BusinessException with error code, message, HTTP status, and retry hint.
+     *
+     * @param errorCode  Application-specific error code
+     * @param message    Human-readable error message
+     * @param httpStatus HTTP status code for the response
+     * @param retryAfter Suggested delay before retrying (nullable)
+     */
+    protected BusinessException(String errorCode, String message, HttpStatus httpStatus, Duration retryAfter) {
         super(message);
         this.errorCode = errorCode;
         this.httpStatus = httpStatus;
+        this.retryAfter = retryAfter;
     }
 
     /**
@@ -52,6 +73,7 @@ public abstract class BusinessException extends RuntimeException {
         super(message, cause);
         this.errorCode = errorCode;
         this.httpStatus = httpStatus;
+        this.retryAfter = null;
     }
 }
 
@@ -2,6 +2,7 @@ package vibe.scon.scon_backend.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -205,7 +206,11 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        return ResponseEntity.status(ex.getHttpStatus()).body(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(ex.getHttpStatus());
+        if (ex.getRetryAfter() != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        }
+        return builder.body(response);
     }
 
     /**
@@ -0,0 +1,51 @@
+package vibe.scon.scon_backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when the server temporarily cannot accept the request.
+ * Results in HTTP 503 Service Unavailable response.
+ *
+ * <p>Use this exception when a bounded server-side resource is exhausted,
+ * such as the maximum number of concurrent task status streams.
+ * Clients may retry the request later.</p>
+ *
+ * @see BusinessException
+ * @see GlobalExceptionHandler
+ */
+public class ServiceUnavailableException extends BusinessException {
+
+    private static final String ERROR_CODE = "SERVICE_UNAVAILABLE";
+
+    /**
+     * Constructs a ServiceUnavailableException with the given message.
+     *
+     * @param message Human-readable error message
+     */
+    public ServiceUnavailableException(String message) {
+        super(ERROR_CODE, message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Constructs a ServiceUnavailableException with a custom error code.
+     *
+     * @param errorCode Custom error code for specific scenarios
+     * @param message   Human-readable error message
+     */
+    public ServiceUnavailableException(String errorCode, String message) {
+        super(errorCode, message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Constructs a ServiceUnavailableException with a custom error code and retry hint.
+     *
+     * @param errorCode  Custom error code for specific scenarios
+     * @param message    Human-readable error message
+     * @param retryAfter Suggested delay before retrying, sent as the Retry-After header
+     */
+    public ServiceUnavailableException(String errorCode, String message, Duration retryAfter) {
+        super(errorCode, message, HttpStatus.SERVICE_UNAVAILABLE, retryAfter);
+    }
+}
@@ -0,0 +1,30 @@
+package vibe.scon.scon_backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a single client has too many requests in flight.
+ * Results in HTTP 429 Too Many Requests response with a Retry-After header.
+ *
+ * <p>Use this exception when a per-client limit is reached while the server
+ * as a whole can still accept work, such as the per-owner async job queue limit.
+ * Clients should wait for their earlier requests before retrying.</p>
+ *
+ * @see BusinessException
+ * @see GlobalExceptionHandler
+ */
+public class TooManyRequestsException extends BusinessException {
+
+    /**
+     * Constructs a TooManyRequestsException with a custom error code and retry hint.
+     *
+     * @param errorCode  Custom error code for specific scenarios
+     * @param message    Human-readable error message
+     * @param retryAfter Suggested delay before retrying, sent as the Retry-After header
+     */
+    public TooManyRequestsException(String errorCode, String message, Duration retryAfter) {
+        super(errorCode, message, HttpStatus.TOO_MANY_REQUESTS, retryAfter);
+    }
+}
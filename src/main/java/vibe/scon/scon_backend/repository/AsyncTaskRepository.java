@@ -1,5 +1,6 @@
 package vibe.scon.scon_backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +10,7 @@ import vibe.scon.scon_backend.entity.AsyncTask;
 import vibe.scon.scon_backend.entity.enums.TaskStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,14 +56,151 @@ public interface AsyncTaskRepository extends JpaRepository<AsyncTask, String> {
     List<AsyncTask> findByStatusAndCreatedAtBefore(TaskStatus status, LocalDateTime before);
     
     /**
-     * 만료된 작업 삭제.
+     * 만료된 작업 ID 조회 (보존 기간 정리용, {@code idx_async_tasks_status_expires} 사용).
      * 
-     * <p>COMPLETED 또는 FAILED 상태이고 expiresAt이 지난 작업을 삭제합니다.</p>
+     * <p>COMPLETED, FAILED 또는 CANCELLED 상태이고 expiresAt이 지난 작업이 대상입니다.</p>
      * 
      * @param now 현재 시간
+     * @param pageable 조회 수 제한 (1회 삭제 단위)
+     * @return 작업 ID 목록
      */
-    @Modifying
-    @Query("DELETE FROM AsyncTask t WHERE t.status IN ('COMPLETED', 'FAILED') " +
+    @Query("SELECT t.taskId FROM AsyncTask t WHERE t.status IN ('COMPLETED', 'FAILED', 'CANCELLED') " +
            "AND t.expiresAt < :now")
-    void deleteExpiredTasks(@Param("now") LocalDateTime now);
+    List<String> findExpiredTaskIds(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * 작업 ID 목록으로 삭제.
+     * 
+     * @param taskIds 작업 ID 목록
+     * @return 삭제된 작업 수
+     */
+    @Modifying
+    @Query("DELETE FROM AsyncTask t WHERE t.taskId IN :taskIds")
+    int deleteByTaskIds(@Param("taskIds") Collection<String> taskIds);
+    
+    /**
+     * 사용자별 멱등성 키로 같은 유형의 작업 ID 조회.
+     * 
+     * <p>키는 사용자별로 고유하므로, 다른 유형의 작업에 쓰인 키는 조회되지 않습니다.</p>
+     * 
+     * @param userId 사용자 ID
+     * @param taskType 작업 유형
+     * @param idempotencyKey 멱등성 키
+     * @return 작업 ID (없으면 empty)
+     */
+    @Query("SELECT t.taskId FROM AsyncTask t WHERE t.userId = :userId AND t.taskType = :taskType "
+            + "AND t.idempotencyKey = :idempotencyKey")
+    Optional<String> findTaskIdByIdempotencyKey(@Param("userId") Long userId,
+                                                @Param("taskType") String taskType,
+                                                @Param("idempotencyKey") String idempotencyKey);
+    
+    /**
+     * 사용자가 멱등성 키를 이미 사용했는지 확인 (작업 유형 무관).
+     * 
+     * @param userId 사용자 ID
+     * @param idempotencyKey 멱등성 키
+     * @return 사용한 적이 있으면 true
+     */
+    boolean existsByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+    
+    /**
+     * 실행 임대 획득 (시도 횟수 증가).
+     * 
+     * <p>진행 중이고, 임대가 없거나 자신의 임대이거나 만료된 경우에만 성공합니다.</p>
+     * 
+     * @return 갱신된 행 수 (0이면 다른 인스턴스가 실행 중이거나 이미 종료된 작업)
+     */
+    @Modifying
+    @Query("UPDATE AsyncTask t SET t.leaseOwner = :owner, t.leaseExpiresAt = :until, " +
+           "t.attempts = COALESCE(t.attempts, 0) + 1 " +
+           "WHERE t.taskId = :taskId AND t.status = 'IN_PROGRESS' " +
+           "AND (t.leaseOwner IS NULL OR t.leaseOwner = :owner OR t.leaseExpiresAt < :now)")
+    int acquireLease(@Param("taskId") String taskId, @Param("owner") String owner,
+                     @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+    
+    /**
+     * 만료된 임대 회수 (다른 인스턴스/재시작 전 프로세스의 작업을 가져옴).
+     * 
+     * @return 갱신된 행 수 (0이면 이미 다른 인스턴스가 회수)
+     */
+    @Modifying
+    @Query("UPDATE AsyncTask t SET t.leaseOwner = :owner, t.leaseExpiresAt = :until " +
+           "WHERE t.taskId = :taskId AND t.status = 'IN_PROGRESS' " +
+           "AND (t.leaseExpiresAt IS NULL OR t.leaseExpiresAt < :now)")
+    int claimExpiredLease(@Param("taskId") String taskId, @Param("owner") String owner,
+                          @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+    
+    /**
+     * 임대 연장 (하트비트).
+     * 
+     * @return 연장된 행 수
+     */
+    @Modifying
+    @Query("UPDATE AsyncTask t SET t.leaseExpiresAt = :until " +
+           "WHERE t.taskId IN :taskIds AND t.leaseOwner = :owner AND t.status = 'IN_PROGRESS'")
+    int renewLeases(@Param("taskIds") Collection<String> taskIds, @Param("owner") String owner,
+                    @Param("until") LocalDateTime until);
+    
+    /**
+     * 임대를 가진 인스턴스만 작업을 종료 상태로 기록합니다 (작업과 같은 트랜잭션).
+     * 
+     * @return 갱신된 행 수 (0이면 임대를 잃었거나 이미 종료된 작업)
+     */
+    @Modifying
+    @Query("UPDATE AsyncTask t SET t.status = :status, t.resultData = :resultData, t.progress = 100, " +
+           "t.completedAt = :completedAt " +
+           "WHERE t.taskId = :taskId AND t.status = 'IN_PROGRESS' AND t.leaseOwner = :owner")
+    int completeLeased(@Param("taskId") String taskId, @Param("owner") String owner,
+                       @Param("status") TaskStatus status, @Param("resultData") String resultData,
+                       @Param("completedAt") LocalDateTime completedAt);
+    
+    /**
+     * 임대를 가진 인스턴스만 메모리의 종료 상태(실패/취소/대체)를 기록합니다 (Write-Behind flush).
+     * 
+     * @return 갱신된 행 수 (0이면 임대를 잃었거나 이미 종료된 작업)
+     * @see vibe.scon.scon_backend.service.AsyncTaskRegistry
+     */
+    @Modifying
+    @Query("UPDATE AsyncTask t SET t.status = :status, t.resultData = :resultData, t.errorMessage = :errorMessage, " +
+           "t.supersededBy = :supersededBy, t.progress = :progress, t.completedAt = :completedAt " +
+           "WHERE t.taskId = :taskId AND t.status = 'IN_PROGRESS' AND t.leaseOwner = :owner")
+    int finishLeased(@Param("taskId") String taskId, @Param("owner") String owner,
+                     @Param("status") TaskStatus status, @Param("resultData") String resultData,
+                     @Param("errorMessage") String errorMessage, @Param("supersededBy") String supersededBy,
+                     @Param("progress") Integer progress, @Param("completedAt") LocalDateTime completedAt);
+    
+    /**
+     * 실행 중인 인스턴스가 없는 작업을 취소합니다 (임대가 없거나, 자신의 임대이거나, 만료된 경우).
+     * 
+     * @return 갱신된 행 수 (0이면 다른 인스턴스가 실행 중이거나 이미 종료된 작업)
+     */
+    @Modifying
+    @Query("UPDATE AsyncTask t SET t.status = 'CANCELLED', t.completedAt = :now " +
+           "WHERE t.taskId = :taskId AND t.status = 'IN_PROGRESS' " +
+           "AND (t.leaseOwner IS NULL OR t.leaseOwner = :owner OR t.leaseExpiresAt < :now)")
+    int cancelUnleased(@Param("taskId") String taskId, @Param("owner") String owner,
+                       @Param("now") LocalDateTime now);
+    
+    /**
+     * 임대가 없거나 만료된 진행 중 작업 조회 (중단된 작업 복구용).
+     * 
+     * @param now 현재 시간
+     * @param pageable 조회 수 제한
+     * @return AsyncTask 목록 (오래된 순)
+     */
+    @Query("SELECT t FROM AsyncTask t WHERE t.status = 'IN_PROGRESS' " +
+           "AND (t.leaseExpiresAt IS NULL OR t.leaseExpiresAt < :now) ORDER BY t.createdAt")
+    List<AsyncTask> findOrphaned(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * 임대가 만료된 진행 중 작업을 실패 처리합니다 (복구하지 않는 작업).
+     * 
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE AsyncTask t SET t.status = 'FAILED', t.errorMessage = :errorMessage, t.completedAt = :now " +
+           "WHERE t.taskId = :taskId AND t.status = 'IN_PROGRESS' " +
+           "AND (t.leaseExpiresAt IS NULL OR t.leaseExpiresAt < :now)")
+    int failOrphaned(@Param("taskId") String taskId, @Param("errorMessage") String errorMessage,
+                     @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,86 @@
+package vibe.scon.scon_backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import vibe.scon.scon_backend.entity.JobSchedule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 반복 작업 스케줄 Repository.
+ *
+ * <p>모든 변경은 조건부 UPDATE로, 여러 인스턴스가 동시에 실행해도 한 인스턴스만 반영됩니다.</p>
+ *
+ * <h3>요구사항 추적:</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ * </ul>
+ *
+ * @see vibe.scon.scon_backend.entity.JobSchedule
+ */
+@Repository
+public interface JobScheduleRepository extends JpaRepository<JobSchedule, String> {
+
+    /**
+     * 스케줄 등록 (이미 있으면 무시).
+     *
+     * @return 등록된 행 수 (0이면 이미 등록됨)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_schedules (job_type, cron, next_run_at) " +
+                   "VALUES (:jobType, :cron, :nextRunAt) " +
+                   "ON CONFLICT(job_type) DO NOTHING",
+           nativeQuery = true)
+    int register(@Param("jobType") String jobType, @Param("cron") String cron,
+                 @Param("nextRunAt") LocalDateTime nextRunAt);
+
+    /**
+     * cron이 바뀐 스케줄의 다음 실행 시각을 다시 설정합니다.
+     *
+     * @return 갱신된 행 수 (0이면 cron 변경 없음)
+     */
+    @Modifying
+    @Query("UPDATE JobSchedule s SET s.cron = :cron, s.nextRunAt = :nextRunAt " +
+           "WHERE s.jobType = :jobType AND s.cron <> :cron")
+    int reschedule(@Param("jobType") String jobType, @Param("cron") String cron,
+                   @Param("nextRunAt") LocalDateTime nextRunAt);
+
+    /**
+     * 실행 시각이 된 스케줄 조회.
+     */
+    @Query("SELECT s FROM JobSchedule s WHERE s.nextRunAt <= :now ORDER BY s.nextRunAt")
+    List<JobSchedule> findDue(@Param("now") LocalDateTime now);
+
+    /**
+     * 실행 선점 (다음 실행 시각을 조회한 값에서 새 값으로 바꾼 인스턴스만 실행).
+     *
+     * @return 갱신된 행 수 (0이면 다른 인스턴스가 먼저 선점)
+     */
+    @Modifying
+    @Query("UPDATE JobSchedule s SET s.nextRunAt = :nextRunAt, s.lastRunAt = :now " +
+           "WHERE s.jobType = :jobType AND s.nextRunAt = :expected")
+    int claim(@Param("jobType") String jobType, @Param("expected") LocalDateTime expected,
+              @Param("nextRunAt") LocalDateTime nextRunAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 선점 되돌리기 (작업 접수가 거부된 경우 다음 조회에서 다시 실행).
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE JobSchedule s SET s.nextRunAt = :previous " +
+           "WHERE s.jobType = :jobType AND s.nextRunAt = :claimed")
+    int unclaim(@Param("jobType") String jobType, @Param("claimed") LocalDateTime claimed,
+                @Param("previous") LocalDateTime previous);
+
+    /**
+     * 마지막 실행 작업 ID 기록.
+     */
+    @Modifying
+    @Query("UPDATE JobSchedule s SET s.lastTaskId = :taskId WHERE s.jobType = :jobType")
+    int recordTask(@Param("jobType") String jobType, @Param("taskId") String taskId);
+}
@@ -0,0 +1,50 @@
+package vibe.scon.scon_backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import vibe.scon.scon_backend.entity.RateLimitCounter;
+
+/**
+ * 공유 Rate Limit 카운터 Repository.
+ *
+ * <h3>요구사항 추적:</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-002} - 백엔드 보안 강화 (Rate Limiting)</li>
+ * </ul>
+ *
+ * @see vibe.scon.scon_backend.entity.RateLimitCounter
+ */
+@Repository
+public interface RateLimitCounterRepository extends JpaRepository<RateLimitCounter, String> {
+
+    /**
+     * 카운터에 증가분을 더합니다 (없으면 생성).
+     *
+     * <p>SQLite UPSERT로 인스턴스 간 동시 반영 시에도 증가분이 유실되지 않습니다.</p>
+     *
+     * @param bucketKey       버킷 키 + 윈도우 번호
+     * @param delta           증가분
+     * @param windowEndMillis 윈도우 종료 시각 (epoch millis)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO rate_limit_counters (bucket_key, hits, window_end_millis) " +
+                   "VALUES (:bucketKey, :delta, :windowEndMillis) " +
+                   "ON CONFLICT(bucket_key) DO UPDATE SET hits = hits + excluded.hits",
+           nativeQuery = true)
+    void addHits(@Param("bucketKey") String bucketKey,
+                 @Param("delta") long delta,
+                 @Param("windowEndMillis") long windowEndMillis);
+
+    /**
+     * 종료된 윈도우의 카운터 삭제.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 삭제된 카운터 수
+     */
+    @Modifying
+    @Query("DELETE FROM RateLimitCounter c WHERE c.windowEndMillis < :nowMillis")
+    int deleteExpired(@Param("nowMillis") long nowMillis);
+}
@@ -1,5 +1,6 @@
 package vibe.scon.scon_backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import vibe.scon.scon_backend.entity.RefreshToken;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,15 +73,25 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     void deleteByOwnerId(@Param("ownerId") Long ownerId);
 
     /**
-     * 만료된 Refresh Token 삭제.
+     * 만료된 Refresh Token ID 조회.
      * 
-     * <p>주기적으로 실행되는 스케줄링 작업에서 사용됩니다.
-     * 만료 시간이 현재 시간보다 이전인 토큰을 삭제합니다.</p>
+     * <p>보존 기간 정리 작업에서 {@code idx_refresh_tokens_expires_at} 인덱스로 일정 수씩 조회합니다.</p>
      * 
      * @param now 현재 시간
+     * @param pageable 조회 수 제한 (1회 삭제 단위)
+     * @return 토큰 ID 목록
+     */
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.expiresAt < :now")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 토큰 ID 목록으로 삭제.
+     * 
+     * @param ids 토큰 ID 목록
+     * @return 삭제된 토큰 수
      */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
-    void deleteByExpiresAtBefore(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
 
@@ -1,12 +1,15 @@
 package vibe.scon.scon_backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import vibe.scon.scon_backend.entity.Schedule;
 import vibe.scon.scon_backend.entity.enums.ScheduleStatus;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +46,15 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
      * @return 스케줄 목록
      */
     List<Schedule> findByStatus(ScheduleStatus status);
+
+    /**
+     * 스케줄의 매장 ID 조회 (소유권 확인용, 엔티티를 로딩하지 않음)
+     * 
+     * @param scheduleId 스케줄 ID
+     * @return 매장 ID
+     */
+    @Query("SELECT s.store.id FROM Schedule s WHERE s.id = :scheduleId")
+    Optional<Long> findStoreIdById(@Param("scheduleId") Long scheduleId);
     
     /**
      * 특정 매장의 특정 상태 스케줄 목록 조회
@@ -88,5 +100,21 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             @Param("ownerId") Long ownerId,
             @Param("start") LocalDate start, 
             @Param("end") LocalDate end);
-}
 
+    /**
+     * 매장들의 해당 주차 Draft 스케줄을 한 번의 INSERT로 생성합니다 (이미 있는 매장은 건너뜀).
+     *
+     * <p>같은 주차 스케줄이 있는 매장은 제외하므로 여러 번 실행해도 결과가 같습니다.</p>
+     *
+     * @return 생성된 스케줄 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO schedules (store_id, week_start_date, status, created_at, updated_at) " +
+                   "SELECT st.id, :weekStartDate, 'DRAFT', :now, :now FROM stores st WHERE st.id IN (:storeIds) " +
+                   "AND NOT EXISTS (SELECT 1 FROM schedules s " +
+                   "WHERE s.store_id = st.id AND s.week_start_date = :weekStartDate)",
+           nativeQuery = true)
+    int insertDraftsIfAbsent(@Param("storeIds") Collection<Long> storeIds,
+                             @Param("weekStartDate") LocalDate weekStartDate,
+                             @Param("now") LocalDateTime now);
+}
@@ -1,6 +1,9 @@
 package vibe.scon.scon_backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import vibe.scon.scon_backend.entity.Store;
 
 import java.util.List;
@@ -28,5 +31,31 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      * @return 매장 목록
      */
     List<Store> findByOwnerId(Long ownerId);
-}
 
+    /**
+     * 특정 Owner가 소유한 매장 ID 목록 조회 (소유권 캐시 적재용).
+     * 
+     * <p>엔티티를 로딩하지 않고 ID만 조회합니다.</p>
+     * 
+     * @param ownerId Owner ID
+     * @return 매장 ID 목록
+     */
+    @Query("SELECT s.id FROM Store s WHERE s.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * 현재 가장 큰 매장 ID 조회 (소유권 캐시 적재 시점 기록용).
+     * 
+     * @return 최대 매장 ID (매장이 없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Store s")
+    long findMaxId();
+
+    /**
+     * ID 순서로 매장 ID를 나누어 조회합니다 (keyset 페이지).
+     *
+     * @param afterId 이전 페이지의 마지막 ID (처음은 0)
+     */
+    @Query("SELECT s.id FROM Store s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
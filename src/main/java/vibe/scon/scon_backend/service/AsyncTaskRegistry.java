@@ -0,0 +1,473 @@
+package vibe.scon.scon_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.AsyncTaskProperties;
+import vibe.scon.scon_backend.entity.AsyncTask;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.exception.ResourceNotFoundException;
+import vibe.scon.scon_backend.repository.AsyncTaskRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 작업 상태 레지스트리 (메모리 + Write-Behind 영속화).
+ *
+ * <p>진행 중인 작업의 상태를 메모리에 보관하여 {@code GET /api/v1/tasks/{taskId}} 폴링과
+ * 진행률 갱신이 DB에 접근하지 않도록 합니다. 작업 행은 접수 시 {@link vibe.scon.scon_backend.service.job.JobQueueStore}가
+ * 즉시 INSERT한 뒤 {@link #adopt(AsyncTask, String)}로 등록하며, 이후 종료 상태만
+ * {@code flush-interval}마다 {@code batch-size} 단위 트랜잭션으로 일괄 기록합니다.</p>
+ *
+ * <h3>동작 방식:</h3>
+ * <ul>
+ *   <li>실패/취소/대체(FAILED, CANCELLED) 시 해당 작업을 반영 대상으로 표시합니다. 반영은 행이 아직 IN_PROGRESS이고
+ *       이 인스턴스가 임대를 가진 경우에만 적용되며({@code finishLeased}), 그 사이 다른 인스턴스가 가져갔거나
+ *       이미 종료된 작업은 메모리에서 제거하고 DB 상태를 따릅니다.</li>
+ *   <li>완료(COMPLETED)는 작업과 같은 트랜잭션에서 임대 조건으로 이미 기록되므로
+ *       {@link #completePersisted(String, TaskStatus, String)}로 메모리에만 반영합니다.</li>
+ *   <li>진행률 변경은 메모리에만 반영합니다.</li>
+ *   <li>종료 상태가 DB에 반영된 작업은 {@code retain-after-completion} 동안 메모리에 남은 뒤 제거되고,
+ *       이후 조회는 DB에서 처리합니다.</li>
+ *   <li>진행률/종료 변경은 {@link #subscribe(String, Consumer)}로 등록한 리스너에 즉시 전달됩니다
+ *       (SSE/Long-poll 상태 스트림).</li>
+ * </ul>
+ *
+ * <h3>주의사항:</h3>
+ * <ul>
+ *   <li>DB 반영 실패 시 변경은 메모리에 유지되어 다음 주기에 재시도됩니다.</li>
+ *   <li>종료 시({@link PreDestroy}) 남은 변경을 반영하지만, 비정상 종료 시 마지막 주기의 변경은 유실될 수 있습니다.</li>
+ *   <li>메모리 상태는 인스턴스 로컬이므로 다른 인스턴스가 만든 작업은 DB 조회로 처리됩니다.</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (작업 상태 폴링 DB 부하 제거)</li>
+ * </ul>
+ *
+ * @see AsyncTaskService
+ */
+@Slf4j
+@Component
+public class AsyncTaskRegistry {
+
+    private static final String SUPERSEDED_MESSAGE = "같은 대상의 최신 요청으로 대체되었습니다";
+
+    private final AsyncTaskRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskProperties properties;
+    private final Clock clock;
+
+    private final Map<String, TaskEntry> tasks = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Consumer<AsyncTask>>> listeners = new ConcurrentHashMap<>();
+
+    private final Counter persisted;
+    private final Counter flushFailures;
+
+    @Autowired
+    public AsyncTaskRegistry(
+            AsyncTaskRepository repository,
+            PlatformTransactionManager transactionManager,
+            AppProperties appProperties,
+            MeterRegistry meterRegistry) {
+        this(repository, transactionManager, appProperties.getAsyncTask(),
+                meterRegistry, Clock.systemDefaultZone());
+    }
+
+    AsyncTaskRegistry(
+            AsyncTaskRepository repository,
+            PlatformTransactionManager transactionManager,
+            AsyncTaskProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+
+        Gauge.builder("async.tasks.live", tasks, Map::size)
+                .description("Async tasks held in memory")
+                .register(meterRegistry);
+        Gauge.builder("async.tasks.pending.writes", dirty, Set::size)
+                .description("Async task state changes waiting for write-behind")
+                .register(meterRegistry);
+        this.persisted = Counter.builder("async.tasks.persisted")
+                .description("Async task rows written by write-behind flush")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("async.tasks.flush.failures")
+                .description("Failed write-behind flushes (retried next interval)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 DB에 저장된 작업을 메모리에 등록합니다 (즉시 저장한 작업, 복구한 작업).
+     *
+     * @param leaseOwner 이 인스턴스의 임대 소유자 ID (종료 상태 반영 조건)
+     */
+    public void adopt(AsyncTask task, String leaseOwner) {
+        tasks.put(task.getTaskId(), TaskEntry.loaded(task, leaseOwner));
+    }
+
+    /**
+     * 작업을 메모리에서 제거합니다 (다른 인스턴스가 실행을 가져간 작업). 이후 조회는 DB에서 처리합니다.
+     */
+    public void forget(String taskId) {
+        tasks.remove(taskId);
+        dirty.remove(taskId);
+    }
+
+    /**
+     * 진행률을 갱신합니다 (메모리에만 반영).
+     */
+    public void updateProgress(String taskId, int progress) {
+        if (progress < 0 || progress > 100) {
+            throw new IllegalArgumentException("Progress must be between 0 and 100");
+        }
+        TaskEntry entry = entry(taskId);
+        entry.updateProgress(progress);
+        notifyListeners(taskId, entry);
+    }
+
+    /**
+     * 종료 상태를 기록합니다 (DB 반영은 다음 flush).
+     *
+     * @param status COMPLETED, FAILED 또는 CANCELLED
+     * @param resultData 결과 데이터 (JSON, null 가능)
+     * @param errorMessage 에러 메시지 (null 가능)
+     */
+    public void complete(String taskId, TaskStatus status, String resultData, String errorMessage) {
+        if (status == TaskStatus.IN_PROGRESS) {
+            throw new IllegalArgumentException("Terminal status required: " + status);
+        }
+        TaskEntry entry = entry(taskId);
+        entry.complete(status, resultData, errorMessage, LocalDateTime.now(clock));
+        dirty.add(taskId);
+        notifyListeners(taskId, entry);
+    }
+
+    /**
+     * 이미 DB에 기록된 종료 상태를 메모리에만 반영합니다 (반영 대상으로 표시하지 않음).
+     *
+     * <p>메모리에 없는 작업은 DB 상태가 최신이므로 무시합니다.</p>
+     *
+     * @param status COMPLETED, FAILED 또는 CANCELLED
+     * @param resultData 결과 데이터 (JSON, null 가능)
+     */
+    public void completePersisted(String taskId, TaskStatus status, String resultData) {
+        if (status == TaskStatus.IN_PROGRESS) {
+            throw new IllegalArgumentException("Terminal status required: " + status);
+        }
+        TaskEntry entry = tasks.get(taskId);
+        if (entry == null) {
+            return;
+        }
+        entry.completePersisted(status, resultData, LocalDateTime.now(clock));
+        dirty.remove(taskId);
+        notifyListeners(taskId, entry);
+    }
+
+    /**
+     * 같은 대상의 최신 요청으로 대체된 작업을 CANCELLED로 기록합니다 (DB 반영은 다음 flush).
+     *
+     * @param winnerTaskId 대체한 작업 ID
+     */
+    public void supersede(String taskId, String winnerTaskId) {
+        TaskEntry entry = entry(taskId);
+        entry.supersede(winnerTaskId, LocalDateTime.now(clock));
+        dirty.add(taskId);
+        notifyListeners(taskId, entry);
+    }
+
+    /**
+     * 작업 상태 변경 리스너를 등록합니다.
+     *
+     * <p>리스너는 상태를 변경한 스레드(작업 스레드)에서 호출되므로 블로킹 작업을 수행하면 안 됩니다.
+     * 등록 직전의 변경은 전달되지 않으므로, 등록 후 {@link #find(String)}로 현재 상태를 한 번 확인해야 합니다.</p>
+     *
+     * @return 등록 해제 핸들
+     */
+    public Runnable subscribe(String taskId, Consumer<AsyncTask> listener) {
+        listeners.computeIfAbsent(taskId, id -> ConcurrentHashMap.newKeySet()).add(listener);
+        return () -> listeners.computeIfPresent(taskId, (id, set) -> {
+            set.remove(listener);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 메모리에 있는 작업 상태를 조회합니다.
+     *
+     * @return 영속화되지 않은 AsyncTask 스냅샷 (메모리에 없으면 empty)
+     */
+    public Optional<AsyncTask> find(String taskId) {
+        TaskEntry entry = tasks.get(taskId);
+        return entry != null ? Optional.of(entry.toEntity()) : Optional.empty();
+    }
+
+    int listenerCount() {
+        return listeners.values().stream().mapToInt(Set::size).sum();
+    }
+
+    int size() {
+        return tasks.size();
+    }
+
+    int pendingWrites() {
+        return dirty.size();
+    }
+
+    /**
+     * 쌓인 종료 상태를 DB에 일괄 반영하고, 반영이 끝난 오래된 종료 작업을 메모리에서 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.async-task.flush-interval:PT0.5S}")
+    public synchronized void flush() {
+        List<String> ids = new ArrayList<>(dirty);
+        for (int from = 0; from < ids.size(); from += properties.getBatchSize()) {
+            List<String> chunk = ids.subList(from, Math.min(from + properties.getBatchSize(), ids.size()));
+            if (!writeBatch(chunk)) {
+                break;
+            }
+        }
+        evictCompleted();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!dirty.isEmpty()) {
+            log.warn("Async task write-behind incomplete on shutdown: {} tasks not persisted", dirty.size());
+        }
+    }
+
+    private boolean writeBatch(List<String> chunk) {
+        List<Snapshot> snapshots = new ArrayList<>(chunk.size());
+        for (String taskId : chunk) {
+            // 반영 도중 다시 변경되면 다음 주기에 재기록되도록 스냅샷 이전에 표시 해제
+            dirty.remove(taskId);
+            TaskEntry entry = tasks.get(taskId);
+            if (entry != null) {
+                snapshots.add(entry.snapshot());
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return true;
+        }
+
+        try {
+            List<String> fenced = transactionTemplate.execute(status -> {
+                List<String> rejected = new ArrayList<>();
+                for (Snapshot snapshot : snapshots) {
+                    AsyncTask task = snapshot.task;
+                    int updated = repository.finishLeased(task.getTaskId(), snapshot.leaseOwner, task.getStatus(),
+                            task.getResultData(), task.getErrorMessage(), task.getSupersededBy(),
+                            task.getProgress(), task.getCompletedAt());
+                    if (updated != 1) {
+                        rejected.add(task.getTaskId());
+                    }
+                }
+                return rejected;
+            });
+            for (Snapshot snapshot : snapshots) {
+                String taskId = snapshot.task.getTaskId();
+                if (fenced != null && fenced.contains(taskId)) {
+                    // 이미 종료되었거나 다른 인스턴스가 임대를 가져간 작업: DB 상태를 따름
+                    log.info("Async task state not written (already finished or lease lost). taskId: {}, status: {}",
+                            taskId, snapshot.task.getStatus());
+                    forget(taskId);
+                } else {
+                    tasks.computeIfPresent(taskId, (id, entry) -> entry.markPersisted(snapshot.version));
+                }
+            }
+            persisted.increment(snapshots.size() - (fenced != null ? fenced.size() : 0));
+            log.debug("Async task states flushed: {} tasks", snapshots.size());
+            return true;
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.warn("Failed to flush async task states, will retry: {}", e.getMessage());
+            snapshots.forEach(snapshot -> dirty.add(snapshot.task.getTaskId()));
+            return false;
+        }
+    }
+
+    private void notifyListeners(String taskId, TaskEntry entry) {
+        Set<Consumer<AsyncTask>> subscribers = listeners.get(taskId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        AsyncTask state = entry.toEntity();
+        for (Consumer<AsyncTask> listener : subscribers) {
+            try {
+                listener.accept(state);
+            } catch (Exception e) {
+                log.warn("Async task listener failed. taskId: {}, error: {}", taskId, e.getMessage());
+            }
+        }
+    }
+
+    private void evictCompleted() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getRetainAfterCompletion());
+        Iterator<Map.Entry<String, TaskEntry>> iterator = tasks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, TaskEntry> next = iterator.next();
+            if (!dirty.contains(next.getKey()) && next.getValue().isEvictable(cutoff)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private TaskEntry entry(String taskId) {
+        TaskEntry entry = tasks.get(taskId);
+        if (entry != null) {
+            return entry;
+        }
+        // 메모리에서 제거된 작업 (재시작 이전 작업 등)은 DB 상태로 다시 적재.
+        // 임대 소유자도 행에서 읽어야 임대를 가진 실행의 종료 상태가 반영 조건을 통과함
+        AsyncTask task = repository.findByTaskId(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("작업을 찾을 수 없습니다: " + taskId));
+        return tasks.computeIfAbsent(taskId, id -> TaskEntry.loaded(task, task.getLeaseOwner()));
+    }
+
+    /**
+     * 반영 시점의 상태와 버전.
+     */
+    private static final class Snapshot {
+        private final AsyncTask task;
+        private final String leaseOwner;
+        private final long version;
+
+        private Snapshot(AsyncTask task, String leaseOwner, long version) {
+            this.task = task;
+            this.leaseOwner = leaseOwner;
+            this.version = version;
+        }
+    }
+
+    /**
+     * 작업 한 건의 메모리 상태.
+     *
+     * <p>{@code version}은 DB 반영 대상 변경(종료)마다 증가하며,
+     * {@code persistedVersion}과 같으면 DB와 일치하는 상태입니다.</p>
+     */
+    private static final class TaskEntry {
+
+        private final String taskId;
+        private final String taskType;
+        private final Long userId;
+        private final String requestData;
+        private final LocalDateTime startedAt;
+        private final LocalDateTime expiresAt;
+        // 종료 상태 반영 조건 (null이면 이 인스턴스가 임대를 갖지 않은 작업으로, 반영되지 않음)
+        private final String leaseOwner;
+
+        private TaskStatus status = TaskStatus.IN_PROGRESS;
+        private int progress;
+        private String resultData;
+        private String errorMessage;
+        private LocalDateTime completedAt;
+        private String supersededBy;
+        private long version = 1;
+        private long persistedVersion;
+
+        private TaskEntry(String taskId, String taskType, Long userId, String requestData,
+                          LocalDateTime startedAt, LocalDateTime expiresAt, String leaseOwner) {
+            this.taskId = taskId;
+            this.taskType = taskType;
+            this.userId = userId;
+            this.requestData = requestData;
+            this.startedAt = startedAt;
+            this.expiresAt = expiresAt;
+            this.leaseOwner = leaseOwner;
+        }
+
+        static TaskEntry loaded(AsyncTask task, String leaseOwner) {
+            TaskEntry entry = new TaskEntry(task.getTaskId(), task.getTaskType(), task.getUserId(),
+                    task.getRequestData(), task.getStartedAt(), task.getExpiresAt(), leaseOwner);
+            entry.status = task.getStatus();
+            entry.progress = task.getProgress() != null ? task.getProgress() : 0;
+            entry.resultData = task.getResultData();
+            entry.errorMessage = task.getErrorMessage();
+            entry.completedAt = task.getCompletedAt();
+            entry.supersededBy = task.getSupersededBy();
+            entry.persistedVersion = entry.version;
+            return entry;
+        }
+
+        synchronized void updateProgress(int progress) {
+            this.progress = progress;
+        }
+
+        synchronized void complete(TaskStatus status, String resultData, String errorMessage,
+                                   LocalDateTime completedAt) {
+            this.status = status;
+            this.resultData = resultData;
+            this.errorMessage = errorMessage;
+            this.completedAt = completedAt;
+            if (status == TaskStatus.COMPLETED) {
+                this.progress = 100;
+            }
+            this.version++;
+        }
+
+        synchronized void completePersisted(TaskStatus status, String resultData, LocalDateTime completedAt) {
+            complete(status, resultData, null, completedAt);
+            this.persistedVersion = version;
+        }
+
+        synchronized void supersede(String winnerTaskId, LocalDateTime completedAt) {
+            this.supersededBy = winnerTaskId;
+            complete(TaskStatus.CANCELLED, null, SUPERSEDED_MESSAGE, completedAt);
+        }
+
+        synchronized Snapshot snapshot() {
+            return new Snapshot(toEntity(), leaseOwner, version);
+        }
+
+        synchronized TaskEntry markPersisted(long persisted) {
+            this.persistedVersion = Math.max(persistedVersion, persisted);
+            return this;
+        }
+
+        synchronized boolean isEvictable(LocalDateTime cutoff) {
+            return status != TaskStatus.IN_PROGRESS
+                    && persistedVersion == version
+                    && completedAt != null
+                    && completedAt.isBefore(cutoff);
+        }
+
+        synchronized AsyncTask toEntity() {
+            return AsyncTask.builder()
+                    .taskId(taskId)
+                    .status(status)
+                    .taskType(taskType)
+                    .userId(userId)
+                    .requestData(requestData)
+                    .resultData(resultData)
+                    .errorMessage(errorMessage)
+                    .progress(progress)
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .expiresAt(expiresAt)
+                    .supersededBy(supersededBy)
+                    .build();
+        }
+    }
+}
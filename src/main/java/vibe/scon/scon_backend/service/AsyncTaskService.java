@@ -1,23 +1,22 @@
 package vibe.scon.scon_backend.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import vibe.scon.scon_backend.dto.async.AsyncTaskResponseDto;
 import vibe.scon.scon_backend.entity.AsyncTask;
 import vibe.scon.scon_backend.entity.enums.TaskStatus;
 import vibe.scon.scon_backend.exception.ResourceNotFoundException;
 import vibe.scon.scon_backend.repository.AsyncTaskRepository;
 
-import java.time.LocalDateTime;
-import java.util.UUID;
-
 /**
  * 비동기 작업 관리 서비스.
  * 
- * <p>비동기 작업의 생성, 상태 업데이트, 조회 등을 담당합니다.</p>
+ * <p>비동기 작업의 상태 업데이트, 조회 등을 담당합니다.</p>
+ * 
+ * <p>작업 상태는 {@link AsyncTaskRegistry}의 메모리에서 관리됩니다. 진행률 갱신과 상태 조회는 DB에 접근하지 않으며,
+ * 종료 상태만 Write-Behind로 일괄 저장됩니다. 메모리에 없는 작업은 DB에서 조회합니다.
+ * 작업 생성은 {@link vibe.scon.scon_backend.service.job.AsyncJobDispatcher#submit}이 담당합니다.</p>
  * 
  * <h3>요구사항 추적:</h3>
  * <ul>
@@ -29,107 +28,78 @@ import java.util.UUID;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AsyncTaskService {
     
+    // async_tasks.error_message 컬럼 길이
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+    
     private final AsyncTaskRepository asyncTaskRepository;
-    private final ObjectMapper objectMapper;
+    private final AsyncTaskRegistry asyncTaskRegistry;
+    private final TaskPayloadCodec taskPayloadCodec;
     
     /**
-     * 비동기 작업을 생성합니다.
+     * 작업 상태를 업데이트합니다.
      * 
-     * @param taskType 작업 유형 (예: SCHEDULE_UPDATE, STORE_CREATE)
-     * @param userId 요청자 ID (Owner ID)
-     * @param requestData 요청 데이터 (객체)
-     * @return 생성된 작업 ID (UUID)
+     * @param taskId 작업 ID
+     * @param status 새로운 상태 (COMPLETED, FAILED, CANCELLED)
+     * @param result 결과 데이터 (객체, null 가능)
      */
-    @Transactional
-    public String createTask(String taskType, Long userId, Object requestData) {
-        String taskId = UUID.randomUUID().toString();
-        
+    public void updateTaskStatus(String taskId, TaskStatus status, Object result) {
+        String encodedResult = null;
         try {
-            String requestDataJson = requestData != null 
-                    ? objectMapper.writeValueAsString(requestData)
-                    : null;
-            
-            AsyncTask task = AsyncTask.builder()
-                    .taskId(taskId)
-                    .status(TaskStatus.IN_PROGRESS)
-                    .taskType(taskType)
-                    .userId(userId)
-                    .requestData(requestDataJson)
-                    .progress(0)
-                    .startedAt(LocalDateTime.now())
-                    .expiresAt(LocalDateTime.now().plusHours(24))
-                    .build();
-            
-            asyncTaskRepository.save(task);
-            log.info("Async task created. taskId: {}, taskType: {}, userId: {}", 
-                    taskId, taskType, userId);
-            
-            return taskId;
+            encodedResult = taskPayloadCodec.encodeResult(result);
         } catch (Exception e) {
-            log.error("Failed to create async task. taskType: {}, userId: {}", taskType, userId, e);
-            throw new RuntimeException("Failed to create async task", e);
+            log.error("Failed to serialize result data. taskId: {}", taskId, e);
         }
+        
+        asyncTaskRegistry.complete(taskId, status, encodedResult, null);
+        log.debug("Task status updated. taskId: {}, status: {}", taskId, status);
     }
     
     /**
-     * 작업 상태를 업데이트합니다.
+     * 이미 인코딩된 결과로 작업을 완료 처리합니다 (DB에 완료가 기록된 작업의 메모리 상태만 반영, 다시 쓰지 않음).
      * 
      * @param taskId 작업 ID
-     * @param status 새로운 상태
-     * @param result 결과 데이터 (객체, null 가능)
+     * @param encodedResult {@link TaskPayloadCodec#encodeResult(Object)}로 인코딩된 결과 (null 가능)
      */
-    @Transactional
-    public void updateTaskStatus(String taskId, TaskStatus status, Object result) {
-        AsyncTask task = asyncTaskRepository.findByTaskId(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("작업을 찾을 수 없습니다: " + taskId));
-        
-        task.updateStatus(status);
-        
-        if (result != null) {
-            try {
-                String resultDataJson = objectMapper.writeValueAsString(result);
-                task.setResultData(resultDataJson);
-            } catch (Exception e) {
-                log.error("Failed to serialize result data. taskId: {}", taskId, e);
-            }
-        }
-        
-        asyncTaskRepository.save(task);
-        log.debug("Task status updated. taskId: {}, status: {}", taskId, status);
+    public void completeTask(String taskId, String encodedResult) {
+        asyncTaskRegistry.completePersisted(taskId, TaskStatus.COMPLETED, encodedResult);
+        log.debug("Task completed. taskId: {}", taskId);
     }
     
     /**
-     * 작업 진행률을 업데이트합니다.
+     * 작업 진행률을 업데이트합니다 (메모리에만 반영).
      * 
      * @param taskId 작업 ID
      * @param progress 진행률 (0-100)
      */
-    @Transactional
     public void updateTaskProgress(String taskId, Integer progress) {
-        AsyncTask task = asyncTaskRepository.findByTaskId(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("작업을 찾을 수 없습니다: " + taskId));
-        
-        task.updateProgress(progress);
-        asyncTaskRepository.save(task);
+        asyncTaskRegistry.updateProgress(taskId, progress);
     }
     
     /**
-     * 에러 메시지를 설정합니다.
+     * 같은 대상의 최신 요청으로 대체된 작업을 CANCELLED로 기록합니다.
+     * 
+     * @param taskId 대체된 작업 ID
+     * @param winnerTaskId 대체한 (실행될) 작업 ID
+     */
+    public void supersedeTask(String taskId, String winnerTaskId) {
+        asyncTaskRegistry.supersede(taskId, winnerTaskId);
+        log.debug("Task superseded. taskId: {}, supersededBy: {}", taskId, winnerTaskId);
+    }
+    
+    /**
+     * 작업을 실패 처리합니다 (상태와 에러 메시지를 한 번에 기록).
      * 
      * @param taskId 작업 ID
      * @param errorMessage 에러 메시지
      */
-    @Transactional
-    public void setErrorMessage(String taskId, String errorMessage) {
-        AsyncTask task = asyncTaskRepository.findByTaskId(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("작업을 찾을 수 없습니다: " + taskId));
-        
-        task.setErrorMessage(errorMessage);
-        asyncTaskRepository.save(task);
-        log.warn("Task failed. taskId: {}, error: {}", taskId, errorMessage);
+    public void failTask(String taskId, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+        asyncTaskRegistry.complete(taskId, TaskStatus.FAILED, null, message);
+        log.warn("Task failed. taskId: {}, error: {}", taskId, message);
     }
     
     /**
@@ -139,20 +109,20 @@ public class AsyncTaskService {
      * @return AsyncTaskResponseDto
      */
     public AsyncTaskResponseDto getTaskStatus(String taskId) {
-        AsyncTask task = asyncTaskRepository.findByTaskId(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("작업을 찾을 수 없습니다: " + taskId));
-        
-        return AsyncTaskResponseDto.from(task);
+        return AsyncTaskResponseDto.from(getTask(taskId));
     }
     
     /**
      * 작업 엔티티를 조회합니다 (내부 사용).
      * 
+     * <p>메모리에 있는 작업은 영속화되지 않은 스냅샷을 반환합니다.</p>
+     * 
      * @param taskId 작업 ID
      * @return AsyncTask
      */
     public AsyncTask getTask(String taskId) {
-        return asyncTaskRepository.findByTaskId(taskId)
+        return asyncTaskRegistry.find(taskId)
+                .or(() -> asyncTaskRepository.findByTaskId(taskId))
                 .orElseThrow(() -> new ResourceNotFoundException("작업을 찾을 수 없습니다: " + taskId));
     }
 }
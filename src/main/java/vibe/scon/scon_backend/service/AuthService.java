@@ -54,6 +54,7 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginAttemptTracker loginAttemptTracker;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -135,7 +136,8 @@ public class AuthService {
      * @throws ResourceNotFoundException 이메일이 존재하지 않는 경우
      * @throws BadRequestException 비밀번호가 일치하지 않는 경우 (TC-AUTH-005)
      */
-    @Transactional
+    // 로그인 실패(BadRequestException) 시에도 잠금 기록은 커밋되어야 함
+    @Transactional(noRollbackFor = BadRequestException.class)
     public TokenResponseDto login(LoginRequestDto request) {
         log.info("Login attempt for email: {}", request.getEmail());
 
@@ -167,23 +169,28 @@ public class AuthService {
             // 비밀번호 검증 (TC-AUTH-005)
             // POC-BE-SEC-002: 이메일 존재 여부 노출 방지 - 동일한 메시지 반환
             if (!passwordEncoder.matches(request.getPassword(), owner.getPassword())) {
-                owner.incrementFailedAttempts();
+                // 실패 횟수는 메모리에서 집계하고, 잠금 시점에만 DB에 기록
+                int failedAttempts = loginAttemptTracker.recordFailure(owner.getId());
                 
-                // 5회 실패 시 30분 잠금
-                if (owner.getFailedLoginAttempts() >= 5) {
-                    owner.lockAccount(30);
+                // 5회 실패 시 30분 잠금 (app.login-lockout)
+                if (loginAttemptTracker.shouldLock(failedAttempts)) {
+                    owner.lockAccount(loginAttemptTracker.lockMinutes(), failedAttempts);
+                    ownerRepository.save(owner);
+                    loginAttemptTracker.reset(owner.getId());
                     log.warn("Account locked due to too many failed attempts. email: {}, ownerId: {}", 
                             request.getEmail(), owner.getId());
                 }
                 
-                ownerRepository.save(owner);
                 log.warn("Login failed - invalid password for email: {}", request.getEmail());
                 throw new BadRequestException("이메일 또는 비밀번호가 올바르지 않습니다");
             }
 
-            // 성공 시 실패 횟수 리셋
-            owner.resetFailedAttempts();
-            ownerRepository.save(owner);
+            // 성공 시 실패 횟수 리셋 (DB에 남은 실패/잠금 기록이 있을 때만 쓰기)
+            loginAttemptTracker.reset(owner.getId());
+            if (owner.hasFailedAttemptState()) {
+                owner.resetFailedAttempts();
+                ownerRepository.save(owner);
+            }
 
             log.info("Login successful. ownerId: {}, email: {}", owner.getId(), owner.getEmail());
 
@@ -47,6 +47,7 @@ public class EmployeeService {
     private final ShiftRepository shiftRepository;
     private final AvailabilitySubmissionRepository availabilitySubmissionRepository;
     private final EncryptionUtil encryptionUtil;
+    private final StoreOwnershipCache ownershipCache;
 
     /**
      * 직원 등록.
@@ -67,7 +68,7 @@ public class EmployeeService {
      */
     @Transactional
     public EmployeeResponseDto createEmployee(Long ownerId, Long storeId, EmployeeRequestDto request) {
-        log.info("Creating employee. ownerId: {}, storeId: {}, employeeName: {}", 
+        log.debug("Creating employee. ownerId: {}, storeId: {}, employeeName: {}", 
                 ownerId, storeId, request.getName());
 
         // 매장 조회 및 소유권 확인
@@ -154,8 +155,8 @@ public class EmployeeService {
     public List<EmployeeResponseDto> getEmployeesByStore(Long ownerId, Long storeId) {
         log.debug("Getting employees for store. storeId: {}, ownerId: {}", storeId, ownerId);
 
-        // 매장 소유권 확인 (1차 검증)
-        getStoreAndValidateOwnership(storeId, ownerId);
+        // 매장 소유권 확인 (1차 검증) - 캐시 적중 시 매장 행을 로딩하지 않음
+        ownershipCache.requireOwner(ownerId, storeId);
 
         // ownerId를 포함한 쿼리로 변경 (2차 검증 - 방어적 프로그래밍)
         // POC-BE-SEC-001: 데이터 격리 및 접근 제어 개선
@@ -183,7 +184,7 @@ public class EmployeeService {
      */
     @Transactional
     public EmployeeResponseDto updateEmployee(Long ownerId, Long employeeId, EmployeeRequestDto request) {
-        log.info("Updating employee. employeeId: {}, ownerId: {}", employeeId, ownerId);
+        log.debug("Updating employee. employeeId: {}, ownerId: {}", employeeId, ownerId);
 
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("직원을 찾을 수 없습니다: " + employeeId));
@@ -235,7 +236,7 @@ public class EmployeeService {
      */
     @Transactional
     public void deleteEmployee(Long ownerId, Long employeeId) {
-        log.info("Deleting employee. employeeId: {}, ownerId: {}", employeeId, ownerId);
+        log.debug("Deleting employee. employeeId: {}, ownerId: {}", employeeId, ownerId);
 
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("직원을 찾을 수 없습니다: " + employeeId));
@@ -268,25 +269,22 @@ public class EmployeeService {
      * @return Store 엔티티
      */
     private Store getStoreAndValidateOwnership(Long storeId, Long ownerId) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new ResourceNotFoundException("매장을 찾을 수 없습니다: " + storeId));
-
-        if (!store.getOwner().getId().equals(ownerId)) {
-            log.warn("Unauthorized store access. storeId: {}, requestedBy: {}", storeId, ownerId);
-            throw new ForbiddenException("해당 매장에 대한 접근 권한이 없습니다");
-        }
+        ownershipCache.requireOwner(ownerId, storeId);
 
-        return store;
+        return storeRepository.findById(storeId)
+                .orElseThrow(() -> new ResourceNotFoundException("매장을 찾을 수 없습니다: " + storeId));
     }
 
     /**
      * 직원 소유권 검증.
      * 
+     * <p>매장 ID는 연관 프록시에서 바로 얻을 수 있으므로 매장/Owner 행을 추가로 로딩하지 않습니다.</p>
+     * 
      * @param employee 검증할 직원
      * @param ownerId Owner ID
      */
     private void validateEmployeeOwnership(Employee employee, Long ownerId) {
-        if (!employee.getStore().getOwner().getId().equals(ownerId)) {
+        if (!ownershipCache.isOwner(ownerId, employee.getStore().getId())) {
             log.warn("Unauthorized employee access. employeeId: {}, requestedBy: {}", 
                     employee.getId(), ownerId);
             throw new ForbiddenException("해당 직원에 대한 접근 권한이 없습니다");
@@ -0,0 +1,84 @@
+package vibe.scon.scon_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.LoginLockoutProperties;
+
+/**
+ * 로그인 실패 횟수 추적기.
+ * 
+ * <p>연속 로그인 실패 횟수를 DB 대신 메모리에서 집계합니다.
+ * 크리덴셜 스터핑 공격 시 실패마다 {@code owners} 행을 갱신하던 쓰기 폭주를 막기 위해,
+ * DB에는 잠금이 결정된 시점에만 기록합니다.</p>
+ * 
+ * <h3>동작 방식:</h3>
+ * <ul>
+ *   <li>실패할 때마다 계정별 카운터를 증가시키고 만료 시간을 {@code failure-window}만큼 연장합니다.</li>
+ *   <li>마지막 실패 이후 {@code failure-window} 동안 실패가 없으면 카운터가 소멸합니다 (time decay).</li>
+ *   <li>추적 계정 수는 {@code max-tracked-accounts}로 제한되어 메모리 사용량이 일정합니다.</li>
+ * </ul>
+ * 
+ * <h3>주의사항:</h3>
+ * <ul>
+ *   <li>실패 횟수는 인스턴스 로컬입니다. 잠금 상태({@code lockedUntil})는 DB에 기록되므로 모든 인스턴스에 적용됩니다.</li>
+ * </ul>
+ * 
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-002} - 백엔드 보안 강화 (계정 잠금 기능)</li>
+ * </ul>
+ */
+@Component
+public class LoginAttemptTracker {
+
+    private final LoginLockoutProperties properties;
+
+    // ownerId → 연속 실패 횟수 (쓰기마다 만료 연장)
+    private final Cache<Long, Integer> failures;
+
+    public LoginAttemptTracker(AppProperties appProperties) {
+        this.properties = appProperties.getLoginLockout();
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedAccounts())
+                .expireAfterWrite(properties.getFailureWindow())
+                .build();
+    }
+
+    /**
+     * 로그인 실패 기록.
+     * 
+     * @param ownerId 사장님 ID
+     * @return 현재 연속 실패 횟수
+     */
+    public int recordFailure(Long ownerId) {
+        return failures.asMap().merge(ownerId, 1, Integer::sum);
+    }
+
+    /**
+     * 잠금 임계치 도달 여부.
+     * 
+     * @param failedAttempts 연속 실패 횟수
+     * @return 잠금해야 하면 true
+     */
+    public boolean shouldLock(int failedAttempts) {
+        return failedAttempts >= properties.getMaxFailedAttempts();
+    }
+
+    /**
+     * 계정 잠금 시간 (분).
+     */
+    public int lockMinutes() {
+        return (int) properties.getLockDuration().toMinutes();
+    }
+
+    /**
+     * 실패 기록 초기화 (로그인 성공 또는 잠금 처리 후).
+     * 
+     * @param ownerId 사장님 ID
+     */
+    public void reset(Long ownerId) {
+        failures.invalidate(ownerId);
+    }
+}
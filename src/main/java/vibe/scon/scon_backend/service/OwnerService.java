@@ -47,7 +47,7 @@ public class OwnerService {
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
     public OwnerProfileResponse getCurrentOwnerProfile(Long ownerId) {
-        log.info("Getting owner profile for ownerId: {}", ownerId);
+        log.debug("Getting owner profile for ownerId: {}", ownerId);
 
         Owner owner = ownerRepository.findById(ownerId)
                 .orElseThrow(() -> {
@@ -55,10 +55,6 @@ public class OwnerService {
                     return new ResourceNotFoundException("Owner", ownerId);
                 });
 
-        log.debug("Found owner: id={}, email={}, name={}, phone={}, createdAt={}, updatedAt={}", 
-                owner.getId(), owner.getEmail(), owner.getName(), owner.getPhone(),
-                owner.getCreatedAt(), owner.getUpdatedAt());
-
         OwnerProfileResponse response = OwnerProfileResponse.builder()
                 .ownerId(owner.getId())
                 .email(owner.getEmail())
@@ -68,7 +64,6 @@ public class OwnerService {
                 .updatedAt(owner.getUpdatedAt())
                 .build();
 
-        log.debug("Built OwnerProfileResponse: {}", response);
         return response;
     }
 
@@ -103,7 +98,7 @@ public class OwnerService {
             Long ownerId,
             UpdateOwnerProfileRequest request
     ) {
-        log.info("Updating owner profile for ownerId: {}", ownerId);
+        log.debug("Updating owner profile for ownerId: {}", ownerId);
 
         Owner owner = ownerRepository.findById(ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Owner", ownerId));
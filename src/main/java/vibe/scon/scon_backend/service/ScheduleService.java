@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import vibe.scon.scon_backend.config.profiling.ScheduleUpdateEvent;
 import vibe.scon.scon_backend.dto.schedule.ScheduleDetailResponseDto;
 import vibe.scon.scon_backend.dto.schedule.ShiftRequestDto;
 import vibe.scon.scon_backend.dto.schedule.UpdateScheduleRequestDto;
@@ -20,6 +21,7 @@ import vibe.scon.scon_backend.repository.ScheduleRepository;
 import vibe.scon.scon_backend.repository.ShiftRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,6 +45,7 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final EmployeeRepository employeeRepository;
     private final ShiftRepository shiftRepository;
+    private final StoreOwnershipCache ownershipCache;
 
     /**
      * 스케줄 상세 조회.
@@ -71,6 +74,44 @@ public class ScheduleService {
         return ScheduleDetailResponseDto.from(schedule);
     }
 
+    /**
+     * 스케줄 접근 권한 확인 (스케줄 엔티티를 로딩하지 않음).
+     *
+     * <p>비동기 수정 접수 전에 호출하여, 타인 스케줄에 대한 작업이 대기열에 들어가지 않도록 합니다.</p>
+     *
+     * @param ownerId 인증된 Owner ID
+     * @param scheduleId 스케줄 ID
+     * @throws ResourceNotFoundException 스케줄을 찾을 수 없는 경우
+     * @throws ForbiddenException 본인 소유 매장의 스케줄이 아닌 경우
+     */
+    public void requireScheduleOwner(Long ownerId, Long scheduleId) {
+        Long storeId = scheduleRepository.findStoreIdById(scheduleId)
+                .orElseThrow(() -> new ResourceNotFoundException("스케줄을 찾을 수 없습니다: " + scheduleId));
+        if (!ownershipCache.isOwner(ownerId, storeId)) {
+            log.warn("Unauthorized schedule access. scheduleId: {}, requestedBy: {}, storeId: {}",
+                    scheduleId, ownerId, storeId);
+            throw new ForbiddenException("해당 스케줄에 대한 접근 권한이 없습니다");
+        }
+    }
+
+    /**
+     * 매장들의 해당 주차 Draft 스케줄 일괄 생성.
+     *
+     * <p>이미 스케줄이 있는 매장은 건너뜁니다. 반복 작업에서 매장을 나누어 호출합니다.</p>
+     *
+     * @param storeIds 매장 ID 목록 (한 번의 INSERT로 처리)
+     * @param weekStartDate 주 시작일 (월요일)
+     * @return 생성된 스케줄 수
+     * @see vibe.scon.scon_backend.service.job.WeeklyDraftScheduleJob
+     */
+    @Transactional
+    public int createDraftSchedules(List<Long> storeIds, LocalDate weekStartDate) {
+        if (storeIds.isEmpty()) {
+            return 0;
+        }
+        return scheduleRepository.insertDraftsIfAbsent(storeIds, weekStartDate, LocalDateTime.now());
+    }
+
     /**
      * 스케줄 수정.
      * 
@@ -98,7 +139,14 @@ public class ScheduleService {
      */
     @Transactional
     public ScheduleDetailResponseDto updateSchedule(Long ownerId, Long scheduleId, UpdateScheduleRequestDto request) {
-        log.info("Updating schedule. scheduleId: {}, ownerId: {}", scheduleId, ownerId);
+        // JFR 이벤트 (vibe.scon.ScheduleUpdate) - 동기/비동기 수정 공통
+        int shiftCount = request.getShifts() != null ? request.getShifts().size() : -1;
+        return ScheduleUpdateEvent.record(scheduleId, shiftCount,
+                () -> applyScheduleUpdate(ownerId, scheduleId, request));
+    }
+
+    private ScheduleDetailResponseDto applyScheduleUpdate(Long ownerId, Long scheduleId, UpdateScheduleRequestDto request) {
+        log.debug("Updating schedule. scheduleId: {}, ownerId: {}", scheduleId, ownerId);
 
         if (!request.hasUpdate()) {
             throw new BadRequestException("수정할 내용이 없습니다");
@@ -249,10 +297,10 @@ public class ScheduleService {
      * @throws ForbiddenException 본인 소유 매장의 스케줄이 아닌 경우
      */
     private void validateScheduleOwnership(Schedule schedule, Long ownerId) {
-        Store store = schedule.getStore();
-        if (!store.getOwner().getId().equals(ownerId)) {
-            log.warn("Unauthorized schedule access. scheduleId: {}, requestedBy: {}, actualOwner: {}",
-                    schedule.getId(), ownerId, store.getOwner().getId());
+        Long storeId = schedule.getStore().getId();
+        if (!ownershipCache.isOwner(ownerId, storeId)) {
+            log.warn("Unauthorized schedule access. scheduleId: {}, requestedBy: {}, storeId: {}",
+                    schedule.getId(), ownerId, storeId);
             throw new ForbiddenException("해당 스케줄에 대한 접근 권한이 없습니다");
         }
     }
@@ -0,0 +1,118 @@
+package vibe.scon.scon_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.exception.ForbiddenException;
+import vibe.scon.scon_backend.exception.ResourceNotFoundException;
+import vibe.scon.scon_backend.repository.StoreRepository;
+
+import java.util.Set;
+
+/**
+ * 매장 소유권 캐시 (ownerId → 소유 매장 ID 집합).
+ * 
+ * <p>서비스마다 {@code store.getOwner().getId()}로 지연 로딩 프록시를 따라가며
+ * 매 요청 {@code stores}/{@code owners} 행을 읽던 소유권 검증을 캐시 조회로 대체합니다.
+ * 사장님별 매장 ID 목록은 ID 전용 쿼리 한 번으로 적재됩니다.</p>
+ * 
+ * <h3>일관성 보장:</h3>
+ * <ul>
+ *   <li>매장 생성/삭제 시 {@link #invalidate(Long)}로 해당 사장님 항목을 무효화합니다.</li>
+ *   <li>항목은 적재 시점의 최대 매장 ID를 함께 기록합니다. 매장 소유자는 바뀌지 않으므로
+ *       그 이하 ID의 미스는 확정 판정이며 DB를 다시 읽지 않습니다.</li>
+ *   <li>기록보다 큰 ID(적재 이후 생성된 매장)일 때만 다시 적재하므로,
+ *       다른 인스턴스에서 생성된 매장도 거부되지 않습니다.</li>
+ *   <li>크기({@code max-owners})와 TTL({@code ttl})이 제한되어 메모리 사용량이 일정합니다.</li>
+ * </ul>
+ * 
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code POC-BE-SEC-001} - 데이터 격리 및 접근 제어</li>
+ *   <li>{@code TC-STORE-006} - 타 사용자 매장 접근 차단</li>
+ *   <li>{@code TC-EMP-007} - 타 사용자 직원 접근 차단</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class StoreOwnershipCache {
+
+    private final StoreRepository storeRepository;
+    private final Cache<Long, OwnedStores> storeIdsByOwner;
+
+    public StoreOwnershipCache(StoreRepository storeRepository, AppProperties appProperties) {
+        this.storeRepository = storeRepository;
+        this.storeIdsByOwner = Caffeine.newBuilder()
+                .maximumSize(appProperties.getOwnershipCache().getMaxOwners())
+                .expireAfterWrite(appProperties.getOwnershipCache().getTtl())
+                .build();
+    }
+
+    /**
+     * 매장 소유 여부 확인.
+     * 
+     * @param ownerId 인증된 Owner ID
+     * @param storeId 매장 ID
+     * @return 본인 소유 매장이면 true
+     */
+    public boolean isOwner(Long ownerId, Long storeId) {
+        if (ownerId == null || storeId == null) {
+            return false;
+        }
+
+        OwnedStores owned = storeIdsByOwner.get(ownerId, this::loadStoreIds);
+        if (owned.storeIds().contains(storeId)) {
+            return true;
+        }
+        if (storeId <= owned.maxStoreIdAtLoad()) {
+            return false; // 적재 시점에 이미 있던 매장 → 확정 미스
+        }
+
+        // 캐시 적재 이후 생성된 매장이므로 다시 적재
+        OwnedStores reloaded = loadStoreIds(ownerId);
+        storeIdsByOwner.put(ownerId, reloaded);
+        return reloaded.storeIds().contains(storeId);
+    }
+
+    /**
+     * 매장 접근 권한 확인 (존재하지 않으면 404, 타인 소유면 403).
+     * 
+     * @param ownerId 인증된 Owner ID
+     * @param storeId 매장 ID
+     * @throws ResourceNotFoundException 매장을 찾을 수 없는 경우
+     * @throws ForbiddenException 본인 소유 매장이 아닌 경우
+     */
+    public void requireOwner(Long ownerId, Long storeId) {
+        if (isOwner(ownerId, storeId)) {
+            return;
+        }
+        if (!storeRepository.existsById(storeId)) {
+            throw new ResourceNotFoundException("매장을 찾을 수 없습니다: " + storeId);
+        }
+        log.warn("Unauthorized store access. storeId: {}, requestedBy: {}", storeId, ownerId);
+        throw new ForbiddenException("해당 매장에 대한 접근 권한이 없습니다");
+    }
+
+    /**
+     * 사장님의 소유권 캐시 무효화 (매장 생성/삭제 시 호출).
+     * 
+     * @param ownerId Owner ID
+     */
+    public void invalidate(Long ownerId) {
+        storeIdsByOwner.invalidate(ownerId);
+    }
+
+    private OwnedStores loadStoreIds(Long ownerId) {
+        // 최대 ID를 먼저 읽어야 그 이하의 매장이 모두 목록 조회에 포함됨
+        long maxStoreId = storeRepository.findMaxId();
+        return new OwnedStores(Set.copyOf(storeRepository.findIdsByOwnerId(ownerId)), maxStoreId);
+    }
+
+    /**
+     * 사장님별 소유 매장 ID와 적재 시점의 최대 매장 ID.
+     */
+    private record OwnedStores(Set<Long> storeIds, long maxStoreIdAtLoad) {
+    }
+}
@@ -10,7 +10,6 @@ import vibe.scon.scon_backend.entity.Owner;
 import vibe.scon.scon_backend.entity.Schedule;
 import vibe.scon.scon_backend.entity.Store;
 import vibe.scon.scon_backend.entity.enums.ScheduleStatus;
-import vibe.scon.scon_backend.exception.ForbiddenException;
 import vibe.scon.scon_backend.exception.ResourceNotFoundException;
 import vibe.scon.scon_backend.repository.OwnerRepository;
 import vibe.scon.scon_backend.repository.ScheduleRepository;
@@ -45,6 +44,7 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final OwnerRepository ownerRepository;
     private final ScheduleRepository scheduleRepository;
+    private final StoreOwnershipCache ownershipCache;
 
     /**
      * 매장 생성.
@@ -69,7 +69,7 @@ public class StoreService {
      */
     @Transactional
     public StoreResponseDto createStore(Long ownerId, StoreRequestDto request) {
-        log.info("Creating store for ownerId: {}, storeName: {}", ownerId, request.getName());
+        log.debug("Creating store for ownerId: {}, storeName: {}", ownerId, request.getName());
 
         // Owner 조회
         Owner owner = ownerRepository.findById(ownerId)
@@ -87,6 +87,7 @@ public class StoreService {
                 .build();
 
         Store savedStore = storeRepository.save(store);
+        ownershipCache.invalidate(ownerId);
         log.info("Store created successfully. storeId: {}, ownerId: {}", savedStore.getId(), ownerId);
 
         // Draft 스케줄 자동 생성 (UX 문서 요구사항: Step 2 완료 시 자동 생성)
@@ -115,12 +116,12 @@ public class StoreService {
     public StoreResponseDto getStore(Long ownerId, Long storeId) {
         log.debug("Getting store. storeId: {}, ownerId: {}", storeId, ownerId);
 
+        // 본인 소유 매장 확인 (TC-STORE-006, TC-STORE-007) - 타인 매장은 행을 로딩하지 않음
+        ownershipCache.requireOwner(ownerId, storeId);
+
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new ResourceNotFoundException("매장을 찾을 수 없습니다: " + storeId));
 
-        // 본인 소유 매장 확인 (TC-STORE-006)
-        validateOwnership(store, ownerId);
-
         return StoreResponseDto.from(store);
     }
 
@@ -164,14 +165,14 @@ public class StoreService {
      */
     @Transactional
     public StoreResponseDto updateStore(Long ownerId, Long storeId, StoreRequestDto request) {
-        log.info("Updating store. storeId: {}, ownerId: {}", storeId, ownerId);
+        log.debug("Updating store. storeId: {}, ownerId: {}", storeId, ownerId);
+
+        // 본인 소유 매장 확인
+        ownershipCache.requireOwner(ownerId, storeId);
 
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new ResourceNotFoundException("매장을 찾을 수 없습니다: " + storeId));
 
-        // 본인 소유 매장 확인
-        validateOwnership(store, ownerId);
-
         // 매장 정보 업데이트 (JPA dirty checking)
         store.update(
                 request.getName(),
@@ -187,21 +188,6 @@ public class StoreService {
         return StoreResponseDto.from(store);
     }
 
-    /**
-     * 매장 소유권 검증.
-     * 
-     * @param store 검증할 매장
-     * @param ownerId 인증된 Owner ID
-     * @throws ForbiddenException 본인 소유 매장이 아닌 경우
-     */
-    private void validateOwnership(Store store, Long ownerId) {
-        if (!store.getOwner().getId().equals(ownerId)) {
-            log.warn("Unauthorized store access. storeId: {}, requestedBy: {}, actualOwner: {}",
-                    store.getId(), ownerId, store.getOwner().getId());
-            throw new ForbiddenException("해당 매장에 대한 접근 권한이 없습니다");
-        }
-    }
-
     /**
      * Draft 스케줄 자동 생성 (매장 생성 시).
      * 
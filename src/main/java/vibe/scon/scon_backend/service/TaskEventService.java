@@ -0,0 +1,278 @@
+package vibe.scon.scon_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.TaskEventsProperties;
+import vibe.scon.scon_backend.dto.async.AsyncTaskResponseDto;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.exception.ServiceUnavailableException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 작업 상태 스트림 서비스 (SSE / Long-poll).
+ *
+ * <p>클라이언트가 {@code GET /api/v1/tasks/{taskId}}를 반복 호출하는 대신,
+ * {@link AsyncTaskRegistry}의 상태 변경 신호를 받아 연결 하나로 즉시 전달합니다.</p>
+ *
+ * <h3>전달 방식:</h3>
+ * <ul>
+ *   <li>SSE - 연결 직후 현재 상태를 보내고, 진행률/종료 변경마다 {@code status} 이벤트를 전송합니다.
+ *       종료 상태를 보낸 뒤 스트림을 닫습니다.</li>
+ *   <li>Long-poll - 지정한 상태(또는 종료 상태)에 도달하면 완료되는 {@link CompletableFuture}를 반환합니다.</li>
+ * </ul>
+ *
+ * <h3>주의사항:</h3>
+ * <ul>
+ *   <li>이벤트 전송은 작업 스레드(dbExecutor)가 아닌 taskExecutor에서 수행하여 느린 클라이언트가 작업을 지연시키지 않습니다.</li>
+ *   <li>메모리에 없는 작업(다른 인스턴스 작업 등)은 {@code heartbeat-interval}마다 상태를 다시 조회하여 변경 시 전송합니다.</li>
+ *   <li>동시 구독 수는 {@code max-subscribers}로 제한되며, 초과 시 503을 반환합니다.</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (작업 상태 폴링 트래픽 제거)</li>
+ * </ul>
+ *
+ * @see vibe.scon.scon_backend.controller.TaskController
+ */
+@Slf4j
+@Service
+public class TaskEventService {
+
+    static final String STATUS_EVENT = "status";
+
+    private final AsyncTaskService asyncTaskService;
+    private final AsyncTaskRegistry asyncTaskRegistry;
+    private final Executor taskExecutor;
+    private final TaskScheduler taskScheduler;
+    private final TaskEventsProperties properties;
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    public TaskEventService(
+            AsyncTaskService asyncTaskService,
+            AsyncTaskRegistry asyncTaskRegistry,
+            @Qualifier("taskExecutor") Executor taskExecutor,
+            TaskScheduler taskScheduler,
+            AppProperties appProperties) {
+        this.asyncTaskService = asyncTaskService;
+        this.asyncTaskRegistry = asyncTaskRegistry;
+        this.taskExecutor = taskExecutor;
+        this.taskScheduler = taskScheduler;
+        this.properties = appProperties.getTaskEvents();
+    }
+
+    /**
+     * 작업 상태 SSE 스트림을 엽니다.
+     *
+     * @param taskId 작업 ID
+     * @return 종료 상태 전송 또는 {@code stream-timeout} 경과 시 닫히는 SseEmitter
+     * @throws vibe.scon.scon_backend.exception.ResourceNotFoundException 작업이 없는 경우
+     * @throws ServiceUnavailableException 동시 구독 수 초과
+     */
+    public SseEmitter openStream(String taskId) {
+        AsyncTaskResponseDto current = asyncTaskService.getTaskStatus(taskId);
+        acquire();
+
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        StreamSubscription subscription = new StreamSubscription(taskId, emitter);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        Runnable unsubscribe = null;
+        try {
+            unsubscribe = asyncTaskRegistry.subscribe(taskId,
+                    task -> taskExecutor.execute(() -> subscription.send(AsyncTaskResponseDto.from(task))));
+            Duration interval = properties.getHeartbeatInterval();
+            subscription.start(unsubscribe, taskScheduler.scheduleAtFixedRate(
+                    subscription::heartbeat, Instant.now().plus(interval), interval));
+        } catch (RuntimeException e) {
+            // 등록 실패 (종료 중 스케줄러 거부 등): 구독 수와 리스너를 반납
+            if (unsubscribe != null) {
+                unsubscribe.run();
+            }
+            subscription.close();
+            throw e;
+        }
+
+        // 등록 이전에 바뀐 상태를 놓치지 않도록 등록 후 현재 상태를 다시 전송
+        subscription.send(asyncTaskRegistry.find(taskId).map(AsyncTaskResponseDto::from).orElse(current));
+        return emitter;
+    }
+
+    /**
+     * 작업이 지정한 상태에 도달할 때까지 기다립니다 (Long-poll).
+     *
+     * <p>지정한 상태가 아닌 종료 상태(예: COMPLETED 대기 중 FAILED)에 도달해도 더 이상 바뀌지 않으므로 즉시 완료됩니다.
+     * 시간 제한은 호출 측에서 적용하고, 대기를 중단할 때는 반환된 Future를 취소합니다.</p>
+     *
+     * @param taskId 작업 ID
+     * @param waitFor 기다릴 상태
+     * @return 상태 도달 시 완료되는 Future (취소 시 구독 해제)
+     * @throws vibe.scon.scon_backend.exception.ResourceNotFoundException 작업이 없는 경우
+     * @throws ServiceUnavailableException 동시 구독 수 초과
+     */
+    public CompletableFuture<AsyncTaskResponseDto> awaitStatus(String taskId, TaskStatus waitFor) {
+        AsyncTaskResponseDto current = asyncTaskService.getTaskStatus(taskId);
+        if (isReached(current, waitFor)) {
+            return CompletableFuture.completedFuture(current);
+        }
+        acquire();
+
+        CompletableFuture<AsyncTaskResponseDto> future = new CompletableFuture<>();
+        Runnable unsubscribe;
+        try {
+            unsubscribe = asyncTaskRegistry.subscribe(taskId, task -> {
+                AsyncTaskResponseDto status = AsyncTaskResponseDto.from(task);
+                if (isReached(status, waitFor)) {
+                    future.complete(status);
+                }
+            });
+        } catch (RuntimeException e) {
+            subscribers.decrementAndGet();
+            throw e;
+        }
+        future.whenComplete((status, error) -> {
+            unsubscribe.run();
+            subscribers.decrementAndGet();
+        });
+
+        asyncTaskRegistry.find(taskId)
+                .map(AsyncTaskResponseDto::from)
+                .filter(status -> isReached(status, waitFor))
+                .ifPresent(future::complete);
+        return future;
+    }
+
+    /**
+     * Long-poll 대기 시간 (요청 값을 {@code max-timeout}으로 제한, 미지정 시 {@code default-timeout}).
+     */
+    public Duration resolveTimeout(Integer timeoutSeconds) {
+        if (timeoutSeconds == null || timeoutSeconds <= 0) {
+            return properties.getDefaultTimeout();
+        }
+        Duration requested = Duration.ofSeconds(timeoutSeconds);
+        return requested.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : requested;
+    }
+
+    int activeSubscribers() {
+        return subscribers.get();
+    }
+
+    private void acquire() {
+        if (subscribers.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscribers.decrementAndGet();
+            throw new ServiceUnavailableException("TASK_STREAM_LIMIT",
+                    "작업 상태 구독이 너무 많습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    private static boolean isReached(AsyncTaskResponseDto status, TaskStatus waitFor) {
+        return status.getStatus() == waitFor || isTerminal(status.getStatus());
+    }
+
+    private static boolean isTerminal(TaskStatus status) {
+        return status != TaskStatus.IN_PROGRESS;
+    }
+
+    /**
+     * SSE 연결 한 건.
+     */
+    private final class StreamSubscription {
+
+        private final String taskId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Runnable unsubscribe;
+        private ScheduledFuture<?> heartbeat;
+        private TaskStatus lastStatus;
+        private Integer lastProgress;
+
+        private StreamSubscription(String taskId, SseEmitter emitter) {
+            this.taskId = taskId;
+            this.emitter = emitter;
+        }
+
+        synchronized void start(Runnable unsubscribe, ScheduledFuture<?> heartbeat) {
+            this.unsubscribe = unsubscribe;
+            this.heartbeat = heartbeat;
+            if (closed.get()) {
+                // 등록 도중 종료된 경우 (리스너가 먼저 종료 상태를 전송)
+                unsubscribe.run();
+                heartbeat.cancel(false);
+            }
+        }
+
+        synchronized void send(AsyncTaskResponseDto status) {
+            if (closed.get()) {
+                return;
+            }
+            // 종료 후 도착한 이전 진행률, 중복 상태는 건너뜀
+            if (lastStatus != null && (isTerminal(lastStatus)
+                    || (lastStatus == status.getStatus() && equalsProgress(status.getProgress())))) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(STATUS_EVENT).data(status));
+                lastStatus = status.getStatus();
+                lastProgress = status.getProgress();
+                if (isTerminal(status.getStatus())) {
+                    emitter.complete();
+                    close();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Task status stream closed by client. taskId: {}", taskId);
+                close();
+            }
+        }
+
+        void heartbeat() {
+            try {
+                AsyncTaskResponseDto status = asyncTaskService.getTaskStatus(taskId);
+                synchronized (this) {
+                    if (lastStatus == status.getStatus() && equalsProgress(status.getProgress())) {
+                        // 프록시 유휴 타임아웃 방지용 주석 이벤트
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                        return;
+                    }
+                }
+                send(status);
+            } catch (Exception e) {
+                log.debug("Task status heartbeat failed. taskId: {}, error: {}", taskId, e.getMessage());
+                close();
+            }
+        }
+
+        synchronized void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            if (unsubscribe != null) {
+                unsubscribe.run();
+            }
+            if (heartbeat != null) {
+                heartbeat.cancel(false);
+            }
+            subscribers.decrementAndGet();
+        }
+
+        private boolean equalsProgress(Integer progress) {
+            return lastProgress == null ? progress == null : lastProgress.equals(progress);
+        }
+    }
+}
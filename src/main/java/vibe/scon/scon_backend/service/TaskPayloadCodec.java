@@ -0,0 +1,179 @@
+package vibe.scon.scon_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.AsyncTaskProperties;
+import vibe.scon.scon_backend.exception.BadRequestException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비동기 작업 요청/결과 데이터 인코딩 ({@code async_tasks.request_data}, {@code result_data}).
+ *
+ * <p>스케줄 수정 결과처럼 큰 JSON이 보관 기간(24시간) 동안 DB와 메모리 레지스트리에 그대로 남지 않도록
+ * 압축하고 크기를 제한합니다.</p>
+ *
+ * <h3>저장 형식:</h3>
+ * <ul>
+ *   <li>{@code compress-threshold} 미만: JSON 그대로 (기존 행과 호환)</li>
+ *   <li>{@code compress-threshold} 이상: {@code gz:} + Base64(GZIP(JSON)). JSON은 {@code g}로 시작할 수 없으므로 구분됩니다.</li>
+ *   <li>JSON이 {@code max-payload-size}를 넘으면 요청은 400으로 거부하고, 결과는 저장하지 않습니다
+ *       (작업의 변경은 반영되므로 클라이언트는 대상 리소스를 직접 조회).</li>
+ * </ul>
+ *
+ * <h3>메트릭:</h3>
+ * <ul>
+ *   <li>{@code async.task.payload.size{kind,encoding}} - 저장 크기 (bytes)</li>
+ *   <li>{@code async.task.payload.dropped} - 상한 초과로 저장하지 않은 결과 수</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (작업 데이터 저장 크기 / 결과 조회 비용)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TaskPayloadCodec {
+
+    private static final String GZIP_PREFIX = "gz:";
+
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter dropped;
+
+    @Autowired
+    public TaskPayloadCodec(ObjectMapper objectMapper, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this(objectMapper, appProperties.getAsyncTask(), meterRegistry);
+    }
+
+    TaskPayloadCodec(ObjectMapper objectMapper, AsyncTaskProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.dropped = Counter.builder("async.task.payload.dropped")
+                .description("Async task results not stored because they exceeded the size cap")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 요청 데이터를 인코딩합니다.
+     *
+     * @return 저장 형식 문자열 (input이 null이면 null)
+     * @throws BadRequestException 요청 데이터가 상한을 넘는 경우 (400)
+     */
+    public String encodeRequest(Object input) {
+        byte[] json = toJson(input);
+        if (json == null) {
+            return null;
+        }
+        if (json.length > properties.getMaxPayloadSize().toBytes()) {
+            throw new BadRequestException("PAYLOAD_TOO_LARGE",
+                    String.format("요청 데이터가 너무 큽니다 (최대 %dKB)", properties.getMaxPayloadSize().toKilobytes()));
+        }
+        return encode(json, "request");
+    }
+
+    /**
+     * 작업 결과를 인코딩합니다.
+     *
+     * @return 저장 형식 문자열 (result가 null이거나 상한을 넘으면 null)
+     */
+    public String encodeResult(Object result) {
+        byte[] json = toJson(result);
+        if (json == null) {
+            return null;
+        }
+        if (json.length > properties.getMaxPayloadSize().toBytes()) {
+            dropped.increment();
+            log.warn("Async task result exceeds {} bytes and is not stored: {} bytes",
+                    properties.getMaxPayloadSize().toBytes(), json.length);
+            return null;
+        }
+        return encode(json, "result");
+    }
+
+    /**
+     * 저장된 데이터를 JSON 문자열로 복원합니다 (파싱하지 않음).
+     *
+     * @return JSON 문자열 (stored가 null이면 null)
+     */
+    public String decodeJson(String stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (!stored.startsWith(GZIP_PREFIX)) {
+            return stored;
+        }
+        byte[] compressed = Base64.getDecoder().decode(stored.substring(GZIP_PREFIX.length()));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupted async task payload", e);
+        }
+    }
+
+    /**
+     * 저장된 데이터를 지정한 타입으로 읽습니다.
+     */
+    public <T> T read(String stored, Class<T> type) throws IOException {
+        String json = decodeJson(stored);
+        return json != null ? objectMapper.readValue(json, type) : null;
+    }
+
+    private byte[] toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to serialize async task payload", e);
+        }
+    }
+
+    private String encode(byte[] json, String kind) {
+        String stored;
+        String encoding;
+        if (json.length < properties.getCompressThreshold().toBytes()) {
+            stored = new String(json, StandardCharsets.UTF_8);
+            encoding = "json";
+        } else {
+            stored = GZIP_PREFIX + Base64.getEncoder().encodeToString(gzip(json));
+            encoding = "gzip";
+        }
+        DistributionSummary.builder("async.task.payload.size")
+                .description("Stored size of async task request/result data")
+                .baseUnit("bytes")
+                .tags("kind", kind, "encoding", encoding)
+                .register(meterRegistry)
+                .record(stored.length());
+        return stored;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package vibe.scon.scon_backend.service.job;
+
+import vibe.scon.scon_backend.exception.BusinessException;
+
+import java.time.Duration;
+
+/**
+ * 비동기 작업 정의.
+ *
+ * <p>입력 {@code I}를 받아 결과 {@code O}를 만드는 백그라운드 작업입니다. 구현체를 Spring Bean으로 등록하면
+ * {@link AsyncJobDispatcher}가 자동으로 등록하며, {@code dispatcher.submit(StoreCreateJob.class, ownerId, input)}으로 실행합니다.
+ * 작업 생성/진행률/완료/실패 기록, 대기열, 타임아웃, 재시도는 Dispatcher가 처리하므로 구현체는 실제 작업만 수행합니다.</p>
+ *
+ * <h3>구현 규칙:</h3>
+ * <ul>
+ *   <li>{@link #type()}은 {@code async_tasks.task_type}에 저장되는 고유 이름입니다 (예: STORE_CREATE).</li>
+ *   <li>결과 {@code O}는 JSON으로 직렬화되어 {@code GET /api/v1/tasks/{taskId}/result}로 조회됩니다.</li>
+ *   <li>긴 작업은 안전한 지점마다 {@link JobContext#checkCancelled()}를 호출하여 취소/타임아웃에 응답해야 합니다.</li>
+ *   <li>작업은 완료 기록과 같은 트랜잭션에서 실행되며, 실패/재시도/복구 시 DB 변경은 롤백됩니다.
+ *       롤백되지 않는 부작용(외부 호출 등)이 있으면 {@link #isRetryable(Exception)}/{@link #isRecoverable()}를 조정해야 합니다.
+ *       대량 일괄 처리처럼 한 트랜잭션으로 묶기 어려운 작업은 {@link #isTransactional()}을 false로 둡니다.</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ * </ul>
+ *
+ * @param <I> 입력 타입 (요청 데이터로 JSON 저장)
+ * @param <O> 결과 타입
+ * @see AsyncJobDispatcher
+ */
+public interface AsyncJob<I, O> {
+
+    /**
+     * 작업 유형 (async_tasks.task_type).
+     */
+    String type();
+
+    /**
+     * 작업을 실행합니다 (dbExecutor 스레드).
+     *
+     * @param input 입력
+     * @param context 진행률 / 취소 확인
+     * @return 결과 (null 가능)
+     * @throws Exception 실패 시. {@link #isRetryable(Exception)}가 true이면 백오프 후 재시도합니다.
+     */
+    O execute(I input, JobContext context) throws Exception;
+
+    /**
+     * 대기열 우선순위. 기본값: NORMAL.
+     */
+    default JobPriority priority() {
+        return JobPriority.NORMAL;
+    }
+
+    /**
+     * 1회 실행 제한 시간. null이면 {@code app.async-job.default-timeout}을 사용합니다.
+     */
+    default Duration timeout() {
+        return null;
+    }
+
+    /**
+     * 최대 실행 횟수 (첫 실행 포함). 0이면 {@code app.async-job.max-attempts}를 사용합니다.
+     */
+    default int maxAttempts() {
+        return 0;
+    }
+
+    /**
+     * 요청 병합 키. 기본값: null (병합하지 않음).
+     *
+     * <p>같은 Owner·같은 유형·같은 키의 작업이 대기 중일 때 새 작업이 접수되면 대기 중인 이전 작업은 실행하지 않고
+     * CANCELLED({@code supersededBy}: 새 작업 ID)로 종료합니다. 같은 키의 작업은 동시에 실행되지 않으므로,
+     * 최신 입력으로 전체를 덮어쓰는 작업(예: 스케줄 전체 저장)에만 사용합니다.</p>
+     */
+    default String coalesceKey(I input) {
+        return null;
+    }
+
+    /**
+     * 비정상 종료로 중단된 작업을 다시 실행할지 여부. 기본값: true.
+     *
+     * <p>작업 결과와 완료 기록이 한 트랜잭션에서 커밋되므로 중단된 작업은 반영되지 않은 상태이며,
+     * 다시 실행해도 최대 1회만 반영됩니다. 외부 시스템 호출처럼 롤백되지 않는 부작용이 있는 작업은 false로 두어
+     * 실패 처리합니다.</p>
+     */
+    default boolean isRecoverable() {
+        return true;
+    }
+
+    /**
+     * 작업을 완료 기록과 같은 트랜잭션에서 실행할지 여부. 기본값: true.
+     *
+     * <p>false이면 작업은 트랜잭션 없이 실행되고(작업 안의 {@code @Transactional} 호출이 각자 커밋),
+     * 완료 기록은 작업이 끝난 뒤 별도 트랜잭션에서 임대 소유자 조건으로 남깁니다. 실패/재시도/복구 시
+     * 이미 커밋된 변경은 롤백되지 않으므로 작업은 멱등이어야 합니다.</p>
+     */
+    default boolean isTransactional() {
+        return true;
+    }
+
+    /**
+     * 재시도 대상 예외인지 판단합니다.
+     *
+     * <p>기본값: 비즈니스 예외(검증 실패, 권한 없음 등)는 다시 실행해도 같은 결과이므로 재시도하지 않습니다.</p>
+     */
+    default boolean isRetryable(Exception e) {
+        return !(e instanceof BusinessException);
+    }
+}
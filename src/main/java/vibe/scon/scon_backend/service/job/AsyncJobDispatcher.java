@@ -0,0 +1,900 @@
+package vibe.scon.scon_backend.service.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.AsyncJobProperties;
+import vibe.scon.scon_backend.dto.async.AsyncTaskResponseDto;
+import vibe.scon.scon_backend.entity.AsyncTask;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.exception.BadRequestException;
+import vibe.scon.scon_backend.exception.ForbiddenException;
+import vibe.scon.scon_backend.exception.ServiceUnavailableException;
+import vibe.scon.scon_backend.exception.TooManyRequestsException;
+import vibe.scon.scon_backend.service.AsyncTaskService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 비동기 작업 Dispatcher.
+ *
+ * <p>등록된 {@link AsyncJob} 구현체를 하나의 대기열에서 실행합니다. 작업 생성(AsyncTask 등록), 진행률/완료/실패 기록,
+ * 취소, 타임아웃, 재시도를 여기서 처리하므로 새 백그라운드 작업은 {@link AsyncJob} 구현체 하나로 추가할 수 있습니다.</p>
+ *
+ * <h3>스케줄링:</h3>
+ * <ul>
+ *   <li>우선순위 대기열 - HIGH → NORMAL → LOW 순서로 실행할 작업을 고릅니다.</li>
+ *   <li>공정 대기열 - 같은 우선순위 안에서는 Owner별 대기열을 돌아가며(라운드 로빈) 하나씩 꺼내므로,
+ *       한 Owner가 작업을 많이 쌓아도 나중에 들어온 다른 Owner의 작업이 그 뒤에 밀리지 않습니다 (Owner 안에서는 FIFO).</li>
+ *   <li>동시 실행 상한 - 전체 {@code max-concurrency}(dbExecutor 상한과 동일), Owner별 {@code per-owner-concurrency}.
+ *       dbExecutor에는 상한 이하만 넘기므로 dbExecutor 큐가 차서 요청 스레드에서 작업이 실행(CallerRuns)되지 않습니다.</li>
+ *   <li>요청 병합 - 같은 Owner·같은 유형에서 {@link AsyncJob#coalesceKey(Object)}가 같은 작업은 마지막 요청만 실행합니다
+ *       (다른 Owner의 요청은 병합하지 않음). 대기/재시도 대기 중인 이전 작업은 CANCELLED({@code supersededBy})로 종료하고, 같은 키의 작업은 동시에 실행하지 않습니다.</li>
+ * </ul>
+ *
+ * <h3>접수 제어 (Retry-After 포함):</h3>
+ * <ul>
+ *   <li>503 {@code JOB_QUEUE_FULL} - 전체 대기 작업이 {@code queue-capacity}에 도달</li>
+ *   <li>503 {@code JOB_QUEUE_OVERLOADED} - 가장 오래 대기 중인 작업의 대기 시간이 {@code max-queue-latency}를 초과
+ *       (현재 대기열 기준이므로 밀린 작업이 빠지면 바로 해제)</li>
+ *   <li>429 {@code JOB_OWNER_QUEUE_FULL} - 요청 Owner의 대기 작업이 {@code per-owner-queue-limit}에 도달</li>
+ *   <li>{@code Retry-After}는 앞선 대기 작업 수와 최근 평균 실행 시간으로 추정한 처리 시간입니다
+ *       (1초 ~ {@code max-retry-after}).</li>
+ * </ul>
+ *
+ * <h3>실패 처리:</h3>
+ * <ul>
+ *   <li>재시도 - {@link AsyncJob#isRetryable(Exception)} 예외는 {@code initial-backoff}부터 2배씩(최대 {@code max-backoff})
+ *       기다린 뒤 같은 우선순위 대기열로 다시 넣습니다.</li>
+ *   <li>타임아웃 - 1회 실행이 제한 시간을 넘으면 작업 스레드를 인터럽트하고 FAILED로 기록합니다 (재시도 없음).</li>
+ *   <li>취소 - 대기 중/재시도 대기 중인 작업은 즉시 CANCELLED로 기록하고, 실행 중인 작업은 인터럽트 후
+ *       작업이 {@link JobContext#checkCancelled()} 등으로 중단하면 CANCELLED로 기록합니다.</li>
+ * </ul>
+ *
+ * <h3>영속화 / 복구 ({@link JobQueueStore}):</h3>
+ * <ul>
+ *   <li>작업은 접수 시 DB에 저장되고, 이 인스턴스가 대기/실행 중인 동안 {@code heartbeat-interval}마다 임대를 연장합니다.</li>
+ *   <li>실행 직전 임대를 획득하고(시도 횟수 증가), 작업 결과와 완료 기록을 한 트랜잭션으로 커밋합니다.
+ *       임대를 잃은 실행은 롤백되고 다른 인스턴스에 맡깁니다.</li>
+ *   <li>기동 직후와 {@code recovery-interval}마다 임대가 만료된 진행 중 작업(비정상 종료된 프로세스의 작업)을 찾아,
+ *       복구 가능하고 시도 횟수가 남은 작업은 회수하여 다시 실행하고 나머지는 FAILED로 기록합니다.</li>
+ *   <li>{@code Idempotency-Key}로 접수된 작업은 같은 키로 다시 요청해도 새 작업을 만들지 않고 기존 작업 ID를 반환합니다.
+ *       다른 유형의 작업에 이미 쓰인 키는 400으로 거부합니다.</li>
+ * </ul>
+ *
+ * <h3>메트릭:</h3>
+ * <ul>
+ *   <li>{@code async.job.queue.latency{type,priority}} - 대기열 대기 시간</li>
+ *   <li>{@code async.job.run{type,outcome}} - 실행 시간 (outcome: completed, failed, retry, timeout, cancelled, superseded, lease_lost)</li>
+ *   <li>{@code async.job.queued{priority}}, {@code async.job.running} - 대기/실행 중 작업 수</li>
+ *   <li>{@code async.job.recovered{type,outcome}} - 중단된 작업 복구 (outcome: reclaimed, failed)</li>
+ *   <li>{@code async.job.coalesced{type}} - 최신 요청으로 대체되어 실행하지 않은 작업 수</li>
+ *   <li>{@code async.job.rejected{reason}} - 접수 거부 (reason: queue_full, overloaded, owner_queue_full)</li>
+ * </ul>
+ *
+ * <h3>주의사항:</h3>
+ * <ul>
+ *   <li>대기 순서는 인스턴스 메모리에 있으므로, 복구된 작업은 원래 순서가 아닌 복구 시점에 대기열 끝에 들어갑니다.</li>
+ *   <li>우선순위는 엄격하게 적용되므로 HIGH 작업이 계속 들어오면 LOW 작업은 대기합니다.</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (백그라운드 작업 처리량 / 공정성)</li>
+ * </ul>
+ *
+ * @see AsyncJob
+ * @see vibe.scon.scon_backend.service.AsyncTaskRegistry
+ */
+@Slf4j
+@Service
+public class AsyncJobDispatcher {
+
+    private static final String ORPHAN_FAILURE_MESSAGE = "서버가 비정상 종료되어 작업이 중단되었습니다";
+    // 최근 표본 가중치 (약 최근 10개 작업의 평균, Retry-After 추정용)
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final Map<Class<?>, AsyncJob<?, ?>> jobs = new HashMap<>();
+    private final Map<String, AsyncJob<?, ?>> jobsByType = new HashMap<>();
+    private final AsyncTaskService asyncTaskService;
+    private final JobQueueStore queueStore;
+    private final Executor dbExecutor;
+    private final TaskScheduler taskScheduler;
+    private final AsyncJobProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<JobPriority, FairLane> lanes = new EnumMap<>(JobPriority.class);
+    private final Map<Long, Integer> runningPerOwner = new HashMap<>();
+    private final Map<String, JobExecution<?>> executions = new ConcurrentHashMap<>();
+    private final Map<String, JobExecution<?>> latestByKey = new HashMap<>();
+    private final Set<String> runningKeys = new HashSet<>();
+    private long sequence;
+    private int running;
+    // 최근 실행 시간 지수 이동 평균 (나노초, 0이면 표본 없음)
+    private double runTimeAverage;
+
+    @Autowired
+    public AsyncJobDispatcher(
+            List<AsyncJob<?, ?>> jobs,
+            AsyncTaskService asyncTaskService,
+            JobQueueStore queueStore,
+            @Qualifier("dbExecutor") Executor dbExecutor,
+            TaskScheduler taskScheduler,
+            AppProperties appProperties,
+            MeterRegistry meterRegistry) {
+        this(jobs, asyncTaskService, queueStore, dbExecutor, taskScheduler, appProperties.getAsyncJob(), meterRegistry);
+    }
+
+    AsyncJobDispatcher(
+            List<AsyncJob<?, ?>> jobs,
+            AsyncTaskService asyncTaskService,
+            JobQueueStore queueStore,
+            Executor dbExecutor,
+            TaskScheduler taskScheduler,
+            AsyncJobProperties properties,
+            MeterRegistry meterRegistry) {
+        this.asyncTaskService = asyncTaskService;
+        this.queueStore = queueStore;
+        this.dbExecutor = dbExecutor;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (AsyncJob<?, ?> job : jobs) {
+            AsyncJob<?, ?> duplicate = jobsByType.put(job.type(), job);
+            if (duplicate != null) {
+                throw new IllegalStateException("Duplicate async job type: " + job.type());
+            }
+            this.jobs.put(ClassUtils.getUserClass(job), job);
+        }
+
+        for (JobPriority priority : JobPriority.values()) {
+            lanes.put(priority, new FairLane());
+            Gauge.builder("async.job.queued", this, dispatcher -> dispatcher.queuedCount(priority))
+                    .description("Async jobs waiting in the dispatcher queue")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("async.job.running", this, AsyncJobDispatcher::runningCount)
+                .description("Async jobs currently running")
+                .register(meterRegistry);
+
+        log.info("AsyncJobDispatcher initialized: jobs={}, maxConcurrency={}, perOwnerConcurrency={}, queueCapacity={}",
+                jobsByType.keySet(), properties.getMaxConcurrency(), properties.getPerOwnerConcurrency(),
+                properties.getQueueCapacity());
+    }
+
+    /**
+     * 작업을 생성하고 대기열에 넣습니다.
+     *
+     * @param jobClass 작업 구현 클래스
+     * @param ownerId 요청자 ID (Owner별 동시 실행 상한 기준)
+     * @param input 입력 (요청 데이터로 저장)
+     * @return 작업 ID
+     * @throws ServiceUnavailableException 대기열이 가득 찼거나 처리가 지연되는 경우 (503, Retry-After)
+     * @throws TooManyRequestsException 요청 Owner의 대기 작업이 많은 경우 (429, Retry-After)
+     */
+    public <I> String submit(Class<? extends AsyncJob<I, ?>> jobClass, Long ownerId, I input) {
+        return submit(jobClass, ownerId, input, null);
+    }
+
+    /**
+     * 멱등성 키와 함께 작업을 생성하고 대기열에 넣습니다.
+     *
+     * <p>같은 Owner가 같은 키로 이미 접수한 같은 유형의 작업이 있으면 새 작업을 만들지 않고 그 작업 ID를 반환합니다
+     * (응답 유실 후 클라이언트 재요청이 중복 반영되지 않도록).</p>
+     *
+     * @param idempotencyKey 멱등성 키 (null이면 항상 새 작업)
+     * @return 작업 ID (새 작업 또는 기존 작업)
+     * @throws BadRequestException 키가 너무 길거나 다른 유형의 작업에 이미 쓰인 경우 (400)
+     */
+    public <I> String submit(Class<? extends AsyncJob<I, ?>> jobClass, Long ownerId, I input,
+                             String idempotencyKey) {
+        @SuppressWarnings("unchecked")
+        AsyncJob<I, ?> job = (AsyncJob<I, ?>) jobs.get(jobClass);
+        if (job == null) {
+            throw new IllegalArgumentException("Unregistered async job: " + jobClass.getName());
+        }
+        if (idempotencyKey != null) {
+            if (idempotencyKey.length() > AsyncTask.IDEMPOTENCY_KEY_MAX_LENGTH) {
+                throw new BadRequestException("IDEMPOTENCY_KEY_TOO_LONG",
+                        "Idempotency-Key는 " + AsyncTask.IDEMPOTENCY_KEY_MAX_LENGTH + "자 이하여야 합니다");
+            }
+            Optional<String> existing = queueStore.findByIdempotencyKey(ownerId, job.type(), idempotencyKey);
+            if (existing.isPresent()) {
+                log.info("Async job already submitted. taskId: {}, idempotencyKey: {}", existing.get(), idempotencyKey);
+                return existing.get();
+            }
+            if (queueStore.isIdempotencyKeyUsed(ownerId, idempotencyKey)) {
+                throw idempotencyKeyReused();
+            }
+        }
+        admit(ownerId);
+
+        String taskId;
+        try {
+            taskId = queueStore.insert(job.type(), ownerId, input, idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 동시 요청: 먼저 저장된 작업을 반환
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            // 같은 유형의 작업이 없으면 다른 요청에 쓰인 키
+            return queueStore.findByIdempotencyKey(ownerId, job.type(), idempotencyKey)
+                    .orElseThrow(AsyncJobDispatcher::idempotencyKeyReused);
+        }
+        JobExecution<I> execution = newExecution(job, input,
+                new JobContext(taskId, ownerId, asyncTaskService));
+        executions.put(taskId, execution);
+        enqueue(execution);
+        return taskId;
+    }
+
+    private static BadRequestException idempotencyKeyReused() {
+        return new BadRequestException("IDEMPOTENCY_KEY_REUSED", "다른 요청에 이미 사용된 Idempotency-Key입니다");
+    }
+
+    /**
+     * 대기열 상태로 새 작업의 접수 여부를 판단합니다.
+     *
+     * @throws ServiceUnavailableException 전체 대기열 포화 / 대기 시간 초과 (503, Retry-After)
+     * @throws TooManyRequestsException 요청 Owner의 대기 작업 수 초과 (429, Retry-After)
+     */
+    private void admit(Long ownerId) {
+        String reason;
+        Duration retryAfter;
+        synchronized (this) {
+            int queued = queuedCount();
+            int ownerQueued = queuedCount(ownerId);
+            if (queued >= properties.getQueueCapacity()) {
+                reason = "queue_full";
+                retryAfter = estimateWait(queued, properties.getMaxConcurrency());
+            } else if (queued > 0 && properties.getMaxQueueLatency() != null
+                    && oldestQueuedWait(System.nanoTime()) > properties.getMaxQueueLatency().toNanos()) {
+                reason = "overloaded";
+                retryAfter = estimateWait(queued, properties.getMaxConcurrency());
+            } else if (ownerQueued >= properties.getPerOwnerQueueLimit()) {
+                reason = "owner_queue_full";
+                retryAfter = estimateWait(ownerQueued, properties.getPerOwnerConcurrency());
+            } else {
+                return;
+            }
+        }
+
+        Counter.builder("async.job.rejected")
+                .description("Async job submissions rejected by admission control")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Async job rejected. ownerId: {}, reason: {}, retryAfter: {}s", ownerId, reason, retryAfter.toSeconds());
+        switch (reason) {
+            case "owner_queue_full" -> throw new TooManyRequestsException("JOB_OWNER_QUEUE_FULL",
+                    "처리 대기 중인 요청이 많습니다. 이전 요청이 끝난 뒤 다시 시도해주세요.", retryAfter);
+            case "overloaded" -> throw new ServiceUnavailableException("JOB_QUEUE_OVERLOADED",
+                    "작업 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+            default -> throw new ServiceUnavailableException("JOB_QUEUE_FULL",
+                    "처리 대기 중인 작업이 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+    }
+
+    /**
+     * 앞선 작업 {@code ahead}개를 {@code parallelism}개씩 처리하는 데 걸릴 시간을 추정합니다.
+     */
+    private Duration estimateWait(int ahead, int parallelism) {
+        double runNanos = runTimeAverage > 0 ? runTimeAverage : TimeUnit.SECONDS.toNanos(1);
+        long rounds = Math.max(1, (ahead + parallelism - 1) / Math.max(1, parallelism));
+        long seconds = (long) Math.ceil(runNanos * rounds / TimeUnit.SECONDS.toNanos(1));
+        return Duration.ofSeconds(Math.max(1, Math.min(seconds, properties.getMaxRetryAfter().toSeconds())));
+    }
+
+    /**
+     * 대기 중인 작업 중 가장 오래 기다린 작업의 대기 시간 (나노초, Dispatcher 잠금 안에서 호출).
+     */
+    private long oldestQueuedWait(long now) {
+        long oldest = 0;
+        for (FairLane lane : lanes.values()) {
+            oldest = Math.max(oldest, lane.oldestWait(now));
+        }
+        return oldest;
+    }
+
+    /**
+     * 작업을 취소합니다.
+     *
+     * <p>대기 중인 작업은 즉시 CANCELLED가 되고, 실행 중인 작업은 인터럽트 후 작업이 중단되면 CANCELLED가 됩니다.
+     * 이 인스턴스에서 실행되지 않는 작업(재시작 전 작업 등)은 바로 CANCELLED로 기록합니다.</p>
+     *
+     * @param taskId 작업 ID
+     * @param ownerId 요청자 ID (작업 소유자만 취소 가능)
+     * @return 취소 요청 후 작업 상태
+     * @throws ForbiddenException 다른 Owner의 작업인 경우
+     * @throws BadRequestException 이미 종료된 작업인 경우
+     */
+    public AsyncTaskResponseDto cancel(String taskId, Long ownerId) {
+        AsyncTask task = asyncTaskService.getTask(taskId);
+        if (!Objects.equals(task.getUserId(), ownerId)) {
+            throw new ForbiddenException("해당 작업에 대한 권한이 없습니다");
+        }
+        if (task.getStatus() != TaskStatus.IN_PROGRESS) {
+            throw new BadRequestException(
+                    String.format("이미 종료된 작업입니다. 현재 상태: %s", task.getStatus()));
+        }
+
+        JobExecution<?> execution = executions.get(taskId);
+        if (execution == null) {
+            // 이 인스턴스에서 실행 중이 아닌 작업: 실행 중인 인스턴스가 없을 때만 DB에 즉시 기록
+            if (!queueStore.cancel(taskId)) {
+                throw new BadRequestException("TASK_RUNNING_ELSEWHERE",
+                        "다른 서버에서 실행 중이거나 이미 종료된 작업입니다. 잠시 후 상태를 다시 확인해 주세요");
+            }
+        } else {
+            boolean stopped;
+            synchronized (this) {
+                execution.context.cancel();
+                stopped = execution.state != JobState.RUNNING;
+                if (execution.state == JobState.QUEUED) {
+                    lanes.get(execution.job.priority()).remove(execution);
+                }
+                if (stopped) {
+                    execution.state = JobState.DONE;
+                    latestByKey.remove(execution.coalesceKey, execution);
+                }
+            }
+            if (stopped) {
+                finishCancelled(execution);
+            } else {
+                execution.interrupt();
+            }
+        }
+        log.info("Async job cancel requested. taskId: {}, ownerId: {}", taskId, ownerId);
+        return asyncTaskService.getTaskStatus(taskId);
+    }
+
+    private <I> JobExecution<I> newExecution(AsyncJob<I, ?> job, I input, JobContext context) {
+        String key = job.coalesceKey(input);
+        synchronized (this) {
+            // Owner를 키에 포함하여 다른 Owner의 요청이 대기 작업을 대체하지 못하도록 함
+            String coalesceKey = key != null ? job.type() + ":" + context.getOwnerId() + ":" + key : null;
+            return new JobExecution<>(job, input, context, coalesceKey, ++sequence);
+        }
+    }
+
+    private void enqueue(JobExecution<?> execution) {
+        JobExecution<?> superseded = null;
+        JobExecution<?> winner = null;
+        synchronized (this) {
+            if (execution.state == JobState.DONE) {
+                return;
+            }
+            if (execution.coalesceKey != null) {
+                JobExecution<?> latest = latestByKey.get(execution.coalesceKey);
+                if (latest != null && latest != execution) {
+                    if (latest.sequence > execution.sequence) {
+                        // 재시도/복구로 돌아온 이전 요청: 이미 최신 요청이 있음
+                        superseded = execution;
+                        winner = latest;
+                    } else if (latest.state == JobState.QUEUED || latest.state == JobState.RETRY_WAIT) {
+                        lanes.get(latest.job.priority()).remove(latest);
+                        superseded = latest;
+                        winner = execution;
+                    }
+                    // 실행 중인 이전 요청은 끝난 뒤 새 요청이 실행됨 (runningKeys)
+                }
+                if (superseded != null) {
+                    superseded.state = JobState.DONE;
+                }
+                if (superseded != execution) {
+                    latestByKey.put(execution.coalesceKey, execution);
+                }
+            }
+            if (superseded != execution) {
+                execution.state = JobState.QUEUED;
+                execution.enqueuedAt = System.nanoTime();
+                lanes.get(execution.job.priority()).add(execution);
+            }
+        }
+        if (superseded != null) {
+            finishSuperseded(superseded, winner);
+        }
+        drain();
+    }
+
+    /**
+     * 실행 가능한 작업을 상한까지 dbExecutor로 넘깁니다.
+     */
+    private void drain() {
+        List<JobExecution<?>> ready = new ArrayList<>();
+        synchronized (this) {
+            JobExecution<?> next;
+            while (running < properties.getMaxConcurrency() && (next = pollEligible()) != null) {
+                next.state = JobState.RUNNING;
+                if (next.coalesceKey != null) {
+                    runningKeys.add(next.coalesceKey);
+                }
+                running++;
+                runningPerOwner.merge(next.context.getOwnerId(), 1, Integer::sum);
+                ready.add(next);
+            }
+        }
+        for (JobExecution<?> execution : ready) {
+            dbExecutor.execute(() -> run(execution));
+        }
+    }
+
+    private JobExecution<?> pollEligible() {
+        for (FairLane lane : lanes.values()) {
+            JobExecution<?> candidate = lane.poll(
+                    ownerId -> runningPerOwner.getOrDefault(ownerId, 0) < properties.getPerOwnerConcurrency(),
+                    execution -> execution.coalesceKey == null || !runningKeys.contains(execution.coalesceKey));
+            if (candidate != null) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private <I> void run(JobExecution<I> execution) {
+        AsyncJob<I, ?> job = execution.job;
+        JobContext context = execution.context;
+        String taskId = context.getTaskId();
+        long waited = System.nanoTime() - execution.enqueuedAt;
+        Timer.builder("async.job.queue.latency")
+                .description("Time async jobs waited in the dispatcher queue")
+                .tags("type", job.type(), "priority", job.priority().name())
+                .register(meterRegistry)
+                .record(waited, TimeUnit.NANOSECONDS);
+
+        Duration timeout = job.timeout() != null ? job.timeout() : properties.getDefaultTimeout();
+        long start = System.nanoTime();
+        // 아래 어느 단계에서 예외가 나도 슬롯/키를 반납하고 하트비트 대상에서 제외 (임대 만료 후 회수)
+        String outcome = "failed";
+        String result = null;
+        try {
+            context.nextAttempt();
+            if (!acquireLease(execution)) {
+                outcome = "lease_lost";
+                return;
+            }
+
+            execution.begin(Thread.currentThread());
+            ScheduledFuture<?> timeoutHandle = null;
+            try {
+                timeoutHandle = taskScheduler.schedule(() -> expire(execution), Instant.now().plus(timeout));
+                context.checkCancelled();
+                result = job.isTransactional()
+                        ? queueStore.executeAndComplete(taskId, () -> job.execute(execution.input, context))
+                        : queueStore.executeThenComplete(taskId, () -> job.execute(execution.input, context));
+                outcome = "completed";
+            } catch (LeaseLostException e) {
+                log.warn("Async job lease lost, changes rolled back. taskId: {}, type: {}", taskId, job.type());
+                queueStore.detach(taskId);
+                outcome = "lease_lost";
+            } catch (Exception e) {
+                outcome = handleFailure(execution, timeout, e);
+            } finally {
+                if (timeoutHandle != null) {
+                    timeoutHandle.cancel(false);
+                }
+                execution.end();
+            }
+        } catch (RuntimeException e) {
+            log.error("Async job dispatch failed. taskId: {}, type: {}", taskId, job.type(), e);
+        } finally {
+            if ("completed".equals(outcome)) {
+                applyCompleted(taskId, result);
+            }
+            Timer.builder("async.job.run")
+                    .description("Async job run time per attempt")
+                    .tags("type", job.type(), "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            synchronized (this) {
+                runTimeAverage = movingAverage(runTimeAverage, System.nanoTime() - start);
+            }
+            release(execution, outcome);
+        }
+    }
+
+    /**
+     * 실행 직전 임대를 획득합니다. 획득하지 못하거나 조회가 실패하면 메모리 레지스트리에서 제거합니다.
+     */
+    private boolean acquireLease(JobExecution<?> execution) {
+        String taskId = execution.context.getTaskId();
+        boolean acquired;
+        try {
+            acquired = queueStore.acquire(taskId);
+        } catch (RuntimeException e) {
+            queueStore.detach(taskId);
+            throw e;
+        }
+        if (!acquired) {
+            log.warn("Async job lease unavailable, skipping. taskId: {}, type: {}", taskId, execution.job.type());
+            queueStore.detach(taskId);
+        }
+        return acquired;
+    }
+
+    /**
+     * 커밋된 완료 결과를 메모리 상태에 반영합니다.
+     *
+     * <p>작업 변경과 COMPLETED 행은 이미 커밋되었으므로, 여기서 실패해도 재시도/실패 처리하지 않습니다.</p>
+     */
+    private void applyCompleted(String taskId, String result) {
+        try {
+            asyncTaskService.completeTask(taskId, result);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish completed async task state. taskId: {}", taskId, e);
+        }
+    }
+
+    private static double movingAverage(double average, long sample) {
+        return average == 0 ? sample : average + LATENCY_SMOOTHING * (sample - average);
+    }
+
+    /**
+     * 실행 슬롯을 반납하고 다음 작업을 실행합니다.
+     */
+    private void release(JobExecution<?> execution, String outcome) {
+        String taskId = execution.context.getTaskId();
+        synchronized (this) {
+            running--;
+            runningPerOwner.computeIfPresent(execution.context.getOwnerId(),
+                    (owner, count) -> count > 1 ? count - 1 : null);
+            if (execution.coalesceKey != null) {
+                runningKeys.remove(execution.coalesceKey);
+            }
+            if (!"retry".equals(outcome)) {
+                execution.state = JobState.DONE;
+                executions.remove(taskId);
+                latestByKey.remove(execution.coalesceKey, execution);
+            }
+        }
+        drain();
+    }
+
+    private String handleFailure(JobExecution<?> execution, Duration timeout, Exception e) {
+        AsyncJob<?, ?> job = execution.job;
+        JobContext context = execution.context;
+        String taskId = context.getTaskId();
+
+        if (context.isTimedOut()) {
+            log.warn("Async job timed out. taskId: {}, type: {}, timeout: {}", taskId, job.type(), timeout);
+            asyncTaskService.failTask(taskId, "작업 시간이 초과되었습니다 (" + timeout.toSeconds() + "초)");
+            return "timeout";
+        }
+        if (context.isCancelled()) {
+            finishCancelled(execution);
+            return "cancelled";
+        }
+
+        int maxAttempts = maxAttempts(job);
+        if (context.getAttempt() < maxAttempts && job.isRetryable(e)) {
+            JobExecution<?> winner;
+            synchronized (this) {
+                winner = execution.coalesceKey != null ? latestByKey.get(execution.coalesceKey) : null;
+            }
+            if (winner != null && winner != execution) {
+                // 실행 중 더 최신 요청이 접수됨: 이전 요청은 재시도하지 않음
+                finishSuperseded(execution, winner);
+                return "superseded";
+            }
+            Duration backoff = backoff(context.getAttempt());
+            log.warn("Async job failed, retrying in {}ms. taskId: {}, type: {}, attempt: {}/{}, error: {}",
+                    backoff.toMillis(), taskId, job.type(), context.getAttempt(), maxAttempts, e.toString());
+            synchronized (this) {
+                execution.state = JobState.RETRY_WAIT;
+            }
+            Counter.builder("async.job.retries")
+                    .description("Async job attempts scheduled for retry")
+                    .tag("type", job.type())
+                    .register(meterRegistry)
+                    .increment();
+            taskScheduler.schedule(() -> enqueue(execution), Instant.now().plus(backoff));
+            return "retry";
+        }
+
+        log.error("Async job failed. taskId: {}, type: {}, attempt: {}", taskId, job.type(), context.getAttempt(), e);
+        asyncTaskService.failTask(taskId, e.getMessage());
+        return "failed";
+    }
+
+    /**
+     * 이 인스턴스가 가진 작업(대기/실행/재시도 대기)의 임대를 연장합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.async-job.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        try {
+            queueStore.renew(new ArrayList<>(executions.keySet()));
+        } catch (Exception e) {
+            log.warn("Failed to renew async job leases: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recoverOrphans();
+    }
+
+    /**
+     * 임대가 만료된 진행 중 작업을 회수하여 다시 실행하거나 실패 처리합니다.
+     *
+     * @return 처리한 작업 수
+     */
+    @Scheduled(fixedDelayString = "${app.async-job.recovery-interval:PT30S}",
+            initialDelayString = "${app.async-job.recovery-interval:PT30S}")
+    public int recoverOrphans() {
+        List<AsyncTask> orphans;
+        try {
+            orphans = queueStore.findOrphans(properties.getRecoveryBatchSize());
+        } catch (Exception e) {
+            log.warn("Failed to look up orphaned async jobs: {}", e.getMessage());
+            return 0;
+        }
+
+        int handled = 0;
+        for (AsyncTask task : orphans) {
+            if (executions.containsKey(task.getTaskId())) {
+                // 하트비트 지연으로 만료된 자신의 작업
+                continue;
+            }
+            try {
+                if (recover(task)) {
+                    handled++;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to recover async job. taskId: {}, error: {}", task.getTaskId(), e.getMessage());
+            }
+        }
+        if (handled > 0) {
+            log.info("Orphaned async jobs recovered: {}", handled);
+        }
+        return handled;
+    }
+
+    private boolean recover(AsyncTask task) {
+        AsyncJob<?, ?> job = jobsByType.get(task.getTaskType());
+        int attempts = task.getAttempts() != null ? task.getAttempts() : 0;
+        if (job == null || !job.isRecoverable() || attempts >= maxAttempts(job)) {
+            return failOrphan(task, task.getTaskType());
+        }
+        return resume(job, task, attempts);
+    }
+
+    private <I> boolean resume(AsyncJob<I, ?> job, AsyncTask task, int attempts) {
+        I input;
+        try {
+            input = queueStore.readInput(task, job);
+        } catch (Exception e) {
+            log.warn("Unreadable async job input. taskId: {}, error: {}", task.getTaskId(), e.getMessage());
+            return failOrphan(task, job.type());
+        }
+        if (!queueStore.claim(task)) {
+            return false;
+        }
+
+        JobExecution<I> execution = newExecution(job, input,
+                new JobContext(task.getTaskId(), task.getUserId(), asyncTaskService, attempts));
+        executions.put(task.getTaskId(), execution);
+        recovered(job.type(), "reclaimed");
+        log.info("Orphaned async job reclaimed. taskId: {}, type: {}, attempts: {}", task.getTaskId(), job.type(), attempts);
+        enqueue(execution);
+        return true;
+    }
+
+    private boolean failOrphan(AsyncTask task, String type) {
+        if (!queueStore.failOrphan(task.getTaskId(), ORPHAN_FAILURE_MESSAGE)) {
+            return false;
+        }
+        recovered(type, "failed");
+        log.warn("Orphaned async job failed. taskId: {}, type: {}, attempts: {}", task.getTaskId(), type, task.getAttempts());
+        return true;
+    }
+
+    private void recovered(String type, String outcome) {
+        Counter.builder("async.job.recovered")
+                .description("Orphaned async jobs found after their lease expired")
+                .tags("type", type, "outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private int maxAttempts(AsyncJob<?, ?> job) {
+        return job.maxAttempts() > 0 ? job.maxAttempts() : properties.getMaxAttempts();
+    }
+
+    private void finishCancelled(JobExecution<?> execution) {
+        String taskId = execution.context.getTaskId();
+        executions.remove(taskId);
+        asyncTaskService.updateTaskStatus(taskId, TaskStatus.CANCELLED, null);
+        log.info("Async job cancelled. taskId: {}, type: {}", taskId, execution.job.type());
+    }
+
+    private void finishSuperseded(JobExecution<?> execution, JobExecution<?> winner) {
+        String taskId = execution.context.getTaskId();
+        String winnerTaskId = winner.context.getTaskId();
+        executions.remove(taskId);
+        asyncTaskService.supersedeTask(taskId, winnerTaskId);
+        Counter.builder("async.job.coalesced")
+                .description("Async jobs superseded by a newer request for the same target")
+                .tag("type", execution.job.type())
+                .register(meterRegistry)
+                .increment();
+        log.info("Async job superseded. taskId: {}, type: {}, supersededBy: {}",
+                taskId, execution.job.type(), winnerTaskId);
+    }
+
+    private void expire(JobExecution<?> execution) {
+        execution.context.expire();
+        execution.interrupt();
+    }
+
+    Duration backoff(int attempt) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempt - 1, 30));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    synchronized int queuedCount() {
+        return lanes.values().stream().mapToInt(FairLane::size).sum();
+    }
+
+    synchronized int queuedCount(JobPriority priority) {
+        return lanes.get(priority).size();
+    }
+
+    synchronized int queuedCount(Long ownerId) {
+        return lanes.values().stream().mapToInt(lane -> lane.size(ownerId)).sum();
+    }
+
+    synchronized int runningCount() {
+        return running;
+    }
+
+    private enum JobState {
+        QUEUED, RUNNING, RETRY_WAIT, DONE
+    }
+
+    /**
+     * 우선순위 하나의 대기열 (Owner별 FIFO, Owner 간 라운드 로빈). Dispatcher 잠금 안에서만 사용합니다.
+     */
+    private static final class FairLane {
+
+        private final LinkedHashMap<Long, Deque<JobExecution<?>>> owners = new LinkedHashMap<>();
+        private int size;
+
+        private void add(JobExecution<?> execution) {
+            owners.computeIfAbsent(execution.context.getOwnerId(), owner -> new ArrayDeque<>()).addLast(execution);
+            size++;
+        }
+
+        private void remove(JobExecution<?> execution) {
+            Long ownerId = execution.context.getOwnerId();
+            Deque<JobExecution<?>> queue = owners.get(ownerId);
+            if (queue != null && queue.remove(execution)) {
+                size--;
+                if (queue.isEmpty()) {
+                    owners.remove(ownerId);
+                }
+            }
+        }
+
+        /**
+         * 실행 가능한 Owner를 순서대로 보며 첫 실행 가능한 작업을 꺼내고, 그 Owner를 맨 뒤로 보냅니다.
+         */
+        private JobExecution<?> poll(Predicate<Long> ownerEligible, Predicate<JobExecution<?>> eligible) {
+            for (Map.Entry<Long, Deque<JobExecution<?>>> entry : owners.entrySet()) {
+                if (!ownerEligible.test(entry.getKey())) {
+                    continue;
+                }
+                Iterator<JobExecution<?>> iterator = entry.getValue().iterator();
+                while (iterator.hasNext()) {
+                    JobExecution<?> candidate = iterator.next();
+                    if (eligible.test(candidate)) {
+                        iterator.remove();
+                        size--;
+                        Deque<JobExecution<?>> queue = owners.remove(entry.getKey());
+                        if (!queue.isEmpty()) {
+                            owners.put(entry.getKey(), queue);
+                        }
+                        return candidate;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        /**
+         * 가장 오래 기다린 작업의 대기 시간 (Owner별 FIFO이므로 각 Owner의 첫 작업만 확인).
+         */
+        private long oldestWait(long now) {
+            long oldest = 0;
+            for (Deque<JobExecution<?>> queue : owners.values()) {
+                JobExecution<?> head = queue.peekFirst();
+                if (head != null) {
+                    oldest = Math.max(oldest, now - head.enqueuedAt);
+                }
+            }
+            return oldest;
+        }
+
+        private int size(Long ownerId) {
+            Deque<JobExecution<?>> queue = owners.get(ownerId);
+            return queue != null ? queue.size() : 0;
+        }
+    }
+
+    /**
+     * 대기열 항목 (재시도 간 유지).
+     */
+    private static final class JobExecution<I> {
+
+        private final AsyncJob<I, ?> job;
+        private final I input;
+        private final JobContext context;
+        private final String coalesceKey;
+        private final long sequence;
+
+        private JobState state;
+        private long enqueuedAt;
+        private Thread worker;
+
+        private JobExecution(AsyncJob<I, ?> job, I input, JobContext context, String coalesceKey, long sequence) {
+            this.job = job;
+            this.input = input;
+            this.context = context;
+            this.coalesceKey = coalesceKey;
+            this.sequence = sequence;
+        }
+
+        private synchronized void begin(Thread thread) {
+            worker = thread;
+        }
+
+        private synchronized void interrupt() {
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+
+        private synchronized void end() {
+            worker = null;
+            // 작업 종료 후 도착한 인터럽트가 풀 스레드에 남지 않도록 정리
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package vibe.scon.scon_backend.service.job;
+
+/**
+ * 실행 중인 작업이 취소되었거나 제한 시간을 넘겼음을 알리는 예외.
+ *
+ * <p>{@link JobContext#checkCancelled()}가 던지며, {@link AsyncJobDispatcher}가 받아
+ * 작업을 CANCELLED(취소) 또는 FAILED(타임아웃)로 기록합니다. 재시도하지 않습니다.</p>
+ */
+public class JobCancelledException extends RuntimeException {
+
+    public JobCancelledException(String taskId) {
+        super("Job cancelled: " + taskId);
+    }
+}
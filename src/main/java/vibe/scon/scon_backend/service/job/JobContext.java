@@ -0,0 +1,83 @@
+package vibe.scon.scon_backend.service.job;
+
+import lombok.Getter;
+import vibe.scon.scon_backend.service.AsyncTaskService;
+
+/**
+ * 실행 중인 작업의 컨텍스트 (진행률 보고, 취소 확인).
+ *
+ * <p>{@link AsyncJobDispatcher}가 작업마다 하나씩 만들고 재시도 간에도 유지합니다.</p>
+ *
+ * @see AsyncJob#execute(Object, JobContext)
+ */
+public class JobContext {
+
+    @Getter
+    private final String taskId;
+    @Getter
+    private final Long ownerId;
+    private final AsyncTaskService asyncTaskService;
+
+    /**
+     * 현재 실행 회차 (1부터 시작).
+     */
+    @Getter
+    private volatile int attempt;
+    private volatile boolean cancelled;
+    private volatile boolean timedOut;
+
+    JobContext(String taskId, Long ownerId, AsyncTaskService asyncTaskService) {
+        this(taskId, ownerId, asyncTaskService, 0);
+    }
+
+    /**
+     * @param attempts 이미 실행된 횟수 (복구한 작업)
+     */
+    JobContext(String taskId, Long ownerId, AsyncTaskService asyncTaskService, int attempts) {
+        this.taskId = taskId;
+        this.ownerId = ownerId;
+        this.asyncTaskService = asyncTaskService;
+        this.attempt = attempts;
+    }
+
+    /**
+     * 진행률을 보고합니다 (메모리에만 반영, SSE 구독자에게 전달).
+     *
+     * @param progress 진행률 (0-100)
+     */
+    public void progress(int progress) {
+        asyncTaskService.updateTaskProgress(taskId, progress);
+    }
+
+    /**
+     * 취소 요청 또는 제한 시간 초과 여부.
+     */
+    public boolean isCancelled() {
+        return cancelled || timedOut;
+    }
+
+    /**
+     * 취소되었거나 제한 시간을 넘겼으면 {@link JobCancelledException}을 던집니다.
+     */
+    public void checkCancelled() {
+        if (isCancelled()) {
+            throw new JobCancelledException(taskId);
+        }
+    }
+
+    boolean isTimedOut() {
+        return timedOut;
+    }
+
+    void nextAttempt() {
+        attempt++;
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    void expire() {
+        timedOut = true;
+    }
+}
@@ -0,0 +1,25 @@
+package vibe.scon.scon_backend.service.job;
+
+/**
+ * 비동기 작업 대기열 우선순위.
+ *
+ * <p>{@link AsyncJobDispatcher}는 높은 우선순위 대기열부터 실행할 작업을 고릅니다.</p>
+ *
+ * @see AsyncJob#priority()
+ */
+public enum JobPriority {
+    /**
+     * 사용자가 화면에서 결과를 기다리는 작업.
+     */
+    HIGH,
+
+    /**
+     * 일반 작업.
+     */
+    NORMAL,
+
+    /**
+     * 배치/정리 등 지연되어도 되는 작업.
+     */
+    LOW
+}
@@ -0,0 +1,313 @@
+package vibe.scon.scon_backend.service.job;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.AsyncJobProperties;
+import vibe.scon.scon_backend.entity.AsyncTask;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.repository.AsyncTaskRepository;
+import vibe.scon.scon_backend.service.AsyncTaskRegistry;
+import vibe.scon.scon_backend.service.TaskPayloadCodec;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * 비동기 작업 대기열 영속화 ({@code async_tasks} 행 + 실행 임대).
+ *
+ * <p>{@link AsyncJobDispatcher}의 메모리 대기열을 DB 행으로 뒷받침하여, 프로세스가 비정상 종료되어도
+ * 작업이 IN_PROGRESS로 방치되지 않도록 합니다.</p>
+ *
+ * <h3>동작 방식:</h3>
+ * <ul>
+ *   <li>작업 접수 시 행을 즉시 INSERT합니다 (202 응답 전에 작업이 DB에 존재). 이때 이 인스턴스가 임대를 가집니다.</li>
+ *   <li>임대({@code lease_owner}, {@code lease_expires_at})는 대기/실행 중인 동안 하트비트로 연장되며,
+ *       만료된 작업은 다른 인스턴스(또는 재시작한 프로세스)가 회수합니다.</li>
+ *   <li>작업 결과와 완료 기록은 같은 트랜잭션에서 커밋됩니다. 완료 기록은 임대 소유자만 할 수 있으므로,
+ *       임대를 잃은 실행의 변경은 롤백되어 같은 작업이 두 번 반영되지 않습니다.
+ *       ({@link AsyncJob#isTransactional()}이 false인 멱등 작업은 실행 후 완료 기록만 별도 트랜잭션에서 남깁니다.)</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ *   <li>{@code REQ-NF-004} - 서비스 가용성 (비정상 종료 후 작업 복구, 최대 1회 반영)</li>
+ * </ul>
+ *
+ * @see AsyncJobDispatcher
+ * @see vibe.scon.scon_backend.repository.AsyncTaskRepository#acquireLease
+ */
+@Slf4j
+@Component
+public class JobQueueStore {
+
+    // SQLite 바인드 변수 상한(999) 이하로 IN 절을 나눔
+    private static final int RENEW_CHUNK_SIZE = 500;
+
+    private final AsyncTaskRepository repository;
+    private final AsyncTaskRegistry asyncTaskRegistry;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskPayloadCodec payloadCodec;
+    private final AsyncJobProperties properties;
+    private final Duration resultTtl;
+    private final Clock clock;
+    private final String instanceId;
+
+    @Autowired
+    public JobQueueStore(
+            AsyncTaskRepository repository,
+            AsyncTaskRegistry asyncTaskRegistry,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            TaskPayloadCodec payloadCodec,
+            AppProperties appProperties) {
+        this(repository, asyncTaskRegistry, entityManager, transactionManager, payloadCodec,
+                appProperties.getAsyncJob(), appProperties.getAsyncTask().getResultTtl(), Clock.systemDefaultZone());
+    }
+
+    JobQueueStore(
+            AsyncTaskRepository repository,
+            AsyncTaskRegistry asyncTaskRegistry,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            TaskPayloadCodec payloadCodec,
+            AsyncJobProperties properties,
+            Duration resultTtl,
+            Clock clock) {
+        this.repository = repository;
+        this.asyncTaskRegistry = asyncTaskRegistry;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.payloadCodec = payloadCodec;
+        this.properties = properties;
+        this.resultTtl = resultTtl;
+        this.clock = clock;
+        // 재시작한 프로세스는 이전 프로세스의 임대를 자신의 것으로 보지 않도록 실행마다 새 ID 사용
+        this.instanceId = StringUtils.hasText(properties.getInstanceId())
+                ? properties.getInstanceId()
+                : ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 작업 행을 즉시 저장하고 메모리 레지스트리에 등록합니다 (이 인스턴스가 임대 소유).
+     *
+     * @return 작업 ID
+     * @throws org.springframework.dao.DataIntegrityViolationException 같은 멱등성 키의 작업이 이미 있는 경우
+     * @throws vibe.scon.scon_backend.exception.BadRequestException 요청 데이터가 상한을 넘는 경우
+     */
+    public String insert(String taskType, Long ownerId, Object input, String idempotencyKey) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        AsyncTask task = AsyncTask.builder()
+                .taskId(UUID.randomUUID().toString())
+                .status(TaskStatus.IN_PROGRESS)
+                .taskType(taskType)
+                .userId(ownerId)
+                .requestData(payloadCodec.encodeRequest(input))
+                .progress(0)
+                .startedAt(now)
+                .expiresAt(now.plus(resultTtl))
+                .idempotencyKey(idempotencyKey)
+                .leaseOwner(instanceId)
+                .leaseExpiresAt(now.plus(properties.getLeaseDuration()))
+                .attempts(0)
+                .build();
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(task));
+        asyncTaskRegistry.adopt(task, instanceId);
+        log.info("Async task created. taskId: {}, taskType: {}, userId: {}", task.getTaskId(), taskType, ownerId);
+        return task.getTaskId();
+    }
+
+    /**
+     * 멱등성 키로 이미 접수된 같은 유형의 작업 ID를 조회합니다.
+     */
+    public Optional<String> findByIdempotencyKey(Long ownerId, String taskType, String idempotencyKey) {
+        return repository.findTaskIdByIdempotencyKey(ownerId, taskType, idempotencyKey);
+    }
+
+    /**
+     * 멱등성 키가 다른 유형의 작업을 포함해 이미 쓰였는지 확인합니다.
+     */
+    public boolean isIdempotencyKeyUsed(Long ownerId, String idempotencyKey) {
+        return repository.existsByUserIdAndIdempotencyKey(ownerId, idempotencyKey);
+    }
+
+    /**
+     * 실행 직전 임대를 획득합니다 (시도 횟수 증가).
+     *
+     * @return false이면 다른 인스턴스가 실행 중이거나 이미 종료된 작업
+     */
+    public boolean acquire(String taskId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Integer updated = transactionTemplate.execute(status ->
+                repository.acquireLease(taskId, instanceId, now, now.plus(properties.getLeaseDuration())));
+        return updated != null && updated == 1;
+    }
+
+    /**
+     * 작업을 실행하고, 같은 트랜잭션에서 완료 상태를 기록합니다.
+     *
+     * <p>작업 안의 {@code @Transactional} 서비스 호출은 이 트랜잭션에 참여합니다.
+     * 완료 기록에 실패하면(임대 상실, 이미 종료) 작업의 변경도 함께 롤백됩니다.</p>
+     *
+     * @return 인코딩된 결과 ({@link TaskPayloadCodec#encodeResult(Object)}, 메모리 상태 반영용)
+     * @throws LeaseLostException 임대를 잃은 경우 (작업 변경 롤백됨)
+     * @throws Exception 작업이 던진 예외 (작업 변경 롤백됨)
+     */
+    public String executeAndComplete(String taskId, Callable<?> work) throws Exception {
+        try {
+            return transactionTemplate.execute(status -> {
+                String result = payloadCodec.encodeResult(call(work));
+                int updated = repository.completeLeased(taskId, instanceId, TaskStatus.COMPLETED,
+                        result, LocalDateTime.now(clock));
+                if (updated != 1) {
+                    throw new LeaseLostException(taskId);
+                }
+                return result;
+            });
+        } catch (CheckedJobException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    /**
+     * 작업을 트랜잭션 없이 실행한 뒤, 별도 트랜잭션에서 완료 상태를 기록합니다 ({@link AsyncJob#isTransactional()}이 false인 작업).
+     *
+     * <p>작업 안의 {@code @Transactional} 서비스 호출은 각자 커밋되며, 완료 기록에 실패해도 롤백되지 않습니다.</p>
+     *
+     * @return 인코딩된 결과 ({@link TaskPayloadCodec#encodeResult(Object)}, 메모리 상태 반영용)
+     * @throws LeaseLostException 임대를 잃은 경우 (이미 커밋된 작업 변경은 유지됨)
+     * @throws Exception 작업이 던진 예외
+     */
+    public String executeThenComplete(String taskId, Callable<?> work) throws Exception {
+        String result = payloadCodec.encodeResult(work.call());
+        Integer updated = transactionTemplate.execute(status -> repository.completeLeased(taskId, instanceId,
+                TaskStatus.COMPLETED, result, LocalDateTime.now(clock)));
+        if (updated == null || updated != 1) {
+            throw new LeaseLostException(taskId);
+        }
+        return result;
+    }
+
+    /**
+     * 이 인스턴스가 가진 작업들의 임대를 연장합니다 (하트비트).
+     */
+    public void renew(List<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now(clock).plus(properties.getLeaseDuration());
+        for (int from = 0; from < taskIds.size(); from += RENEW_CHUNK_SIZE) {
+            List<String> chunk = new ArrayList<>(taskIds.subList(from, Math.min(from + RENEW_CHUNK_SIZE, taskIds.size())));
+            transactionTemplate.executeWithoutResult(status -> repository.renewLeases(chunk, instanceId, until));
+        }
+    }
+
+    /**
+     * 임대가 없거나 만료된 진행 중 작업을 조회합니다 (오래된 순).
+     */
+    public List<AsyncTask> findOrphans(int limit) {
+        return repository.findOrphaned(LocalDateTime.now(clock), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 만료된 임대를 회수하고 작업을 메모리 레지스트리에 등록합니다.
+     *
+     * @return false이면 다른 인스턴스가 먼저 회수
+     */
+    public boolean claim(AsyncTask task) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Integer updated = transactionTemplate.execute(status -> repository.claimExpiredLease(
+                task.getTaskId(), instanceId, now, now.plus(properties.getLeaseDuration())));
+        if (updated == null || updated != 1) {
+            return false;
+        }
+        asyncTaskRegistry.adopt(task, instanceId);
+        return true;
+    }
+
+    /**
+     * 임대가 만료된 작업을 실패 처리합니다 (복구하지 않는 작업).
+     *
+     * @return false이면 다른 인스턴스가 먼저 처리
+     */
+    public boolean failOrphan(String taskId, String errorMessage) {
+        Integer updated = transactionTemplate.execute(status ->
+                repository.failOrphaned(taskId, errorMessage, LocalDateTime.now(clock)));
+        asyncTaskRegistry.forget(taskId);
+        return updated != null && updated == 1;
+    }
+
+    /**
+     * 이 인스턴스에서 실행 중이 아닌 작업을 즉시 취소합니다 (임대가 없거나, 이 인스턴스의 임대이거나, 만료된 경우).
+     *
+     * @return false이면 다른 인스턴스가 실행 중이거나 이미 종료된 작업
+     */
+    public boolean cancel(String taskId) {
+        Integer updated = transactionTemplate.execute(status ->
+                repository.cancelUnleased(taskId, instanceId, LocalDateTime.now(clock)));
+        if (updated == null || updated != 1) {
+            return false;
+        }
+        asyncTaskRegistry.completePersisted(taskId, TaskStatus.CANCELLED, null);
+        return true;
+    }
+
+    /**
+     * 메모리 레지스트리에서 작업을 제거합니다 (임대를 잃은 작업, 이후 조회는 DB).
+     */
+    public void detach(String taskId) {
+        asyncTaskRegistry.forget(taskId);
+    }
+
+    /**
+     * 저장된 요청 데이터를 작업의 입력 타입으로 복원합니다.
+     */
+    public <I> I readInput(AsyncTask task, AsyncJob<I, ?> job) throws Exception {
+        Class<?> inputType = ResolvableType.forClass(AsyncJob.class, job.getClass()).getGeneric(0).resolve(Object.class);
+        @SuppressWarnings("unchecked")
+        I input = (I) payloadCodec.read(task.getRequestData(), inputType);
+        return input;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private static <O> O call(Callable<O> work) {
+        try {
+            return work.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CheckedJobException(e);
+        }
+    }
+
+    /**
+     * TransactionCallback 밖으로 작업의 검사 예외를 전달하기 위한 래퍼.
+     */
+    private static final class CheckedJobException extends RuntimeException {
+        private CheckedJobException(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package vibe.scon.scon_backend.service.job;
+
+/**
+ * 작업 실행 임대를 잃었음을 알리는 예외.
+ *
+ * <p>다른 인스턴스가 만료된 임대를 회수했거나 작업이 이미 종료(취소 등)된 경우,
+ * 작업 결과와 완료 기록을 같은 트랜잭션에서 롤백하기 위해 {@link JobQueueStore}가 던집니다.
+ * {@link AsyncJobDispatcher}는 이 작업을 재시도하거나 실패 처리하지 않습니다.</p>
+ */
+public class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(String taskId) {
+        super("Job lease lost: " + taskId);
+    }
+}
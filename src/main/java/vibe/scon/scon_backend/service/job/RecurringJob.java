@@ -0,0 +1,64 @@
+package vibe.scon.scon_backend.service.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * cron으로 반복 실행되는 비동기 작업.
+ *
+ * <p>구현체를 Spring Bean으로 등록하면 {@link RecurringJobScheduler}가 {@code job_schedules}에 등록하고,
+ * 실행 시각마다 {@link AsyncJobDispatcher}로 접수합니다. 실행은 일반 작업과 같이 {@code async_tasks}에 기록되며
+ * 대기열/재시도/타임아웃/중단 복구가 그대로 적용됩니다.</p>
+ *
+ * <h3>구현 규칙:</h3>
+ * <ul>
+ *   <li>{@link #cron()}은 기본 실행 주기이며 {@code app.recurring-job.cron.<type>}으로 재정의합니다 ("-"이면 비활성화).</li>
+ *   <li>실행 시각에는 지터가 더해지고, 놓친 실행은 1회로 모아 늦게 실행될 수 있습니다.
+ *       처리 대상은 현재 시각이 아닌 {@link Run#getScheduledAt()} 기준으로 정해야 합니다.</li>
+ *   <li>같은 실행이 재시도/복구로 다시 실행될 수 있으므로 작업은 멱등이어야 합니다.</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ * </ul>
+ *
+ * @param <O> 결과 타입
+ * @see RecurringJobScheduler
+ */
+public interface RecurringJob<O> extends AsyncJob<RecurringJob.Run, O> {
+
+    /**
+     * 기본 실행 주기 (Spring cron 6필드, 서버 시간대).
+     */
+    String cron();
+
+    /**
+     * 대기열 우선순위. 기본값: LOW (사용자 요청 작업보다 뒤에 실행).
+     */
+    @Override
+    default JobPriority priority() {
+        return JobPriority.LOW;
+    }
+
+    /**
+     * 반복 작업 실행 입력 (요청 데이터로 저장되어 복구 시 다시 읽힘).
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class Run {
+        /**
+         * 예정 실행 시각 (지터 포함).
+         */
+        private LocalDateTime scheduledAt;
+
+        /**
+         * 서버 중단 등으로 예정 시각보다 늦게 보정 실행되는지 여부.
+         */
+        private boolean catchUp;
+    }
+}
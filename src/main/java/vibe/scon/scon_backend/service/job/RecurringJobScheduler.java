@@ -0,0 +1,245 @@
+package vibe.scon.scon_backend.service.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.RecurringJobProperties;
+import vibe.scon.scon_backend.entity.JobSchedule;
+import vibe.scon.scon_backend.exception.BusinessException;
+import vibe.scon.scon_backend.repository.JobScheduleRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 반복 작업 스케줄러.
+ *
+ * <p>{@link RecurringJob} 구현체를 {@code job_schedules}에 등록하고, 실행 시각이 된 작업을
+ * {@link AsyncJobDispatcher}에 시스템 작업({@link #SYSTEM_OWNER_ID})으로 접수합니다.</p>
+ *
+ * <h3>동작 방식:</h3>
+ * <ul>
+ *   <li>단일 실행 - 인스턴스들은 {@code next_run_at}을 조회한 값에서 다음 값으로 바꾸는 조건부 UPDATE로 실행을 선점합니다.
+ *       선점한 인스턴스만 작업을 접수하며, 실행 시각별 멱등성 키로 같은 실행이 두 번 접수되지 않습니다.</li>
+ *   <li>지터 - 다음 실행 시각에 0 ~ {@code jitter}의 임의 지연을 더해 저장합니다.</li>
+ *   <li>누락 실행 보정 - 서버 중단으로 놓친 실행은 {@code catch-up-window} 안이면 1회로 모아 실행하고,
+ *       더 오래되었으면 건너뛴 뒤 다음 주기부터 실행합니다.</li>
+ *   <li>접수가 거부되거나(대기열 포화 등) 실패하면 선점을 되돌려 다음 조회에서 다시 접수하고, 나머지 작업은 계속 처리합니다.</li>
+ *   <li>cron이 바뀌면 시작 시 다음 실행 시각을 다시 계산합니다.</li>
+ * </ul>
+ *
+ * <h3>메트릭:</h3>
+ * <ul>
+ *   <li>{@code recurring.job.runs{type,outcome}} - outcome: submitted, caught_up, skipped, rejected, failed</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ *   <li>{@code REQ-NF-004} - 서비스 가용성 (재시작 후 놓친 실행 보정)</li>
+ * </ul>
+ *
+ * @see RecurringJob
+ * @see vibe.scon.scon_backend.entity.JobSchedule
+ */
+@Slf4j
+@Component
+public class RecurringJobScheduler {
+
+    /**
+     * 반복 작업의 {@code async_tasks.user_id} (실제 Owner가 아닌 시스템 작업).
+     */
+    public static final long SYSTEM_OWNER_ID = 0L;
+
+    private static final String DISABLED = "-";
+
+    private final Map<String, RecurringJob<?>> jobs = new LinkedHashMap<>();
+    private final Map<String, String> crons = new LinkedHashMap<>();
+    private final JobScheduleRepository repository;
+    private final AsyncJobDispatcher dispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final RecurringJobProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private volatile boolean registered;
+
+    @Autowired
+    public RecurringJobScheduler(
+            List<RecurringJob<?>> jobs,
+            JobScheduleRepository repository,
+            AsyncJobDispatcher dispatcher,
+            PlatformTransactionManager transactionManager,
+            AppProperties appProperties,
+            MeterRegistry meterRegistry) {
+        this(jobs, repository, dispatcher, transactionManager, appProperties.getRecurringJob(), meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    RecurringJobScheduler(
+            List<RecurringJob<?>> jobs,
+            JobScheduleRepository repository,
+            AsyncJobDispatcher dispatcher,
+            PlatformTransactionManager transactionManager,
+            RecurringJobProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+
+        for (RecurringJob<?> job : jobs) {
+            String cron = properties.getCron().getOrDefault(job.type(), job.cron());
+            if (DISABLED.equals(cron)) {
+                log.info("Recurring job disabled. type: {}", job.type());
+                continue;
+            }
+            // 잘못된 cron은 시작 시 실패
+            CronExpression.parse(cron);
+            this.jobs.put(job.type(), job);
+            this.crons.put(job.type(), cron);
+        }
+    }
+
+    /**
+     * 반복 작업을 등록합니다 (이미 등록된 작업은 cron이 바뀐 경우에만 다음 실행 시각을 다시 계산).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        crons.forEach((type, cron) -> {
+            LocalDateTime nextRunAt = nextRunAt(cron, now);
+            transactionTemplate.executeWithoutResult(status -> {
+                if (repository.register(type, cron, nextRunAt) == 1) {
+                    log.info("Recurring job registered. type: {}, cron: {}, nextRunAt: {}", type, cron, nextRunAt);
+                } else if (repository.reschedule(type, cron, nextRunAt) == 1) {
+                    log.info("Recurring job rescheduled. type: {}, cron: {}, nextRunAt: {}", type, cron, nextRunAt);
+                }
+            });
+        });
+        registered = true;
+    }
+
+    /**
+     * 실행 시각이 된 작업을 접수합니다.
+     *
+     * @return 접수한 작업 수
+     */
+    @Scheduled(fixedDelayString = "${app.recurring-job.poll-interval:PT30S}",
+            initialDelayString = "${app.recurring-job.poll-interval:PT30S}")
+    public int poll() {
+        if (!registered) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        int submitted = 0;
+        for (JobSchedule schedule : repository.findDue(now)) {
+            RecurringJob<?> job = jobs.get(schedule.getJobType());
+            if (job == null) {
+                // 비활성화되었거나 제거된 작업
+                continue;
+            }
+            try {
+                if (fire(job, schedule, now)) {
+                    submitted++;
+                }
+            } catch (RuntimeException e) {
+                // 선점/되돌리기 자체가 실패해도 다음 작업은 계속 처리
+                log.error("Recurring job poll failed. type: {}", schedule.getJobType(), e);
+            }
+        }
+        return submitted;
+    }
+
+    private boolean fire(RecurringJob<?> job, JobSchedule schedule, LocalDateTime now) {
+        String type = job.type();
+        LocalDateTime scheduledAt = schedule.getNextRunAt();
+        LocalDateTime nextRunAt = nextRunAt(crons.get(type), now);
+        Integer claimed = transactionTemplate.execute(status -> repository.claim(type, scheduledAt, nextRunAt, now));
+        if (claimed == null || claimed != 1) {
+            // 다른 인스턴스가 먼저 선점
+            return false;
+        }
+
+        Duration late = Duration.between(scheduledAt, now);
+        if (late.compareTo(properties.getCatchUpWindow()) > 0) {
+            log.warn("Recurring job skipped (missed beyond catch-up window). type: {}, scheduledAt: {}, nextRunAt: {}",
+                    type, scheduledAt, nextRunAt);
+            count(type, "skipped");
+            return false;
+        }
+        boolean catchUp = late.compareTo(properties.getPollInterval().multipliedBy(2)) > 0;
+
+        try {
+            String taskId = submit(job, new RecurringJob.Run(scheduledAt, catchUp), "recurring:" + type + ":" + scheduledAt);
+            transactionTemplate.executeWithoutResult(status -> repository.recordTask(type, taskId));
+            log.info("Recurring job submitted. type: {}, taskId: {}, scheduledAt: {}, catchUp: {}, nextRunAt: {}",
+                    type, taskId, scheduledAt, catchUp, nextRunAt);
+            count(type, catchUp ? "caught_up" : "submitted");
+            return true;
+        } catch (BusinessException e) {
+            transactionTemplate.executeWithoutResult(status -> repository.unclaim(type, nextRunAt, scheduledAt));
+            log.warn("Recurring job rejected, retrying next poll. type: {}, scheduledAt: {}, reason: {}",
+                    type, scheduledAt, e.getErrorCode());
+            count(type, "rejected");
+            return false;
+        } catch (RuntimeException e) {
+            // 접수 중 예기치 않은 오류(DB 오류 등)도 선점을 되돌려 이 실행이 유실되지 않도록 함 (멱등성 키로 중복 접수 방지)
+            transactionTemplate.executeWithoutResult(status -> repository.unclaim(type, nextRunAt, scheduledAt));
+            log.error("Recurring job submit failed, retrying next poll. type: {}, scheduledAt: {}", type, scheduledAt, e);
+            count(type, "failed");
+            return false;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private String submit(RecurringJob<?> job, RecurringJob.Run run, String idempotencyKey) {
+        Class jobClass = ClassUtils.getUserClass(job);
+        return dispatcher.submit(jobClass, SYSTEM_OWNER_ID, run, idempotencyKey);
+    }
+
+    /**
+     * cron 기준 {@code after} 이후 첫 실행 시각에 지터를 더합니다 (초 단위, 인스턴스 간 비교 일치용).
+     */
+    LocalDateTime nextRunAt(String cron, LocalDateTime after) {
+        LocalDateTime next = CronExpression.parse(cron).next(after);
+        if (next == null) {
+            throw new IllegalStateException("Cron has no next execution: " + cron);
+        }
+        long jitterSeconds = properties.getJitter().toSeconds();
+        if (jitterSeconds > 0) {
+            next = next.plusSeconds(ThreadLocalRandom.current().nextLong(jitterSeconds + 1));
+        }
+        return next.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private void count(String type, String outcome) {
+        Counter.builder("recurring.job.runs")
+                .description("Recurring job executions by outcome")
+                .tags("type", type, "outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,72 @@
+package vibe.scon.scon_backend.service.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.dto.schedule.ScheduleDetailResponseDto;
+import vibe.scon.scon_backend.dto.schedule.UpdateScheduleRequestDto;
+import vibe.scon.scon_backend.service.ScheduleService;
+
+/**
+ * 스케줄 수정 작업.
+ *
+ * <p>{@code PUT /api/v1/schedules/{id}/async}로 접수된 스케줄 수정을 백그라운드에서 처리합니다.
+ * 사장님이 편집 화면에서 결과를 기다리므로 HIGH 우선순위로 실행합니다.</p>
+ *
+ * <h3>요구사항 추적:</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 2}: 스케줄 수정 비동기화</li>
+ * </ul>
+ *
+ * @see vibe.scon.scon_backend.controller.ScheduleController#updateScheduleAsync
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleUpdateJob implements AsyncJob<ScheduleUpdateJob.Input, ScheduleDetailResponseDto> {
+
+    public static final String TYPE = "SCHEDULE_UPDATE";
+
+    private final ScheduleService scheduleService;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public JobPriority priority() {
+        return JobPriority.HIGH;
+    }
+
+    /**
+     * 저장 버튼 연타 등으로 같은 스케줄 수정이 여러 번 대기하면 마지막 요청만 실행합니다
+     * (매 실행이 근무 시프트 전체를 삭제 후 재삽입하므로 마지막 요청의 결과와 같음).
+     * Dispatcher가 키에 Owner ID를 붙이며, 접수 전 {@link ScheduleService#requireScheduleOwner}로 소유권을 확인합니다.
+     */
+    @Override
+    public String coalesceKey(Input input) {
+        return String.valueOf(input.getScheduleId());
+    }
+
+    @Override
+    public ScheduleDetailResponseDto execute(Input input, JobContext context) {
+        context.progress(10);
+        ScheduleDetailResponseDto result = scheduleService.updateSchedule(
+                context.getOwnerId(), input.getScheduleId(), input.getRequest());
+        context.progress(90);
+        return result;
+    }
+
+    /**
+     * 스케줄 수정 작업 입력 (요청 데이터로 저장되어 복구 시 다시 읽힘).
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Input {
+        private Long scheduleId;
+        private UpdateScheduleRequestDto request;
+    }
+}
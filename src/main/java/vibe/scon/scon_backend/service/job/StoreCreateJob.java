@@ -0,0 +1,42 @@
+package vibe.scon.scon_backend.service.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.dto.store.StoreRequestDto;
+import vibe.scon.scon_backend.dto.store.StoreResponseDto;
+import vibe.scon.scon_backend.service.StoreService;
+
+/**
+ * 매장 생성 작업.
+ *
+ * <p>{@code POST /api/v1/stores/async}로 접수된 매장 생성을 백그라운드에서 처리합니다.
+ * {@link StoreService#createStore}의 트랜잭션이 실패 시 롤백되므로 일시적 오류는 재시도해도 안전합니다.</p>
+ *
+ * <h3>요구사항 추적:</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 3}: 매장 생성 비동기화</li>
+ * </ul>
+ *
+ * @see vibe.scon.scon_backend.controller.StoreController#createStoreAsync
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCreateJob implements AsyncJob<StoreRequestDto, StoreResponseDto> {
+
+    public static final String TYPE = "STORE_CREATE";
+
+    private final StoreService storeService;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public StoreResponseDto execute(StoreRequestDto request, JobContext context) {
+        context.progress(10);
+        StoreResponseDto result = storeService.createStore(context.getOwnerId(), request);
+        context.progress(90);
+        return result;
+    }
+}
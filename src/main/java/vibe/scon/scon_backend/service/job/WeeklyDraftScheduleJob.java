@@ -0,0 +1,117 @@
+package vibe.scon.scon_backend.service.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.repository.StoreRepository;
+import vibe.scon.scon_backend.service.ScheduleService;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * 다음 주 Draft 스케줄 사전 생성 작업 (반복 작업).
+ *
+ * <p>매장 생성 시에는 이번 주 Draft만 만들어지므로, 매주 모든 매장의 다음 주 Draft 스케줄을 미리 생성하여
+ * 사장님이 편집 화면에 들어갔을 때 바로 근무표를 작성할 수 있도록 합니다.
+ * 매장 ID 순서로 {@code app.recurring-job.draft-batch-size}개씩 한 번의 INSERT로 생성하며,
+ * 이미 스케줄이 있는 매장은 건너뛰므로 재시도/보정 실행해도 안전합니다.</p>
+ *
+ * <p>페이지마다 별도 트랜잭션으로 커밋합니다({@link #isTransactional()} = false). 매장 수만큼 커지는
+ * 하나의 쓰기 트랜잭션이 SQLite 쓰기 잠금을 오래 잡아 사용자 요청을 막지 않도록 하며,
+ * 중간에 실패하면 재시도 시 이미 생성된 매장은 건너뜁니다.</p>
+ *
+ * <h3>요구사항 추적:</h3>
+ * <ul>
+ *   <li>{@code REQ-FUNC-007} - 드래그&드롭 스케줄 편집</li>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ * </ul>
+ *
+ * @see RecurringJobScheduler
+ * @see ScheduleService#createDraftSchedules
+ */
+@Slf4j
+@Component
+public class WeeklyDraftScheduleJob implements RecurringJob<WeeklyDraftScheduleJob.Result> {
+
+    public static final String TYPE = "WEEKLY_DRAFT_SCHEDULE";
+
+    // 매주 목요일 03:00 (다음 주 근무표 작성 전)
+    private static final String DEFAULT_CRON = "0 0 3 * * THU";
+
+    private final StoreRepository storeRepository;
+    private final ScheduleService scheduleService;
+    private final int batchSize;
+
+    @Autowired
+    public WeeklyDraftScheduleJob(StoreRepository storeRepository, ScheduleService scheduleService,
+                                  AppProperties appProperties) {
+        this(storeRepository, scheduleService, appProperties.getRecurringJob().getDraftBatchSize());
+    }
+
+    WeeklyDraftScheduleJob(StoreRepository storeRepository, ScheduleService scheduleService, int batchSize) {
+        this.storeRepository = storeRepository;
+        this.scheduleService = scheduleService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public String cron() {
+        return DEFAULT_CRON;
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return false;
+    }
+
+    @Override
+    public Result execute(Run run, JobContext context) {
+        // 보정 실행이 늦어져도 예정 시각 기준의 다음 주를 대상으로 함
+        LocalDate weekStartDate = run.getScheduledAt().toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        long total = storeRepository.count();
+        int stores = 0;
+        int created = 0;
+        long afterId = 0L;
+
+        while (true) {
+            context.checkCancelled();
+            List<Long> storeIds = storeRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (storeIds.isEmpty()) {
+                break;
+            }
+            created += scheduleService.createDraftSchedules(storeIds, weekStartDate);
+            stores += storeIds.size();
+            afterId = storeIds.get(storeIds.size() - 1);
+            context.progress((int) Math.min(99, stores * 100L / Math.max(1, total)));
+        }
+
+        log.info("Weekly draft schedules created. weekStartDate: {}, stores: {}, created: {}",
+                weekStartDate, stores, created);
+        return new Result(weekStartDate, stores, created);
+    }
+
+    /**
+     * 사전 생성 결과.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private LocalDate weekStartDate;
+        private int stores;
+        private int created;
+    }
+}
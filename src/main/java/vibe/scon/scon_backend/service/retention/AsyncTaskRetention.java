@@ -0,0 +1,38 @@
+package vibe.scon.scon_backend.service.retention;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.repository.AsyncTaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비동기 작업 보존 기간 정리.
+ *
+ * <p>종료된 작업(COMPLETED, FAILED, CANCELLED) 중 결과 만료 시간({@code expires_at})이 지난 작업을 삭제합니다.
+ * 중단된 진행 중 작업은 {@link vibe.scon.scon_backend.service.job.AsyncJobDispatcher}가 복구 또는 실패 처리합니다.</p>
+ *
+ * <h3>요구사항 추적:</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class AsyncTaskRetention implements RetentionTarget {
+
+    private final AsyncTaskRepository asyncTaskRepository;
+
+    @Override
+    public String name() {
+        return "async_tasks";
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        List<String> taskIds = asyncTaskRepository.findExpiredTaskIds(now, PageRequest.of(0, limit));
+        return taskIds.isEmpty() ? 0 : asyncTaskRepository.deleteByTaskIds(taskIds);
+    }
+}
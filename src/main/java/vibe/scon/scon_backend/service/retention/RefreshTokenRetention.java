@@ -0,0 +1,37 @@
+package vibe.scon.scon_backend.service.retention;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.repository.RefreshTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 Refresh Token 정리.
+ *
+ * <p>로그아웃하지 않고 만료된 토큰은 갱신/조회에서 거부되지만 행은 남으므로, 만료 시간이 지난 토큰을 삭제합니다.</p>
+ *
+ * <h3>요구사항 추적:</h3>
+ * <ul>
+ *   <li>{@code POC-BE-FUNC-003} - 로그아웃 API 구현 (토큰 무효화)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenRetention implements RetentionTarget {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public String name() {
+        return "refresh_tokens";
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, limit));
+        return ids.isEmpty() ? 0 : refreshTokenRepository.deleteByIds(ids);
+    }
+}
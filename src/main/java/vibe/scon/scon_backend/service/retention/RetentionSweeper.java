@@ -0,0 +1,166 @@
+package vibe.scon.scon_backend.service.retention;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.RetentionProperties;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보존 기간 정리 스케줄러.
+ *
+ * <p>등록된 {@link RetentionTarget}마다 만료 행을 {@code batch-size}개씩 짧은 트랜잭션으로 삭제하고,
+ * 배치 사이에 {@code pause}만큼 쉬어 다른 요청이 SQLite 쓰기 잠금을 얻을 수 있게 합니다.
+ * 큰 테이블을 한 번의 DELETE로 정리하면 삭제가 끝날 때까지 모든 쓰기가 대기하기 때문입니다.</p>
+ *
+ * <h3>동작 방식:</h3>
+ * <ul>
+ *   <li>{@code cron}마다 대상별 정리를 시작합니다. 기준 시각은 정리 시작 시각으로 고정합니다.</li>
+ *   <li>다음 배치는 스케줄러에 예약하므로, 쉬는 동안 스케줄러 스레드(Write-Behind flush 등)를 막지 않습니다.</li>
+ *   <li>남은 만료 행이 없거나 {@code max-batches-per-run}에 도달하면 종료합니다 (나머지는 다음 주기).</li>
+ *   <li>같은 대상의 이전 정리가 끝나지 않았으면 이번 주기는 건너뜁니다.</li>
+ * </ul>
+ *
+ * <h3>메트릭:</h3>
+ * <ul>
+ *   <li>{@code retention.rows.deleted{table}} - 삭제한 행 수</li>
+ *   <li>{@code retention.batch.duration{table}} - 배치 트랜잭션 시간 (쓰기 잠금 점유 시간)</li>
+ * </ul>
+ *
+ * <h3>요구사항 추적 (Traceability):</h3>
+ * <ul>
+ *   <li>{@code Async Processing Plan Phase 4}: 모니터링 및 최적화</li>
+ *   <li>{@code REQ-NF-PERF} - 성능 요구사항 (정리 작업 중 쓰기 지연 방지)</li>
+ * </ul>
+ *
+ * @see RetentionTarget
+ */
+@Slf4j
+@Component
+public class RetentionSweeper {
+
+    private final List<RetentionTarget> targets;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final RetentionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public RetentionSweeper(
+            List<RetentionTarget> targets,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler,
+            AppProperties appProperties,
+            MeterRegistry meterRegistry) {
+        this(targets, transactionManager, taskScheduler, appProperties.getRetention(), meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    RetentionSweeper(
+            List<RetentionTarget> targets,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler,
+            RetentionProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.targets = targets;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * 모든 대상의 정리를 시작합니다.
+     */
+    @Scheduled(cron = "${app.retention.cron:0 15 * * * *}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (RetentionTarget target : targets) {
+            if (!running.add(target.name())) {
+                log.warn("Retention sweep still running, skipped. table: {}", target.name());
+                continue;
+            }
+            runBatch(new Sweep(target, now));
+        }
+    }
+
+    boolean isRunning(String name) {
+        return running.contains(name);
+    }
+
+    private void runBatch(Sweep sweep) {
+        RetentionTarget target = sweep.target;
+        int deleted;
+        long start = System.nanoTime();
+        try {
+            Integer result = transactionTemplate.execute(status ->
+                    target.deleteExpired(sweep.now, properties.getBatchSize()));
+            deleted = result != null ? result : 0;
+        } catch (Exception e) {
+            log.warn("Retention sweep failed, will resume next run. table: {}, deleted: {}, error: {}",
+                    target.name(), sweep.deleted, e.getMessage());
+            running.remove(target.name());
+            return;
+        }
+        Timer.builder("retention.batch.duration")
+                .description("Time each retention delete batch held its transaction")
+                .tag("table", target.name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        Counter.builder("retention.rows.deleted")
+                .description("Expired rows removed by the retention sweeper")
+                .tag("table", target.name())
+                .register(meterRegistry)
+                .increment(deleted);
+
+        sweep.batches++;
+        sweep.deleted += deleted;
+        if (deleted < properties.getBatchSize() || sweep.batches >= properties.getMaxBatchesPerRun()) {
+            running.remove(target.name());
+            if (sweep.deleted > 0) {
+                log.info("Retention sweep finished. table: {}, deleted: {}, batches: {}, elapsed: {}ms",
+                        target.name(), sweep.deleted, sweep.batches,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sweep.startedAt));
+            }
+            return;
+        }
+        taskScheduler.schedule(() -> runBatch(sweep), clock.instant().plus(properties.getPause()));
+    }
+
+    /**
+     * 대상 한 개의 정리 진행 상태.
+     */
+    private static final class Sweep {
+
+        private final RetentionTarget target;
+        private final LocalDateTime now;
+        private final long startedAt = System.nanoTime();
+        private int batches;
+        private long deleted;
+
+        private Sweep(RetentionTarget target, LocalDateTime now) {
+            this.target = target;
+            this.now = now;
+        }
+    }
+}
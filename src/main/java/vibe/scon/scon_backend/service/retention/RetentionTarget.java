@@ -0,0 +1,29 @@
+package vibe.scon.scon_backend.service.retention;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간 정리 대상 테이블.
+ *
+ * <p>구현체를 Spring Bean으로 등록하면 {@link RetentionSweeper}가 주기적으로 만료 행을 일정 수씩 삭제합니다.
+ * 한 번의 호출은 하나의 짧은 트랜잭션에서 실행되므로, 만료 조건 컬럼에 인덱스가 있어야 하고
+ * {@code limit}보다 많은 행을 삭제해서는 안 됩니다.</p>
+ *
+ * @see RetentionSweeper
+ */
+public interface RetentionTarget {
+
+    /**
+     * 대상 이름 (메트릭 태그, 로그). 보통 테이블 이름입니다.
+     */
+    String name();
+
+    /**
+     * 만료된 행을 최대 {@code limit}개 삭제합니다.
+     *
+     * @param now 정리 기준 시각 (정리 1회 동안 고정)
+     * @param limit 최대 삭제 수
+     * @return 삭제한 행 수 ({@code limit}보다 적으면 남은 만료 행이 없음)
+     */
+    int deleteExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,99 @@
+package vibe.scon.scon_backend.util;
+
+/**
+ * API 로그 이벤트 (요청 스레드에서 캡처한 원본 데이터).
+ *
+ * <p>요청 스레드에서는 파싱/직렬화 없이 메타데이터와 본문 바이트만 보관하고,
+ * 실제 로그 문자열은 {@link ApiLogger}의 백그라운드 스레드에서 만듭니다.
+ * 서블릿 요청 객체는 재사용되므로 필요한 값은 모두 캡처 시점에 복사합니다.</p>
+ */
+final class ApiLogEvent {
+
+    enum Type {
+        BACKEND_REQUEST,
+        BACKEND_RESPONSE
+    }
+
+    final Type type;
+    final long timestampMillis;
+    final String method;
+    final String uri;
+    final String queryString;
+    final String clientIp;
+    final String requestId;
+
+    // 헤더 이름/값 쌍 (짝수 인덱스: 이름, 홀수 인덱스: 값), 응답 이벤트는 null
+    final String[] headers;
+
+    // 응답 이벤트 전용
+    final int status;
+    final long durationMillis;
+
+    // 캡처한 본문 앞부분 (없으면 null)
+    final byte[] body;
+
+    // 원본 본문 전체 크기 (캡처 상한을 넘으면 body.length보다 큼)
+    final long bodyLength;
+
+    private ApiLogEvent(
+            Type type,
+            long timestampMillis,
+            String method,
+            String uri,
+            String queryString,
+            String clientIp,
+            String requestId,
+            String[] headers,
+            int status,
+            long durationMillis,
+            byte[] body,
+            long bodyLength) {
+        this.type = type;
+        this.timestampMillis = timestampMillis;
+        this.method = method;
+        this.uri = uri;
+        this.queryString = queryString;
+        this.clientIp = clientIp;
+        this.requestId = requestId;
+        this.headers = headers;
+        this.status = status;
+        this.durationMillis = durationMillis;
+        this.body = body;
+        this.bodyLength = bodyLength;
+    }
+
+    /**
+     * 캡처 상한에서 본문이 잘렸는지 여부.
+     */
+    boolean isBodyTruncated() {
+        return body != null && bodyLength > body.length;
+    }
+
+    static ApiLogEvent request(
+            long timestampMillis,
+            String method,
+            String uri,
+            String queryString,
+            String clientIp,
+            String requestId,
+            String[] headers,
+            byte[] body,
+            long bodyLength) {
+        return new ApiLogEvent(Type.BACKEND_REQUEST, timestampMillis, method, uri, queryString,
+                clientIp, requestId, headers, 0, 0L, body, bodyLength);
+    }
+
+    static ApiLogEvent response(
+            long timestampMillis,
+            String method,
+            String uri,
+            String clientIp,
+            String requestId,
+            int status,
+            long durationMillis,
+            byte[] body,
+            long bodyLength) {
+        return new ApiLogEvent(Type.BACKEND_RESPONSE, timestampMillis, method, uri, null,
+                clientIp, requestId, null, status, durationMillis, body, bodyLength);
+    }
+}
@@ -1,114 +1,135 @@
 package vibe.scon.scon_backend.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import vibe.scon.scon_backend.config.filter.RouteClassifier;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.ApiLoggingProperties;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * API Request/Response Logging Utility
- * 
+ *
  * 2가지 로거 타입 제공:
  * - logBackendRequest: 백엔드 요청 로깅
  * - logBackendResponse: 백엔드 응답 로깅
+ *
+ * <h3>비동기 파이프라인:</h3>
+ * <ul>
+ *   <li>요청 스레드: 메타데이터와 본문 바이트만 {@link ApiLogEvent}로 캡처해 링 버퍼에 넣습니다.</li>
+ *   <li>백그라운드 스레드({@code api-log-writer}): 본문 스트리밍 마스킹({@link JsonLogRedactor}), 직렬화, 로그 출력</li>
+ *   <li>버퍼가 가득 차면 요청을 대기시키지 않고 이벤트를 버린 뒤 카운트합니다
+ *       ({@link #getDroppedCount()}, 주기적으로 WARN 로그).</li>
+ * </ul>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ApiLogger {
 
+    // 드롭 경고 로그 최소 간격
+    private static final long DROP_REPORT_INTERVAL_MILLIS = 10_000L;
+
+    // 소비자 스레드가 한 번에 가져오는 최대 이벤트 수
+    private static final int DRAIN_BATCH_SIZE = 256;
+
     private final ObjectMapper objectMapper;
+    private final RouteClassifier routeClassifier;
+    private final JsonLogRedactor redactor;
+    private final boolean enableRequestLogging;
+    private final boolean enableResponseLogging;
 
-    @Value("${app.logging.enable-request-logging:true}")
-    private boolean enableRequestLogging;
+    // 고정 크기 배열 기반 링 버퍼 (이벤트당 노드 할당 없음)
+    private final BlockingQueue<ApiLogEvent> buffer;
 
-    @Value("${app.logging.enable-response-logging:true}")
-    private boolean enableResponseLogging;
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
 
-    // 로깅 제외 경로 목록
-    private static final List<String> EXCLUDED_PATHS = Arrays.asList(
-            "/api/v1/health",
-            "/api/v1/health/ping",
-            "/actuator"
-    );
+    private volatile boolean running;
+    private Thread writer;
 
-    // 민감 정보 필드 목록 (대소문자 구분 없이 처리)
-    private static final List<String> SENSITIVE_FIELDS = Arrays.asList(
-            "password",
-            "accesstoken",  // 소문자로 통일하여 비교
-            "refreshtoken",
-            "token",
-            "authorization"
-    );
+    // 소비자 스레드 전용 상태
+    private long reportedDrops;
+    private long lastDropReportMillis;
 
-    /**
-     * 해당 경로가 로깅 제외 대상인지 확인
-     */
-    private boolean isExcludedPath(String path) {
-        return EXCLUDED_PATHS.stream().anyMatch(path::startsWith);
+    public ApiLogger(ObjectMapper objectMapper, RouteClassifier routeClassifier, AppProperties appProperties) {
+        ApiLoggingProperties properties = appProperties.getLogging();
+        this.objectMapper = objectMapper;
+        this.routeClassifier = routeClassifier;
+        this.redactor = new JsonLogRedactor(objectMapper.getFactory(),
+                properties.getMaxStringLength(), properties.getMaxArrayElements(), properties.getMaxDepth());
+        this.enableRequestLogging = properties.isEnableRequestLogging();
+        this.enableResponseLogging = properties.isEnableResponseLogging();
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
     }
 
     /**
-     * 민감 정보를 마스킹한 객체 반환
+     * 로그 출력 스레드 시작.
      */
-    @SuppressWarnings("unchecked")
-    private Object sanitizeData(Object data) {
-        if (data == null) {
-            return null;
+    @PostConstruct
+    public void start() {
+        if (!enableRequestLogging && !enableResponseLogging) {
+            return;
         }
+        running = true;
+        writer = new Thread(this::runWriter, "api-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
 
-        if (data instanceof Map) {
-            Map<String, Object> map = (Map<String, Object>) data;
-            Map<String, Object> sanitized = new HashMap<>(map);
-            
-            for (String key : SENSITIVE_FIELDS) {
-                if (sanitized.containsKey(key)) {
-                    sanitized.put(key, "[REDACTED]");
-                }
+    /**
+     * 로그 출력 스레드 종료 (남은 이벤트는 출력 후 종료).
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
-            
-            return sanitized;
         }
-
-        return data;
+        drain();
     }
 
     /**
-     * 헤더에서 민감 정보 제거 (대소문자 무시)
+     * 요청 또는 응답 로깅 중 하나라도 활성화되어 있는지 여부
      */
-    private Map<String, String> sanitizeHeaders(Map<String, String> headers) {
-        if (headers == null) {
-            return Collections.emptyMap();
-        }
-
-        Map<String, String> sanitized = new HashMap<>(headers);
-        // 헤더 키는 대소문자를 구분하지 않으므로 소문자로 변환하여 비교
-        SENSITIVE_FIELDS.forEach(sensitiveKey -> {
-            // 원본 키를 찾아서 마스킹
-            headers.keySet().forEach(originalKey -> {
-                if (originalKey.toLowerCase().equals(sensitiveKey)) {
-                    sanitized.put(originalKey, "[REDACTED]");
-                }
-            });
-        });
+    public boolean isEnabled() {
+        return enableRequestLogging || enableResponseLogging;
+    }
 
-        return sanitized;
+    /**
+     * 해당 경로가 로깅 제외 대상인지 확인 (헬스체크, actuator - RouteClassifier 참조)
+     */
+    private boolean isExcludedPath(String path) {
+        return routeClassifier.classify(path).isLoggingExcluded();
     }
 
     /**
      * 클라이언트 IP 주소 추출
-     * 
-     * <p>참고: RateLimitingFilter에도 동일한 메서드가 있으므로, 
+     *
+     * <p>참고: RateLimitingFilter에도 동일한 메서드가 있으므로,
      * 공통 유틸리티로 분리하는 것을 권장합니다 (HttpRequestUtil.java).</p>
      */
     private String getClientIp(HttpServletRequest request) {
@@ -117,29 +138,37 @@ public class ApiLogger {
             // X-Forwarded-For는 여러 IP가 쉼표로 구분될 수 있음 (첫 번째가 실제 클라이언트 IP)
             return xForwardedFor.split(",")[0].trim();
         }
-        
+
         String xRealIp = request.getHeader("X-Real-IP");
         if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
             return xRealIp.trim();
         }
-        
+
         return request.getRemoteAddr();
     }
 
     /**
-     * 헤더를 Map으로 변환
+     * 헤더를 이름/값 쌍 배열로 복사 (마스킹은 출력 스레드에서 처리)
      */
-    private Map<String, String> getHeadersMap(HttpServletRequest request) {
-        Map<String, String> headers = new HashMap<>();
-        Collections.list(request.getHeaderNames())
-                .forEach(name -> headers.put(name, request.getHeader(name)));
-        return headers;
+    private String[] captureHeaders(HttpServletRequest request) {
+        List<String> pairs = new ArrayList<>(32);
+        Enumeration<String> names = request.getHeaderNames();
+        while (names != null && names.hasMoreElements()) {
+            String name = names.nextElement();
+            pairs.add(name);
+            pairs.add(request.getHeader(name));
+        }
+        return pairs.toArray(new String[0]);
     }
 
     /**
      * 백엔드 요청 로깅
+     *
+     * @param request HTTP 요청
+     * @param requestBody 캡처한 요청 본문 바이트 (없으면 null)
+     * @param requestBodyLength 요청 본문 전체 크기 (캡처 상한을 넘으면 requestBody보다 큼)
      */
-    public void logBackendRequest(HttpServletRequest request, String requestBody) {
+    public void logBackendRequest(HttpServletRequest request, byte[] requestBody, long requestBodyLength) {
         if (!enableRequestLogging) {
             return;
         }
@@ -149,45 +178,32 @@ public class ApiLogger {
             return;
         }
 
-        try {
-            Map<String, Object> logData = new HashMap<>();
-            logData.put("timestamp", java.time.LocalDateTime.now().toString());
-            logData.put("type", "BACKEND_REQUEST");
-            logData.put("method", request.getMethod());
-            logData.put("uri", path);
-            logData.put("queryString", request.getQueryString());
-            logData.put("clientIp", getClientIp(request));
-            logData.put("headers", sanitizeHeaders(getHeadersMap(request)));
-            
-            // Request ID 추가 (MDC에서 읽기)
-            String requestId = MDC.get("requestId");
-            if (requestId != null) {
-                logData.put("requestId", requestId);
-            }
-            
-            // 요청 본문 파싱 및 마스킹
-            if (requestBody != null && !requestBody.isEmpty()) {
-                try {
-                    Object bodyObj = objectMapper.readValue(requestBody, Object.class);
-                    logData.put("body", sanitizeData(bodyObj));
-                } catch (Exception e) {
-                    logData.put("body", "[Unable to parse JSON]");
-                }
-            }
-
-            log.info("API Request: {}", objectMapper.writeValueAsString(logData));
-        } catch (Exception e) {
-            log.warn("Failed to log request: {}", e.getMessage());
-        }
+        publish(ApiLogEvent.request(
+                System.currentTimeMillis(),
+                request.getMethod(),
+                path,
+                request.getQueryString(),
+                getClientIp(request),
+                MDC.get("requestId"),
+                captureHeaders(request),
+                requestBody,
+                requestBodyLength));
     }
 
     /**
      * 백엔드 응답 로깅
+     *
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @param responseBody 캡처한 응답 본문 바이트 (없으면 null)
+     * @param responseBodyLength 응답 본문 전체 크기 (캡처 상한을 넘으면 responseBody보다 큼)
+     * @param duration 처리 시간 (ms)
      */
     public void logBackendResponse(
             HttpServletRequest request,
             HttpServletResponse response,
-            String responseBody,
+            byte[] responseBody,
+            long responseBodyLength,
             long duration
     ) {
         if (!enableResponseLogging) {
@@ -199,35 +215,170 @@ public class ApiLogger {
             return;
         }
 
+        publish(ApiLogEvent.response(
+                System.currentTimeMillis(),
+                request.getMethod(),
+                path,
+                getClientIp(request),
+                MDC.get("requestId"),
+                response.getStatus(),
+                duration,
+                responseBody,
+                responseBodyLength));
+    }
+
+    /**
+     * 링 버퍼에 이벤트 추가 (가득 차면 대기하지 않고 버림)
+     */
+    private void publish(ApiLogEvent event) {
+        if (buffer.offer(event)) {
+            publishedCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * 링 버퍼에 쌓인 이벤트를 모두 출력 (호출 스레드에서 실행)
+     *
+     * @return 출력한 이벤트 수
+     */
+    int drain() {
+        List<ApiLogEvent> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        int written = 0;
+        while (buffer.drainTo(batch, DRAIN_BATCH_SIZE) > 0) {
+            for (ApiLogEvent event : batch) {
+                write(event);
+            }
+            written += batch.size();
+            batch.clear();
+        }
+        return written;
+    }
+
+    private void runWriter() {
+        List<ApiLogEvent> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (running) {
+            try {
+                ApiLogEvent first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    write(first);
+                    buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                    for (ApiLogEvent event : batch) {
+                        write(event);
+                    }
+                    batch.clear();
+                }
+                reportDrops();
+            } catch (InterruptedException e) {
+                // stop()에서 종료 요청
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void reportDrops() {
+        long dropped = droppedCount.sum();
+        long now = System.currentTimeMillis();
+        if (dropped > reportedDrops && now - lastDropReportMillis >= DROP_REPORT_INTERVAL_MILLIS) {
+            log.warn("API log buffer full, {} events dropped (total: {})", dropped - reportedDrops, dropped);
+            reportedDrops = dropped;
+            lastDropReportMillis = now;
+        }
+    }
+
+    /**
+     * 이벤트를 JSON으로 직렬화하여 출력 (출력 스레드에서 실행)
+     */
+    private void write(ApiLogEvent event) {
         try {
-            Map<String, Object> logData = new HashMap<>();
-            logData.put("timestamp", java.time.LocalDateTime.now().toString());
-            logData.put("type", "BACKEND_RESPONSE");
-            logData.put("status", response.getStatus());
-            logData.put("method", request.getMethod());
-            logData.put("uri", path);
-            logData.put("clientIp", getClientIp(request));
-            logData.put("duration", duration + "ms");
-            
-            // Request ID 추가 (MDC에서 읽기)
-            String requestId = MDC.get("requestId");
-            if (requestId != null) {
-                logData.put("requestId", requestId);
+            ObjectNode logData = objectMapper.createObjectNode();
+            logData.put("timestamp", LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(event.timestampMillis), ZoneId.systemDefault()).toString());
+            logData.put("type", event.type.name());
+            if (event.type == ApiLogEvent.Type.BACKEND_RESPONSE) {
+                logData.put("status", event.status);
+            }
+            logData.put("method", event.method);
+            logData.put("uri", event.uri);
+            if (event.type == ApiLogEvent.Type.BACKEND_REQUEST) {
+                logData.put("queryString", event.queryString);
+            }
+            logData.put("clientIp", event.clientIp);
+            if (event.headers != null) {
+                logData.set("headers", sanitizeHeaders(event.headers));
             }
-            
-            // 응답 본문 파싱 및 마스킹
-            if (responseBody != null && !responseBody.isEmpty()) {
+            if (event.type == ApiLogEvent.Type.BACKEND_RESPONSE) {
+                logData.put("duration", event.durationMillis + "ms");
+            }
+            if (event.requestId != null) {
+                logData.put("requestId", event.requestId);
+            }
+
+            if (event.isBodyTruncated()) {
+                logData.put("bodyTruncated", true);
+                logData.put("bodySize", event.bodyLength);
+            }
+
+            // 본문 스트리밍 마스킹 (객체 트리를 만들지 않고 JSON 그대로 삽입)
+            if (event.body != null && event.body.length > 0) {
                 try {
-                    Object bodyObj = objectMapper.readValue(responseBody, Object.class);
-                    logData.put("body", sanitizeData(bodyObj));
+                    logData.putRawValue("body",
+                            new RawValue(redactor.redact(event.body, event.isBodyTruncated())));
                 } catch (Exception e) {
                     logData.put("body", "[Unable to parse JSON]");
                 }
             }
 
-            log.info("API Response: {}", objectMapper.writeValueAsString(logData));
+            String json = objectMapper.writeValueAsString(logData);
+            if (event.type == ApiLogEvent.Type.BACKEND_REQUEST) {
+                log.info("API Request: {}", json);
+            } else {
+                log.info("API Response: {}", json);
+            }
         } catch (Exception e) {
-            log.warn("Failed to log response: {}", e.getMessage());
+            failedCount.increment();
+            log.warn("Failed to log {}: {}", event.type, e.getMessage());
         }
     }
+
+    /**
+     * 헤더에서 민감 정보 제거 (대소문자 무시)
+     */
+    private ObjectNode sanitizeHeaders(String[] headers) {
+        ObjectNode sanitized = objectMapper.createObjectNode();
+        for (int i = 0; i + 1 < headers.length; i += 2) {
+            sanitized.put(headers[i], JsonLogRedactor.isSensitive(headers[i]) ? JsonLogRedactor.REDACTED : headers[i + 1]);
+        }
+        return sanitized;
+    }
+
+    /**
+     * 링 버퍼에 추가된 이벤트 수
+     */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    /**
+     * 링 버퍼가 가득 차서 버린 이벤트 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 직렬화/출력에 실패한 이벤트 수
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 현재 링 버퍼에 대기 중인 이벤트 수
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
 }
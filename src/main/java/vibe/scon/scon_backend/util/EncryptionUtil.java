@@ -1,5 +1,7 @@
 package vibe.scon.scon_backend.util;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -47,6 +49,16 @@ public class EncryptionUtil {
     private static final int GCM_IV_LENGTH = 12;  // 12바이트 IV (권장)
     private static final int GCM_TAG_LENGTH = 128; // 128비트 인증 태그
 
+    // 암복호화 시간 (REQ-NF-PERF, 전역 레지스트리 → /actuator/prometheus)
+    private static final Timer ENCRYPT_TIMER = Timer.builder("scon.crypto")
+            .description("PII cipher operation time")
+            .tag("operation", "encrypt")
+            .register(Metrics.globalRegistry);
+    private static final Timer DECRYPT_TIMER = Timer.builder("scon.crypto")
+            .description("PII cipher operation time")
+            .tag("operation", "decrypt")
+            .register(Metrics.globalRegistry);
+
     private final SecretKey secretKey;
 
     /**
@@ -86,6 +98,7 @@ public class EncryptionUtil {
             return plainText;
         }
 
+        Timer.Sample sample = Timer.start();
         try {
             // 랜덤 IV 생성
             byte[] iv = new byte[GCM_IV_LENGTH];
@@ -115,6 +128,8 @@ public class EncryptionUtil {
         } catch (Exception e) {
             log.error("Encryption failed: {}", e.getMessage());
             throw new RuntimeException("Failed to encrypt data", e);
+        } finally {
+            sample.stop(ENCRYPT_TIMER);
         }
     }
 
@@ -133,6 +148,7 @@ public class EncryptionUtil {
             return encryptedText;
         }
 
+        Timer.Sample sample = Timer.start();
         try {
             // Base64 디코딩
             byte[] encryptedBytes = Base64.getDecoder().decode(encryptedText);
@@ -161,6 +177,8 @@ public class EncryptionUtil {
         } catch (Exception e) {
             log.error("Decryption failed: {}", e.getMessage());
             throw new RuntimeException("Failed to decrypt data", e);
+        } finally {
+            sample.stop(DECRYPT_TIMER);
         }
     }
 
@@ -0,0 +1,212 @@
+package vibe.scon.scon_backend.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+/**
+ * 로그용 스트리밍 JSON 마스킹기.
+ *
+ * <p>{@link JsonParser}로 본문을 한 번 읽으면서 {@link JsonGenerator}로 바로 다시 쓰므로
+ * 객체 트리를 만들지 않습니다. 메모리와 CPU 사용량은 본문 크기와 아래 한도에 비례합니다.</p>
+ *
+ * <h3>처리 규칙:</h3>
+ * <ul>
+ *   <li>민감 필드({@code password}, {@code token} 등)는 깊이에 관계없이 값 전체를 {@code [REDACTED]}로 대체</li>
+ *   <li>문자열은 {@code maxStringLength}자까지만 남기고 잘린 글자 수를 덧붙임</li>
+ *   <li>배열은 {@code maxArrayElements}개까지만 남기고 생략된 요소 수를 마지막 요소로 기록</li>
+ *   <li>{@code maxDepth}보다 깊은 객체/배열은 {@code [TRUNCATED]}로 대체</li>
+ *   <li>캡처 상한에서 잘린 본문은 읽은 부분까지만 기록하고 열린 객체/배열을 닫습니다</li>
+ * </ul>
+ *
+ * <p>스레드 안전합니다 (호출마다 파서/생성기를 새로 만듭니다).</p>
+ */
+public class JsonLogRedactor {
+
+    static final String REDACTED = "[REDACTED]";
+    static final String TRUNCATED = "[TRUNCATED]";
+
+    // 민감 정보 필드 목록 (대소문자 구분 없이 비교)
+    private static final List<String> SENSITIVE_FIELDS = List.of(
+            "password",
+            "accessToken",
+            "refreshToken",
+            "token",
+            "authorization"
+    );
+
+    private final JsonFactory jsonFactory;
+    private final int maxStringLength;
+    private final int maxArrayElements;
+    private final int maxDepth;
+
+    public JsonLogRedactor(JsonFactory jsonFactory, int maxStringLength, int maxArrayElements, int maxDepth) {
+        this.jsonFactory = jsonFactory;
+        this.maxStringLength = maxStringLength;
+        this.maxArrayElements = maxArrayElements;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * 민감 필드 여부 (대소문자 무시).
+     *
+     * @param name 필드명 또는 헤더명
+     * @return 마스킹 대상이면 true
+     */
+    public static boolean isSensitive(String name) {
+        for (String field : SENSITIVE_FIELDS) {
+            if (field.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * JSON 본문을 마스킹/축약한 JSON 문자열로 변환.
+     *
+     * @param body JSON 본문 (UTF-8)
+     * @return 마스킹된 JSON 문자열
+     * @throws IOException JSON 형식이 아닌 경우
+     */
+    public String redact(byte[] body) throws IOException {
+        return redact(body, false);
+    }
+
+    /**
+     * JSON 본문을 마스킹/축약한 JSON 문자열로 변환.
+     *
+     * @param body JSON 본문 (UTF-8)
+     * @param truncated 캡처 상한에서 잘린 본문이면 true (끝에서 끊긴 JSON을 허용)
+     * @return 마스킹된 JSON 문자열
+     * @throws IOException JSON 형식이 아닌 경우
+     */
+    public String redact(byte[] body, boolean truncated) throws IOException {
+        StringWriter out = new StringWriter(Math.min(body.length, 8 * 1024));
+        try (JsonParser parser = jsonFactory.createParser(body);
+             JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            CopyState state = new CopyState(maxDepth);
+            try {
+                copy(parser, generator, state);
+            } catch (JsonEOFException e) {
+                if (!truncated) {
+                    throw e;
+                }
+                // 값을 기다리는 필드명이 있거나 아무것도 쓰지 못했으면 표식으로 채움
+                // (열린 객체/배열은 생성기 close 시 자동으로 닫힘)
+                if (state.pendingValue || generator.getOutputContext().inRoot()) {
+                    generator.writeString(TRUNCATED);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private void copy(JsonParser parser, JsonGenerator generator, CopyState state) throws IOException {
+        boolean[] inArray = state.inArray;
+        int[] written = state.written;
+        int[] omitted = state.omitted;
+        int depth = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            switch (token) {
+                case FIELD_NAME -> {
+                    String name = parser.currentName();
+                    generator.writeFieldName(name);
+                    state.pendingValue = true;
+                    if (isSensitive(name)) {
+                        parser.nextToken();
+                        parser.skipChildren();
+                        generator.writeString(REDACTED);
+                        state.pendingValue = false;
+                    }
+                    continue;
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (token == JsonToken.END_ARRAY && omitted[depth] > 0) {
+                        generator.writeString("... " + omitted[depth] + " more");
+                    }
+                    depth--;
+                    if (token == JsonToken.END_ARRAY) {
+                        generator.writeEndArray();
+                    } else {
+                        generator.writeEndObject();
+                    }
+                    continue;
+                }
+                default -> {
+                    // 값 토큰
+                }
+            }
+
+            // 배열 요소 수 제한
+            if (depth > 0 && inArray[depth]) {
+                if (written[depth] >= maxArrayElements) {
+                    omitted[depth]++;
+                    parser.skipChildren();
+                    continue;
+                }
+                written[depth]++;
+            }
+
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                if (depth >= maxDepth) {
+                    parser.skipChildren();
+                    generator.writeString(TRUNCATED);
+                    state.pendingValue = false;
+                    continue;
+                }
+                depth++;
+                inArray[depth] = token == JsonToken.START_ARRAY;
+                written[depth] = 0;
+                omitted[depth] = 0;
+                if (inArray[depth]) {
+                    generator.writeStartArray();
+                } else {
+                    generator.writeStartObject();
+                }
+            } else if (token == JsonToken.VALUE_STRING) {
+                writeString(parser, generator);
+            } else {
+                generator.copyCurrentEvent(parser);
+            }
+            state.pendingValue = false;
+        }
+    }
+
+    private void writeString(JsonParser parser, JsonGenerator generator) throws IOException {
+        int length = parser.getTextLength();
+        if (length <= maxStringLength) {
+            generator.writeString(parser.getTextCharacters(), parser.getTextOffset(), length);
+            return;
+        }
+        String head = new String(parser.getTextCharacters(), parser.getTextOffset(), maxStringLength);
+        generator.writeString(head + "...(" + (length - maxStringLength) + " more chars)");
+    }
+
+    /**
+     * 복사 진행 상태 (깊이별 배열 여부, 기록한 요소 수, 생략한 요소 수).
+     */
+    private static final class CopyState {
+
+        private final boolean[] inArray;
+        private final int[] written;
+        private final int[] omitted;
+
+        // 필드명을 쓰고 값을 아직 쓰지 않은 상태
+        private boolean pendingValue;
+
+        private CopyState(int maxDepth) {
+            this.inArray = new boolean[maxDepth + 1];
+            this.written = new int[maxDepth + 1];
+            this.omitted = new int[maxDepth + 1];
+        }
+    }
+}
@@ -2,6 +2,8 @@ package vibe.scon.scon_backend.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -37,6 +39,11 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    // 토큰 서명/검증 시간 (REQ-NF-PERF, 전역 레지스트리 → /actuator/prometheus)
+    private static final Timer SIGN_TIMER = jwtTimer("sign");
+    private static final Timer VERIFY_TIMER = jwtTimer("verify");
+    private static final Timer PARSE_TIMER = jwtTimer("parse");
+
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
@@ -87,6 +94,7 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
 
+        Timer.Sample sample = Timer.start();
         String token = Jwts.builder()
                 .subject(String.valueOf(ownerId))
                 .claim("email", email)
@@ -95,6 +103,7 @@ public class JwtTokenProvider {
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
+        sample.stop(SIGN_TIMER);
 
         log.debug("Access token generated for ownerId: {}, expires at: {}", ownerId, expiryDate);
         return token;
@@ -113,6 +122,7 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
 
+        Timer.Sample sample = Timer.start();
         String token = Jwts.builder()
                 .subject(String.valueOf(ownerId))
                 .claim("type", "refresh")
@@ -120,6 +130,7 @@ public class JwtTokenProvider {
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
+        sample.stop(SIGN_TIMER);
 
         log.debug("Refresh token generated for ownerId: {}, expires at: {}", ownerId, expiryDate);
         return token;
@@ -156,6 +167,7 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 그렇지 않으면 false
      */
     public boolean validateToken(String token) {
+        Timer.Sample sample = Timer.start();
         try {
             Jwts.parser()
                     .verifyWith(secretKey)
@@ -174,6 +186,8 @@ public class JwtTokenProvider {
             log.error("JWT claims string is empty: {}", e.getMessage());
         } catch (JwtException e) {
             log.error("JWT token validation failed: {}", e.getMessage());
+        } finally {
+            sample.stop(VERIFY_TIMER);
         }
         return false;
     }
@@ -241,10 +255,22 @@ public class JwtTokenProvider {
      * @return 파싱된 Claims
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Timer.Sample sample = Timer.start();
+        try {
+            return Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } finally {
+            sample.stop(PARSE_TIMER);
+        }
+    }
+
+    private static Timer jwtTimer(String operation) {
+        return Timer.builder("scon.jwt")
+                .description("JWT operation time")
+                .tag("operation", operation)
+                .register(Metrics.globalRegistry);
     }
 }
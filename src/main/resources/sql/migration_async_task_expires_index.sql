@@ -0,0 +1,4 @@
+-- 보존 기간 정리(RetentionSweeper)용 async_tasks 만료 조회 인덱스
+-- 프로덕션은 ddl-auto: validate 이므로 배포 전 수동 적용
+CREATE INDEX IF NOT EXISTS idx_async_tasks_status_expires
+    ON async_tasks (status, expires_at);
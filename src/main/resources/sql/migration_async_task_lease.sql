@@ -0,0 +1,13 @@
+-- 비동기 작업 영속 대기열: 실행 임대 / 멱등성 키 컬럼 (app.async-job)
+-- 프로덕션은 ddl-auto: validate 이므로 배포 전 수동 적용
+-- SQLite는 ADD COLUMN IF NOT EXISTS를 지원하지 않으므로 ALTER TABLE은 1회만 적용
+ALTER TABLE async_tasks ADD COLUMN idempotency_key  VARCHAR(100);
+ALTER TABLE async_tasks ADD COLUMN lease_owner      VARCHAR(100);
+ALTER TABLE async_tasks ADD COLUMN lease_expires_at TIMESTAMP;
+ALTER TABLE async_tasks ADD COLUMN attempts         INTEGER;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_async_tasks_user_idempotency
+    ON async_tasks (user_id, idempotency_key);
+
+CREATE INDEX IF NOT EXISTS idx_async_tasks_status_lease
+    ON async_tasks (status, lease_expires_at);
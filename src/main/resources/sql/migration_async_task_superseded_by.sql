@@ -0,0 +1,4 @@
+-- 비동기 작업 요청 병합: 최신 요청으로 대체된 작업의 대체 작업 ID (AsyncJob#coalesceKey)
+-- 프로덕션은 ddl-auto: validate 이므로 배포 전 수동 적용 (migration_async_task_lease.sql 이후)
+-- SQLite는 ADD COLUMN IF NOT EXISTS를 지원하지 않으므로 1회만 적용
+ALTER TABLE async_tasks ADD COLUMN superseded_by VARCHAR(36);
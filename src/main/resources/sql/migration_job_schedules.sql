@@ -0,0 +1,9 @@
+-- 반복 작업 스케줄 테이블 (RecurringJobScheduler)
+-- 프로덕션은 ddl-auto: validate 이므로 배포 전 수동 적용
+CREATE TABLE IF NOT EXISTS job_schedules (
+    job_type     VARCHAR(50)  NOT NULL PRIMARY KEY,
+    cron         VARCHAR(100) NOT NULL,
+    next_run_at  TIMESTAMP    NOT NULL,
+    last_run_at  TIMESTAMP,
+    last_task_id VARCHAR(36)
+);
@@ -0,0 +1,10 @@
+-- 공유 Rate Limit 카운터 테이블 (app.rate-limit.store=database)
+-- 프로덕션은 ddl-auto: validate 이므로 배포 전 수동 적용
+CREATE TABLE IF NOT EXISTS rate_limit_counters (
+    bucket_key        VARCHAR(255) NOT NULL PRIMARY KEY,
+    hits              BIGINT       NOT NULL,
+    window_end_millis BIGINT       NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_counters_window_end
+    ON rate_limit_counters (window_end_millis);
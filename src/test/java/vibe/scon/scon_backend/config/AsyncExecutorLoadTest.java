@@ -0,0 +1,144 @@
+package vibe.scon.scon_backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mock.env.MockEnvironment;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비동기 Executor 부하 테스트 (플랫폼 스레드 풀 vs Virtual Thread).
+ *
+ * <p>AsyncConfig가 만드는 taskExecutor/dbExecutor를 두 모드로 생성하여 같은 부하를 주고
+ * 처리량(tasks/s), 최대 동시 실행 수, 최대 플랫폼 스레드 수, 힙 사용량 증가분을 비교합니다.
+ * 기본 테스트에서는 제외되며 {@code gradle benchmark}로 실행합니다.</p>
+ *
+ * <ul>
+ *   <li>I/O 대기 부하 - GA4 전송({@code AnalyticsService.logEvent})처럼 네트워크 왕복 동안 대기하는 작업</li>
+ *   <li>DB 부하 - dbExecutor 작업. 두 모드 모두 동시 실행 수가 DB 커넥션 상한(7)을 넘지 않아야 합니다.</li>
+ * </ul>
+ */
+@Tag("benchmark")
+@DisplayName("비동기 Executor 부하 테스트")
+class AsyncExecutorLoadTest {
+
+    private static final int IO_TASKS = 5_000;
+    private static final long IO_LATENCY_MILLIS = 50;
+    private static final int DB_TASKS = 500;
+    private static final long DB_LATENCY_MILLIS = 5;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    @DisplayName("I/O 대기 작업 처리량 / 메모리: 플랫폼 vs Virtual Thread")
+    void ioBoundTasks() throws Exception {
+        Result platform = run("platform", false, "taskExecutor", IO_TASKS, IO_LATENCY_MILLIS);
+        Result virtual = run("virtual", true, "taskExecutor", IO_TASKS, IO_LATENCY_MILLIS);
+
+        report("taskExecutor I/O " + IO_LATENCY_MILLIS + "ms", platform, virtual);
+        assertThat(virtual.throughput).isGreaterThan(platform.throughput);
+    }
+
+    @Test
+    @DisplayName("DB 작업: 두 모드 모두 동시 실행 상한 유지")
+    void dbBoundTasks() throws Exception {
+        Result platform = run("platform", false, "dbExecutor", DB_TASKS, DB_LATENCY_MILLIS);
+        Result virtual = run("virtual", true, "dbExecutor", DB_TASKS, DB_LATENCY_MILLIS);
+
+        report("dbExecutor " + DB_LATENCY_MILLIS + "ms", platform, virtual);
+        int limit = new AppProperties().getAsyncExecutor().getDb().getMaxPoolSize();
+        assertThat(platform.maxConcurrent).isLessThanOrEqualTo(limit);
+        assertThat(virtual.maxConcurrent).isLessThanOrEqualTo(limit);
+    }
+
+    private Result run(String mode, boolean virtualThreads, String executorName,
+                       int tasks, long latencyMillis) throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        AsyncConfig config = new AsyncConfig(new AppProperties(), environment);
+        Executor executor = "dbExecutor".equals(executorName)
+                ? config.dbExecutor(new SimpleMeterRegistry(), ObservationRegistry.NOOP)
+                : config.taskExecutor(new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        threads.resetPeakThreadCount();
+
+        CountDownLatch done = new CountDownLatch(tasks);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        AtomicInteger callerRuns = new AtomicInteger();
+        Thread submitter = Thread.currentThread();
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                // 포화 시 호출 스레드 실행(CallerRuns)은 Executor 동시 실행 수와 분리하여 집계
+                boolean onCaller = Thread.currentThread() == submitter;
+                if (onCaller) {
+                    callerRuns.incrementAndGet();
+                } else {
+                    maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+                }
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (!onCaller) {
+                        running.decrementAndGet();
+                    }
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        long elapsedNanos = System.nanoTime() - start;
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        int peakThreads = threads.getPeakThreadCount();
+
+        ((DisposableBean) executor).destroy();
+        return new Result(mode, tasks * 1_000_000_000.0 / elapsedNanos, maxConcurrent.get(),
+                callerRuns.get(), peakThreads, Math.max(0L, heapAfter - heapBefore));
+    }
+
+    private void report(String label, Result... results) {
+        for (Result result : results) {
+            System.out.printf("[benchmark] %-24s %-8s %,10.0f tasks/s  maxConcurrent=%4d  callerRuns=%5d  peakPlatformThreads=%4d  heapDelta=%,d KB%n",
+                    label, result.mode, result.throughput, result.maxConcurrent, result.callerRuns, result.peakThreads,
+                    result.heapDeltaBytes / 1024);
+        }
+    }
+
+    private static final class Result {
+        private final String mode;
+        private final double throughput;
+        private final int maxConcurrent;
+        private final int callerRuns;
+        private final int peakThreads;
+        private final long heapDeltaBytes;
+
+        private Result(String mode, double throughput, int maxConcurrent, int callerRuns,
+                       int peakThreads, long heapDeltaBytes) {
+            this.mode = mode;
+            this.throughput = throughput;
+            this.maxConcurrent = maxConcurrent;
+            this.callerRuns = callerRuns;
+            this.peakThreads = peakThreads;
+            this.heapDeltaBytes = heapDeltaBytes;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package vibe.scon.scon_backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * BoundedVirtualThreadExecutor 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: Virtual Thread에서 실행, 동시 실행 수는 허가 수 이하</li>
+ *   <li>REQ-NF-PERF: 허가 대기 상한 초과 시 호출 스레드에서 실행 (executor.rejected)</li>
+ *   <li>REQ-NF-PERF: 종료 시 실행 중/대기 중 작업 완료 대기</li>
+ * </ul>
+ */
+@DisplayName("BoundedVirtualThreadExecutor 단위 테스트")
+class BoundedVirtualThreadExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedVirtualThreadExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Virtual Thread에서 실행되고 동시 실행 수는 허가 수를 넘지 않음")
+    void execute_runsOnVirtualThreadsWithinLimit() {
+        executor = new BoundedVirtualThreadExecutor("dbExecutor", 2, 100, null, meterRegistry, 5);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                virtual.complete(Thread.currentThread().isVirtual());
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                awaitRelease();
+                running.decrementAndGet();
+            });
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(executor.getActiveCount()).isEqualTo(2);
+            assertThat(executor.getPendingCount()).isEqualTo(8);
+        });
+        assertThat(meterRegistry.get("executor.queued").tag("name", "dbExecutor").gauge().value()).isEqualTo(8.0);
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 0
+                && executor.getPendingCount() == 0);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(virtual.join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("허가 대기 작업이 상한을 넘으면 호출 스레드에서 실행하고 거부 횟수 기록")
+    void execute_pendingOverflow_runsOnCaller() {
+        executor = new BoundedVirtualThreadExecutor("taskExecutor", 1, 1, null, meterRegistry, 5);
+        executor.execute(this::awaitRelease);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 1);
+        executor.execute(this::awaitRelease);
+
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+        executor.execute(() -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.incrementAndGet();
+            }
+        });
+
+        assertThat(ranOnCaller.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "taskExecutor").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 작업까지 완료")
+    void destroy_waitsForQueuedTasks() throws InterruptedException {
+        executor = new BoundedVirtualThreadExecutor("dbExecutor", 1, 10, null, meterRegistry, 5);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                awaitRelease();
+                completed.incrementAndGet();
+            });
+        }
+
+        release.countDown();
+        executor.destroy();
+
+        assertThat(completed.get()).isEqualTo(3);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package vibe.scon.scon_backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ManagementPortAuthorizationManager 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>POC-BE-SEC-001: 관리 포트로 들어온 요청만 허용, API 포트 요청 거부</li>
+ *   <li>POC-BE-SEC-001: 관리 포트 미설정 또는 API 포트와 같으면 항상 거부</li>
+ * </ul>
+ */
+@DisplayName("ManagementPortAuthorizationManager 단위 테스트")
+class ManagementPortAuthorizationManagerTest {
+
+    @Test
+    @DisplayName("관리 포트 요청만 허용")
+    void check_allowsManagementPortOnly() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("server.port", "8080")
+                .withProperty("management.server.port", "9090");
+        ManagementPortAuthorizationManager manager = new ManagementPortAuthorizationManager(environment);
+
+        assertThat(granted(manager, 9090)).isTrue();
+        assertThat(granted(manager, 8080)).isFalse();
+    }
+
+    @Test
+    @DisplayName("관리 포트 미설정 또는 API 포트와 같으면 거부")
+    void check_withoutSeparateManagementPort_deniesAll() {
+        ManagementPortAuthorizationManager unset = new ManagementPortAuthorizationManager(
+                new MockEnvironment().withProperty("server.port", "8080"));
+        ManagementPortAuthorizationManager samePort = new ManagementPortAuthorizationManager(
+                new MockEnvironment().withProperty("server.port", "8080").withProperty("management.server.port", "8080"));
+
+        assertThat(granted(unset, 8080)).isFalse();
+        assertThat(granted(samePort, 8080)).isFalse();
+    }
+
+    private boolean granted(ManagementPortAuthorizationManager manager, int localPort) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/jfr");
+        request.setLocalPort(localPort);
+        return manager.check(() -> null, new RequestAuthorizationContext(request)).isGranted();
+    }
+}
@@ -0,0 +1,142 @@
+package vibe.scon.scon_backend.config.datasource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import vibe.scon.scon_backend.config.properties.AppProperties.SlowQueryProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SlowQueryMonitor 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: SQL별 실행 횟수/시간 집계, 파라미터는 타입만 기록</li>
+ *   <li>REQ-NF-PERF: 인덱스 없는 조건 컬럼은 EXPLAIN QUERY PLAN으로 인덱스 후보 노출</li>
+ * </ul>
+ */
+@DisplayName("SlowQueryMonitor 단위 테스트")
+class SlowQueryMonitorTest {
+
+    private static final String SHIFTS_BY_SCHEDULE =
+            "select s1_0.id,s1_0.employee_id from shifts s1_0 where s1_0.schedule_id=?";
+
+    private final SlowQueryProperties properties = new SlowQueryProperties();
+
+    private SingleConnectionDataSource target;
+    private DataSource dataSource;
+    private SlowQueryMonitor monitor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        properties.setThreshold(Duration.ZERO);
+        target = new SingleConnectionDataSource("jdbc:sqlite::memory:", true);
+        ObjectProvider<DataSource> provider = mock(ObjectProvider.class);
+        monitor = new SlowQueryMonitor(properties, provider);
+        dataSource = ProxyDataSourceBuilder.create(target).listener(monitor).build();
+        when(provider.getIfAvailable()).thenReturn(dataSource);
+
+        try (Statement statement = target.getConnection().createStatement()) {
+            statement.execute("create table shifts (id integer primary key, schedule_id bigint, employee_id bigint)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 SQL은 하나로 집계되고 파라미터는 값 없이 타입만 기록")
+    void record_aggregatesBySqlWithParameterTypes() throws SQLException {
+        queryShifts(1L);
+        queryShifts(2L);
+
+        List<SlowQueryMonitor.StatementSummary> top = monitor.getTopStatements(10);
+        assertThat(top).hasSize(1);
+        SlowQueryMonitor.StatementSummary summary = top.get(0);
+        assertThat(summary.getSql()).isEqualTo(SHIFTS_BY_SCHEDULE);
+        assertThat(summary.getCount()).isEqualTo(2L);
+        assertThat(summary.getSlowCount()).isEqualTo(2L);
+        assertThat(summary.getParameters()).isEqualTo("[Long]");
+        assertThat(summary.getMaxMs()).isGreaterThanOrEqualTo(summary.getAvgMs());
+    }
+
+    @Test
+    @DisplayName("인덱스 없는 shifts.schedule_id 조건은 전체 스캔으로 감지, 인덱스 생성 후 사라짐")
+    void captureExplainPlans_reportsMissingIndex() throws SQLException {
+        queryShifts(1L);
+
+        monitor.captureExplainPlans();
+
+        assertThat(monitor.getIndexCandidates()).containsExactly("shifts(schedule_id)");
+        SlowQueryMonitor.QueryPlan plan = monitor.getTopStatements(1).get(0).getPlan();
+        assertThat(plan.getFullScans()).containsExactly("shifts");
+        // EXPLAIN 자체는 집계하지 않음
+        assertThat(monitor.getTrackedStatementCount()).isEqualTo(1L);
+
+        try (Statement statement = target.getConnection().createStatement()) {
+            statement.execute("create index idx_shifts_schedule_id on shifts (schedule_id)");
+        }
+        monitor.captureExplainPlans();
+
+        assertThat(monitor.getIndexCandidates()).isEmpty();
+        assertThat(monitor.getTopStatements(1).get(0).getPlan().getSteps())
+                .anySatisfy(step -> assertThat(step).contains("idx_shifts_schedule_id"));
+    }
+
+    @Test
+    @DisplayName("임계치 미만 실행은 slow로 세지 않음")
+    void record_belowThreshold_notSlow() {
+        properties.setThreshold(Duration.ofSeconds(1));
+
+        monitor.record("select 1", "[]", Duration.ofMillis(5).toNanos(), true);
+
+        assertThat(monitor.getTopStatements(1).get(0).getSlowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JOIN 별칭을 테이블명으로 해석, 안쪽 루프 테이블만 JOIN 컬럼을 인덱스 후보로 포함")
+    void parsePlan_resolvesJoinAlias() {
+        String sql = "select sc1_0.id from schedules sc1_0 join shifts s1_0 on sc1_0.id=s1_0.schedule_id "
+                + "where sc1_0.store_id=? and s1_0.employee_id=?";
+
+        SlowQueryMonitor.QueryPlan plan = SlowQueryMonitor.parsePlan(sql,
+                List.of("SCAN sc1_0", "SEARCH s1_0 USING INDEX idx_shifts_schedule_id (schedule_id=?)"),
+                Instant.EPOCH);
+
+        assertThat(plan.getFullScans()).containsExactly("schedules");
+        assertThat(plan.getIndexCandidates()).containsExactly("schedules(store_id)");
+
+        SlowQueryMonitor.QueryPlan innerScan = SlowQueryMonitor.parsePlan(sql,
+                List.of("SEARCH sc1_0 USING INDEX idx_schedules_store_id (store_id=?)", "SCAN s1_0"),
+                Instant.EPOCH);
+
+        assertThat(innerScan.getIndexCandidates()).containsExactly("shifts(employee_id, schedule_id)");
+    }
+
+    private void queryShifts(long scheduleId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SHIFTS_BY_SCHEDULE)) {
+            statement.setLong(1, scheduleId);
+            statement.executeQuery().close();
+        }
+    }
+}
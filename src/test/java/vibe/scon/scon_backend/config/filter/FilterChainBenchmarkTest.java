@@ -0,0 +1,174 @@
+package vibe.scon.scon_backend.config.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.ratelimit.InMemoryRateLimitStore;
+import vibe.scon.scon_backend.util.ApiLogger;
+import vibe.scon.scon_backend.util.JwtTokenProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 필터 체인 마이크로벤치마크.
+ *
+ * <p>SecurityConfig와 같은 순서(RequestId → RateLimit → JWT → Logging)로 커스텀 필터를 구성하고
+ * 요청당 오버헤드(ns/op)를 측정합니다. 기본 테스트에서는 제외되며 {@code gradle benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@DisplayName("필터 체인 마이크로벤치마크")
+class FilterChainBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 200_000;
+
+    private static final HttpServlet NO_OP_SERVLET = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            // 컨트롤러 비용을 제외하고 필터 오버헤드만 측정
+        }
+    };
+
+    private Filter[] filters;
+
+    @BeforeEach
+    void setUp() {
+        // 기본 logback 설정(DEBUG 콘솔)이 측정값을 왜곡하지 않도록 조정
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        AppProperties appProperties = new AppProperties();
+        AppProperties.RateLimitProperties rateLimit = appProperties.getRateLimit();
+        rateLimit.getLogin().setCapacity(1_000_000_000L);
+        rateLimit.getApi().setCapacity(1_000_000_000L);
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        RouteClassifier routeClassifier = new RouteClassifier();
+        appProperties.getLogging().setEnableRequestLogging(false);
+        appProperties.getLogging().setEnableResponseLogging(false);
+        ApiLogger apiLogger = new ApiLogger(objectMapper, routeClassifier, appProperties);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                "benchmark-jwt-secret-key-for-filter-chain-32chars!", 1800000L, 604800000L);
+
+        filters = new Filter[] {
+                new RequestIdTrackingFilter(),
+                new RateLimitingFilter(new MockEnvironment(), objectMapper, appProperties,
+                        new InMemoryRateLimitStore(rateLimit), routeClassifier),
+                new JwtAuthenticationFilter(jwtTokenProvider, routeClassifier),
+                new RequestResponseLoggingFilter(apiLogger, appProperties)
+        };
+    }
+
+    @Test
+    @DisplayName("요청당 필터 체인 오버헤드 측정")
+    void measurePerRequestOverhead() throws Exception {
+        report("public  POST /api/v1/auth/login", "POST", "/api/v1/auth/login");
+        report("api     GET  /api/v1/stores/1/schedules", "GET", "/api/v1/stores/1/schedules");
+        report("health  GET  /api/v1/health", "GET", "/api/v1/health");
+    }
+
+    @Test
+    @DisplayName("요청당 경로 판정: Trie vs 기존 startsWith/stream 판정")
+    void compareRouteClassification() {
+        RouteClassifier classifier = new RouteClassifier();
+        String[] paths = {"/api/v1/auth/login", "/api/v1/stores/1/schedules", "/api/v1/health", "/v3/api-docs"};
+
+        // 분류 결과 하나로 모든 필터의 판정을 처리
+        long trieNanos = time(() -> {
+            int hits = 0;
+            for (String path : paths) {
+                RouteClassifier.Route route = classifier.classify(path);
+                if (route.isPublicPath()) {
+                    hits++;
+                }
+                if (route.getRateLimitGroup() != RouteClassifier.RateLimitGroup.NONE) {
+                    hits++;
+                }
+                if (route.isLoggingExcluded()) {
+                    hits++;
+                }
+            }
+            return hits;
+        });
+        // 기존 구현: JWT 스킵 판정 + Rate Limit 경로 판정 + ApiLogger 제외 판정(요청/응답 2회)
+        List<String> rateLimitPaths = Arrays.asList("/api/v1/auth/login", "/api/v1/auth/signup");
+        List<String> loggingExcludedPaths = Arrays.asList("/api/v1/health", "/api/v1/health/ping", "/actuator");
+        long legacyNanos = time(() -> {
+            int hits = 0;
+            for (String path : paths) {
+                if (path.startsWith("/api/v1/auth/") || path.equals("/health") || path.equals("/api/health")
+                        || path.equals("/api/v1/health") || path.startsWith("/swagger-ui")
+                        || path.startsWith("/v3/api-docs")) {
+                    hits++;
+                }
+                if (rateLimitPaths.stream().anyMatch(path::startsWith)) {
+                    hits++;
+                }
+                if (loggingExcludedPaths.stream().anyMatch(path::startsWith)) {
+                    hits++;
+                }
+                if (loggingExcludedPaths.stream().anyMatch(path::startsWith)) {
+                    hits++;
+                }
+            }
+            return hits;
+        });
+
+        System.out.printf("[benchmark] route decisions per request  trie=%d ns  legacy=%d ns%n",
+                trieNanos / paths.length, legacyNanos / paths.length);
+    }
+
+    private void report(String label, String method, String path) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            perform(method, path);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            perform(method, path);
+        }
+        long nanosPerOp = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+
+        System.out.printf("[benchmark] %-45s %,8d ns/op%n", label, nanosPerOp);
+        assertThat(perform(method, path).getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse perform(String method, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(NO_OP_SERVLET, filters).doFilter(request, response);
+        return response;
+    }
+
+    private long time(IntSupplier body) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += body.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink += body.getAsInt();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isPositive();
+        return elapsed / MEASURE_ITERATIONS;
+    }
+}
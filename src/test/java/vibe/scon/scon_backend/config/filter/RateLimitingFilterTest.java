@@ -0,0 +1,107 @@
+package vibe.scon.scon_backend.config.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.ratelimit.InMemoryRateLimitStore;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimitingFilter 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>POC-BE-SEC-002: 로그인 요청 한도 초과 시 429 + Retry-After</li>
+ *   <li>POC-BE-SEC-002: RateLimit-* 헤더 응답</li>
+ *   <li>POC-BE-SEC-002: 경로 그룹별 독립 버킷</li>
+ *   <li>POC-BE-SEC-002: IP 분산 공격 시 버킷 수 상한 유지</li>
+ * </ul>
+ */
+@DisplayName("RateLimitingFilter 단위 테스트")
+class RateLimitingFilterTest {
+
+    private AppProperties appProperties;
+    private InMemoryRateLimitStore rateLimitStore;
+    private RateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        appProperties.getRateLimit().setMaxTrackedClients(100);
+        appProperties.getRateLimit().getLogin().setCapacity(3);
+        appProperties.getRateLimit().getLogin().setRefillPeriod(Duration.ofMinutes(1));
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        rateLimitStore = new InMemoryRateLimitStore(appProperties.getRateLimit());
+        filter = new RateLimitingFilter(
+                new MockEnvironment(), objectMapper, appProperties, rateLimitStore, new RouteClassifier());
+    }
+
+    @Test
+    @DisplayName("로그인 한도 초과 시 429와 Retry-After 헤더 반환")
+    void login_exceedsCapacity_returns429() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = perform("/api/v1/auth/login", "10.0.0.1");
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader(RateLimitingFilter.HEADER_LIMIT)).isEqualTo("3");
+            assertThat(response.getHeader(RateLimitingFilter.HEADER_REMAINING)).isEqualTo(String.valueOf(2 - i));
+        }
+
+        MockHttpServletResponse rejected = perform("/api/v1/auth/login", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(RateLimitingFilter.HEADER_REMAINING)).isEqualTo("0");
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isPositive();
+        assertThat(rejected.getContentAsString()).contains("TOO_MANY_REQUESTS");
+    }
+
+    @Test
+    @DisplayName("경로 그룹과 IP별로 버킷이 분리됨")
+    void buckets_areIsolatedPerRouteAndIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            perform("/api/v1/auth/login", "10.0.0.1");
+        }
+
+        assertThat(perform("/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(perform("/api/v1/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(perform("/api/v1/auth/signup", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("헬스체크와 비 API 경로는 Rate Limiting 대상이 아님")
+    void healthAndNonApiPaths_areNotLimited() throws Exception {
+        MockHttpServletResponse health = perform("/api/v1/health", "10.0.0.1");
+        MockHttpServletResponse swagger = perform("/swagger-ui/index.html", "10.0.0.1");
+
+        assertThat(health.getHeader(RateLimitingFilter.HEADER_LIMIT)).isNull();
+        assertThat(swagger.getHeader(RateLimitingFilter.HEADER_LIMIT)).isNull();
+    }
+
+    @Test
+    @DisplayName("IP를 바꿔가며 요청해도 추적 버킷 수는 상한을 넘지 않음")
+    void distributedBruteForce_keepsBucketCountBounded() throws Exception {
+        for (int i = 0; i < 5_000; i++) {
+            perform("/api/v1/auth/login", "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff));
+        }
+
+        assertThat(rateLimitStore.trackedBucketCount()).isLessThanOrEqualTo(100);
+    }
+
+    private MockHttpServletResponse perform(String path, String clientIp) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(clientIp);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,107 @@
+package vibe.scon.scon_backend.config.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.util.ApiLogger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * RequestResponseLoggingFilter 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>샘플링되지 않은 요청은 래퍼 없이 통과</li>
+ *   <li>샘플링되지 않은 오류 응답은 본문 없이 기록</li>
+ *   <li>샘플링된 요청은 응답 전체를 전달하면서 캡처 상한까지만 복사</li>
+ * </ul>
+ */
+@DisplayName("RequestResponseLoggingFilter 단위 테스트")
+class RequestResponseLoggingFilterTest {
+
+    private AppProperties appProperties;
+    private ApiLogger apiLogger;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        appProperties.getLogging().setMaxCaptureBytes(8);
+        apiLogger = mock(ApiLogger.class);
+        when(apiLogger.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않으면 원본 요청/응답을 그대로 전달하고 기록하지 않음")
+    void unsampled_passesOriginalObjects() throws Exception {
+        appProperties.getLogging().setSampleRate(0.0);
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(apiLogger, appProperties);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletRequest> seenRequest = new AtomicReference<>();
+        AtomicReference<ServletResponse> seenResponse = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            seenRequest.set(req);
+            seenResponse.set(res);
+        });
+
+        assertThat(seenRequest.get()).isSameAs(request);
+        assertThat(seenResponse.get()).isSameAs(response);
+        verify(apiLogger, never()).logBackendResponse(any(), any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 오류 응답은 본문 없이 기록")
+    void unsampled_error_isLoggedWithoutBody() throws Exception {
+        appProperties.getLogging().setSampleRate(0.0);
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(apiLogger, appProperties);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> ((HttpServletResponse) res).setStatus(404));
+
+        verify(apiLogger).logBackendRequest(eq(request), isNull(), eq(0L));
+        verify(apiLogger).logBackendResponse(eq(request), eq(response), isNull(), eq(0L), anyLong());
+    }
+
+    @Test
+    @DisplayName("샘플링된 요청은 응답을 모두 전달하고 상한까지만 캡처")
+    void sampled_streamsResponseAndCapsCapture() throws Exception {
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(apiLogger, appProperties);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/stores");
+        request.setContent("{\"name\":\"store\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            req.getInputStream().readAllBytes();
+            res.getWriter().write("{\"data\":\"0123456789\"}");
+        };
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"data\":\"0123456789\"}");
+
+        ArgumentCaptor<byte[]> requestBody = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> responseBody = ArgumentCaptor.forClass(byte[].class);
+        verify(apiLogger).logBackendRequest(any(), requestBody.capture(), eq(16L));
+        verify(apiLogger).logBackendResponse(any(), any(), responseBody.capture(), eq(21L), anyLong());
+        assertThat(new String(requestBody.getValue(), StandardCharsets.UTF_8)).isEqualTo("{\"name\":");
+        assertThat(new String(responseBody.getValue(), StandardCharsets.UTF_8)).isEqualTo("{\"data\":");
+    }
+}
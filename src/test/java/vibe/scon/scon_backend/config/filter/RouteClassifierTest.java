@@ -0,0 +1,79 @@
+package vibe.scon.scon_backend.config.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import vibe.scon.scon_backend.config.filter.RouteClassifier.RateLimitGroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RouteClassifier 단위 테스트.
+ *
+ * <p>기존 필터들의 {@code startsWith}/{@code equals} 판정과 동일한 결과를 내는지 검증합니다.</p>
+ */
+@DisplayName("RouteClassifier 단위 테스트")
+class RouteClassifierTest {
+
+    private final RouteClassifier classifier = new RouteClassifier();
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/v1/auth/login, true",
+            "/api/v1/auth/logout, true",
+            "/health, true",
+            "/api/v1/health, true",
+            "/api/v1/health/live, true",
+            "/api/v1/health/ready, true",
+            "/swagger-ui, true",
+            "/swagger-ui/index.html, true",
+            "/v3/api-docs/swagger-config, true",
+            "/actuator/prometheus, true",
+            "/actuator/health/readiness, true",
+            "/actuator/metrics, false",
+            "/api/v1/health/ping, false",
+            "/healthz, false",
+            "/api/v1/auth/login2x, false",
+            "/api/v1/stores, false",
+            "/, false"
+    })
+    @DisplayName("공개 경로 판정 (SecurityConfig permitAll과 동일)")
+    void publicPath(String path, boolean expected) {
+        assertThat(classifier.classify(path).isPublicPath()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/v1/auth/login, LOGIN",
+            "/api/v1/auth/signup, SIGNUP",
+            "/api/v1/auth/refresh, REFRESH",
+            "/api/v1/auth/logout, API",
+            "/api/v1/stores/1, API",
+            "/api/v1/health, NONE",
+            "/api/v1/health/ping, NONE",
+            "/api/health, NONE",
+            "/swagger-ui/index.html, NONE",
+            "/api, NONE"
+    })
+    @DisplayName("Rate Limit 그룹 판정 (구체적인 접두사 우선)")
+    void rateLimitGroup(String path, RateLimitGroup expected) {
+        assertThat(classifier.classify(path).getRateLimitGroup()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("로깅 제외 경로 판정")
+    void loggingExcluded() {
+        assertThat(classifier.classify("/api/v1/health").isLoggingExcluded()).isTrue();
+        assertThat(classifier.classify("/api/v1/health/ping").isLoggingExcluded()).isTrue();
+        assertThat(classifier.classify("/actuator/prometheus").isLoggingExcluded()).isTrue();
+        assertThat(classifier.classify("/api/v1/stores").isLoggingExcluded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("null 경로는 기본 분류")
+    void nullPath_returnsDefault() {
+        assertThat(classifier.classify(null).isPublicPath()).isFalse();
+        assertThat(classifier.classify(null).getRateLimitGroup()).isEqualTo(RateLimitGroup.NONE);
+    }
+}
@@ -0,0 +1,245 @@
+package vibe.scon.scon_backend.config.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import vibe.scon.scon_backend.config.properties.AppProperties.HealthProperties;
+import vibe.scon.scon_backend.dto.HealthCheckResult;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * HealthProbeMonitor 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: DB 장애/지연 시 readiness DOWN, liveness 유지</li>
+ *   <li>REQ-NF-PERF: 멈춘 프로브는 시간 제한 후 DOWN, 중복 제출 없음</li>
+ *   <li>REQ-NF-PERF: 결과가 오래되면 readiness/liveness DOWN</li>
+ *   <li>REQ-NF-PERF: Executor 포화, WAL 크기 감지</li>
+ * </ul>
+ */
+@DisplayName("HealthProbeMonitor 단위 테스트")
+class HealthProbeMonitorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-05T00:00:00Z"));
+    private final HealthProperties properties = new HealthProperties();
+
+    private DataSource dataSource;
+    private HealthProbeMonitor monitor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        properties.setProbeTimeout(Duration.ofMillis(200));
+        dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(dataSource.getConnection()).thenReturn(connection);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (monitor != null) {
+            monitor.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("갱신 전에는 UNKNOWN, 갱신 후 모든 프로브 UP이면 ready")
+    void refresh_allProbesUp_ready() {
+        monitor = monitor("jdbc:sqlite:file::memory:?cache=shared", Map.of());
+        assertThat(monitor.getStatus()).isEqualTo(HealthCheckResult.UNKNOWN);
+        assertThat(monitor.isReady()).isFalse();
+
+        monitor.refresh();
+
+        assertThat(monitor.getStatus()).isEqualTo(HealthCheckResult.UP);
+        assertThat(monitor.isReady()).isTrue();
+        assertThat(monitor.isLive()).isTrue();
+        assertThat(monitor.getChecks()).containsKeys(
+                HealthProbeMonitor.DB, HealthProbeMonitor.WAL, HealthProbeMonitor.DISK);
+        assertThat(monitor.getChecks().get(HealthProbeMonitor.DB).getLatencyMs()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("DB 연결 실패 시 readiness DOWN, liveness는 유지")
+    void refresh_databaseFailure_notReadyButLive() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("database is locked"));
+        monitor = monitor(null, Map.of());
+
+        monitor.refresh();
+
+        HealthCheckResult db = monitor.getChecks().get(HealthProbeMonitor.DB);
+        assertThat(db.getStatus()).isEqualTo(HealthCheckResult.DOWN);
+        assertThat(db.getMessage()).contains("database is locked");
+        assertThat(monitor.isReady()).isFalse();
+        assertThat(monitor.isLive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("멈춘 DB 프로브는 시간 제한 후 DOWN, 다음 갱신에서 다시 제출하지 않음")
+    void refresh_hangingProbe_timesOutWithoutPilingUp() throws SQLException {
+        CountDownLatch calls = new CountDownLatch(2);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            calls.countDown();
+            release.await();
+            throw new SQLException("released");
+        });
+        monitor = monitor(null, Map.of());
+
+        monitor.refresh();
+        assertThat(monitor.getChecks().get(HealthProbeMonitor.DB).getMessage()).startsWith("timed out");
+
+        monitor.refresh();
+        assertThat(monitor.getChecks().get(HealthProbeMonitor.DB).getMessage())
+                .isEqualTo("previous probe still running");
+        assertThat(calls.getCount()).isEqualTo(1L);
+        assertThat(monitor.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과가 stale-after보다 오래되면 readiness/liveness DOWN")
+    void staleSnapshot_notReadyNotLive() {
+        monitor = monitor(null, Map.of());
+        monitor.refresh();
+        assertThat(monitor.isReady()).isTrue();
+
+        clock.advance(properties.getStaleAfter().plusSeconds(1));
+
+        assertThat(monitor.getStatus()).isEqualTo(HealthCheckResult.DOWN);
+        assertThat(monitor.isReady()).isFalse();
+        assertThat(monitor.isLive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드가 모두 사용 중이고 큐가 임계치 이상이면 Executor DOWN")
+    void refresh_saturatedExecutor_down() throws InterruptedException {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(1);
+        pool.setMaxPoolSize(1);
+        pool.setQueueCapacity(2);
+        pool.initialize();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            pool.execute(() -> {
+                started.countDown();
+                awaitRelease();
+            });
+            started.await();
+            pool.execute(this::awaitRelease);
+            pool.execute(this::awaitRelease);
+
+            Map<String, Executor> executors = new LinkedHashMap<>();
+            executors.put("dbExecutor", pool);
+            monitor = monitor(null, executors);
+            monitor.refresh();
+
+            HealthCheckResult result = monitor.getChecks().get(HealthProbeMonitor.EXECUTOR_PREFIX + "dbExecutor");
+            assertThat(result.getStatus()).isEqualTo(HealthCheckResult.DOWN);
+            assertThat(result.getDetails()).containsEntry("queued", 2);
+            assertThat(monitor.isReady()).isFalse();
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("WAL 파일이 임계치를 넘으면 DEGRADED (트래픽은 계속 수신)")
+    void refresh_largeWal_degraded() throws Exception {
+        Path db = tempDir.resolve("scon.db");
+        Files.write(db, new byte[0]);
+        Files.write(Paths.get(db + "-wal"), new byte[2048]);
+        properties.setWalWarnBytes(1024);
+        monitor = monitor("jdbc:sqlite:" + db, Map.of());
+
+        monitor.refresh();
+
+        HealthCheckResult wal = monitor.getChecks().get(HealthProbeMonitor.WAL);
+        assertThat(wal.getStatus()).isEqualTo(HealthCheckResult.DEGRADED);
+        assertThat(wal.getDetails()).containsEntry("sizeBytes", 2048L);
+        assertThat(monitor.getChecks().get(HealthProbeMonitor.DISK).getStatus()).isEqualTo(HealthCheckResult.UP);
+        assertThat(monitor.getStatus()).isEqualTo(HealthCheckResult.DEGRADED);
+        assertThat(monitor.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("datasource URL에서 SQLite 파일 경로 추출")
+    void resolveDatabasePath() {
+        assertThat(HealthProbeMonitor.resolveDatabasePath("jdbc:sqlite:/var/lib/scon/data/scon_prod.db"))
+                .isEqualTo(Paths.get("/var/lib/scon/data/scon_prod.db"));
+        assertThat(HealthProbeMonitor.resolveDatabasePath("jdbc:sqlite:file:./data/dev.db?journal_mode=WAL"))
+                .isEqualTo(Paths.get("./data/dev.db"));
+        assertThat(HealthProbeMonitor.resolveDatabasePath("jdbc:sqlite:file::memory:?cache=shared")).isNull();
+        assertThat(HealthProbeMonitor.resolveDatabasePath("jdbc:h2:mem:test")).isNull();
+        assertThat(HealthProbeMonitor.resolveDatabasePath(null)).isNull();
+    }
+
+    private HealthProbeMonitor monitor(String url, Map<String, Executor> executors) {
+        return new HealthProbeMonitor(dataSource, executors, properties, url, clock);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package vibe.scon.scon_backend.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CountingAsyncAppender 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 하위 Appender가 멈춰도 로그 호출 스레드는 대기하지 않음</li>
+ *   <li>REQ-NF-PERF: 임계치 이하 INFO는 discarded, 큐가 가득 찬 WARN은 queue_full로 집계</li>
+ * </ul>
+ */
+@DisplayName("CountingAsyncAppender 단위 테스트")
+class CountingAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private CountingAsyncAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (appender != null) {
+            appender.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("디스크가 멈춘 상황에서도 append는 즉시 반환하고 버린 이벤트를 사유별로 집계")
+    void append_stalledDelegate_neverBlocks() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(1);
+        appender = start(new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                stalled.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        // 작업 스레드가 첫 이벤트에서 멈출 때까지 대기 → 이후 큐(4개)만 채워짐
+        appender.doAppend(event(Level.WARN));
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            appender.doAppend(event(Level.WARN));
+            appender.doAppend(event(Level.INFO));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isLessThan(1_000L);
+        assertThat(appender.getNumberOfElementsInQueue()).isEqualTo(4);
+        assertThat(appender.getQueueFullCount()).isPositive();
+        assertThat(appender.getDiscardedCount()).isPositive();
+        assertThat(appender.getQueueFullCount() + appender.getDiscardedCount()).isEqualTo(16L);
+    }
+
+    private CountingAsyncAppender start(AppenderBase<ILoggingEvent> delegate) {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        delegate.setContext(context);
+        delegate.setName("delegate");
+        delegate.start();
+
+        CountingAsyncAppender async = new CountingAsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC_TEST");
+        async.setQueueSize(4);
+        async.setDiscardingThreshold(2);
+        async.setNeverBlock(true);
+        async.addAppender(delegate);
+        async.start();
+        return async;
+    }
+
+    private ILoggingEvent event(Level level) {
+        Logger logger = context.getLogger("vibe.scon.test");
+        return new LoggingEvent(Logger.class.getName(), logger, level, "message", null, null);
+    }
+}
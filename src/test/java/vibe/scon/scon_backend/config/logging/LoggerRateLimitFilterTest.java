@@ -0,0 +1,86 @@
+package vibe.scon.scon_backend.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LoggerRateLimitFilter 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 로거 접두사별 초당 건수 제한, 가장 긴 접두사 우선</li>
+ *   <li>REQ-NF-PERF: WARN/ERROR, 레벨 확인 호출, 비활성 레벨은 제한하지 않음</li>
+ * </ul>
+ */
+@DisplayName("LoggerRateLimitFilter 단위 테스트")
+class LoggerRateLimitFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final LoggerRateLimitFilter filter = new LoggerRateLimitFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setContext(context);
+        filter.setLimits("vibe.scon=100, vibe.scon.scon_backend.service=2, broken");
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("가장 긴 접두사의 초당 한도를 넘으면 DENY, 제한 건수 집계")
+    void decide_overLimit_denied() {
+        Logger logger = logger("vibe.scon.scon_backend.service.OwnerService", Level.INFO);
+
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+
+        assertThat(filter.getLimiters())
+                .filteredOn(limiter -> limiter.getPrefix().equals("vibe.scon.scon_backend.service"))
+                .singleElement()
+                .satisfies(limiter -> assertThat(limiter.getLimitedCount()).isEqualTo(1L));
+        // 잘못된 항목(broken)은 무시
+        assertThat(filter.getLimiters()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("WARN/ERROR, isDebugEnabled 호출, 비활성 레벨은 한도를 소모하지 않음")
+    void decide_exemptCalls_neutral() {
+        Logger logger = logger("vibe.scon.scon_backend.service.ScheduleService", Level.INFO);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(decide(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, logger, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("설정된 접두사에 해당하지 않는 로거는 제한 없음")
+    void decide_unmatchedLogger_neutral() {
+        Logger logger = logger("org.springframework.web", Level.INFO);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    private Logger logger(String name, Level level) {
+        Logger logger = context.getLogger(name);
+        logger.setLevel(level);
+        return logger;
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{1}, null);
+    }
+}
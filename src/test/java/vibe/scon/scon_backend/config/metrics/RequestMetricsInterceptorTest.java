@@ -0,0 +1,68 @@
+package vibe.scon.scon_backend.config.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestMetricsInterceptor 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 요청 종료 시 SQL 문 수 기록 후 측정 구간 해제</li>
+ *   <li>REQ-NF-PERF: 비동기 처리 시작 시 측정 구간을 해제하여 반납된 요청 스레드에 통계가 남지 않음</li>
+ * </ul>
+ */
+@DisplayName("RequestMetricsInterceptor 단위 테스트")
+class RequestMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestMetricsInterceptor interceptor =
+            new RequestMetricsInterceptor(meterRegistry, new AppProperties());
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.end();
+    }
+
+    @Test
+    @DisplayName("요청 종료 시 SQL 문 수를 기록하고 측정 구간 해제")
+    void afterCompletion_recordsAndClears() {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        RequestQueryStats.current().recordStatement("select 1");
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(RequestQueryStats.current()).isNull();
+        assertThat(meterRegistry.get(RequestMetricsInterceptor.STATEMENTS_PER_REQUEST)
+                .tag("uri", "/api/v1/tasks/{taskId}/events").summary().totalAmount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비동기 처리 시작 시 측정 구간 해제 (요청 스레드에 남지 않음)")
+    void afterConcurrentHandlingStarted_clearsThreadLocal() {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        assertThat(RequestQueryStats.current()).isNull();
+        assertThat(meterRegistry.find(RequestMetricsInterceptor.STATEMENTS_PER_REQUEST).summary()).isNull();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks/task-1/events");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/tasks/{taskId}/events");
+        return request;
+    }
+}
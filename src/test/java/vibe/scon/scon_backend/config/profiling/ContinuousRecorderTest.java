@@ -0,0 +1,131 @@
+package vibe.scon.scon_backend.config.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import vibe.scon.scon_backend.config.properties.AppProperties.ProfilingProperties;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ContinuousRecorder 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: SCON 이벤트(인증/스케줄 수정/비동기 작업) 통계 요약</li>
+ *   <li>REQ-NF-PERF: 락 경합 상위 지점 요약</li>
+ *   <li>REQ-NF-PERF: 최근 구간 덤프 및 덤프 파일 개수 제한</li>
+ * </ul>
+ */
+@DisplayName("ContinuousRecorder 단위 테스트")
+class ContinuousRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ProfilingProperties properties = new ProfilingProperties();
+    private ContinuousRecorder recorder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties.setDumpDirectory(tempDir.toString());
+        properties.setMaxDumpFiles(2);
+        recorder = new ContinuousRecorder(properties);
+        recorder.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.stop();
+    }
+
+    @Test
+    @DisplayName("SCON 이벤트를 종류/action/executor별로 집계하고 실패 수 기록")
+    void summarize_sconEvents() throws Exception {
+        AuthEvent.record("login", () -> "ok");
+        assertThatThrownBy(() -> AuthEvent.record("login", () -> {
+            throw new IllegalStateException("invalid password");
+        })).isInstanceOf(IllegalStateException.class);
+        ScheduleUpdateEvent.record(1L, 3, () -> null);
+        AsyncTaskEvent.decorator("dbExecutor").decorate(() -> { }).run();
+
+        ContinuousRecorder.ProfileSummary summary = recorder.summarize(Duration.ofMinutes(1));
+
+        assertThat(summary.getEvents())
+                .anySatisfy(stats -> {
+                    assertThat(stats.getName()).isEqualTo(AuthEvent.NAME + " login");
+                    assertThat(stats.getCount()).isEqualTo(2L);
+                    assertThat(stats.getFailures()).isEqualTo(1L);
+                })
+                .anySatisfy(stats -> assertThat(stats.getName()).isEqualTo(ScheduleUpdateEvent.NAME))
+                .anySatisfy(stats -> assertThat(stats.getName()).isEqualTo(AsyncTaskEvent.NAME + " dbExecutor"));
+    }
+
+    @Test
+    @DisplayName("모니터 대기(20ms 이상)는 락 경합 상위 지점으로 요약")
+    void summarize_lockContention() throws Exception {
+        ContendedLock lock = new ContendedLock();
+        CountDownLatch held = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            synchronized (lock) {
+                held.countDown();
+                sleep(200);
+            }
+        });
+        holder.start();
+        held.await();
+        synchronized (lock) {
+            lock.touched = true;
+        }
+        holder.join();
+
+        ContinuousRecorder.ProfileSummary summary = recorder.summarize(Duration.ofMinutes(1));
+
+        assertThat(summary.getContentionHotspots())
+                .anySatisfy(hotspot -> assertThat(hotspot.getLocation()).startsWith(ContendedLock.class.getName()));
+    }
+
+    @Test
+    @DisplayName("최근 구간을 .jfr로 저장하고 최근 max-dump-files개만 유지")
+    void dump_writesReadableFileAndPrunesOld() throws Exception {
+        AuthEvent.record("refresh", () -> "ok");
+
+        Path first = recorder.dump(Duration.ofMinutes(1));
+        List<RecordedEvent> events = RecordingFile.readAllEvents(first);
+        assertThat(events).anySatisfy(event ->
+                assertThat(event.getEventType().getName()).isEqualTo(AuthEvent.NAME));
+
+        sleep(5);
+        recorder.dump(Duration.ofMinutes(1));
+        sleep(5);
+        Path third = recorder.dump(Duration.ofMinutes(1));
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.toList()).hasSize(2).contains(third).doesNotContain(first);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class ContendedLock {
+        boolean touched;
+    }
+}
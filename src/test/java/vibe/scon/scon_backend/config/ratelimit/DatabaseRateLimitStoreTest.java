@@ -0,0 +1,171 @@
+package vibe.scon.scon_backend.config.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.config.properties.AppProperties.RateLimitPolicy;
+import vibe.scon.scon_backend.entity.RateLimitCounter;
+import vibe.scon.scon_backend.repository.RateLimitCounterRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * DatabaseRateLimitStore 단위 테스트.
+ *
+ * <p>두 인스턴스가 하나의 (가짜) 카운터 테이블을 공유하는 상황을 재현합니다.</p>
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>POC-BE-SEC-002: 요청 시 DB 쓰기 없음 (일괄 반영)</li>
+ *   <li>POC-BE-SEC-002: flush 이후 인스턴스 간 한도 공유</li>
+ *   <li>POC-BE-SEC-002: DB 반영 실패 시 증가분 유지</li>
+ *   <li>REQ-NF-PERF: 반영할 증가분도 한도 근처 키도 없으면 트랜잭션 생략</li>
+ *   <li>REQ-NF-PERF: 이번 주기에 반영했거나 한도 근처인 키만 다시 읽음</li>
+ * </ul>
+ */
+@DisplayName("DatabaseRateLimitStore 단위 테스트")
+class DatabaseRateLimitStoreTest {
+
+    private final Map<String, Long> table = new ConcurrentHashMap<>();
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-06T00:00:10Z"), ZoneOffset.UTC);
+
+    private RateLimitCounterRepository repository;
+    private RateLimitPolicy policy;
+    private PlatformTransactionManager transactionManager;
+    private DatabaseRateLimitStore instanceA;
+    private DatabaseRateLimitStore instanceB;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RateLimitCounterRepository.class);
+        doAnswer(invocation -> {
+            table.merge(invocation.getArgument(0), invocation.getArgument(1), Long::sum);
+            return null;
+        }).when(repository).addHits(anyString(), anyLong(), anyLong());
+        when(repository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<RateLimitCounter> rows = new ArrayList<>();
+            for (Object key : (Iterable<?>) invocation.getArgument(0)) {
+                Long hits = table.get(key);
+                if (hits != null) {
+                    RateLimitCounter row = BeanUtils.instantiateClass(RateLimitCounter.class);
+                    ReflectionTestUtils.setField(row, "bucketKey", key);
+                    ReflectionTestUtils.setField(row, "hits", hits);
+                    rows.add(row);
+                }
+            }
+            return rows;
+        });
+
+        AppProperties.RateLimitProperties properties = new AppProperties().getRateLimit();
+        policy = new RateLimitPolicy(4, Duration.ofMinutes(1));
+        transactionManager = mock(PlatformTransactionManager.class);
+        instanceA = new DatabaseRateLimitStore(properties, repository, transactionManager, clock);
+        instanceB = new DatabaseRateLimitStore(properties, repository, transactionManager, clock);
+    }
+
+    @Test
+    @DisplayName("요청 처리 중에는 DB에 쓰지 않음")
+    void tryConsume_doesNotWritePerRequest() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(instanceA.tryConsume("login:10.0.0.1", policy).isAllowed()).isTrue();
+        }
+
+        verify(repository, never()).addHits(anyString(), anyLong(), anyLong());
+
+        instanceA.flush();
+
+        verify(repository, times(1)).addHits(anyString(), eq(3L), anyLong());
+    }
+
+    @Test
+    @DisplayName("flush 이후 다른 인스턴스의 요청 수가 한도에 합산됨")
+    void flush_sharesCountsAcrossInstances() {
+        instanceA.tryConsume("login:10.0.0.1", policy);
+        instanceA.tryConsume("login:10.0.0.1", policy);
+        instanceA.tryConsume("login:10.0.0.1", policy);
+        instanceB.tryConsume("login:10.0.0.1", policy);
+
+        instanceA.flush();
+        instanceB.flush();
+        instanceA.flush();
+
+        RateLimitDecision fromA = instanceA.tryConsume("login:10.0.0.1", policy);
+        RateLimitDecision fromB = instanceB.tryConsume("login:10.0.0.1", policy);
+
+        assertThat(fromA.isAllowed()).isFalse();
+        assertThat(fromB.isAllowed()).isFalse();
+        assertThat(fromB.getResetSeconds()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 증가분을 유지하고 다음 주기에 재시도")
+    void flush_failure_keepsPendingHits() {
+        instanceA.tryConsume("login:10.0.0.1", policy);
+        instanceA.tryConsume("login:10.0.0.1", policy);
+        doThrow(new IllegalStateException("database is locked"))
+                .when(repository).addHits(anyString(), anyLong(), anyLong());
+
+        instanceA.flush();
+
+        assertThat(instanceA.tryConsume("login:10.0.0.1", policy).getRemaining()).isEqualTo(1);
+
+        doAnswer(invocation -> {
+            table.merge(invocation.getArgument(0), invocation.getArgument(1), Long::sum);
+            return null;
+        }).when(repository).addHits(anyString(), anyLong(), anyLong());
+        instanceA.flush();
+
+        assertThat(table.values()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("반영할 증가분도 한도 근처 키도 없으면 트랜잭션을 열지 않음")
+    void flush_idle_skipsTransaction() {
+        instanceA.tryConsume("login:10.0.0.1", policy);
+        instanceA.flush();
+        clearInvocations(repository, transactionManager);
+
+        instanceA.flush();
+
+        verify(transactionManager, never()).getTransaction(any());
+        verify(repository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("이번 주기에 반영했거나 한도 근처인 키만 다시 읽음")
+    void flush_readsBackOnlyFlushedOrNearLimitKeys() {
+        instanceA.tryConsume("login:10.0.0.1", policy);
+        instanceA.tryConsume("login:10.0.0.2", policy);
+        instanceA.tryConsume("login:10.0.0.2", policy);
+        instanceA.flush();
+        clearInvocations(repository);
+
+        instanceA.tryConsume("login:10.0.0.3", policy);
+        instanceA.flush();
+
+        verify(repository).findAllById(argThat(keys -> {
+            List<String> read = new ArrayList<>();
+            keys.forEach(key -> read.add((String) key));
+            return read.size() == 2
+                    && read.stream().anyMatch(key -> key.startsWith("login:10.0.0.2:"))
+                    && read.stream().anyMatch(key -> key.startsWith("login:10.0.0.3:"));
+        }));
+    }
+}
@@ -0,0 +1,95 @@
+package vibe.scon.scon_backend.config.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FileSpanExporter 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 완료된 Span을 부모 관계와 함께 JSON Lines로 기록</li>
+ *   <li>REQ-NF-PERF: 최대 크기 초과 시 파일 교체</li>
+ * </ul>
+ */
+@DisplayName("FileSpanExporter 단위 테스트")
+class FileSpanExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void tearDown() {
+        if (tracerProvider != null) {
+            tracerProvider.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Span을 부모 Span ID, 소요 시간, 속성과 함께 한 줄씩 기록")
+    void export_writesJsonLines() throws Exception {
+        Path file = tempDir.resolve("traces.jsonl");
+        Tracer tracer = tracer(new FileSpanExporter(file, 0L));
+
+        Span parent = tracer.spanBuilder("http get /api/v1/stores/{id}").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("StoreRepository.findById")
+                    .setAttribute("db.repository", "StoreRepository")
+                    .startSpan()
+                    .end();
+        } finally {
+            parent.end();
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode root = objectMapper.readTree(lines.get(1));
+        assertThat(child.get("name").asText()).isEqualTo("StoreRepository.findById");
+        assertThat(child.get("traceId").asText()).isEqualTo(root.get("traceId").asText());
+        assertThat(child.get("parentSpanId").asText()).isEqualTo(root.get("spanId").asText());
+        assertThat(child.get("attributes").get("db.repository").asText()).isEqualTo("StoreRepository");
+        assertThat(child.get("durationMs").isNumber()).isTrue();
+        assertThat(root.has("parentSpanId")).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 기존 파일을 .1로 교체하고 새 파일에 기록")
+    void export_rotatesWhenFull() throws Exception {
+        Path file = tempDir.resolve("traces.jsonl");
+        Tracer tracer = tracer(new FileSpanExporter(file, 300L));
+
+        for (int i = 0; i < 4; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        assertThat(Files.exists(tempDir.resolve("traces.jsonl.1"))).isTrue();
+        assertThat(Files.size(file)).isLessThanOrEqualTo(300L);
+        assertThat(Files.readAllLines(file)).last().asString().contains("span-3");
+    }
+
+    private Tracer tracer(FileSpanExporter exporter) {
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        return tracerProvider.get("test");
+    }
+}
@@ -0,0 +1,64 @@
+package vibe.scon.scon_backend.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import vibe.scon.scon_backend.config.health.HealthProbeMonitor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * HealthController 통합 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 인증 없이 liveness/readiness 조회 가능</li>
+ *   <li>REQ-NF-PERF: readiness/상세 헬스체크에 캐시된 프로브 결과 포함</li>
+ *   <li>REQ-NF-PERF: 공개 헬스 응답에 디스크 경로 미노출</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("HealthController 통합 테스트")
+class HealthControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HealthProbeMonitor healthProbeMonitor;
+
+    @Test
+    @DisplayName("liveness는 인증 없이 200 UP")
+    void liveness_ok() throws Exception {
+        mockMvc.perform(get("/api/v1/health/live"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("UP"));
+    }
+
+    @Test
+    @DisplayName("readiness는 캐시된 DB/디스크/Executor 프로브 결과를 반환")
+    void readiness_returnsCachedProbes() throws Exception {
+        healthProbeMonitor.refresh();
+
+        mockMvc.perform(get("/api/v1/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("UP"))
+                .andExpect(jsonPath("$.data.checks.db.status").value("UP"))
+                .andExpect(jsonPath("$.data.checks.disk.status").value("UP"))
+                .andExpect(jsonPath("$.data.checks['executor.dbExecutor'].status").value("UP"));
+
+        mockMvc.perform(get("/api/v1/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.checks.wal.status").value("UP"))
+                .andExpect(jsonPath("$.data.checks.disk.details.freeBytes").exists())
+                .andExpect(jsonPath("$.data.checks.disk.details.path").doesNotExist());
+    }
+}
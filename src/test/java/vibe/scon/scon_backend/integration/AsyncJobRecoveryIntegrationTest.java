@@ -0,0 +1,271 @@
+package vibe.scon.scon_backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import vibe.scon.scon_backend.dto.auth.SignupRequestDto;
+import vibe.scon.scon_backend.dto.store.StoreRequestDto;
+import vibe.scon.scon_backend.entity.AsyncTask;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.repository.AsyncTaskRepository;
+import vibe.scon.scon_backend.repository.OwnerRepository;
+import vibe.scon.scon_backend.repository.StoreRepository;
+import vibe.scon.scon_backend.service.AsyncTaskService;
+import vibe.scon.scon_backend.service.StoreService;
+import vibe.scon.scon_backend.service.job.AsyncJobDispatcher;
+import vibe.scon.scon_backend.service.job.JobQueueStore;
+import vibe.scon.scon_backend.service.job.LeaseLostException;
+import vibe.scon.scon_backend.service.job.ScheduleUpdateJob;
+import vibe.scon.scon_backend.service.job.StoreCreateJob;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기 작업 영속 대기열 / 복구 통합 테스트.
+ *
+ * <p>작업은 dbExecutor 스레드에서 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션을 사용하지 않고,
+ * 테스트마다 고유한 이메일로 가입하여 다른 테스트와 데이터가 겹치지 않도록 합니다.</p>
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-004: 같은 Idempotency-Key 재요청은 같은 작업을 반환하고 매장은 1번만 생성</li>
+ *   <li>REQ-NF-004: 100자를 넘는 키, 다른 유형의 작업에 쓰인 키는 400 (작업 미생성)</li>
+ *   <li>REQ-NF-004: 임대가 만료된 작업은 회수하여 완료, 시도 횟수를 소진한 작업은 FAILED</li>
+ *   <li>REQ-NF-004: 다른 인스턴스가 임대 중인 작업의 실행 결과는 롤백, 취소도 반영하지 않음</li>
+ *   <li>REQ-NF-004: 트랜잭션 밖에서 실행하는 작업은 각 단계가 커밋되고 완료 기록만 임대 소유자 조건으로 실패</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("비동기 작업 복구 통합 테스트")
+class AsyncJobRecoveryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AsyncJobDispatcher asyncJobDispatcher;
+
+    @Autowired
+    private JobQueueStore jobQueueStore;
+
+    @Autowired
+    private AsyncTaskService asyncTaskService;
+
+    @Autowired
+    private AsyncTaskRepository asyncTaskRepository;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    private String accessToken;
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String email = "job-recovery-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        SignupRequestDto signupRequest = SignupRequestDto.builder()
+                .email(email)
+                .password("Password123!")
+                .name("작업복구")
+                .phone("010-5555-0000")
+                .build();
+        MvcResult signupResult = mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        accessToken = signupResult.getResponse().getCookie("accessToken").getValue();
+        ownerId = ownerRepository.findByEmail(email).orElseThrow().getId();
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재요청하면 같은 작업 ID, 매장은 1번만 생성")
+    void submit_sameIdempotencyKey_appliesOnce() throws Exception {
+        String first = createStoreAsync("idem-1");
+        String second = createStoreAsync("idem-1");
+
+        assertThat(second).isEqualTo(first);
+        awaitStatus(first, TaskStatus.COMPLETED);
+        assertThat(storeRepository.findByOwnerId(ownerId)).hasSize(1);
+        assertThat(asyncTaskRepository.findById(first).orElseThrow().getAttempts()).isEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/tasks/{taskId}/result", first)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("복구테스트매장"));
+    }
+
+    @Test
+    @DisplayName("임대가 만료된 작업은 회수하여 다시 실행")
+    void recoverOrphans_expiredLease_reclaimsAndCompletes() throws Exception {
+        String taskId = saveTask("crashed-instance", LocalDateTime.now().minusMinutes(1), 1);
+
+        asyncJobDispatcher.recoverOrphans();
+
+        awaitStatus(taskId, TaskStatus.COMPLETED);
+        AsyncTask task = asyncTaskRepository.findById(taskId).orElseThrow();
+        assertThat(task.getAttempts()).isEqualTo(2);
+        assertThat(task.getLeaseOwner()).isEqualTo(jobQueueStore.getInstanceId());
+        assertThat(storeRepository.findByOwnerId(ownerId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("시도 횟수를 소진한 중단 작업은 FAILED")
+    void recoverOrphans_exhausted_fails() throws Exception {
+        String taskId = saveTask("crashed-instance", LocalDateTime.now().minusMinutes(1), 3);
+
+        asyncJobDispatcher.recoverOrphans();
+
+        AsyncTask task = asyncTaskRepository.findById(taskId).orElseThrow();
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.FAILED);
+        assertThat(task.getErrorMessage()).isNotBlank();
+        assertThat(storeRepository.findByOwnerId(ownerId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대 중인 작업은 완료 기록 실패 → 작업 변경 롤백")
+    void executeAndComplete_foreignLease_rollsBack() throws Exception {
+        String taskId = saveTask("other-instance", LocalDateTime.now().plusMinutes(1), 1);
+
+        assertThatThrownBy(() -> jobQueueStore.executeAndComplete(taskId,
+                () -> storeService.createStore(ownerId, storeRequest())))
+                .isInstanceOf(LeaseLostException.class);
+
+        assertThat(storeRepository.findByOwnerId(ownerId)).isEmpty();
+        assertThat(asyncTaskRepository.findById(taskId).orElseThrow().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        // 임대 만료 후 다른 테스트의 복구 대상이 되지 않도록 제거
+        asyncTaskRepository.deleteById(taskId);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 실행하는 작업은 완료 기록이 실패해도 작업 변경이 유지됨")
+    void executeThenComplete_foreignLease_keepsCommittedWork() throws Exception {
+        String taskId = saveTask("other-instance", LocalDateTime.now().plusMinutes(1), 1);
+
+        assertThatThrownBy(() -> jobQueueStore.executeThenComplete(taskId,
+                () -> storeService.createStore(ownerId, storeRequest())))
+                .isInstanceOf(LeaseLostException.class);
+
+        assertThat(storeRepository.findByOwnerId(ownerId)).hasSize(1);
+        assertThat(asyncTaskRepository.findById(taskId).orElseThrow().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        asyncTaskRepository.deleteById(taskId);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대 중인 작업은 취소하지 않고, 임대가 만료된 작업은 즉시 CANCELLED")
+    void cancel_onlyWithoutLiveForeignLease() throws Exception {
+        String leased = saveTask("other-instance", LocalDateTime.now().plusMinutes(1), 1);
+        String expired = saveTask("crashed-instance", LocalDateTime.now().minusMinutes(1), 1);
+
+        assertThat(jobQueueStore.cancel(leased)).isFalse();
+        assertThat(jobQueueStore.cancel(expired)).isTrue();
+
+        assertThat(asyncTaskRepository.findById(leased).orElseThrow().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(asyncTaskRepository.findById(expired).orElseThrow().getStatus()).isEqualTo(TaskStatus.CANCELLED);
+        asyncTaskRepository.deleteById(leased);
+    }
+
+    @Test
+    @DisplayName("100자를 넘는 키, 다른 유형의 작업에 쓰인 키는 400")
+    void submit_invalidOrForeignIdempotencyKey_rejected() throws Exception {
+        jobQueueStore.insert(ScheduleUpdateJob.TYPE, ownerId, null, "idem-shared");
+
+        mockMvc.perform(post("/api/v1/stores/async")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Idempotency-Key", "k".repeat(101))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(storeRequest())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("IDEMPOTENCY_KEY_TOO_LONG"));
+        mockMvc.perform(post("/api/v1/stores/async")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Idempotency-Key", "idem-shared")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(storeRequest())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("IDEMPOTENCY_KEY_REUSED"));
+
+        assertThat(asyncTaskRepository.findAll())
+                .filteredOn(task -> ownerId.equals(task.getUserId()))
+                .extracting(AsyncTask::getTaskType)
+                .containsExactly(ScheduleUpdateJob.TYPE);
+    }
+
+    private String createStoreAsync(String idempotencyKey) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/stores/async")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(storeRequest())))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        String taskId = objectMapper.readTree(result.getResponse().getContentAsString())
+                .path("data").path("taskId").asText();
+        return taskId;
+    }
+
+    private String saveTask(String leaseOwner, LocalDateTime leaseExpiresAt, int attempts) throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        AsyncTask task = asyncTaskRepository.save(AsyncTask.builder()
+                .taskId(UUID.randomUUID().toString())
+                .status(TaskStatus.IN_PROGRESS)
+                .taskType(StoreCreateJob.TYPE)
+                .userId(ownerId)
+                .requestData(objectMapper.writeValueAsString(storeRequest()))
+                .progress(0)
+                .startedAt(now.minusMinutes(5))
+                .expiresAt(now.plusDays(1))
+                .leaseOwner(leaseOwner)
+                .leaseExpiresAt(leaseExpiresAt)
+                .attempts(attempts)
+                .build());
+        return task.getTaskId();
+    }
+
+    private void awaitStatus(String taskId, TaskStatus expected) {
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(asyncTaskService.getTaskStatus(taskId).getStatus()).isEqualTo(expected));
+    }
+
+    private StoreRequestDto storeRequest() {
+        return StoreRequestDto.builder()
+                .name("복구테스트매장")
+                .businessType("카페")
+                .address("서울시 마포구 월드컵로 1")
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .storeHoliday(DayOfWeek.SUNDAY)
+                .build();
+    }
+}
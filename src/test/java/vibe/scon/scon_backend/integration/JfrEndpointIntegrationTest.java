@@ -0,0 +1,128 @@
+package vibe.scon.scon_backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.scon.scon_backend.config.profiling.ContinuousRecorder;
+import vibe.scon.scon_backend.config.profiling.JfrEndpoint;
+import vibe.scon.scon_backend.config.properties.AppProperties.ProfilingProperties;
+import vibe.scon.scon_backend.dto.auth.SignupRequestDto;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JFR 관리 엔드포인트 통합 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 인증 없는 요청 차단, API 포트 요청은 인증되어도 차단 (관리 포트 전용)</li>
+ *   <li>REQ-NF-PERF: 최근 구간 요약에 SCON 인증 이벤트 포함, 덤프 파일 저장</li>
+ *   <li>REQ-NF-PERF: 최소 간격 안의 반복 요청은 429</li>
+ * </ul>
+ */
+@SpringBootTest(properties = {
+        "app.profiling.enabled=true",
+        "app.profiling.dump-directory=build/jfr-test",
+        "app.profiling.min-request-interval=0s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("JFR 관리 엔드포인트 통합 테스트")
+class JfrEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JfrEndpoint jfrEndpoint;
+
+    @Autowired
+    private ContinuousRecorder continuousRecorder;
+
+    @Test
+    @DisplayName("인증 없이 요약 조회 시 401")
+    void summary_unauthenticated_rejected() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("API 포트로 들어온 요청은 인증되어도 403")
+    void summaryAndDump_onApiPort_forbidden() throws Exception {
+        String accessToken = signup("jfr-api-port@example.com");
+
+        mockMvc.perform(get("/actuator/jfr/5")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/jfr/1")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("요약에 회원가입 이벤트 포함, 최근 N분 덤프 파일 저장")
+    void summaryAndDump() throws Exception {
+        signup("jfr@example.com");
+
+        WebEndpointResponse<Object> summary = jfrEndpoint.summary(5);
+        assertThat(summary.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        ContinuousRecorder.ProfileSummary profile = (ContinuousRecorder.ProfileSummary) summary.getBody();
+        assertThat(profile.getEvents()).anySatisfy(event -> assertThat(event.getName()).isEqualTo("vibe.scon.Auth signup"));
+        assertThat(profile.getAllocationHotspots()).isNotNull();
+
+        WebEndpointResponse<Object> dump = jfrEndpoint.dump(1);
+        assertThat(dump.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        String path = ((Map<?, ?>) dump.getBody()).get("path").toString();
+        assertThat(Files.size(Paths.get(path))).isPositive();
+    }
+
+    @Test
+    @DisplayName("최소 간격 안에 다시 요청하면 429")
+    void summary_tooFrequent_rejected() {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.setMinRequestInterval(Duration.ofHours(1));
+        JfrEndpoint endpoint = new JfrEndpoint(continuousRecorder, properties);
+        try {
+            assertThat(endpoint.summary(1).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+            assertThat(endpoint.dump(1).getStatus()).isEqualTo(429);
+        } finally {
+            endpoint.shutdown();
+        }
+    }
+
+    private String signup(String email) throws Exception {
+        SignupRequestDto signupRequest = SignupRequestDto.builder()
+                .email(email)
+                .password("Password123!")
+                .name("프로파일링")
+                .phone("010-5555-0000")
+                .build();
+        MvcResult signupResult = mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return signupResult.getResponse().getCookie("accessToken").getValue();
+    }
+}
@@ -0,0 +1,72 @@
+package vibe.scon.scon_backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.scon.scon_backend.dto.auth.SignupRequestDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prometheus 메트릭 노출 통합 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 인증 없이 /actuator/prometheus 스크레이프 가능</li>
+ *   <li>REQ-NF-PERF: 엔드포인트 지연시간 히스토그램, 커넥션 대기, 요청당 SQL 수, Executor, JWT 메트릭 노출</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Prometheus 메트릭 통합 테스트")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("API 호출 후 Prometheus 엔드포인트에 핫패스 메트릭 노출")
+    void prometheus_exposesHotPathMetrics() throws Exception {
+        SignupRequestDto signupRequest = SignupRequestDto.builder()
+                .email("metrics@example.com")
+                .password("Password123!")
+                .name("메트릭테스트")
+                .phone("010-1234-0000")
+                .build();
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket")
+                .contains("uri=\"/api/v1/auth/signup\"")
+                .contains("hikaricp_connections_acquire_seconds")
+                .contains("hibernate_statements_per_request")
+                .contains("executor_queued_tasks")
+                .contains("name=\"dbExecutor\"")
+                .contains("executor_rejected_total")
+                .contains("scon_jwt_seconds");
+    }
+}
@@ -0,0 +1,131 @@
+package vibe.scon.scon_backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.scon.scon_backend.config.metrics.QueryStatsHeaderAdvice;
+import vibe.scon.scon_backend.dto.auth.SignupRequestDto;
+import vibe.scon.scon_backend.dto.employee.EmployeeRequestDto;
+import vibe.scon.scon_backend.dto.store.StoreRequestDto;
+import vibe.scon.scon_backend.entity.enums.EmploymentType;
+
+import java.math.BigDecimal;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static vibe.scon.scon_backend.integration.QueryBudgetMatchers.statementsAtMost;
+
+/**
+ * 요청당 SQL 문 예산 통합 테스트.
+ *
+ * <p>조회 엔드포인트의 SQL 문 수 상한을 고정하여 지연 로딩 연관관계
+ * ({@code Store.employees}, {@code Employee.store} 등)로 인한 N+1 회귀를 감지합니다.</p>
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 비프로덕션 응답에 X-DB-Queries / X-DB-Time 헤더 노출</li>
+ *   <li>REQ-NF-PERF: 매장/직원 조회 SQL 문 수 상한 (직원 수와 무관)</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("요청당 SQL 문 예산 통합 테스트")
+class QueryBudgetIntegrationTest {
+
+    private static final int EMPLOYEE_COUNT = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String accessToken;
+    private Long storeId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SignupRequestDto signupRequest = SignupRequestDto.builder()
+                .email("budget@example.com")
+                .password("Password123!")
+                .name("예산테스트사장")
+                .phone("010-5555-0000")
+                .build();
+        MvcResult signupResult = mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        accessToken = signupResult.getResponse().getCookie("accessToken").getValue();
+
+        StoreRequestDto storeRequest = StoreRequestDto.builder()
+                .name("예산테스트매장")
+                .businessType("카페")
+                .address("서울시 마포구")
+                .build();
+        MvcResult storeResult = mockMvc.perform(post("/api/v1/stores")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(storeRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        storeId = objectMapper.readTree(storeResult.getResponse().getContentAsString())
+                .get("data").get("id").asLong();
+
+        for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+            EmployeeRequestDto employeeRequest = EmployeeRequestDto.builder()
+                    .name("직원" + i)
+                    .phone("010-6666-000" + i)
+                    .hourlyWage(new BigDecimal("10030"))
+                    .employmentType(EmploymentType.EMPLOYEE)
+                    .build();
+            mockMvc.perform(post("/api/v1/stores/{storeId}/employees", storeId)
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(employeeRequest)))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    @Test
+    @DisplayName("응답에 SQL 문 수/실행 시간 헤더 노출")
+    void response_exposesQueryStatsHeaders() throws Exception {
+        mockMvc.perform(get("/api/v1/stores/{id}", storeId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(QueryStatsHeaderAdvice.QUERY_COUNT_HEADER))
+                .andExpect(header().exists(QueryStatsHeaderAdvice.QUERY_TIME_HEADER));
+    }
+
+    @Test
+    @DisplayName("매장 목록/상세/직원 목록 조회는 직원 수와 무관하게 SQL 문 예산 이내")
+    void readEndpoints_stayWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/stores")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(5));
+
+        mockMvc.perform(get("/api/v1/stores/{id}", storeId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(5));
+
+        mockMvc.perform(get("/api/v1/stores/{storeId}/employees", storeId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(5));
+    }
+}
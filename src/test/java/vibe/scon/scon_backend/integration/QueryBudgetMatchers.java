@@ -0,0 +1,52 @@
+package vibe.scon.scon_backend.integration;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+import vibe.scon.scon_backend.config.metrics.QueryStatsHeaderAdvice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청당 SQL 문 수 검증용 MockMvc ResultMatcher.
+ *
+ * <p>비프로덕션 프로파일에서 응답에 붙는 {@code X-DB-Queries} 헤더를 읽어 검증합니다.
+ * N+1 회귀가 생기면 통합 테스트가 실패하도록 엔드포인트별 상한을 고정하는 용도입니다.</p>
+ *
+ * <pre>
+ * mockMvc.perform(get("/api/v1/stores/{id}", storeId))
+ *         .andExpect(QueryBudgetMatchers.statementsAtMost(5));
+ * </pre>
+ */
+public final class QueryBudgetMatchers {
+
+    private QueryBudgetMatchers() {
+    }
+
+    /**
+     * 요청 처리 중 실행된 SQL 문 수가 {@code max} 이하인지 검증.
+     */
+    public static ResultMatcher statementsAtMost(long max) {
+        return result -> assertThat(statementCount(result.getResponse().getHeader(
+                QueryStatsHeaderAdvice.QUERY_COUNT_HEADER)))
+                .as("SQL statements executed by %s %s",
+                        result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(max);
+    }
+
+    /**
+     * 요청 처리 중 실행된 SQL 문 수가 정확히 {@code expected}인지 검증.
+     */
+    public static ResultMatcher statements(long expected) {
+        return result -> assertThat(statementCount(result.getResponse().getHeader(
+                QueryStatsHeaderAdvice.QUERY_COUNT_HEADER)))
+                .as("SQL statements executed by %s %s",
+                        result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    private static long statementCount(String header) {
+        assertThat(header)
+                .as(QueryStatsHeaderAdvice.QUERY_COUNT_HEADER + " header (app.query-budget.expose-headers)")
+                .isNotNull();
+        return Long.parseLong(header);
+    }
+}
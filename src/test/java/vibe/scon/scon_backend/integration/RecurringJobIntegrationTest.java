@@ -0,0 +1,109 @@
+package vibe.scon.scon_backend.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.scon.scon_backend.entity.Owner;
+import vibe.scon.scon_backend.entity.Schedule;
+import vibe.scon.scon_backend.entity.Store;
+import vibe.scon.scon_backend.entity.enums.ScheduleStatus;
+import vibe.scon.scon_backend.repository.JobScheduleRepository;
+import vibe.scon.scon_backend.repository.OwnerRepository;
+import vibe.scon.scon_backend.repository.ScheduleRepository;
+import vibe.scon.scon_backend.repository.StoreRepository;
+import vibe.scon.scon_backend.service.job.JobContext;
+import vibe.scon.scon_backend.service.job.RecurringJob;
+import vibe.scon.scon_backend.service.job.WeeklyDraftScheduleJob;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 반복 작업 통합 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-004: 같은 실행 시각은 한 번만 선점, 선점 되돌리기 후 다시 선점 가능</li>
+ *   <li>REQ-FUNC-007: 다음 주 Draft 스케줄을 모든 매장에 생성, 이미 있는 매장은 건너뜀 (재실행 안전)</li>
+ * </ul>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("반복 작업 통합 테스트")
+class RecurringJobIntegrationTest {
+
+    @Autowired
+    private JobScheduleRepository jobScheduleRepository;
+
+    @Autowired
+    private WeeklyDraftScheduleJob weeklyDraftScheduleJob;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    @DisplayName("같은 실행 시각은 한 번만 선점")
+    void claim_onlyOnceForSameRunTime() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime due = now.minusMinutes(1);
+        LocalDateTime next = now.plusDays(1);
+        assertThat(jobScheduleRepository.register("TEST_RECURRING", "0 0 3 * * *", due)).isEqualTo(1);
+        assertThat(jobScheduleRepository.register("TEST_RECURRING", "0 0 3 * * *", next)).isZero();
+
+        assertThat(jobScheduleRepository.findDue(now))
+                .anySatisfy(schedule -> assertThat(schedule.getJobType()).isEqualTo("TEST_RECURRING"));
+        assertThat(jobScheduleRepository.claim("TEST_RECURRING", due, next, now)).isEqualTo(1);
+        assertThat(jobScheduleRepository.claim("TEST_RECURRING", due, next, now)).isZero();
+
+        assertThat(jobScheduleRepository.unclaim("TEST_RECURRING", next, due)).isEqualTo(1);
+        assertThat(jobScheduleRepository.claim("TEST_RECURRING", due, next, now)).isEqualTo(1);
+        assertThat(jobScheduleRepository.reschedule("TEST_RECURRING", "0 0 3 * * *", due)).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 매장의 다음 주 Draft 스케줄 생성, 이미 있는 매장은 건너뜀")
+    void weeklyDraft_createsNextWeekForAllStores() {
+        Owner owner = ownerRepository.save(Owner.builder()
+                .email("recurring-" + UUID.randomUUID() + "@test.com")
+                .password("password").name("반복작업").agreedToTerms(true).build());
+        Store store1 = storeRepository.save(Store.builder().name("매장1").businessType("카페").owner(owner).build());
+        Store store2 = storeRepository.save(Store.builder().name("매장2").businessType("카페").owner(owner).build());
+        Store store3 = storeRepository.save(Store.builder().name("매장3").businessType("카페").owner(owner).build());
+
+        // 목요일 실행 → 다음 주 월요일
+        LocalDateTime scheduledAt = LocalDateTime.of(2030, 1, 3, 3, 0);
+        LocalDate nextMonday = LocalDate.of(2030, 1, 7);
+        scheduleRepository.save(Schedule.builder()
+                .store(store2).weekStartDate(nextMonday).status(ScheduleStatus.PUBLISHED).build());
+
+        WeeklyDraftScheduleJob.Result result = weeklyDraftScheduleJob.execute(
+                new RecurringJob.Run(scheduledAt, false), mock(JobContext.class));
+
+        assertThat(result.getWeekStartDate()).isEqualTo(nextMonday);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(scheduleRepository.findByStoreIdAndWeekStartDate(store1.getId(), nextMonday))
+                .hasValueSatisfying(schedule -> assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.DRAFT));
+        assertThat(scheduleRepository.findByStoreIdAndWeekStartDate(store2.getId(), nextMonday))
+                .hasValueSatisfying(schedule -> assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.PUBLISHED));
+        assertThat(scheduleRepository.findByStoreIdAndWeekStartDate(store3.getId(), nextMonday)).isPresent();
+
+        WeeklyDraftScheduleJob.Result rerun = weeklyDraftScheduleJob.execute(
+                new RecurringJob.Run(scheduledAt, true), mock(JobContext.class));
+        assertThat(rerun.getCreated()).isZero();
+    }
+}
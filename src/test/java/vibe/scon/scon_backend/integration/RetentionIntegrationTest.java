@@ -0,0 +1,95 @@
+package vibe.scon.scon_backend.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.scon.scon_backend.entity.AsyncTask;
+import vibe.scon.scon_backend.entity.RefreshToken;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.repository.AsyncTaskRepository;
+import vibe.scon.scon_backend.repository.RefreshTokenRepository;
+import vibe.scon.scon_backend.service.retention.AsyncTaskRetention;
+import vibe.scon.scon_backend.service.retention.RefreshTokenRetention;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보존 기간 정리 대상 통합 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 만료된 종료 작업만 limit 이하로 삭제, 진행 중/미만료 작업은 유지</li>
+ *   <li>REQ-NF-PERF: 만료된 Refresh Token만 삭제</li>
+ * </ul>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("보존 기간 정리 통합 테스트")
+class RetentionIntegrationTest {
+
+    @Autowired
+    private AsyncTaskRetention asyncTaskRetention;
+
+    @Autowired
+    private RefreshTokenRetention refreshTokenRetention;
+
+    @Autowired
+    private AsyncTaskRepository asyncTaskRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    @DisplayName("만료된 종료 작업만 limit씩 삭제")
+    void asyncTasks_deletesExpiredTerminalTasksInBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        String expired1 = saveTask(TaskStatus.COMPLETED, now.minusHours(1));
+        String expired2 = saveTask(TaskStatus.CANCELLED, now.minusHours(2));
+        String inProgress = saveTask(TaskStatus.IN_PROGRESS, now.minusHours(1));
+        String fresh = saveTask(TaskStatus.FAILED, now.plusHours(1));
+
+        assertThat(asyncTaskRetention.deleteExpired(now, 1)).isEqualTo(1);
+        assertThat(asyncTaskRetention.deleteExpired(now, 1)).isEqualTo(1);
+        assertThat(asyncTaskRetention.deleteExpired(now, 1)).isZero();
+
+        assertThat(asyncTaskRepository.existsById(expired1)).isFalse();
+        assertThat(asyncTaskRepository.existsById(expired2)).isFalse();
+        assertThat(asyncTaskRepository.existsById(inProgress)).isTrue();
+        assertThat(asyncTaskRepository.existsById(fresh)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 Refresh Token만 삭제")
+    void refreshTokens_deletesExpiredOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken expired = refreshTokenRepository.save(
+                new RefreshToken("retention-expired-" + UUID.randomUUID(), 1L, now.minusDays(1)));
+        RefreshToken valid = refreshTokenRepository.save(
+                new RefreshToken("retention-valid-" + UUID.randomUUID(), 1L, now.plusDays(1)));
+
+        assertThat(refreshTokenRetention.deleteExpired(now, 100)).isEqualTo(1);
+
+        assertThat(refreshTokenRepository.existsById(expired.getId())).isFalse();
+        assertThat(refreshTokenRepository.existsById(valid.getId())).isTrue();
+    }
+
+    private String saveTask(TaskStatus status, LocalDateTime expiresAt) {
+        return asyncTaskRepository.save(AsyncTask.builder()
+                        .taskId(UUID.randomUUID().toString())
+                        .status(status)
+                        .taskType("STORE_CREATE")
+                        .userId(1L)
+                        .progress(0)
+                        .startedAt(expiresAt.minusDays(1))
+                        .expiresAt(expiresAt)
+                        .build())
+                .getTaskId();
+    }
+}
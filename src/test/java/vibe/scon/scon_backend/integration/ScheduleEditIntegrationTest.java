@@ -50,7 +50,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  *   <li>INTG-SCHEDULE-002: Cookie 기반 인증 연속 사용 테스트</li>
  *   <li>INTG-SCHEDULE-003: 부분 수정 테스트 (status만, shifts만)</li>
  *   <li>INTG-SCHEDULE-004: 유효성 검증 실패 테스트 (fieldErrors 포함 검증)</li>
- *   <li>INTG-SCHEDULE-005: 에러 케이스 테스트 (존재하지 않는 스케줄, 소유권 없음, PUBLISHED 상태 수정 불가)</li>
+ *   <li>INTG-SCHEDULE-005: 에러 케이스 테스트 (존재하지 않는 스케줄, 소유권 없음(비동기 수정 포함), PUBLISHED 상태 수정 불가)</li>
  * </ul>
  * 
  * <h3>요구사항 추적 (Traceability):</h3>
@@ -437,5 +437,13 @@ class ScheduleEditIntegrationTest {
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.status").value(403))
                 .andExpect(jsonPath("$.message").value(containsString("접근 권한이 없습니다")));
+
+        // 다른 사용자의 스케줄 비동기 수정 시도 - 접수 전에 거부 (소유자의 대기 작업을 대체하지 못함)
+        mockMvc.perform(put("/api/v1/schedules/{id}/async", scheduleId)
+                        .cookie(otherUserCookie)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.status").value(403));
     }
 }
@@ -0,0 +1,80 @@
+package vibe.scon.scon_backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.scon.scon_backend.dto.auth.SignupRequestDto;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Slow Query 관리 엔드포인트 노출 범위 통합 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 인증 없는 요청 차단</li>
+ *   <li>REQ-NF-PERF: API 포트로 들어온 조회/EXPLAIN 수집/초기화 요청은 인증되어도 차단 (관리 포트 전용)</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Slow Query 관리 엔드포인트 통합 테스트")
+class SlowQueryEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("인증 없이 조회 시 401")
+    void report_unauthenticated_rejected() throws Exception {
+        mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("API 포트로 들어온 조회/EXPLAIN/초기화 요청은 인증되어도 403")
+    void operations_onApiPort_forbidden() throws Exception {
+        String accessToken = signup("slowquery-api-port@example.com");
+
+        mockMvc.perform(get("/actuator/slowqueries")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/slowqueries")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/slowqueries")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private String signup(String email) throws Exception {
+        SignupRequestDto signupRequest = SignupRequestDto.builder()
+                .email(email)
+                .password("Password123!")
+                .name("슬로우쿼리")
+                .phone("010-5555-0001")
+                .build();
+        MvcResult signupResult = mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return signupResult.getResponse().getCookie("accessToken").getValue();
+    }
+}
@@ -0,0 +1,160 @@
+package vibe.scon.scon_backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import vibe.scon.scon_backend.dto.auth.SignupRequestDto;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.service.AsyncTaskService;
+import vibe.scon.scon_backend.service.job.JobQueueStore;
+import vibe.scon.scon_backend.service.job.ScheduleUpdateJob;
+import vibe.scon.scon_backend.service.job.StoreCreateJob;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 작업 상태 스트림(SSE / Long-poll) 통합 테스트.
+ *
+ * <p>작업은 접수 경로와 같이 {@link JobQueueStore#insert}로 별도 트랜잭션에 저장/등록한 뒤, 실행 없이 상태만 직접 변경합니다.
+ * 따라서 테스트 트랜잭션을 사용하지 않고, 테스트마다 고유한 이메일로 가입합니다.</p>
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: SSE로 현재 상태와 진행률/완료 이벤트 전송 후 스트림 종료</li>
+ *   <li>REQ-NF-PERF: Long-poll은 완료 신호 즉시 응답, 시간 초과 시 현재 상태 응답</li>
+ *   <li>REQ-NF-PERF: 인증 없는 요청 차단, 없는 작업은 404</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("작업 상태 스트림 통합 테스트")
+class TaskEventsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AsyncTaskService asyncTaskService;
+
+    @Autowired
+    private JobQueueStore jobQueueStore;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SignupRequestDto signupRequest = SignupRequestDto.builder()
+                .email("task-events-" + UUID.randomUUID() + "@example.com")
+                .password("Password123!")
+                .name("작업스트림")
+                .phone("010-4444-0000")
+                .build();
+        MvcResult signupResult = mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        accessToken = signupResult.getResponse().getCookie("accessToken").getValue();
+    }
+
+    @Test
+    @DisplayName("SSE: 현재 상태 → 진행률 → 완료 이벤트 전송 후 스트림 종료")
+    void events_streamsProgressAndCompletion() throws Exception {
+        String taskId = jobQueueStore.insert(ScheduleUpdateJob.TYPE, 1L, null, null);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/{taskId}/events", taskId)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        asyncTaskService.updateTaskProgress(taskId, 50);
+        asyncTaskService.updateTaskStatus(taskId, TaskStatus.COMPLETED, Map.of("scheduleId", 1));
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(result.getResponse().getContentAsString()).contains("\"status\":\"COMPLETED\""));
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:status");
+        assertThat(body.indexOf("\"progress\":0")).isLessThan(body.indexOf("\"progress\":50"));
+        assertThat(body.indexOf("\"progress\":50")).isLessThan(body.indexOf("\"status\":\"COMPLETED\""));
+    }
+
+    @Test
+    @DisplayName("Long-poll: 완료 신호 즉시 응답")
+    void waitFor_completesOnSignal() throws Exception {
+        String taskId = jobQueueStore.insert(StoreCreateJob.TYPE, 1L, null, null);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/{taskId}/events", taskId)
+                        .param("waitFor", "COMPLETED")
+                        .param("timeout", "10")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        asyncTaskService.updateTaskProgress(taskId, 90);
+        asyncTaskService.updateTaskStatus(taskId, TaskStatus.COMPLETED, null);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.taskId").value(taskId))
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.progress").value(100));
+    }
+
+    @Test
+    @DisplayName("Long-poll: 기다리던 상태가 아닌 종료 상태(FAILED)도 즉시 응답")
+    void waitFor_failedTask_returnsImmediately() throws Exception {
+        String taskId = jobQueueStore.insert(StoreCreateJob.TYPE, 1L, null, null);
+        asyncTaskService.failTask(taskId, "boom");
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/{taskId}/events", taskId)
+                        .param("waitFor", "COMPLETED")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("FAILED"))
+                .andExpect(jsonPath("$.data.errorMessage").value("boom"));
+    }
+
+    @Test
+    @DisplayName("인증 없는 요청 401, 없는 작업 404")
+    void events_unauthenticatedOrUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{taskId}/events", "unknown")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/v1/tasks/{taskId}/events", "unknown")
+                        .param("waitFor", "COMPLETED")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNotFound());
+    }
+}
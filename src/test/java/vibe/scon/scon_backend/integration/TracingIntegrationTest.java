@@ -0,0 +1,206 @@
+package vibe.scon.scon_backend.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+import vibe.scon.scon_backend.dto.auth.SignupRequestDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 분산 추적 컨텍스트 전파 통합 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 수신 traceparent를 이어받아 서버 Span / Repository Span 기록</li>
+ *   <li>REQ-NF-PERF: dbExecutor 작업으로 MDC(requestId)와 Trace 컨텍스트 전파</li>
+ *   <li>REQ-NF-PERF: RestTemplate 외부 호출에 traceparent 헤더 송신</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("분산 추적 통합 테스트")
+class TracingIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private CollectingSpanExporter spanExporter;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    @Qualifier("dbExecutor")
+    private Executor dbExecutor;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        spanExporter.spans.clear();
+    }
+
+    @Test
+    @DisplayName("수신 traceparent를 부모로 서버 Span과 Repository Span 기록")
+    void incomingTraceparent_continuesTraceWithRepositorySpans() throws Exception {
+        SignupRequestDto signupRequest = SignupRequestDto.builder()
+                .email("tracing@example.com")
+                .password("Password123!")
+                .name("추적테스트")
+                .phone("010-7777-0000")
+                .build();
+
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        List<SpanData> trace = spanExporter.spans.stream()
+                .filter(span -> TRACE_ID.equals(span.getTraceId()))
+                .toList();
+        assertThat(trace)
+                .anySatisfy(span -> {
+                    assertThat(span.getParentSpanId()).isEqualTo(PARENT_SPAN_ID);
+                    assertThat(span.getName()).contains("/api/v1/auth/signup");
+                })
+                .anySatisfy(span -> assertThat(span.getName()).startsWith("OwnerRepository."));
+    }
+
+    @Test
+    @DisplayName("dbExecutor 작업으로 MDC와 현재 Span이 전파되고 async.task Span 기록")
+    void dbExecutor_propagatesMdcAndTraceContext() throws Exception {
+        Observation parent = Observation.start("test.parent", observationRegistry);
+        String traceId;
+        CompletableFuture<String[]> seen = new CompletableFuture<>();
+        try (Observation.Scope ignored = parent.openScope()) {
+            MDC.put("requestId", "01TESTREQUESTID");
+            traceId = tracer.currentSpan().context().traceId();
+            dbExecutor.execute(() -> seen.complete(new String[]{
+                    MDC.get("requestId"), tracer.currentSpan().context().traceId()}));
+        } finally {
+            MDC.remove("requestId");
+            parent.stop();
+        }
+
+        String[] values = seen.get(5, TimeUnit.SECONDS);
+        assertThat(values[0]).isEqualTo("01TESTREQUESTID");
+        assertThat(values[1]).isEqualTo(traceId);
+
+        // 작업 Span은 작업 반환 직후 종료되므로 Export될 때까지 대기
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+            assertThat(spanExporter.spans)
+                    .anySatisfy(span -> {
+                        assertThat(span.getTraceId()).isEqualTo(traceId);
+                        assertThat(span.getAttributes().asMap())
+                                .containsEntry(AttributeKey.stringKey("executor"), "dbExecutor");
+                    });
+        });
+    }
+
+    @Test
+    @DisplayName("RestTemplate 외부 호출에 현재 Trace의 traceparent 헤더 송신")
+    void restTemplate_sendsTraceparent() {
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        Observation parent = Observation.start("test.parent", observationRegistry);
+        try (Observation.Scope ignored = parent.openScope()) {
+            String traceId = tracer.currentSpan().context().traceId();
+            server.expect(requestTo("https://collector.example.com/mp/collect"))
+                    .andExpect(header("traceparent", containsString(traceId)))
+                    .andRespond(withSuccess());
+
+            restTemplate.postForObject("https://collector.example.com/mp/collect", "{}", String.class);
+        } finally {
+            parent.stop();
+        }
+        server.verify();
+    }
+
+    @TestConfiguration
+    static class SpanCaptureConfig {
+
+        @Bean
+        CollectingSpanExporter collectingSpanExporter() {
+            return new CollectingSpanExporter();
+        }
+    }
+
+    static class CollectingSpanExporter implements SpanExporter {
+
+        final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
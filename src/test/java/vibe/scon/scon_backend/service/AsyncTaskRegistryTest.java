@@ -0,0 +1,251 @@
+package vibe.scon.scon_backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import vibe.scon.scon_backend.config.properties.AppProperties.AsyncTaskProperties;
+import vibe.scon.scon_backend.entity.AsyncTask;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.exception.ResourceNotFoundException;
+import vibe.scon.scon_backend.repository.AsyncTaskRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * AsyncTaskRegistry 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 진행률 갱신/상태 조회 시 DB 접근 없음</li>
+ *   <li>REQ-NF-PERF: 종료 상태를 임대 조건으로 일괄 반영, DB에 이미 기록된 완료는 다시 쓰지 않음</li>
+ *   <li>REQ-NF-004: 임대를 잃었거나 이미 종료된 작업은 반영하지 않고 DB 상태를 따름</li>
+ *   <li>REQ-NF-004: 메모리에서 제거된 뒤 다시 적재한 작업도 행의 임대 소유자로 종료 상태 반영</li>
+ *   <li>REQ-NF-PERF: DB 반영 실패 시 변경 유지 후 재시도</li>
+ *   <li>REQ-NF-PERF: 반영이 끝난 종료 작업만 메모리에서 제거</li>
+ *   <li>REQ-NF-PERF: 상태 변경 리스너 전달 / 해제</li>
+ * </ul>
+ */
+@DisplayName("AsyncTaskRegistry 단위 테스트")
+class AsyncTaskRegistryTest {
+
+    private static final String LEASE_OWNER = "instance-1";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-05T00:00:00Z"));
+    private final AsyncTaskProperties properties = new AsyncTaskProperties();
+
+    private AsyncTaskRepository repository;
+    private AsyncTaskRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(AsyncTaskRepository.class);
+        when(repository.finishLeased(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        registry = new AsyncTaskRegistry(repository, mock(PlatformTransactionManager.class),
+                properties, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    @DisplayName("등록/진행률 갱신/조회는 메모리에서만 처리")
+    void adoptAndProgress_noDatabaseAccess() {
+        registry.adopt(stored("task-1"), LEASE_OWNER);
+        registry.updateProgress("task-1", 40);
+
+        AsyncTask task = registry.find("task-1").orElseThrow();
+
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(task.getProgress()).isEqualTo(40);
+        verifyNoInteractions(repository);
+        assertThat(registry.pendingWrites()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 상태는 다음 flush에 임대 조건으로 한 번만 반영")
+    void flush_terminalState_writtenOnceWithLease() {
+        registry.adopt(stored("task-1"), LEASE_OWNER);
+
+        registry.complete("task-1", TaskStatus.FAILED, null, "boom");
+        registry.flush();
+
+        verify(repository).finishLeased(eq("task-1"), eq(LEASE_OWNER), eq(TaskStatus.FAILED), isNull(),
+                eq("boom"), isNull(), eq(0), notNull());
+        assertThat(registry.pendingWrites()).isZero();
+
+        // 이후 flush는 변경이 없으므로 DB 접근 없음
+        registry.flush();
+        verify(repository, times(1)).finishLeased(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("DB에 이미 기록된 완료는 메모리에만 반영하고 다시 쓰지 않음")
+    void completePersisted_notWrittenAgain() {
+        registry.adopt(stored("task-1"), LEASE_OWNER);
+        List<AsyncTask> received = new ArrayList<>();
+        registry.subscribe("task-1", received::add);
+
+        registry.completePersisted("task-1", TaskStatus.COMPLETED, "{\"id\":1}");
+        registry.flush();
+
+        AsyncTask task = registry.find("task-1").orElseThrow();
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(task.getProgress()).isEqualTo(100);
+        assertThat(received).extracting(AsyncTask::getStatus).containsExactly(TaskStatus.COMPLETED);
+        assertThat(registry.pendingWrites()).isZero();
+        verifyNoInteractions(repository);
+
+        // 메모리에서 제거된 작업은 DB 상태가 최신이므로 무시
+        registry.completePersisted("unknown", TaskStatus.CANCELLED, null);
+        assertThat(registry.find("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메모리에서 제거된 뒤 다시 적재한 작업은 행의 임대 소유자로 종료 상태 반영")
+    void flush_reloadedTask_writesWithRowLeaseOwner() {
+        AsyncTask row = AsyncTask.builder()
+                .taskId("task-1").status(TaskStatus.IN_PROGRESS).taskType("SCHEDULE_UPDATE").userId(1L)
+                .progress(0).leaseOwner(LEASE_OWNER).build();
+        when(repository.findByTaskId("task-1")).thenReturn(Optional.of(row));
+
+        registry.complete("task-1", TaskStatus.FAILED, null, "boom");
+        registry.flush();
+
+        verify(repository).finishLeased(eq("task-1"), eq(LEASE_OWNER), eq(TaskStatus.FAILED), isNull(),
+                eq("boom"), isNull(), any(), notNull());
+        assertThat(registry.pendingWrites()).isZero();
+    }
+
+    @Test
+    @DisplayName("임대를 잃었거나 이미 종료된 작업은 반영하지 않고 메모리에서 제거 (DB 상태를 따름)")
+    void flush_fenced_forgetsTask() {
+        registry.adopt(stored("task-1"), LEASE_OWNER);
+        when(repository.finishLeased(eq("task-1"), any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        registry.supersede("task-1", "task-2");
+        registry.flush();
+
+        assertThat(registry.find("task-1")).isEmpty();
+        assertThat(registry.pendingWrites()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 변경을 유지하고 다음 주기에 재시도")
+    void flush_failure_keepsPendingAndRetries() {
+        registry.adopt(stored("task-1"), LEASE_OWNER);
+        registry.complete("task-1", TaskStatus.CANCELLED, null, null);
+        when(repository.finishLeased(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("database is locked"))
+                .thenReturn(1);
+
+        registry.flush();
+        assertThat(registry.pendingWrites()).isEqualTo(1);
+
+        registry.flush();
+        assertThat(registry.pendingWrites()).isZero();
+        verify(repository, times(2)).finishLeased(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("반영이 끝난 종료 작업만 유지 시간 이후 메모리에서 제거")
+    void flush_evictsOnlyPersistedCompletedTasks() {
+        registry.adopt(stored("done"), LEASE_OWNER);
+        registry.adopt(stored("running"), LEASE_OWNER);
+        registry.complete("done", TaskStatus.COMPLETED, null, null);
+        registry.flush();
+
+        clock.advance(properties.getRetainAfterCompletion().plusSeconds(1));
+        registry.flush();
+
+        assertThat(registry.find("done")).isEmpty();
+        assertThat(registry.find("running")).isPresent();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행률/종료 변경을 리스너에 전달, 해제 후에는 전달하지 않음")
+    void subscribe_receivesChangesUntilUnsubscribed() {
+        registry.adopt(stored("task-1"), LEASE_OWNER);
+        List<AsyncTask> received = new ArrayList<>();
+        Runnable unsubscribe = registry.subscribe("task-1", received::add);
+
+        registry.updateProgress("task-1", 10);
+        registry.complete("task-1", TaskStatus.COMPLETED, null, null);
+        unsubscribe.run();
+        registry.updateProgress("task-1", 100);
+
+        assertThat(received).extracting(AsyncTask::getStatus)
+                .containsExactly(TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED);
+        assertThat(registry.listenerCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 작업은 DB에서 적재, DB에도 없으면 404")
+    void update_unknownTask_loadsFromDatabaseOrThrows() {
+        when(repository.findByTaskId("stored")).thenReturn(Optional.of(stored("stored")));
+        when(repository.findByTaskId("missing")).thenReturn(Optional.empty());
+
+        registry.updateProgress("stored", 50);
+
+        assertThat(registry.find("stored").orElseThrow().getProgress()).isEqualTo(50);
+        assertThat(registry.pendingWrites()).isZero();
+        assertThatThrownBy(() -> registry.updateProgress("missing", 10))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private AsyncTask stored(String taskId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return AsyncTask.builder()
+                .taskId(taskId)
+                .status(TaskStatus.IN_PROGRESS)
+                .taskType("SCHEDULE_UPDATE")
+                .userId(1L)
+                .progress(0)
+                .startedAt(now)
+                .expiresAt(now.plus(properties.getResultTtl()))
+                .build();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -6,10 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 import jakarta.persistence.EntityManager;
+import vibe.scon.scon_backend.config.properties.AppProperties;
 import vibe.scon.scon_backend.dto.auth.LoginRequestDto;
 import vibe.scon.scon_backend.dto.auth.RefreshTokenRequestDto;
 import vibe.scon.scon_backend.dto.auth.SignupRequestDto;
@@ -67,6 +69,9 @@ class AuthServiceTest {
     @Mock
     private EntityManager entityManager;
 
+    @Spy
+    private LoginAttemptTracker loginAttemptTracker = new LoginAttemptTracker(new AppProperties());
+
     @InjectMocks
     private AuthService authService;
 
@@ -174,7 +179,6 @@ class AuthServiceTest {
         // Given
         when(ownerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testOwner));
         when(passwordEncoder.matches("Password123!", "encodedPassword")).thenReturn(true);
-        when(ownerRepository.save(any(Owner.class))).thenReturn(testOwner); // 실패 횟수 리셋을 위한 save
         when(jwtTokenProvider.generateAccessToken(1L, "test@example.com")).thenReturn("accessToken");
         when(jwtTokenProvider.generateRefreshToken(1L)).thenReturn("refreshToken");
         when(jwtTokenProvider.getExpirationDateFromToken(anyString())).thenReturn(LocalDateTime.now().plusDays(7));
@@ -188,6 +192,8 @@ class AuthServiceTest {
         assertThat(response.getOwnerId()).isEqualTo(1L);
         assertThat(response.getAccessToken()).isEqualTo("accessToken");
         assertThat(response.getRefreshToken()).isEqualTo("refreshToken");
+        // 실패/잠금 기록이 없으면 Owner 행을 갱신하지 않음
+        verify(ownerRepository, never()).save(any(Owner.class));
     }
 
     @Test
@@ -196,12 +202,60 @@ class AuthServiceTest {
         // Given
         when(ownerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testOwner));
         when(passwordEncoder.matches("Password123!", "encodedPassword")).thenReturn(false);
-        when(ownerRepository.save(any(Owner.class))).thenReturn(testOwner); // 실패 횟수 증가를 위한 save
 
         // When & Then
         assertThatThrownBy(() -> authService.login(loginRequest))
                 .isInstanceOf(BadRequestException.class)
                 .hasMessageContaining("이메일 또는 비밀번호가 올바르지 않습니다");
+        // 실패 횟수는 메모리에서만 집계 (잠금 전에는 DB 쓰기 없음)
+        verify(ownerRepository, never()).save(any(Owner.class));
+    }
+
+    @Test
+    @DisplayName("POC-BE-SEC-002: 5회 연속 실패 시 잠금 시점에만 DB 기록")
+    void login_fifthFailure_locksAccountWithSingleWrite() {
+        // Given
+        when(ownerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testOwner));
+        when(passwordEncoder.matches("Password123!", "encodedPassword")).thenReturn(false);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> authService.login(loginRequest))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        // Then
+        verify(ownerRepository, times(1)).save(testOwner);
+        assertThat(testOwner.isLocked()).isTrue();
+        assertThat(testOwner.getFailedLoginAttempts()).isEqualTo(5);
+
+        // 잠금 이후 시도는 잠금 메시지 반환 (추가 쓰기 없음)
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("계정이 잠겨있습니다");
+        verify(ownerRepository, times(1)).save(any(Owner.class));
+    }
+
+    @Test
+    @DisplayName("POC-BE-SEC-002: 잠금 기록이 남은 계정은 로그인 성공 시 한 번만 해제 기록")
+    void login_successAfterExpiredLock_resetsStateOnce() {
+        // Given
+        testOwner.lockAccount(30, 5);
+        ReflectionTestUtils.setField(testOwner, "lockedUntil", LocalDateTime.now().minusMinutes(1));
+        when(ownerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testOwner));
+        when(passwordEncoder.matches("Password123!", "encodedPassword")).thenReturn(true);
+        when(jwtTokenProvider.generateAccessToken(1L, "test@example.com")).thenReturn("accessToken");
+        when(jwtTokenProvider.generateRefreshToken(1L)).thenReturn("refreshToken");
+        when(jwtTokenProvider.getExpirationDateFromToken(anyString())).thenReturn(LocalDateTime.now().plusDays(7));
+        when(refreshTokenRepository.saveAndFlush(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        authService.login(loginRequest);
+
+        // Then
+        verify(ownerRepository, times(1)).save(testOwner);
+        assertThat(testOwner.getFailedLoginAttempts()).isZero();
+        assertThat(testOwner.getLockedUntil()).isNull();
     }
 
     @Test
@@ -0,0 +1,128 @@
+package vibe.scon.scon_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.exception.ForbiddenException;
+import vibe.scon.scon_backend.exception.ResourceNotFoundException;
+import vibe.scon.scon_backend.repository.StoreRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * StoreOwnershipCache 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>POC-BE-SEC-001: 반복 검증 시 DB 재조회 없음</li>
+ *   <li>POC-BE-SEC-001: 캐시 적재 이후 생성된 매장 인식</li>
+ *   <li>REQ-NF-PERF: 적재 시점에 있던 타인 매장은 다시 적재하지 않음</li>
+ *   <li>TC-STORE-006: 타 사용자 매장 접근 시 403</li>
+ *   <li>TC-STORE-007: 존재하지 않는 매장 접근 시 404</li>
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreOwnershipCache 단위 테스트")
+class StoreOwnershipCacheTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    private StoreOwnershipCache ownershipCache;
+
+    @BeforeEach
+    void setUp() {
+        ownershipCache = new StoreOwnershipCache(storeRepository, new AppProperties());
+    }
+
+    @Test
+    @DisplayName("반복 검증 시 매장 ID 목록을 한 번만 조회")
+    void isOwner_cachesStoreIds() {
+        // Given
+        when(storeRepository.findIdsByOwnerId(1L)).thenReturn(List.of(10L, 11L));
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(ownershipCache.isOwner(1L, 10L)).isTrue();
+            assertThat(ownershipCache.isOwner(1L, 11L)).isTrue();
+        }
+        verify(storeRepository, times(1)).findIdsByOwnerId(1L);
+    }
+
+    @Test
+    @DisplayName("적재 이후 생성된 매장은 다시 적재한 뒤 판정")
+    void isOwner_newerStore_reloads() {
+        // Given
+        when(storeRepository.findMaxId()).thenReturn(11L).thenReturn(12L);
+        when(storeRepository.findIdsByOwnerId(1L))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of(10L, 12L));
+
+        // When & Then
+        assertThat(ownershipCache.isOwner(1L, 10L)).isTrue();
+        assertThat(ownershipCache.isOwner(1L, 12L)).isTrue();
+        assertThat(ownershipCache.isOwner(1L, 12L)).isTrue();
+        verify(storeRepository, times(2)).findIdsByOwnerId(1L);
+    }
+
+    @Test
+    @DisplayName("적재 시점에 있던 타인 매장은 다시 적재하지 않고 거부")
+    void isOwner_olderForeignStore_missWithoutReload() {
+        // Given
+        when(storeRepository.findMaxId()).thenReturn(20L);
+        when(storeRepository.findIdsByOwnerId(1L)).thenReturn(List.of(10L));
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(ownershipCache.isOwner(1L, 15L)).isFalse();
+        }
+        verify(storeRepository, times(1)).findIdsByOwnerId(1L);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 DB에서 다시 적재")
+    void invalidate_forcesReload() {
+        // Given
+        when(storeRepository.findIdsByOwnerId(1L)).thenReturn(List.of(10L));
+        ownershipCache.isOwner(1L, 10L);
+
+        // When
+        ownershipCache.invalidate(1L);
+        ownershipCache.isOwner(1L, 10L);
+
+        // Then
+        verify(storeRepository, times(2)).findIdsByOwnerId(1L);
+    }
+
+    @Test
+    @DisplayName("TC-STORE-006: 타 사용자 매장이면 ForbiddenException")
+    void requireOwner_otherOwnersStore_throwsForbidden() {
+        // Given
+        when(storeRepository.findIdsByOwnerId(2L)).thenReturn(List.of());
+        when(storeRepository.existsById(10L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> ownershipCache.requireOwner(2L, 10L))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    @DisplayName("TC-STORE-007: 존재하지 않는 매장이면 ResourceNotFoundException")
+    void requireOwner_missingStore_throwsNotFound() {
+        // Given
+        when(storeRepository.findIdsByOwnerId(1L)).thenReturn(List.of(10L));
+        when(storeRepository.existsById(999L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> ownershipCache.requireOwner(1L, 999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
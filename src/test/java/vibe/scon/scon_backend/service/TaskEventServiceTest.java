@@ -0,0 +1,71 @@
+package vibe.scon.scon_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+import vibe.scon.scon_backend.dto.async.AsyncTaskResponseDto;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TaskEventService 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: SSE 등록 도중 실패(스케줄러 거부) 시 구독 수와 리스너 반납</li>
+ * </ul>
+ */
+@DisplayName("TaskEventService 단위 테스트")
+class TaskEventServiceTest {
+
+    private AsyncTaskService asyncTaskService;
+    private AsyncTaskRegistry asyncTaskRegistry;
+    private TaskScheduler taskScheduler;
+    private TaskEventService taskEventService;
+
+    @BeforeEach
+    void setUp() {
+        asyncTaskService = mock(AsyncTaskService.class);
+        asyncTaskRegistry = mock(AsyncTaskRegistry.class);
+        taskScheduler = mock(TaskScheduler.class);
+        AppProperties appProperties = new AppProperties();
+        appProperties.getTaskEvents().setMaxSubscribers(1);
+        taskEventService = new TaskEventService(asyncTaskService, asyncTaskRegistry, Runnable::run,
+                taskScheduler, appProperties);
+
+        when(asyncTaskService.getTaskStatus("task-1")).thenReturn(AsyncTaskResponseDto.builder()
+                .taskId("task-1").status(TaskStatus.IN_PROGRESS).progress(0).build());
+    }
+
+    @Test
+    @DisplayName("스케줄러가 거부하면 구독 수와 리스너를 반납하여 이후 연결이 503으로 막히지 않음")
+    void openStream_schedulerRejects_releasesSubscriber() {
+        Runnable unsubscribe = mock(Runnable.class);
+        when(asyncTaskRegistry.subscribe(eq("task-1"), any())).thenReturn(unsubscribe);
+        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class)))
+                .thenThrow(new TaskRejectedException("shutting down"));
+
+        assertThatThrownBy(() -> taskEventService.openStream("task-1"))
+                .isInstanceOf(TaskRejectedException.class);
+
+        assertThat(taskEventService.activeSubscribers()).isZero();
+        verify(unsubscribe).run();
+
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler)
+                .scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+        taskEventService.openStream("task-1");
+        assertThat(taskEventService.activeSubscribers()).isEqualTo(1);
+    }
+}
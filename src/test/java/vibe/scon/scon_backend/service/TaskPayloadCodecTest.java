@@ -0,0 +1,87 @@
+package vibe.scon.scon_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import vibe.scon.scon_backend.config.properties.AppProperties.AsyncTaskProperties;
+import vibe.scon.scon_backend.exception.BadRequestException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TaskPayloadCodec 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 임계값 미만은 JSON 그대로, 이상은 GZIP 압축 후 원본 JSON으로 복원</li>
+ *   <li>REQ-NF-PERF: 상한 초과 요청은 400, 상한 초과 결과는 저장하지 않음</li>
+ *   <li>REQ-NF-PERF: 압축 도입 전 저장된 JSON도 그대로 읽음</li>
+ * </ul>
+ */
+@DisplayName("TaskPayloadCodec 단위 테스트")
+class TaskPayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AsyncTaskProperties properties = new AsyncTaskProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskPayloadCodec codec = new TaskPayloadCodec(objectMapper, properties, meterRegistry);
+
+    @Test
+    @DisplayName("작은 데이터는 JSON 그대로 저장")
+    void encode_smallPayload_storedAsJson() throws Exception {
+        String stored = codec.encodeResult(Map.of("scheduleId", 1));
+
+        assertThat(stored).isEqualTo("{\"scheduleId\":1}");
+        assertThat(codec.decodeJson(stored)).isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("큰 데이터는 압축 저장 후 원본 JSON으로 복원")
+    void encode_largePayload_compressedAndRestored() throws Exception {
+        Map<String, Object> result = Map.of("shifts", shifts(500));
+        String json = objectMapper.writeValueAsString(result);
+
+        String stored = codec.encodeResult(result);
+
+        assertThat(stored).startsWith("gz:");
+        assertThat(stored.length()).isLessThan(json.length() / 5);
+        assertThat(codec.decodeJson(stored)).isEqualTo(json);
+        assertThat(codec.read(stored, JsonNode.class)).isEqualTo(objectMapper.readTree(json));
+        assertThat(meterRegistry.get("async.task.payload.size").tag("encoding", "gzip").summary().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 요청은 400, 결과는 저장하지 않음")
+    void encode_overCap_rejectsRequestAndDropsResult() {
+        properties.setMaxPayloadSize(DataSize.ofKilobytes(4));
+        Map<String, Object> large = Map.of("shifts", shifts(500));
+
+        assertThatThrownBy(() -> codec.encodeRequest(large)).isInstanceOf(BadRequestException.class);
+        assertThat(codec.encodeResult(large)).isNull();
+        assertThat(meterRegistry.get("async.task.payload.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("압축 도입 전 저장된 JSON과 null도 읽음")
+    void decode_legacyJsonAndNull() throws Exception {
+        assertThat(codec.read("{\"name\":\"매장\"}", JsonNode.class).get("name").asText()).isEqualTo("매장");
+        assertThat(codec.decodeJson(null)).isNull();
+        assertThat(codec.encodeRequest(null)).isNull();
+    }
+
+    private List<Map<String, Object>> shifts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Map.<String, Object>of(
+                        "employeeId", i % 12, "startTime", "09:00", "endTime", "18:00", "date", "2025-01-" + (i % 28 + 1)))
+                .toList();
+    }
+}
@@ -0,0 +1,629 @@
+package vibe.scon.scon_backend.service.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import vibe.scon.scon_backend.config.properties.AppProperties.AsyncJobProperties;
+import vibe.scon.scon_backend.entity.AsyncTask;
+import vibe.scon.scon_backend.entity.enums.TaskStatus;
+import vibe.scon.scon_backend.exception.BadRequestException;
+import vibe.scon.scon_backend.exception.ForbiddenException;
+import vibe.scon.scon_backend.exception.ServiceUnavailableException;
+import vibe.scon.scon_backend.exception.TooManyRequestsException;
+import vibe.scon.scon_backend.service.AsyncTaskService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * AsyncJobDispatcher 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 우선순위 대기열 순서, Owner별 동시 실행 상한</li>
+ *   <li>REQ-NF-PERF: 재시도 대상 예외는 백오프 후 재실행, 비즈니스 예외는 즉시 실패</li>
+ *   <li>REQ-NF-PERF: 제한 시간 초과 시 인터럽트 후 FAILED</li>
+ *   <li>REQ-NF-PERF: 대기/실행 중 작업 취소 → CANCELLED, 다른 Owner 취소 불가</li>
+ *   <li>REQ-NF-004: 다른 인스턴스가 실행 중인 작업은 취소 상태로 덮어쓰지 않음</li>
+ *   <li>REQ-NF-PERF: 대기열 포화 / 가장 오래 대기 중인 작업의 대기 시간 초과 시 503, Owner별 대기 작업 초과 시 429 (Retry-After 포함)</li>
+ *   <li>REQ-NF-PERF: 같은 우선순위 안에서 Owner 간 라운드 로빈</li>
+ *   <li>REQ-NF-PERF: 같은 병합 키의 대기 작업은 마지막 요청만 실행, 나머지는 CANCELLED(supersededBy)</li>
+ *   <li>REQ-NF-PERF: 같은 병합 키의 작업은 동시에 실행하지 않음, 다른 Owner의 요청은 병합하지 않음</li>
+ *   <li>REQ-NF-004: 같은 멱등성 키 재요청은 기존 작업 반환, 임대를 잃은 실행은 재시도/실패 처리하지 않음</li>
+ *   <li>REQ-NF-004: 너무 긴 멱등성 키, 다른 유형의 작업에 쓰인 멱등성 키는 400</li>
+ *   <li>REQ-NF-004: 임대 만료 작업 회수 후 재실행, 시도 횟수 소진 시 FAILED</li>
+ *   <li>REQ-NF-004: 임대 획득 실패(예외) 시에도 실행 슬롯 반납 후 다음 작업 실행</li>
+ *   <li>REQ-NF-004: 커밋 이후 완료 상태 반영이 실패해도 재시도/실패 처리하지 않음</li>
+ * </ul>
+ */
+@DisplayName("AsyncJobDispatcher 단위 테스트")
+class AsyncJobDispatcherTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final AsyncJobProperties properties = new AsyncJobProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private AsyncTaskService asyncTaskService;
+    private JobQueueStore queueStore;
+    private ExecutorService executor;
+    private ThreadPoolTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        asyncTaskService = mock(AsyncTaskService.class);
+        queueStore = mock(JobQueueStore.class);
+        when(queueStore.insert(anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> "task-" + sequence.incrementAndGet());
+        when(queueStore.acquire(anyString())).thenReturn(true);
+        try {
+            when(queueStore.executeAndComplete(anyString(), any()))
+                    .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call());
+            when(queueStore.readInput(any(), any()))
+                    .thenAnswer(invocation -> invocation.<AsyncTask>getArgument(0).getRequestData());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        executor = Executors.newFixedThreadPool(4);
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        properties.setInitialBackoff(Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("높은 우선순위 대기열부터 실행")
+    void dispatch_highPriorityFirst() {
+        properties.setMaxConcurrency(1);
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        dispatcher.submit(BlockingJob.class, 1L, "first");
+        await().atMost(WAIT).until(() -> started.contains("first"));
+        dispatcher.submit(LowJob.class, 1L, "low");
+        dispatcher.submit(HighJob.class, 1L, "high");
+        assertThat(dispatcher.queuedCount()).isEqualTo(2);
+
+        release.countDown();
+
+        await().atMost(WAIT).untilAsserted(() -> assertThat(started).containsExactly("first", "high", "low"));
+    }
+
+    @Test
+    @DisplayName("Owner별 상한에 걸린 작업은 대기하고 다른 Owner 작업이 먼저 실행")
+    void dispatch_perOwnerLimit() {
+        properties.setMaxConcurrency(2);
+        properties.setPerOwnerConcurrency(1);
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        dispatcher.submit(BlockingJob.class, 1L, "owner1-a");
+        dispatcher.submit(BlockingJob.class, 1L, "owner1-b");
+        dispatcher.submit(BlockingJob.class, 2L, "owner2-a");
+
+        await().atMost(WAIT).untilAsserted(() ->
+                assertThat(started).containsExactlyInAnyOrder("owner1-a", "owner2-a"));
+        assertThat(dispatcher.queuedCount()).isEqualTo(1);
+
+        release.countDown();
+        await().atMost(WAIT).until(() -> started.contains("owner1-b"));
+    }
+
+    @Test
+    @DisplayName("재시도 대상 예외는 백오프 후 다시 실행하여 완료")
+    void dispatch_retryableFailure_retriesWithBackoff() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        String taskId = dispatcher.submit(FlakyJob.class, 1L, "input");
+
+        verify(asyncTaskService, timeout(WAIT.toMillis())).completeTask(taskId, "ok");
+        verify(asyncTaskService, never()).failTask(anyString(), any());
+        assertThat(meterRegistry.get("async.job.retries").tag("type", "FLAKY").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("async.job.run").tag("type", "FLAKY").tag("outcome", "retry").timer().count())
+                .isEqualTo(2);
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofMillis(10));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofMillis(40));
+        assertThat(dispatcher.backoff(20)).isEqualTo(properties.getMaxBackoff());
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 재시도 없이 실패 처리")
+    void dispatch_businessException_failsWithoutRetry() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        String taskId = dispatcher.submit(InvalidJob.class, 1L, "input");
+
+        verify(asyncTaskService, timeout(WAIT.toMillis())).failTask(taskId, "invalid input");
+        assertThat(meterRegistry.find("async.job.retries").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과 시 작업을 인터럽트하고 FAILED 처리")
+    void dispatch_timeout_interruptsAndFails() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        String taskId = dispatcher.submit(SlowJob.class, 1L, "input");
+
+        verify(asyncTaskService, timeout(WAIT.toMillis())).failTask(eq(taskId), contains("시간이 초과"));
+        await().atMost(WAIT).until(() -> dispatcher.runningCount() == 0);
+        assertThat(meterRegistry.get("async.job.run").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업 취소 시 실행하지 않고 CANCELLED")
+    void cancel_queuedJob_neverRuns() {
+        properties.setMaxConcurrency(1);
+        AsyncJobDispatcher dispatcher = dispatcher();
+        dispatcher.submit(BlockingJob.class, 1L, "first");
+        String queued = dispatcher.submit(BlockingJob.class, 1L, "second");
+        stubTask(queued, 1L);
+
+        dispatcher.cancel(queued, 1L);
+        release.countDown();
+
+        verify(asyncTaskService).updateTaskStatus(queued, TaskStatus.CANCELLED, null);
+        await().atMost(WAIT).until(() -> dispatcher.runningCount() == 0);
+        assertThat(started).containsExactly("first");
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업 취소 시 인터럽트 후 CANCELLED")
+    void cancel_runningJob_interruptsAndCancels() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        String taskId = dispatcher.submit(BlockingJob.class, 1L, "running");
+        await().atMost(WAIT).until(() -> started.contains("running"));
+        stubTask(taskId, 1L);
+
+        dispatcher.cancel(taskId, 1L);
+
+        verify(asyncTaskService, timeout(WAIT.toMillis())).updateTaskStatus(taskId, TaskStatus.CANCELLED, null);
+        verify(asyncTaskService, never()).failTask(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 Owner의 작업 / 종료된 작업은 취소 불가")
+    void cancel_rejectsOtherOwnerOrFinishedTask() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        String taskId = dispatcher.submit(BlockingJob.class, 1L, "running");
+        stubTask(taskId, 1L);
+        when(asyncTaskService.getTask("done")).thenReturn(AsyncTask.builder()
+                .taskId("done").userId(1L).status(TaskStatus.COMPLETED).build());
+
+        assertThatThrownBy(() -> dispatcher.cancel(taskId, 2L)).isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> dispatcher.cancel("done", 1L)).isInstanceOf(BadRequestException.class);
+        verify(asyncTaskService, never()).updateTaskStatus(anyString(), eq(TaskStatus.CANCELLED), isNull());
+    }
+
+    @Test
+    @DisplayName("이 인스턴스에서 실행 중이 아닌 작업은 DB에 즉시 취소, 다른 인스턴스가 실행 중이면 400")
+    void cancel_nonLocalTask_cancelsOnlyWithoutLiveLease() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        stubTask("idle", 1L);
+        stubTask("elsewhere", 1L);
+        when(queueStore.cancel("idle")).thenReturn(true);
+        when(queueStore.cancel("elsewhere")).thenReturn(false);
+
+        dispatcher.cancel("idle", 1L);
+        assertThatThrownBy(() -> dispatcher.cancel("elsewhere", 1L)).isInstanceOf(BadRequestException.class);
+
+        verify(asyncTaskService, never()).updateTaskStatus(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 503")
+    void submit_queueFull_throwsServiceUnavailable() {
+        properties.setMaxConcurrency(1);
+        properties.setQueueCapacity(1);
+        AsyncJobDispatcher dispatcher = dispatcher();
+        dispatcher.submit(BlockingJob.class, 1L, "running");
+        await().atMost(WAIT).until(() -> started.contains("running"));
+        dispatcher.submit(BlockingJob.class, 1L, "queued");
+
+        assertThatThrownBy(() -> dispatcher.submit(BlockingJob.class, 1L, "rejected"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "JOB_QUEUE_FULL")
+                .extracting("retryAfter").isNotNull();
+        verify(queueStore, times(2)).insert(anyString(), any(), any(), any());
+        assertThat(meterRegistry.get("async.job.rejected").tag("reason", "queue_full").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Owner별 대기 작업 상한을 넘으면 429, 다른 Owner는 접수")
+    void submit_ownerQueueFull_throwsTooManyRequests() {
+        properties.setMaxConcurrency(1);
+        properties.setPerOwnerQueueLimit(2);
+        properties.setMaxRetryAfter(Duration.ofSeconds(10));
+        AsyncJobDispatcher dispatcher = dispatcher();
+        dispatcher.submit(BlockingJob.class, 1L, "running");
+        await().atMost(WAIT).until(() -> started.contains("running"));
+        dispatcher.submit(BlockingJob.class, 1L, "queued-1");
+        dispatcher.submit(BlockingJob.class, 1L, "queued-2");
+
+        assertThatThrownBy(() -> dispatcher.submit(BlockingJob.class, 1L, "rejected"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "JOB_OWNER_QUEUE_FULL")
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfter())
+                        .isBetween(Duration.ofSeconds(1), Duration.ofSeconds(10)));
+
+        dispatcher.submit(BlockingJob.class, 2L, "other-owner");
+        assertThat(dispatcher.queuedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("가장 오래 대기 중인 작업이 상한을 넘게 기다리면 503, 그 작업이 빠지면 바로 접수")
+    void submit_oldestQueuedWaitExceeded_throwsServiceUnavailable() {
+        properties.setMaxConcurrency(1);
+        properties.setMaxQueueLatency(Duration.ofMillis(200));
+        AsyncJobDispatcher dispatcher = dispatcher();
+        dispatcher.submit(BlockingJob.class, 1L, "running");
+        await().atMost(WAIT).until(() -> started.contains("running"));
+        String stale = dispatcher.submit(BlockingJob.class, 2L, "stale");
+
+        // 방금 들어온 작업만 대기 중이면 접수
+        String fresh = dispatcher.submit(BlockingJob.class, 3L, "fresh");
+        await().pollDelay(Duration.ofMillis(300)).atMost(WAIT).until(() -> true);
+        assertThatThrownBy(() -> dispatcher.submit(BlockingJob.class, 4L, "rejected"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "JOB_QUEUE_OVERLOADED");
+
+        // 오래 기다린 작업이 빠지면 과거 대기 시간과 관계없이 바로 접수
+        stubTask(stale, 2L);
+        stubTask(fresh, 3L);
+        dispatcher.cancel(stale, 2L);
+        dispatcher.cancel(fresh, 3L);
+        dispatcher.submit(BlockingJob.class, 2L, "queued");
+        dispatcher.submit(BlockingJob.class, 4L, "accepted");
+        assertThat(dispatcher.queuedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 우선순위 안에서는 Owner를 돌아가며 실행")
+    void dispatch_roundRobinAcrossOwners() {
+        properties.setMaxConcurrency(1);
+        AsyncJobDispatcher dispatcher = dispatcher();
+        dispatcher.submit(BlockingJob.class, 1L, "first");
+        await().atMost(WAIT).until(() -> started.contains("first"));
+
+        dispatcher.submit(BlockingJob.class, 1L, "owner1-a");
+        dispatcher.submit(BlockingJob.class, 1L, "owner1-b");
+        dispatcher.submit(BlockingJob.class, 1L, "owner1-c");
+        dispatcher.submit(BlockingJob.class, 2L, "owner2-a");
+
+        release.countDown();
+
+        await().atMost(WAIT).untilAsserted(() -> assertThat(started)
+                .containsExactly("first", "owner1-a", "owner2-a", "owner1-b", "owner1-c"));
+    }
+
+    @Test
+    @DisplayName("같은 대상의 대기 작업은 마지막 요청만 실행하고 이전 요청은 대체 처리")
+    void dispatch_sameCoalesceKey_runsLatestOnly() {
+        properties.setMaxConcurrency(1);
+        AsyncJobDispatcher dispatcher = dispatcher();
+        dispatcher.submit(BlockingJob.class, 1L, "first");
+        await().atMost(WAIT).until(() -> started.contains("first"));
+
+        String save1 = dispatcher.submit(CoalescingJob.class, 1L, "s1-save1");
+        String save2 = dispatcher.submit(CoalescingJob.class, 1L, "s1-save2");
+        dispatcher.submit(CoalescingJob.class, 1L, "s2-save1");
+        String save3 = dispatcher.submit(CoalescingJob.class, 1L, "s1-save3");
+
+        verify(asyncTaskService).supersedeTask(save1, save2);
+        verify(asyncTaskService).supersedeTask(save2, save3);
+        assertThat(dispatcher.queuedCount()).isEqualTo(2);
+
+        release.countDown();
+
+        await().atMost(WAIT).untilAsserted(() -> assertThat(started).containsExactly("first", "s2-save1", "s1-save3"));
+        assertThat(meterRegistry.get("async.job.coalesced").tag("type", "COALESCING").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("다른 Owner의 같은 병합 키 요청은 대기 작업을 대체하지 않음")
+    void dispatch_sameCoalesceKeyOtherOwner_doesNotSupersede() {
+        properties.setMaxConcurrency(1);
+        AsyncJobDispatcher dispatcher = dispatcher();
+        dispatcher.submit(BlockingJob.class, 1L, "first");
+        await().atMost(WAIT).until(() -> started.contains("first"));
+
+        dispatcher.submit(CoalescingJob.class, 1L, "s1-victim");
+        dispatcher.submit(CoalescingJob.class, 2L, "s1-foreign");
+
+        verify(asyncTaskService, never()).supersedeTask(anyString(), anyString());
+        assertThat(dispatcher.queuedCount()).isEqualTo(2);
+
+        release.countDown();
+
+        await().atMost(WAIT).untilAsserted(() ->
+                assertThat(started).containsExactly("first", "s1-victim", "s1-foreign"));
+    }
+
+    @Test
+    @DisplayName("같은 대상의 작업은 실행 중인 작업이 끝난 뒤 실행")
+    void dispatch_sameCoalesceKey_neverRunsConcurrently() {
+        properties.setMaxConcurrency(2);
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        dispatcher.submit(CoalescingJob.class, 1L, "s1-running");
+        await().atMost(WAIT).until(() -> started.contains("s1-running"));
+        dispatcher.submit(CoalescingJob.class, 1L, "s1-next");
+
+        assertThat(dispatcher.queuedCount()).isEqualTo(1);
+        assertThat(started).containsExactly("s1-running");
+        verify(asyncTaskService, never()).supersedeTask(anyString(), anyString());
+
+        release.countDown();
+        await().atMost(WAIT).until(() -> started.contains("s1-next"));
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 재요청하면 새 작업 없이 기존 작업 ID 반환")
+    void submit_sameIdempotencyKey_returnsExistingTask() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        when(queueStore.findByIdempotencyKey(1L, "BLOCKING_NORMAL", "key-1")).thenReturn(Optional.of("task-existing"));
+
+        String taskId = dispatcher.submit(BlockingJob.class, 1L, "retry", "key-1");
+
+        assertThat(taskId).isEqualTo("task-existing");
+        verify(queueStore, never()).insert(anyString(), any(), any(), any());
+        assertThat(dispatcher.queuedCount() + dispatcher.runningCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("멱등성 키가 100자를 넘으면 작업을 만들지 않고 400")
+    void submit_tooLongIdempotencyKey_throwsBadRequest() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        assertThatThrownBy(() -> dispatcher.submit(BlockingJob.class, 1L, "input", "k".repeat(101)))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "IDEMPOTENCY_KEY_TOO_LONG");
+        verify(queueStore, never()).insert(anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 유형의 작업에 쓰인 멱등성 키는 그 작업 ID를 반환하지 않고 400")
+    void submit_idempotencyKeyOfOtherType_throwsBadRequest() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        when(queueStore.isIdempotencyKeyUsed(1L, "key-1")).thenReturn(true);
+
+        assertThatThrownBy(() -> dispatcher.submit(BlockingJob.class, 1L, "input", "key-1"))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "IDEMPOTENCY_KEY_REUSED");
+        verify(queueStore, never()).insert(anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 요청으로 다른 유형의 작업이 먼저 키를 저장하면 400")
+    void submit_idempotencyKeyRaceWithOtherType_throwsBadRequest() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        when(queueStore.insert(anyString(), any(), any(), eq("key-1")))
+                .thenThrow(new DataIntegrityViolationException("uk_async_tasks_user_idempotency"));
+
+        assertThatThrownBy(() -> dispatcher.submit(BlockingJob.class, 1L, "input", "key-1"))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "IDEMPOTENCY_KEY_REUSED");
+        verify(queueStore, times(2)).findByIdempotencyKey(1L, "BLOCKING_NORMAL", "key-1");
+        assertThat(dispatcher.queuedCount() + dispatcher.runningCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("임대를 잃은 실행은 재시도/실패 처리하지 않음")
+    void dispatch_leaseLost_neitherRetriesNorFails() throws Exception {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        doAnswer(invocation -> {
+            throw new LeaseLostException(invocation.getArgument(0));
+        }).when(queueStore).executeAndComplete(anyString(), any());
+
+        String taskId = dispatcher.submit(FlakyJob.class, 1L, "input");
+
+        verify(queueStore, timeout(WAIT.toMillis())).detach(taskId);
+        await().atMost(WAIT).until(() -> dispatcher.runningCount() == 0);
+        verify(asyncTaskService, never()).failTask(anyString(), any());
+        verify(asyncTaskService, never()).updateTaskStatus(anyString(), any(), any());
+        verify(asyncTaskService, never()).completeTask(anyString(), any());
+        assertThat(meterRegistry.find("async.job.retries").counter()).isNull();
+        assertThat(meterRegistry.get("async.job.run").tag("outcome", "lease_lost").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임대 획득 중 예외가 나도 실행 슬롯을 반납하고 다음 작업 실행")
+    void dispatch_acquireThrows_releasesSlotAndRunsNext() {
+        properties.setMaxConcurrency(1);
+        release.countDown();
+        when(queueStore.acquire("task-1")).thenThrow(new IllegalStateException("database is locked"));
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        String failed = dispatcher.submit(BlockingJob.class, 1L, "first");
+        dispatcher.submit(BlockingJob.class, 1L, "second");
+
+        await().atMost(WAIT).until(() -> started.contains("second"));
+        await().atMost(WAIT).until(() -> dispatcher.runningCount() == 0);
+        assertThat(started).containsExactly("second");
+        verify(queueStore).detach(failed);
+        assertThat(meterRegistry.get("async.job.run").tag("outcome", "failed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋 이후 완료 상태 반영이 실패해도 재시도/실패 처리하지 않음")
+    void dispatch_completeTaskThrows_neitherRetriesNorFails() {
+        release.countDown();
+        doThrow(new IllegalStateException("listener failed")).when(asyncTaskService).completeTask(anyString(), any());
+        AsyncJobDispatcher dispatcher = dispatcher();
+
+        String taskId = dispatcher.submit(BlockingJob.class, 1L, "once");
+
+        verify(asyncTaskService, timeout(WAIT.toMillis())).completeTask(taskId, "once");
+        await().atMost(WAIT).until(() -> dispatcher.runningCount() == 0);
+        assertThat(started).containsExactly("once");
+        verify(asyncTaskService, never()).failTask(anyString(), any());
+        assertThat(meterRegistry.find("async.job.retries").counter()).isNull();
+        assertThat(meterRegistry.get("async.job.run").tag("outcome", "completed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임대가 만료된 작업은 회수하여 남은 시도 횟수로 다시 실행")
+    void recoverOrphans_reclaimsAndRuns() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        AsyncTask orphan = orphan("orphan-1", "FLAKY", 1);
+        when(queueStore.findOrphans(anyInt())).thenReturn(List.of(orphan));
+        when(queueStore.claim(orphan)).thenReturn(true);
+
+        assertThat(dispatcher.recoverOrphans()).isEqualTo(1);
+
+        // 시도 1회가 이미 소모되었으므로 두 번째 실패 후 최대 시도 횟수(3)에 도달
+        verify(asyncTaskService, timeout(WAIT.toMillis())).failTask("orphan-1", "database is locked");
+        assertThat(meterRegistry.get("async.job.recovered").tag("outcome", "reclaimed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("시도 횟수를 소진했거나 복구할 수 없는 작업은 FAILED")
+    void recoverOrphans_exhaustedOrUnknown_fails() {
+        AsyncJobDispatcher dispatcher = dispatcher();
+        AsyncTask exhausted = orphan("orphan-exhausted", "FLAKY", 3);
+        AsyncTask unknown = orphan("orphan-unknown", "REMOVED_JOB", 0);
+        when(queueStore.findOrphans(anyInt())).thenReturn(List.of(exhausted, unknown));
+        when(queueStore.failOrphan(anyString(), anyString())).thenReturn(true);
+
+        assertThat(dispatcher.recoverOrphans()).isEqualTo(2);
+
+        verify(queueStore).failOrphan(eq("orphan-exhausted"), anyString());
+        verify(queueStore).failOrphan(eq("orphan-unknown"), anyString());
+        verify(queueStore, never()).claim(any());
+        assertThat(dispatcher.queuedCount() + dispatcher.runningCount()).isZero();
+    }
+
+    private AsyncJobDispatcher dispatcher() {
+        return new AsyncJobDispatcher(
+                List.of(new BlockingJob(), new HighJob(), new LowJob(), new FlakyJob(), new InvalidJob(), new SlowJob(),
+                        new CoalescingJob()),
+                asyncTaskService, queueStore, executor, scheduler, properties, meterRegistry);
+    }
+
+    private AsyncTask orphan(String taskId, String taskType, int attempts) {
+        return AsyncTask.builder()
+                .taskId(taskId).taskType(taskType).userId(1L).status(TaskStatus.IN_PROGRESS)
+                .requestData("recovered").attempts(attempts).build();
+    }
+
+    private void stubTask(String taskId, Long ownerId) {
+        when(asyncTaskService.getTask(taskId)).thenReturn(AsyncTask.builder()
+                .taskId(taskId).userId(ownerId).status(TaskStatus.IN_PROGRESS).build());
+    }
+
+    class BlockingJob implements AsyncJob<String, String> {
+        @Override
+        public String type() {
+            return "BLOCKING_" + priority();
+        }
+
+        @Override
+        public String execute(String input, JobContext context) throws InterruptedException {
+            started.add(input);
+            release.await();
+            return input;
+        }
+    }
+
+    class HighJob extends BlockingJob {
+        @Override
+        public JobPriority priority() {
+            return JobPriority.HIGH;
+        }
+    }
+
+    class LowJob extends BlockingJob {
+        @Override
+        public JobPriority priority() {
+            return JobPriority.LOW;
+        }
+    }
+
+    class CoalescingJob extends BlockingJob {
+        @Override
+        public String type() {
+            return "COALESCING";
+        }
+
+        @Override
+        public String coalesceKey(String input) {
+            return input.substring(0, input.indexOf('-'));
+        }
+    }
+
+    class FlakyJob implements AsyncJob<String, String> {
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public String type() {
+            return "FLAKY";
+        }
+
+        @Override
+        public String execute(String input, JobContext context) {
+            if (failures.incrementAndGet() <= 2) {
+                throw new IllegalStateException("database is locked");
+            }
+            return "ok";
+        }
+    }
+
+    class InvalidJob implements AsyncJob<String, String> {
+        @Override
+        public String type() {
+            return "INVALID";
+        }
+
+        @Override
+        public String execute(String input, JobContext context) {
+            throw new BadRequestException("invalid input");
+        }
+    }
+
+    class SlowJob implements AsyncJob<String, String> {
+        @Override
+        public String type() {
+            return "SLOW";
+        }
+
+        @Override
+        public Duration timeout() {
+            return Duration.ofMillis(100);
+        }
+
+        @Override
+        public String execute(String input, JobContext context) throws InterruptedException {
+            TimeUnit.SECONDS.sleep(10);
+            return input;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package vibe.scon.scon_backend.service.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import vibe.scon.scon_backend.config.properties.AppProperties.RecurringJobProperties;
+import vibe.scon.scon_backend.entity.JobSchedule;
+import vibe.scon.scon_backend.exception.ServiceUnavailableException;
+import vibe.scon.scon_backend.repository.JobScheduleRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RecurringJobScheduler 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 실행 시각이 된 작업을 실행 시각별 멱등성 키로 접수하고 다음 실행 시각 선점</li>
+ *   <li>REQ-NF-PERF: 다른 인스턴스가 선점한 실행은 접수하지 않음</li>
+ *   <li>REQ-NF-004: 보정 기간 안의 놓친 실행은 1회 보정 실행, 기간을 넘으면 건너뜀</li>
+ *   <li>REQ-NF-PERF: 접수 거부 시 선점을 되돌림</li>
+ *   <li>REQ-NF-PERF: 예기치 않은 접수 실패도 선점을 되돌리고 다음 작업을 계속 처리</li>
+ *   <li>REQ-NF-PERF: 다음 실행 시각은 cron + 지터 범위, "-"이면 비활성화, 잘못된 cron은 시작 실패</li>
+ * </ul>
+ */
+@DisplayName("RecurringJobScheduler 단위 테스트")
+class RecurringJobSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 3, 3, 0, 30);
+
+    private final RecurringJobProperties properties = new RecurringJobProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private JobScheduleRepository repository;
+    private AsyncJobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(JobScheduleRepository.class);
+        dispatcher = mock(AsyncJobDispatcher.class);
+        when(repository.claim(anyString(), any(), any(), any())).thenReturn(1);
+        when(dispatcher.submit(any(), any(), any(), anyString())).thenReturn("task-1");
+        properties.setJitter(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("실행 시각이 된 작업을 접수하고 다음 실행 시각을 선점")
+    void poll_dueJob_claimsAndSubmits() {
+        RecurringJobScheduler scheduler = registeredScheduler();
+        LocalDateTime scheduledAt = NOW.minusSeconds(30);
+        when(repository.findDue(NOW)).thenReturn(List.of(schedule("TEST_RECURRING", scheduledAt)));
+
+        assertThat(scheduler.poll()).isEqualTo(1);
+
+        verify(repository).claim("TEST_RECURRING", scheduledAt, LocalDateTime.of(2030, 1, 4, 3, 0), NOW);
+        ArgumentCaptor<RecurringJob.Run> run = ArgumentCaptor.forClass(RecurringJob.Run.class);
+        verify(dispatcher).submit(eq(TestJob.class), eq(RecurringJobScheduler.SYSTEM_OWNER_ID), run.capture(),
+                eq("recurring:TEST_RECURRING:" + scheduledAt));
+        assertThat(run.getValue().getScheduledAt()).isEqualTo(scheduledAt);
+        assertThat(run.getValue().isCatchUp()).isFalse();
+        verify(repository).recordTask("TEST_RECURRING", "task-1");
+        assertThat(count("submitted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 선점한 실행은 접수하지 않음")
+    void poll_claimLost_doesNotSubmit() {
+        RecurringJobScheduler scheduler = registeredScheduler();
+        when(repository.findDue(NOW)).thenReturn(List.of(schedule("TEST_RECURRING", NOW.minusSeconds(30))));
+        when(repository.claim(anyString(), any(), any(), any())).thenReturn(0);
+
+        assertThat(scheduler.poll()).isZero();
+
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    @DisplayName("보정 기간 안의 놓친 실행은 1회 보정 실행, 기간을 넘으면 건너뜀")
+    void poll_missedRuns_catchUpWithinWindowOnly() {
+        properties.setCatchUpWindow(Duration.ofHours(12));
+        RecurringJobScheduler scheduler = registeredScheduler();
+        LocalDateTime missed = NOW.minusHours(3);
+        when(repository.findDue(NOW)).thenReturn(List.of(schedule("TEST_RECURRING", missed)));
+
+        assertThat(scheduler.poll()).isEqualTo(1);
+        ArgumentCaptor<RecurringJob.Run> run = ArgumentCaptor.forClass(RecurringJob.Run.class);
+        verify(dispatcher).submit(eq(TestJob.class), any(), run.capture(), anyString());
+        assertThat(run.getValue().isCatchUp()).isTrue();
+        assertThat(count("caught_up")).isEqualTo(1.0);
+
+        when(repository.findDue(NOW)).thenReturn(List.of(schedule("TEST_RECURRING", NOW.minusDays(2))));
+        assertThat(scheduler.poll()).isZero();
+        verify(dispatcher, times(1)).submit(any(), any(), any(), anyString());
+        assertThat(count("skipped")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("접수가 거부되면 선점을 되돌려 다음 조회에서 다시 접수")
+    void poll_rejected_unclaims() {
+        RecurringJobScheduler scheduler = registeredScheduler();
+        LocalDateTime scheduledAt = NOW.minusSeconds(30);
+        when(repository.findDue(NOW)).thenReturn(List.of(schedule("TEST_RECURRING", scheduledAt)));
+        when(dispatcher.submit(any(), any(), any(), anyString()))
+                .thenThrow(new ServiceUnavailableException("JOB_QUEUE_FULL", "full"));
+
+        assertThat(scheduler.poll()).isZero();
+
+        verify(repository).unclaim("TEST_RECURRING", LocalDateTime.of(2030, 1, 4, 3, 0), scheduledAt);
+        verify(repository, never()).recordTask(anyString(), anyString());
+        assertThat(count("rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("접수 중 예기치 않은 오류도 선점을 되돌리고 다음 작업을 계속 처리")
+    void poll_unexpectedFailure_unclaimsAndContinues() {
+        RecurringJobScheduler scheduler = new RecurringJobScheduler(List.of(new TestJob(), new OtherJob()),
+                repository, dispatcher, mock(PlatformTransactionManager.class), properties, meterRegistry, clock);
+        scheduler.register();
+        LocalDateTime scheduledAt = NOW.minusSeconds(30);
+        when(repository.findDue(NOW)).thenReturn(List.of(
+                schedule("TEST_RECURRING", scheduledAt), schedule("OTHER_RECURRING", scheduledAt)));
+        when(dispatcher.submit(eq(TestJob.class), any(), any(), anyString()))
+                .thenThrow(new IllegalStateException("database is locked"));
+
+        assertThat(scheduler.poll()).isEqualTo(1);
+
+        verify(repository).unclaim("TEST_RECURRING", LocalDateTime.of(2030, 1, 4, 3, 0), scheduledAt);
+        verify(repository, never()).recordTask(eq("TEST_RECURRING"), anyString());
+        verify(repository).recordTask("OTHER_RECURRING", "task-1");
+        assertThat(count("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다음 실행 시각은 cron 시각부터 지터 범위 안, 등록 전에는 조회하지 않음")
+    void nextRunAt_addsJitter() {
+        properties.setJitter(Duration.ofMinutes(5));
+        RecurringJobScheduler scheduler = scheduler(new TestJob());
+        assertThat(scheduler.poll()).isZero();
+        verifyNoInteractions(repository);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(scheduler.nextRunAt("0 0 3 * * *", NOW))
+                    .isBetween(LocalDateTime.of(2030, 1, 4, 3, 0), LocalDateTime.of(2030, 1, 4, 3, 5));
+        }
+    }
+
+    @Test
+    @DisplayName("\"-\"로 재정의한 작업은 등록하지 않고, 잘못된 cron은 시작 실패")
+    void cronOverride_disablesOrFailsFast() {
+        properties.setCron(Map.of("TEST_RECURRING", "-"));
+        scheduler(new TestJob()).register();
+        verify(repository, never()).register(anyString(), anyString(), any());
+
+        properties.setCron(Map.of("TEST_RECURRING", "not a cron"));
+        assertThatThrownBy(() -> scheduler(new TestJob())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RecurringJobScheduler registeredScheduler() {
+        RecurringJobScheduler scheduler = scheduler(new TestJob());
+        scheduler.register();
+        verify(repository).register(eq("TEST_RECURRING"), eq("0 0 3 * * *"), any());
+        return scheduler;
+    }
+
+    private RecurringJobScheduler scheduler(RecurringJob<?>... jobs) {
+        return new RecurringJobScheduler(List.of(jobs), repository, dispatcher,
+                mock(PlatformTransactionManager.class), properties, meterRegistry, clock);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("recurring.job.runs").tag("outcome", outcome).counter().count();
+    }
+
+    private JobSchedule schedule(String jobType, LocalDateTime nextRunAt) {
+        JobSchedule schedule = BeanUtils.instantiateClass(JobSchedule.class);
+        ReflectionTestUtils.setField(schedule, "jobType", jobType);
+        ReflectionTestUtils.setField(schedule, "nextRunAt", nextRunAt);
+        return schedule;
+    }
+
+    static class OtherJob extends TestJob {
+        @Override
+        public String type() {
+            return "OTHER_RECURRING";
+        }
+    }
+
+    static class TestJob implements RecurringJob<String> {
+        @Override
+        public String type() {
+            return "TEST_RECURRING";
+        }
+
+        @Override
+        public String cron() {
+            return "0 0 3 * * *";
+        }
+
+        @Override
+        public String execute(Run input, JobContext context) {
+            return "done";
+        }
+    }
+}
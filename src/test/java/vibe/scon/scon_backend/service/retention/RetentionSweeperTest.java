@@ -0,0 +1,146 @@
+package vibe.scon.scon_backend.service.retention;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import vibe.scon.scon_backend.config.properties.AppProperties.RetentionProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RetentionSweeper 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>REQ-NF-PERF: 만료 행을 batch-size씩 나누어 삭제, 남은 행이 없으면 종료</li>
+ *   <li>REQ-NF-PERF: max-batches-per-run 도달 시 나머지는 다음 주기</li>
+ *   <li>REQ-NF-PERF: 이전 정리가 진행 중이면 건너뛰고, 실패한 정리는 다음 주기에 재개</li>
+ * </ul>
+ */
+@DisplayName("RetentionSweeper 단위 테스트")
+class RetentionSweeperTest {
+
+    private final RetentionProperties properties = new RetentionProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        properties.setBatchSize(100);
+        properties.setPause(Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("batch-size씩 삭제하고 남은 행이 없으면 종료")
+    void sweep_deletesInBatchesUntilEmpty() {
+        FakeTarget target = new FakeTarget(250);
+        RetentionSweeper sweeper = sweeper(target);
+
+        sweeper.sweep();
+
+        await().until(() -> !sweeper.isRunning("fake"));
+        assertThat(target.remaining.get()).isZero();
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("retention.rows.deleted").tag("table", "fake").counter().count())
+                .isEqualTo(250.0);
+        assertThat(meterRegistry.get("retention.batch.duration").tag("table", "fake").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("max-batches-per-run에 도달하면 나머지는 다음 주기에 삭제")
+    void sweep_stopsAtMaxBatches() {
+        properties.setMaxBatchesPerRun(2);
+        FakeTarget target = new FakeTarget(500);
+        RetentionSweeper sweeper = sweeper(target);
+
+        sweeper.sweep();
+        await().until(() -> !sweeper.isRunning("fake"));
+        assertThat(target.remaining.get()).isEqualTo(300);
+
+        sweeper.sweep();
+        await().until(() -> !sweeper.isRunning("fake"));
+        assertThat(target.remaining.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("이전 정리가 진행 중이면 이번 주기는 건너뜀")
+    void sweep_skipsWhilePreviousRunInProgress() {
+        properties.setPause(Duration.ofHours(1));
+        FakeTarget target = new FakeTarget(500);
+        RetentionSweeper sweeper = sweeper(target);
+
+        sweeper.sweep();
+        sweeper.sweep();
+
+        assertThat(sweeper.isRunning("fake")).isTrue();
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제 실패 시 정리를 종료하고 다음 주기에 다시 시작")
+    void sweep_failureEndsRunAndRetriesNextTime() {
+        FakeTarget target = new FakeTarget(50);
+        target.failNext = true;
+        RetentionSweeper sweeper = sweeper(target);
+
+        sweeper.sweep();
+        assertThat(sweeper.isRunning("fake")).isFalse();
+        assertThat(target.remaining.get()).isEqualTo(50);
+
+        sweeper.sweep();
+        await().until(() -> !sweeper.isRunning("fake"));
+        assertThat(target.remaining.get()).isZero();
+    }
+
+    private RetentionSweeper sweeper(RetentionTarget target) {
+        return new RetentionSweeper(List.of(target), mock(PlatformTransactionManager.class), scheduler,
+                properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    static class FakeTarget implements RetentionTarget {
+        private final AtomicInteger remaining;
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean failNext;
+
+        FakeTarget(int expired) {
+            this.remaining = new AtomicInteger(expired);
+        }
+
+        @Override
+        public String name() {
+            return "fake";
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now, int limit) {
+            calls.incrementAndGet();
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("database is locked");
+            }
+            int deleted = Math.min(limit, remaining.get());
+            remaining.addAndGet(-deleted);
+            return deleted;
+        }
+    }
+}
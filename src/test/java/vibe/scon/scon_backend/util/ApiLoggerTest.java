@@ -0,0 +1,112 @@
+package vibe.scon.scon_backend.util;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import vibe.scon.scon_backend.config.filter.RouteClassifier;
+import vibe.scon.scon_backend.config.properties.AppProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiLogger 단위 테스트.
+ *
+ * <p>출력 스레드를 시작하지 않고 {@code drain()}으로 소비 시점을 제어합니다.</p>
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>링 버퍼가 가득 차면 대기 없이 이벤트를 버리고 카운트</li>
+ *   <li>출력 시 본문/헤더 민감 정보 마스킹</li>
+ *   <li>로깅 제외 경로는 버퍼에 적재하지 않음</li>
+ * </ul>
+ */
+@DisplayName("ApiLogger 단위 테스트")
+class ApiLoggerTest {
+
+    private ApiLogger apiLogger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getLogging().setQueueCapacity(2);
+        apiLogger = new ApiLogger(new ObjectMapper(), new RouteClassifier(), appProperties);
+
+        appender = new ListAppender<>();
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(ApiLogger.class)).addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger(ApiLogger.class)).detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 버리고 드롭 수를 증가")
+    void publish_whenFull_dropsWithoutBlocking() {
+        for (int i = 0; i < 5; i++) {
+            apiLogger.logBackendRequest(request("/api/v1/stores"), null, 0L);
+        }
+
+        assertThat(apiLogger.getPublishedCount()).isEqualTo(2);
+        assertThat(apiLogger.getDroppedCount()).isEqualTo(3);
+        assertThat(apiLogger.getQueueDepth()).isEqualTo(2);
+        assertThat(appender.list).isEmpty();
+
+        assertThat(apiLogger.drain()).isEqualTo(2);
+        assertThat(apiLogger.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("출력 시 본문과 헤더의 민감 정보를 마스킹")
+    void drain_masksSensitiveFields() {
+        MockHttpServletRequest request = request("/api/v1/auth/login");
+        request.addHeader("Authorization", "Bearer secret-token");
+        byte[] body = "{\"email\":\"a@b.com\",\"password\":\"p@ss\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] responseBody = "{\"accessToken\":\"jwt-value\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(200);
+
+        apiLogger.logBackendRequest(request, body, body.length);
+        apiLogger.logBackendResponse(request, response, responseBody, responseBody.length, 12L);
+        apiLogger.drain();
+
+        List<String> lines = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("API Request: ")
+                .contains("a@b.com")
+                .doesNotContain("p@ss")
+                .doesNotContain("secret-token");
+        assertThat(lines.get(1)).startsWith("API Response: ")
+                .contains("\"status\":200")
+                .contains("\"duration\":\"12ms\"")
+                .doesNotContain("jwt-value");
+    }
+
+    @Test
+    @DisplayName("로깅 제외 경로는 버퍼에 적재하지 않음")
+    void excludedPath_isNotPublished() {
+        apiLogger.logBackendRequest(request("/api/v1/health"), null, 0L);
+
+        assertThat(apiLogger.getPublishedCount()).isZero();
+        assertThat(apiLogger.getDroppedCount()).isZero();
+    }
+
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
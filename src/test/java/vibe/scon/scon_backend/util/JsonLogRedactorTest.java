@@ -0,0 +1,98 @@
+package vibe.scon.scon_backend.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JsonLogRedactor 단위 테스트.
+ *
+ * <h3>테스트 케이스 추적:</h3>
+ * <ul>
+ *   <li>중첩 객체/배열 안의 민감 필드 마스킹</li>
+ *   <li>긴 문자열/큰 배열/깊은 중첩 축약</li>
+ *   <li>캡처 상한에서 잘린 본문은 읽은 부분까지 기록</li>
+ *   <li>JSON이 아닌 본문은 예외</li>
+ * </ul>
+ */
+@DisplayName("JsonLogRedactor 단위 테스트")
+class JsonLogRedactorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonLogRedactor redactor = new JsonLogRedactor(new JsonFactory(), 8, 3, 3);
+
+    @Test
+    @DisplayName("깊이에 관계없이 민감 필드 마스킹 (대소문자 무시)")
+    void redact_masksSensitiveFieldsAtAnyDepth() throws IOException {
+        JsonNode result = redact("""
+                {"email":"a@b.com","data":{"accessToken":"jwt","owner":{"Password":"p"}},
+                 "items":[{"refreshToken":{"nested":"value"}}]}
+                """);
+
+        assertThat(result.get("email").asText()).isEqualTo("a@b.com");
+        assertThat(result.at("/data/accessToken").asText()).isEqualTo(JsonLogRedactor.REDACTED);
+        assertThat(result.at("/data/owner/Password").asText()).isEqualTo(JsonLogRedactor.REDACTED);
+        assertThat(result.at("/items/0/refreshToken").asText()).isEqualTo(JsonLogRedactor.REDACTED);
+    }
+
+    @Test
+    @DisplayName("긴 문자열과 큰 배열을 축약")
+    void redact_truncatesLongStringsAndArrays() throws IOException {
+        JsonNode result = redact("""
+                {"memo":"0123456789abcdef","ids":[1,2,3,4,5,6],"flag":true,"amount":12.5}
+                """);
+
+        assertThat(result.get("memo").asText()).isEqualTo("01234567...(8 more chars)");
+        assertThat(result.get("ids")).hasSize(4);
+        assertThat(result.at("/ids/2").asInt()).isEqualTo(3);
+        assertThat(result.at("/ids/3").asText()).isEqualTo("... 3 more");
+        assertThat(result.get("flag").asBoolean()).isTrue();
+        assertThat(result.get("amount").asDouble()).isEqualTo(12.5);
+    }
+
+    @Test
+    @DisplayName("최대 깊이를 넘는 중첩은 [TRUNCATED]로 대체")
+    void redact_truncatesDeepNesting() throws IOException {
+        JsonNode result = redact("""
+                {"a":{"b":{"c":{"d":1}}},"after":"kept"}
+                """);
+
+        assertThat(result.at("/a/b/c").asText()).isEqualTo(JsonLogRedactor.TRUNCATED);
+        assertThat(result.get("after").asText()).isEqualTo("kept");
+    }
+
+    @Test
+    @DisplayName("잘린 본문은 읽은 부분까지 기록하고 열린 객체를 닫음")
+    void redact_truncatedBody_closesOpenContainers() throws IOException {
+        byte[] body = "{\"name\":\"kim\",\"items\":[{\"id\":1},{\"id\":2,\"password\":\"secret\",\"memo\":\"hel"
+                .getBytes(StandardCharsets.UTF_8);
+
+        JsonNode result = objectMapper.readTree(redactor.redact(body, true));
+
+        assertThat(result.get("name").asText()).isEqualTo("kim");
+        assertThat(result.at("/items/0/id").asInt()).isEqualTo(1);
+        assertThat(result.at("/items/1/password").asText()).isEqualTo(JsonLogRedactor.REDACTED);
+        assertThat(result.at("/items/1/memo").asText()).isEqualTo(JsonLogRedactor.TRUNCATED);
+        assertThatThrownBy(() -> redactor.redact(body))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 본문은 예외")
+    void redact_invalidJson_throws() {
+        assertThatThrownBy(() -> redactor.redact("not json".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IOException.class);
+    }
+
+    private JsonNode redact(String json) throws IOException {
+        return objectMapper.readTree(redactor.redact(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}